@@ -0,0 +1,1142 @@
+package io.github.coderodde.util;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * This abstract class implements the finger machinery of
+ * {@link IndexedLinkedList} over an abstract node type carrying only the
+ * {@code prev}/{@code next} links. The concrete primitive-specialized lists
+ * ({@link IndexedIntList}, {@link IndexedLongList} and
+ * {@link IndexedDoubleList}) extend the node type with an unboxed
+ * {@code item} field and expose the primitive API on top of the algorithms
+ * implemented here, so that no autoboxing takes place on the hot path.
+ *
+ * <p>
+ * Just like in {@link IndexedLinkedList}, we maintain
+ * \(\bigg \lceil \sqrt{n} \bigg \rceil\) fingers sorted by their indices, plus
+ * the end-of-finger-list sentinel with {@code index = size} and
+ * {@code node = null}. Unlike in {@link IndexedLinkedList}, the fingers are
+ * stored in two parallel arrays ({@code fingerNodes} and
+ * {@code fingerIndices}) so that no finger objects are allocated.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ * @param <N> the node type.
+ */
+public abstract class AbstractIndexedPrimitiveList<
+        N extends AbstractIndexedPrimitiveList.PrimitiveNode<N>> {
+
+    /**
+     * The base class of the primitive list nodes.
+     *
+     * @param <N> the actual node type.
+     */
+    abstract static class PrimitiveNode<N extends PrimitiveNode<N>> {
+
+        /**
+         * The previous node or {@code null} if this node is the head node.
+         */
+        N prev;
+
+        /**
+         * The next node or {@code null} if this node is the tail node.
+         */
+        N next;
+    }
+
+    /**
+     * The initial capacity of the finger arrays.
+     */
+    static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * The finger array capacity is contracted whenever the number of fingers
+     * drops below {@code capacity / THRESHOLD_FACTOR}.
+     */
+    static final int THRESHOLD_FACTOR = 4;
+
+    /**
+     * The head node.
+     */
+    N head;
+
+    /**
+     * The tail node.
+     */
+    N tail;
+
+    /**
+     * The number of elements in this list.
+     */
+    int size;
+
+    /**
+     * The modification counter. Used for fail-fast iteration.
+     */
+    int modCount;
+
+    /**
+     * The finger nodes. {@code fingerNodes[numberOfFingers]} is the
+     * end-of-finger-list sentinel and is always {@code null}.
+     */
+    Object[] fingerNodes = new Object[INITIAL_CAPACITY];
+
+    /**
+     * The finger indices. {@code fingerIndices[numberOfFingers]} is always
+     * {@code size}.
+     */
+    int[] fingerIndices = new int[INITIAL_CAPACITY];
+
+    /**
+     * The number of fingers not counting the end-of-finger-list sentinel.
+     */
+    int numberOfFingers;
+
+    /**
+     * Constructs an empty list.
+     */
+    AbstractIndexedPrimitiveList() {
+    }
+
+    /**
+     * Checks the data structure invariant. Throws
+     * {@link java.lang.IllegalStateException} on invalid invariant. Runs in
+     * worst-case linear time.
+     */
+    public void checkInvariant() {
+        if (numberOfFingers != getRecommendedNumberOfFingers()) {
+            throw new IllegalStateException(
+                    "Number of fingers mismatch: required = "
+                            + getRecommendedNumberOfFingers()
+                            + ", actual = "
+                            + numberOfFingers);
+        }
+
+        if (fingerIndices[numberOfFingers] != size
+                || fingerNodes[numberOfFingers] != null) {
+            throw new IllegalStateException("Broken sentinel finger.");
+        }
+
+        int fingerIndex = 0;
+        int index = 0;
+        N prev = null;
+
+        for (N node = head; node != null; node = node.next, index++) {
+            if (node.prev != prev) {
+                throw new IllegalStateException("Broken node links.");
+            }
+
+            if (fingerIndex < numberOfFingers
+                    && fingerIndices[fingerIndex] == index) {
+
+                if (fingerNodes[fingerIndex] != node) {
+                    throw new IllegalStateException(
+                            "Finger " + fingerIndex + " points to wrong node.");
+                }
+
+                fingerIndex++;
+            }
+
+            prev = node;
+        }
+
+        if (prev != tail) {
+            throw new IllegalStateException("Broken tail.");
+        }
+
+        if (index != size) {
+            throw new IllegalStateException(
+                    "size = " + size + ", tentativeSize = " + index);
+        }
+
+        if (fingerIndex != numberOfFingers) {
+            throw new IllegalStateException(
+                    "Only "
+                            + fingerIndex
+                            + " out of "
+                            + numberOfFingers
+                            + " fingers point to their nodes in order.");
+        }
+    }
+
+    /**
+     * Completely clears this list.
+     */
+    public void clear() {
+        // Help GC:
+        for (N node = head; node != null;) {
+            N next = node.next;
+            node.prev = null;
+            node.next = null;
+            node = next;
+        }
+
+        head = tail = null;
+        size = 0;
+        fingerNodes = new Object[INITIAL_CAPACITY];
+        fingerIndices = new int[INITIAL_CAPACITY];
+        numberOfFingers = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns {@code true} only if this list is empty.
+     *
+     * @return {@code true} only if this list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Moves all the fingers such that they are evenly distributed. Runs in
+     * linear time.
+     */
+    public void optimize() {
+        distributeAllFingers();
+    }
+
+    /**
+     * Removes the list range {@code [fromIndex, ..., toIndex - 1]}. Runs in
+     * \(\mathcal{O}(\sqrt{n} + (toIndex - fromIndex))\) time.
+     *
+     * @param fromIndex the staring, inclusive range index.
+     * @param toIndex   the ending, exclusive range index.
+     * @throws IndexOutOfBoundsException if the range is invalid.
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex = "
+                            + fromIndex
+                            + ", toIndex = "
+                            + toIndex
+                            + ", size = "
+                            + size);
+        }
+
+        int removalLength = toIndex - fromIndex;
+
+        if (removalLength == 0) {
+            return;
+        }
+
+        if (removalLength == size) {
+            clear();
+            return;
+        }
+
+        N node = getNodeNoFingersFix(fromIndex);
+        N pred = node.prev;
+
+        for (int i = 0; i != removalLength; i++) {
+            N next = node.next;
+            node.prev = null;
+            node.next = null;
+            node = next;
+        }
+
+        N succ = node;
+
+        // Link 'pred' and 'succ':
+        if (pred == null) {
+            head = succ;
+        } else {
+            pred.next = succ;
+        }
+
+        if (succ == null) {
+            tail = pred;
+        } else {
+            succ.prev = pred;
+        }
+
+        size -= removalLength;
+        modCount++;
+        removeFingersOnDeleteRange(fromIndex, toIndex, pred, succ);
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the size of this list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks the element index.
+     *
+     * @param index the index to validate.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    final void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+
+    /**
+     * Checks the position index.
+     *
+     * @param index the index to validate.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    final void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+
+    /**
+     * Returns the head node.
+     *
+     * @return the head node.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    final N firstNode() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Getting the head element from an empty list.");
+        }
+
+        return head;
+    }
+
+    /**
+     * Returns the tail node.
+     *
+     * @return the tail node.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    final N lastNode() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Getting the tail element from an empty list.");
+        }
+
+        return tail;
+    }
+
+    /**
+     * Returns the index of the closest finger to the {@code elementIndex}th
+     * element.
+     *
+     * @param elementIndex the target element index.
+     * @return the index of the closest finger.
+     */
+    final int getClosestFingerIndex(int elementIndex) {
+        return normalize(getFingerIndexImpl(elementIndex), elementIndex);
+    }
+
+    /**
+     * Returns the finger index {@code i}, such that {@code fingerIndices[i]}
+     * is no less than {@code elementIndex}, and {@code fingerIndices[i]} is
+     * closest to {@code elementIndex}. Translated from the C++
+     * {@code lower_bound} algorithm.
+     *
+     * @param elementIndex the target element index.
+     * @return the index of the leftmost finger {@code f} for which
+     *         {@code elementIndex <= f.index}.
+     */
+    final int getFingerIndexImpl(int elementIndex) {
+        int count = numberOfFingers + 1; // + 1 for the end sentinel.
+        int idx = 0;
+
+        while (count > 0) {
+            int it = idx;
+            int step = count / 2;
+            it += step;
+
+            if (fingerIndices[it] < elementIndex) {
+                idx = ++it;
+                count -= step + 1;
+            } else {
+                count = step;
+            }
+        }
+
+        return idx;
+    }
+
+    /**
+     * Returns the {@code elementIndex}th node. The finger preceding the node
+     * is moved half-way between its neighbouring fingers.
+     *
+     * @param elementIndex the index of the target element.
+     * @return the node containing the target element.
+     */
+    final N getNode(int elementIndex) {
+        if (numberOfFingers < 3) {
+            // We need at least 3 fingers to do the actual trick:
+            return getNodeNoFingersFix(elementIndex);
+        }
+
+        int fingerIndex = getFingerIndexImpl(elementIndex);
+
+        if (fingerIndex == 0 || fingerIndex >= numberOfFingers - 1) {
+            return getNodeNoFingersFix(elementIndex);
+        }
+
+        int aIndex = fingerIndices[fingerIndex - 1];
+        int cIndex = fingerIndices[fingerIndex + 1];
+        int saveBIndex = fingerIndices[fingerIndex];
+        int nextBIndex = aIndex + (cIndex - aIndex) / 2;
+
+        // Rewind the finger b node:
+        N b = rewind(fingerNode(fingerIndex), nextBIndex - saveBIndex);
+        fingerNodes[fingerIndex] = b;
+        fingerIndices[fingerIndex] = nextBIndex;
+
+        // Go fetch the correct node:
+        if (elementIndex < nextBIndex) {
+            // Here, the desired element is between a and b:
+            int leftDistance = elementIndex - aIndex;
+            int rightDistance = nextBIndex - elementIndex;
+
+            return leftDistance < rightDistance ?
+                    rewind(fingerNode(fingerIndex - 1), leftDistance) :
+                    rewind(b, -rightDistance);
+        } else {
+            // Here, the desired element is between b and c:
+            int leftDistance = elementIndex - nextBIndex;
+            int rightDistance = cIndex - elementIndex;
+
+            return leftDistance < rightDistance ?
+                    rewind(b, leftDistance) :
+                    rewind(fingerNode(fingerIndex + 1), -rightDistance);
+        }
+    }
+
+    /**
+     * Returns the {@code elementIndex}th node without modifying the fingers.
+     *
+     * @param elementIndex the index of the target element.
+     * @return the node containing the target element.
+     */
+    final N getNodeNoFingersFix(int elementIndex) {
+        int fingerIndex = getClosestFingerIndex(elementIndex);
+        return rewind(fingerNode(fingerIndex),
+                      elementIndex - fingerIndices[fingerIndex]);
+    }
+
+    /**
+     * Inserts {@code newNode} so that it becomes the {@code index}th node.
+     *
+     * @param index   the insertion index.
+     * @param newNode the node to insert.
+     */
+    final void linkAt(int index, N newNode) {
+        if (index == size) {
+            linkLast(newNode);
+        } else if (index == 0) {
+            linkFirst(newNode);
+        } else {
+            linkBefore(newNode, index, getNode(index));
+        }
+    }
+
+    /**
+     * Links {@code newNode} right before {@code succ}.
+     *
+     * @param newNode the node to insert.
+     * @param index   the index of {@code succ}.
+     * @param succ    the successor node.
+     */
+    final void linkBefore(N newNode, int index, N succ) {
+        N pred = succ.prev;
+
+        // Link:
+        newNode.next = succ;
+        newNode.prev = pred;
+        succ.prev = newNode;
+        pred.next = newNode;
+
+        size++;
+        modCount++;
+
+        // Get the closest, upper finger's index:
+        int fingerIndex = getFingerIndexImpl(index);
+        shiftFingerIndices(fingerIndex, 1);
+
+        if (mustAddFinger()) {
+            // Insert the new finger pointing to 'newNode':
+            insertFinger(fingerIndex, newNode, index);
+        }
+    }
+
+    /**
+     * Prepends {@code newNode} to the head of this list.
+     *
+     * @param newNode the node to prepend.
+     */
+    final void linkFirst(N newNode) {
+        N oldFirst = head;
+        newNode.next = oldFirst;
+        head = newNode;
+
+        if (oldFirst == null) {
+            // Once here, the list was empty before calling this method. Update
+            // the 'null' tail:
+            tail = newNode;
+        } else {
+            // Otherwise, just link the old head node to the new node:
+            oldFirst.prev = newNode;
+        }
+
+        size++;
+        modCount++;
+        shiftFingerIndices(0, 1);
+
+        if (mustAddFinger()) {
+            insertFinger(0, newNode, 0);
+        }
+    }
+
+    /**
+     * Appends {@code newNode} to the tail of this list.
+     *
+     * @param newNode the node to append.
+     */
+    final void linkLast(N newNode) {
+        N oldTail = tail;
+        newNode.prev = oldTail;
+        tail = newNode;
+
+        if (oldTail == null) {
+            // Once here, the list was empty prior to calling this method.
+            // Update the 'null' head:
+            head = newNode;
+        } else {
+            // Otherwise, just link the old tail node to the new node:
+            oldTail.next = newNode;
+        }
+
+        size++;
+        modCount++;
+        fingerIndices[numberOfFingers] = size;
+
+        if (mustAddFinger()) {
+            insertFinger(numberOfFingers, newNode, size - 1);
+        }
+    }
+
+    /**
+     * Removes all the nodes satisfying {@code filter} in a single sweep and
+     * redistributes the fingers. Runs in \(\mathcal{O}(n)\) time.
+     *
+     * @param filter the node filter.
+     * @return {@code true} only if at least one node was removed.
+     */
+    final boolean removeNodesIf(Predicate<? super N> filter) {
+        int expectedModCount = modCount;
+        long[] deathRow = new long[((size - 1) >> 6) + 1];
+        int removed = 0;
+        int index = 0;
+
+        // First mark, so that the list stays intact if 'filter' throws:
+        for (N node = head; node != null; node = node.next, index++) {
+            if (filter.test(node)) {
+                deathRow[index >> 6] |= 1L << index;
+                removed++;
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        if (removed == 0) {
+            return false;
+        }
+
+        index = 0;
+
+        for (N node = head; node != null; index++) {
+            N next = node.next;
+
+            if ((deathRow[index >> 6] & (1L << index)) != 0) {
+                unlinkNode(node);
+            }
+
+            node = next;
+        }
+
+        size -= removed;
+        modCount++;
+        distributeAllFingers();
+        return true;
+    }
+
+    /**
+     * Unlinks the {@code index}th node.
+     *
+     * @param index the index of the node to remove.
+     * @return the removed node.
+     */
+    final N unlinkAt(int index) {
+        if (index == 0) {
+            return unlinkFirst();
+        }
+
+        if (index == size - 1) {
+            return unlinkLast();
+        }
+
+        int closestFingerIndex = getClosestFingerIndex(index);
+        N nodeToRemove;
+
+        if (fingerIndices[closestFingerIndex] == index) {
+            // Once here, the element with index 'index' is pointed by a
+            // finger:
+            nodeToRemove = fingerNode(closestFingerIndex);
+            moveFingerOutOfRemovalLocation(closestFingerIndex);
+        } else {
+            int steps = index - fingerIndices[closestFingerIndex];
+            nodeToRemove = rewind(fingerNode(closestFingerIndex), steps);
+            shiftFingerIndices(closestFingerIndex + 1, -1);
+
+            if (steps < 0) {
+                // Once here, we need to fix the index also of the
+                // 'closestFingerIndex'th finger:
+                fingerIndices[closestFingerIndex]--;
+            }
+        }
+
+        unlinkNode(nodeToRemove);
+        size--;
+        modCount++;
+
+        if (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        return nodeToRemove;
+    }
+
+    /**
+     * Unlinks the head node.
+     *
+     * @return the removed node.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    final N unlinkFirst() {
+        N node = firstNode();
+
+        // Move the prefix fingers packed at the beginning of the list one
+        // node to the right:
+        int lastPrefixIndex = numberOfFingers;
+
+        for (int i = 0; i < numberOfFingers; ++i) {
+            if (fingerIndices[i] != i) {
+                lastPrefixIndex = i;
+                break;
+            }
+
+            fingerNodes[i] = fingerNode(i).next;
+        }
+
+        shiftFingerIndices(lastPrefixIndex, -1);
+        unlinkNode(node);
+        size--;
+        modCount++;
+
+        if (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        fingerIndices[numberOfFingers] = size;
+        return node;
+    }
+
+    /**
+     * Unlinks the tail node.
+     *
+     * @return the removed node.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    final N unlinkLast() {
+        N node = lastNode();
+        size--;
+        modCount++;
+
+        if (fingerNodes[numberOfFingers - 1] == node) {
+            // Once here, the last finger points to the tail node. Since
+            // there are no more fingers than nodes, we may simply remove it
+            // when not needed, and otherwise push it along with its packed
+            // predecessors to the left:
+            if (mustRemoveFinger()) {
+                removeLastFinger();
+            } else {
+                for (int i = numberOfFingers - 1; i >= 0; --i) {
+                    fingerNodes[i] = fingerNode(i).prev;
+                    fingerIndices[i]--;
+
+                    if (i == 0 || fingerIndices[i - 1] != fingerIndices[i]) {
+                        break;
+                    }
+                }
+            }
+        } else if (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        unlinkNode(node);
+        fingerIndices[numberOfFingers] = size;
+        return node;
+    }
+
+    /**
+     * Returns the {@code fingerIndex}th finger node.
+     *
+     * @param fingerIndex the finger index.
+     * @return the finger node.
+     */
+    @SuppressWarnings("unchecked")
+    final N fingerNode(int fingerIndex) {
+        return (N) fingerNodes[fingerIndex];
+    }
+
+    /**
+     * Distributes the fingers evenly over this list. Runs in linear time.
+     */
+    private void distributeAllFingers() {
+        int fingers = getRecommendedNumberOfFingers();
+        fingerNodes = new Object[Math.max(INITIAL_CAPACITY, fingers + 1)];
+        fingerIndices = new int[fingerNodes.length];
+        numberOfFingers = 0;
+
+        if (fingers > 0) {
+            int distance = size / fingers;
+            int index = 0;
+
+            for (N node = head; numberOfFingers < fingers; node = node.next) {
+                if (index % distance == 0) {
+                    fingerNodes[numberOfFingers] = node;
+                    fingerIndices[numberOfFingers++] = index;
+                }
+
+                index++;
+            }
+        }
+
+        fingerIndices[numberOfFingers] = size;
+    }
+
+    /**
+     * Constructs an IndexOutOfBoundsException detail message.
+     *
+     * @param index the target index.
+     * @return the detail message.
+     */
+    private String getOutOfBoundsMessage(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * Returns the recommended number of fingers.
+     *
+     * @return the recommended number of fingers.
+     */
+    private int getRecommendedNumberOfFingers() {
+        return (int) Math.ceil(Math.sqrt(size));
+    }
+
+    /**
+     * Inserts a new finger at the finger index {@code fingerIndex}.
+     *
+     * @param fingerIndex the finger index of the new finger.
+     * @param node        the finger node.
+     * @param index       the element index of {@code node}.
+     */
+    private void insertFinger(int fingerIndex, N node, int index) {
+        if (numberOfFingers + 2 > fingerNodes.length) {
+            int nextCapacity = 2 * fingerNodes.length;
+            fingerNodes = Arrays.copyOf(fingerNodes, nextCapacity);
+            fingerIndices = Arrays.copyOf(fingerIndices, nextCapacity);
+        }
+
+        int numberOfFingersToShift = numberOfFingers + 1 - fingerIndex;
+
+        System.arraycopy(fingerNodes,
+                         fingerIndex,
+                         fingerNodes,
+                         fingerIndex + 1,
+                         numberOfFingersToShift);
+
+        System.arraycopy(fingerIndices,
+                         fingerIndex,
+                         fingerIndices,
+                         fingerIndex + 1,
+                         numberOfFingersToShift);
+
+        fingerNodes[fingerIndex] = node;
+        fingerIndices[fingerIndex] = index;
+        numberOfFingers++;
+    }
+
+    /**
+     * Moves the finger {@code fingerIndex} out of the node it points to,
+     * shifting the fingers on the right one position to the left.
+     *
+     * @param fingerIndex the index of the finger to move.
+     */
+    private void moveFingerOutOfRemovalLocation(int fingerIndex) {
+        // Try push the fingers to the right:
+        for (int j = fingerIndex; j < numberOfFingers; ++j) {
+            if (fingerIndices[j] + 1 < fingerIndices[j + 1]) {
+                // Once here, we have an opportunity for pushing to the right:
+                for (int i = j; i >= fingerIndex; --i) {
+                    fingerNodes[i] = fingerNode(i).next;
+                }
+
+                shiftFingerIndices(j + 1, -1);
+                return;
+            }
+        }
+
+        // Could not push the fingers to the right. Push to the left:
+        int j = fingerIndex;
+
+        while (j > 0 && fingerIndices[j - 1] + 1 == fingerIndices[j]) {
+            j--;
+        }
+
+        for (int k = j; k <= fingerIndex; k++) {
+            fingerNodes[k] = fingerNode(k).prev;
+            fingerIndices[k]--;
+        }
+
+        shiftFingerIndices(fingerIndex + 1, -1);
+    }
+
+    /**
+     * Returns {@code true} if and only if this list requires more fingers.
+     *
+     * @return {@code true} if and only if this list requires more fingers.
+     */
+    private boolean mustAddFinger() {
+        return numberOfFingers < getRecommendedNumberOfFingers();
+    }
+
+    /**
+     * Returns {@code true} if and only if this list requires less fingers.
+     *
+     * @return {@code true} if and only if this list requires less fingers.
+     */
+    private boolean mustRemoveFinger() {
+        return numberOfFingers > getRecommendedNumberOfFingers();
+    }
+
+    /**
+     * Returns the index of the closest finger among
+     * {@code fingerIndex - 1} and {@code fingerIndex}.
+     *
+     * @param fingerIndex  the lower bound finger index.
+     * @param elementIndex the target element index.
+     * @return the closest finger index.
+     */
+    private int normalize(int fingerIndex, int elementIndex) {
+        if (fingerIndex == 0) {
+            // Since we cannot point to '-1'th finger, return 0:
+            return 0;
+        }
+
+        if (fingerIndex == numberOfFingers) {
+            // Don't go outside of 'numberOfFingers - 1':
+            return numberOfFingers - 1;
+        }
+
+        int distance1 = elementIndex - fingerIndices[fingerIndex - 1];
+        int distance2 = fingerIndices[fingerIndex] - elementIndex;
+
+        // Return the closest finger index:
+        return distance1 < distance2 ? fingerIndex - 1 : fingerIndex;
+    }
+
+    /**
+     * Removes the fingers covered by the removed range
+     * {@code [fromIndex, toIndex)}, shifts the fingers after the range, and
+     * pushes the missing fingers to the nodes adjacent to the removed range.
+     *
+     * @param fromIndex the starting, inclusive index of the removed range.
+     * @param toIndex   the ending, exclusive index of the removed range.
+     * @param pred      the node preceding the removed range.
+     * @param succ      the node following the removed range.
+     */
+    private void removeFingersOnDeleteRange(int fromIndex,
+                                            int toIndex,
+                                            N pred,
+                                            N succ) {
+        int removalLength = toIndex - fromIndex;
+        int fromFingerIndex = getFingerIndexImpl(fromIndex);
+        int toFingerIndex = getFingerIndexImpl(toIndex);
+        int coveredFingers = toFingerIndex - fromFingerIndex;
+
+        // Remove the covered fingers and shift the fingers after the range:
+        for (int i = toFingerIndex; i <= numberOfFingers; i++) {
+            fingerNodes[i - coveredFingers] = fingerNodes[i];
+            fingerIndices[i - coveredFingers] = fingerIndices[i]
+                                              - removalLength;
+        }
+
+        Arrays.fill(fingerNodes,
+                    numberOfFingers - coveredFingers + 1,
+                    numberOfFingers + 1,
+                    null);
+
+        numberOfFingers -= coveredFingers;
+
+        while (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        int missingFingers = getRecommendedNumberOfFingers() - numberOfFingers;
+
+        if (missingFingers == 0) {
+            return;
+        }
+
+        // Collect the free nodes on the suffix side of the removed range:
+        Object[] suffixNodes = new Object[missingFingers];
+        int[] suffixIndices = new int[missingFingers];
+        int numberOfSuffixFingers = 0;
+        int fingerIndex = fromFingerIndex;
+        int index = fromIndex;
+
+        for (N node = succ;
+                node != null && numberOfSuffixFingers < missingFingers;
+                node = node.next, index++) {
+
+            if (fingerIndex < numberOfFingers
+                    && fingerIndices[fingerIndex] == index) {
+                fingerIndex++;
+            } else {
+                suffixNodes[numberOfSuffixFingers] = node;
+                suffixIndices[numberOfSuffixFingers++] = index;
+            }
+        }
+
+        // Collect the free nodes on the prefix side of the removed range. They
+        // are collected in descending index order, so we fill the new finger
+        // arrays from right to left:
+        Object[] newNodes = new Object[missingFingers];
+        int[] newIndices = new int[missingFingers];
+        int numberOfPrefixFingers = missingFingers - numberOfSuffixFingers;
+        fingerIndex = fromFingerIndex - 1;
+        index = fromIndex - 1;
+        int slot = numberOfPrefixFingers;
+
+        for (N node = pred; slot > 0; node = node.prev, index--) {
+            if (fingerIndex >= 0 && fingerIndices[fingerIndex] == index) {
+                fingerIndex--;
+            } else {
+                newNodes[--slot] = node;
+                newIndices[slot] = index;
+            }
+        }
+
+        System.arraycopy(suffixNodes,
+                         0,
+                         newNodes,
+                         numberOfPrefixFingers,
+                         numberOfSuffixFingers);
+
+        System.arraycopy(suffixIndices,
+                         0,
+                         newIndices,
+                         numberOfPrefixFingers,
+                         numberOfSuffixFingers);
+
+        // Merge the new fingers with the existing ones:
+        int capacity = Math.max(fingerNodes.length,
+                                numberOfFingers + missingFingers + 1);
+
+        Object[] mergedNodes = new Object[capacity];
+        int[] mergedIndices = new int[capacity];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+
+        while (i < numberOfFingers || j < missingFingers) {
+            if (j == missingFingers
+                    || (i < numberOfFingers
+                        && fingerIndices[i] < newIndices[j])) {
+                mergedNodes[k] = fingerNodes[i];
+                mergedIndices[k++] = fingerIndices[i++];
+            } else {
+                mergedNodes[k] = newNodes[j];
+                mergedIndices[k++] = newIndices[j++];
+            }
+        }
+
+        mergedIndices[k] = size;
+        fingerNodes = mergedNodes;
+        fingerIndices = mergedIndices;
+        numberOfFingers = k;
+    }
+
+    /**
+     * Removes the last finger and contracts the finger arrays if they are too
+     * sparse.
+     */
+    private void removeLastFinger() {
+        fingerNodes[numberOfFingers] = null;
+        fingerNodes[--numberOfFingers] = null;
+        fingerIndices[numberOfFingers] = size;
+
+        if (fingerNodes.length > INITIAL_CAPACITY
+                && numberOfFingers + 1 < fingerNodes.length
+                                       / THRESHOLD_FACTOR) {
+
+            int nextCapacity = Math.max(INITIAL_CAPACITY,
+                                        fingerNodes.length / 2);
+
+            fingerNodes = Arrays.copyOf(fingerNodes, nextCapacity);
+            fingerIndices = Arrays.copyOf(fingerIndices, nextCapacity);
+        }
+    }
+
+    /**
+     * Returns a node that is {@code steps} hops away from {@code node}. If
+     * {@code steps} is negative, moves to the left.
+     *
+     * @param node  the starting node.
+     * @param steps the number of hops to make.
+     * @return the requested node.
+     */
+    private N rewind(N node, int steps) {
+        if (steps < 0) {
+            for (int i = 0; i != -steps; ++i) {
+                node = node.prev;
+            }
+        } else {
+            for (int i = 0; i != steps; ++i) {
+                node = node.next;
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Adds {@code shiftLength} to the indices of the fingers in the range
+     * {@code [startFingerIndex, numberOfFingers]}.
+     *
+     * @param startFingerIndex the index of the leftmost finger to shift.
+     * @param shiftLength      the length of the shift operation.
+     */
+    private void shiftFingerIndices(int startFingerIndex, int shiftLength) {
+        for (int i = startFingerIndex; i <= numberOfFingers; ++i) {
+            fingerIndices[i] += shiftLength;
+        }
+    }
+
+    /**
+     * Unlinks the input node from the actual doubly-linked list.
+     *
+     * @param x the node to unlink.
+     */
+    private void unlinkNode(N x) {
+        N next = x.next;
+        N prev = x.prev;
+
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.next = next;
+            x.prev = null;
+        }
+
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.prev = prev;
+            x.next = null;
+        }
+    }
+
+    /**
+     * The base class of the primitive iterators.
+     */
+    abstract class NodeIterator {
+
+        /**
+         * The node to be returned next.
+         */
+        N nextNode = head;
+
+        /**
+         * The index of the node to be returned next.
+         */
+        int nextIndex;
+
+        /**
+         * The index of the most recently returned node, or {@code -1}.
+         */
+        int lastReturnedIndex = -1;
+
+        /**
+         * The expected modification count.
+         */
+        int expectedModCount = modCount;
+
+        /**
+         * Returns {@code true} if there are more elements to iterate.
+         *
+         * @return {@code true} if there are more elements to iterate.
+         */
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        /**
+         * Removes the most recently returned element. Runs in
+         * \(\mathcal{O}(\sqrt{n})\) time.
+         */
+        public void remove() {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            unlinkAt(lastReturnedIndex);
+            nextIndex--;
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Advances this iterator and returns the node it was pointing to.
+         *
+         * @return the next node.
+         */
+        final N advance() {
+            checkForComodification();
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            N node = nextNode;
+            nextNode = node.next;
+            lastReturnedIndex = nextIndex++;
+            return node;
+        }
+
+        /**
+         * Checks that the list was not modified outside of this iterator.
+         */
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
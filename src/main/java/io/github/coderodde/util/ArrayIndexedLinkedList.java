@@ -0,0 +1,2080 @@
+package io.github.coderodde.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * This class implements an <i>array-backed</i> variant of
+ * {@link IndexedLinkedList}. Instead of allocating a node object per element,
+ * the list keeps the elements and the {@code prev}/{@code next} links in three
+ * parallel arrays ({@code items}, {@code prevSlots} and {@code nextSlots}).
+ * An element lives in a <i>slot</i>, which is an index into those arrays, and
+ * the links are slot indices, with {@code -1} standing for {@code null}. The
+ * slots of the removed elements are chained into a free-slot list and reused
+ * by the subsequent insertions. That removes the per-node object header, gives
+ * the garbage collector three large arrays instead of millions of small
+ * objects, and turns every finger rewind hop into an array read.
+ *
+ * <p>
+ * Just like in {@link IndexedLinkedList}, we maintain
+ * \(\bigg \lceil \sqrt{n} \bigg \rceil\) fingers sorted by their indices, plus
+ * the end-of-finger-list sentinel with {@code index = size} and
+ * {@code slot = -1}. The fingers are stored in two parallel {@code int}
+ * arrays ({@code fingerSlots} and {@code fingerIndices}).
+ *
+ * <p>
+ * Random insertions scatter the neighbouring elements all over the slot
+ * arrays. {@link #compact()} renumbers the slots in list order, which restores
+ * the spatial locality of the traversals. Until the next insertion or removal
+ * that is not at the tail of the list, the slot of each element equals its
+ * index, and {@link #get(int)}/{@link #set(int, Object)} run in constant time.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ * @param <E> the element type.
+ */
+public class ArrayIndexedLinkedList<E> extends AbstractList<E>
+                                       implements Deque<E>,
+                                                  Cloneable,
+                                                  java.io.Serializable {
+
+    /**
+     * The default capacity of the slot arrays.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The slot index standing for the {@code null} link.
+     */
+    static final int NIL = -1;
+
+    /**
+     * The initial capacity of the finger arrays.
+     */
+    static final int INITIAL_FINGER_CAPACITY = 8;
+
+    /**
+     * The finger array capacity is contracted whenever the number of fingers
+     * drops below {@code capacity / THRESHOLD_FACTOR}.
+     */
+    static final int THRESHOLD_FACTOR = 4;
+
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 6133826104391887093L;
+
+    /**
+     * The elements. {@code items[s]} is the element stored in the slot
+     * {@code s}, or {@code null} if the slot is free.
+     */
+    transient Object[] items;
+
+    /**
+     * {@code prevSlots[s]} is the slot of the element preceding the element in
+     * the slot {@code s}, or {@link #NIL} if there is no such.
+     */
+    transient int[] prevSlots;
+
+    /**
+     * {@code nextSlots[s]} is the slot of the element following the element
+     * in the slot {@code s}, or {@link #NIL} if there is no such. For the free
+     * slots, {@code nextSlots[s]} is the next free slot.
+     */
+    transient int[] nextSlots;
+
+    /**
+     * The slot of the head element or {@link #NIL} if this list is empty.
+     */
+    transient int head = NIL;
+
+    /**
+     * The slot of the tail element or {@link #NIL} if this list is empty.
+     */
+    transient int tail = NIL;
+
+    /**
+     * The cached number of elements in this list.
+     */
+    private transient int size;
+
+    /**
+     * The head of the free-slot list or {@link #NIL} if it is empty.
+     */
+    transient int freeSlotListHead = NIL;
+
+    /**
+     * The slots {@code slotLimit, slotLimit + 1, ...} have never been used
+     * since the last {@link #clear()} or {@link #compact()}.
+     */
+    transient int slotLimit;
+
+    /**
+     * Is set to {@code true} only if the slot of each element equals its
+     * index.
+     */
+    transient boolean inListOrder = true;
+
+    /**
+     * The finger slots. {@code fingerSlots[numberOfFingers]} is the
+     * end-of-finger-list sentinel and is always {@link #NIL}.
+     */
+    transient int[] fingerSlots;
+
+    /**
+     * The finger indices. {@code fingerIndices[numberOfFingers]} is always
+     * {@code size}.
+     */
+    transient int[] fingerIndices;
+
+    /**
+     * The number of fingers not counting the end-of-finger-list sentinel.
+     */
+    transient int numberOfFingers;
+
+    /**
+     * Constructs an empty list with the default capacity.
+     */
+    public ArrayIndexedLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the given initial capacity of the slot
+     * arrays.
+     *
+     * @param initialCapacity the initial capacity.
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative.
+     */
+    public ArrayIndexedLinkedList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "initialCapacity(" + initialCapacity + ") < 0");
+        }
+
+        initSlots(initialCapacity);
+        initFingers();
+    }
+
+    /**
+     * Constructs a new list and copies the data in {@code c} to it.
+     *
+     * @param c the collection to copy.
+     */
+    public ArrayIndexedLinkedList(Collection<? extends E> c) {
+        this(Math.max(DEFAULT_CAPACITY, c.size()));
+        addAll(c);
+    }
+
+    /**
+     * Appends the specified element to the end of this list. Runs in amortized
+     * constant time.
+     *
+     * @param e the element to append.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean add(E e) {
+        linkLast(e);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param index   the index at which to insert.
+     * @param element the element to insert.
+     * @throws IndexOutOfBoundsException if the index is outside of the valid
+     *                                   range.
+     */
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+
+        if (index == size) {
+            linkLast(element);
+        } else if (index == 0) {
+            linkFirst(element);
+        } else {
+            linkBefore(element, index, getSlot(index));
+        }
+    }
+
+    /**
+     * Appends all the elements of {@code c} to the tail of this list.
+     *
+     * @param c the collection to append.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c.isEmpty()) {
+            return false;
+        }
+
+        ensureCapacity(size + c.size());
+
+        for (E e : c) {
+            linkLast(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Inserts all the elements of {@code c} starting from the position
+     * {@code index}.
+     *
+     * @param index the index of the first inserted element.
+     * @param c     the collection to insert.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        checkPositionIndex(index);
+
+        if (index == size) {
+            return addAll(c);
+        }
+
+        if (c.isEmpty()) {
+            return false;
+        }
+
+        ensureCapacity(size + c.size());
+
+        for (E e : c) {
+            add(index++, e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds the element {@code e} before the head of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void addFirst(E e) {
+        linkFirst(e);
+    }
+
+    /**
+     * Adds the element {@code e} after the tail of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void addLast(E e) {
+        linkLast(e);
+    }
+
+    /**
+     * Checks the data structure invariant. Throws
+     * {@link java.lang.IllegalStateException} on invalid invariant. Runs in
+     * worst-case linear time.
+     */
+    public void checkInvariant() {
+        if (numberOfFingers != getRecommendedNumberOfFingers()) {
+            throw new IllegalStateException(
+                    "Number of fingers mismatch: required = "
+                            + getRecommendedNumberOfFingers()
+                            + ", actual = "
+                            + numberOfFingers);
+        }
+
+        if (fingerIndices[numberOfFingers] != size
+                || fingerSlots[numberOfFingers] != NIL) {
+            throw new IllegalStateException("Broken sentinel finger.");
+        }
+
+        if (slotLimit > items.length
+                || prevSlots.length != items.length
+                || nextSlots.length != items.length) {
+            throw new IllegalStateException("Broken slot arrays.");
+        }
+
+        int fingerIndex = 0;
+        int index = 0;
+        int prev = NIL;
+
+        for (int slot = head;
+                slot != NIL && index <= size;
+                slot = nextSlots[slot], index++) {
+
+            if (slot < 0 || slot >= slotLimit) {
+                throw new IllegalStateException(
+                        "Slot " + slot + " is out of range.");
+            }
+
+            if (prevSlots[slot] != prev) {
+                throw new IllegalStateException("Broken slot links.");
+            }
+
+            if (inListOrder && slot != index) {
+                throw new IllegalStateException(
+                        "Slot " + slot + " holds the element " + index
+                                + " in a list marked as ordered.");
+            }
+
+            if (fingerIndex < numberOfFingers
+                    && fingerIndices[fingerIndex] == index) {
+
+                if (fingerSlots[fingerIndex] != slot) {
+                    throw new IllegalStateException(
+                            "Finger " + fingerIndex + " points to wrong slot.");
+                }
+
+                fingerIndex++;
+            }
+
+            prev = slot;
+        }
+
+        if (prev != tail) {
+            throw new IllegalStateException("Broken tail.");
+        }
+
+        if (index != size) {
+            throw new IllegalStateException(
+                    "size = " + size + ", tentativeSize = " + index);
+        }
+
+        if (fingerIndex != numberOfFingers) {
+            throw new IllegalStateException(
+                    "Only "
+                            + fingerIndex
+                            + " out of "
+                            + numberOfFingers
+                            + " fingers point to their slots in order.");
+        }
+
+        int numberOfFreeSlots = 0;
+
+        for (int slot = freeSlotListHead;
+                slot != NIL && numberOfFreeSlots <= slotLimit;
+                slot = nextSlots[slot], numberOfFreeSlots++) {
+
+            if (items[slot] != null) {
+                throw new IllegalStateException(
+                        "Free slot " + slot + " holds an element.");
+            }
+        }
+
+        if (numberOfFreeSlots != slotLimit - size) {
+            throw new IllegalStateException(
+                    "numberOfFreeSlots = "
+                            + numberOfFreeSlots
+                            + ", expected = "
+                            + (slotLimit - size));
+        }
+    }
+
+    /**
+     * Completely clears this list. Keeps the capacity of the slot arrays.
+     */
+    @Override
+    public void clear() {
+        // Help GC:
+        Arrays.fill(items, 0, slotLimit, null);
+        head = tail = NIL;
+        size = 0;
+        freeSlotListHead = NIL;
+        slotLimit = 0;
+        inListOrder = true;
+        initFingers();
+        modCount++;
+    }
+
+    /**
+     * Returns a clone list with same content as this list. The clone stores
+     * its elements in list order.
+     *
+     * @return the clone list.
+     */
+    @Override
+    public Object clone() {
+        ArrayIndexedLinkedList<E> other =
+                new ArrayIndexedLinkedList<>(Math.max(DEFAULT_CAPACITY, size));
+
+        other.addAll(this);
+        return other;
+    }
+
+    /**
+     * Renumbers the slots in list order, so that the slot of each element
+     * equals its index, and trims the slot arrays to
+     * {@code max(DEFAULT_CAPACITY, size())}. Restores the spatial locality of
+     * the traversals after heavy random insertion. Runs in
+     * \(\mathcal{O}(n)\) time.
+     */
+    public void compact() {
+        renumberSlots(null);
+
+        // Once here, the slot of each finger equals its index:
+        System.arraycopy(fingerIndices, 0, fingerSlots, 0, numberOfFingers);
+        modCount++;
+    }
+
+    /**
+     * Returns {@code true} only if {@code o} is present in this list. Runs in
+     * worst-case linear time.
+     *
+     * @param o the query object.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns the descending iterator.
+     *
+     * @return the descending iterator pointing to the tail of this list.
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new Iterator<E>() {
+
+            private final ListIterator<E> iterator = listIterator(size);
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    /**
+     * Applies {@code action} to each element in this list.
+     *
+     * @param action the action to apply.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+
+        for (int slot = head;
+                slot != NIL && modCount == expectedModCount;
+                slot = nextSlots[slot]) {
+
+            action.accept(item(slot));
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns {@code index}th element. Runs in \(\mathcal{O}(\sqrt{n})\) time,
+     * and in constant time while the slots are in list order.
+     *
+     * @param index the index of the element to return.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E get(int index) {
+        checkElementIndex(index);
+        return item(getSlot(index));
+    }
+
+    /**
+     * Returns the capacity of the slot arrays.
+     *
+     * @return the capacity of the slot arrays.
+     */
+    public int getCapacity() {
+        return items.length;
+    }
+
+    /**
+     * Returns the first element of this list. Runs in constant time.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Getting the head element from an empty list.");
+        }
+
+        return item(head);
+    }
+
+    /**
+     * Returns the last element of this list. Runs in constant time.
+     *
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Getting the tail element from an empty list.");
+        }
+
+        return item(tail);
+    }
+
+    /**
+     * Returns the index of the leftmost {@code o}, or {@code -1} if {@code o}
+     * does not appear in this list. Runs in worst-case linear time.
+     *
+     * @param o the object to search.
+     * @return the index of the leftmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+
+        for (int slot = head; slot != NIL; slot = nextSlots[slot], index++) {
+            if (Objects.equals(o, items[slot])) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} only if this list is empty.
+     *
+     * @return {@code true} only if this list is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the iterator over this list.
+     *
+     * @return the iterator over this list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SlotIterator(0);
+    }
+
+    /**
+     * Returns the index of the rightmost {@code o}, or {@code -1} if
+     * {@code o} does not appear in this list. Runs in worst-case linear time.
+     *
+     * @param o the object to search.
+     * @return the index of the rightmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = size - 1;
+
+        for (int slot = tail; slot != NIL; slot = prevSlots[slot], index--) {
+            if (Objects.equals(o, items[slot])) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the list iterator pointing to the head element of this list.
+     *
+     * @return the list iterator.
+     */
+    @Override
+    public ListIterator<E> listIterator() {
+        return new SlotIterator(0);
+    }
+
+    /**
+     * Returns the list iterator pointing between {@code list[index - 1]} and
+     * {@code list[index]}.
+     *
+     * @param index the gap index.
+     * @return the list iterator.
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        checkPositionIndex(index);
+        return new SlotIterator(index);
+    }
+
+    /**
+     * Adds {@code e} after the tail element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offer(E e) {
+        return add(e);
+    }
+
+    /**
+     * Adds {@code e} before the head element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    /**
+     * Adds {@code e} after the tail element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+
+    /**
+     * Moves all the fingers such that they are evenly distributed. Runs in
+     * linear time.
+     */
+    public void optimize() {
+        distributeAllFingers();
+    }
+
+    /**
+     * Takes a look at the first element in this list.
+     *
+     * @return the head element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Takes a look at the first element in this list.
+     *
+     * @return the head element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peekFirst() {
+        return size == 0 ? null : item(head);
+    }
+
+    /**
+     * Takes a look at the last element in this list.
+     *
+     * @return the tail element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peekLast() {
+        return size == 0 ? null : item(tail);
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the
+     * first element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the
+     * first element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E pollFirst() {
+        return size == 0 ? null : unlinkFirst();
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the last
+     * element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E pollLast() {
+        return size == 0 ? null : unlinkLast();
+    }
+
+    /**
+     * Removes the first element and returns it.
+     *
+     * @return the first element.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Adds {@code e} before the head of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    /**
+     * Removes and returns the first element.
+     *
+     * @return the head element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes the element residing at the given index. Runs in
+     * \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param index the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        return unlinkAt(index);
+    }
+
+    /**
+     * Removes the leftmost occurrence of {@code o} in this list.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if {@code o} was located and removed.
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Removes from this list all the elements mentioned in {@code c}. Runs in
+     * \(\mathcal{O}(n + fn)\) time, where \(\mathcal{O}(f)\) is the time of
+     * checking for element inclusion in {@code c}.
+     *
+     * @param c the collection holding all the elements to remove.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    /**
+     * Removes the first element from this list.
+     *
+     * @return the first element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "removeFirst from an empty ArrayIndexedLinkedList");
+        }
+
+        return unlinkFirst();
+    }
+
+    /**
+     * Removes the leftmost occurrence of {@code o}.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if {@code o} was present in the list and was
+     *         successfully removed.
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int index = indexOf(o);
+
+        if (index < 0) {
+            return false;
+        }
+
+        unlinkAt(index);
+        return true;
+    }
+
+    /**
+     * Removes from this list all the elements that satisfy the given input
+     * predicate. The surviving elements are renumbered in list order, just
+     * like in {@link #compact()}, and the fingers are redistributed once. Runs
+     * in \(\mathcal{O}(n)\) time.
+     *
+     * @param filter the filtering predicate.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+
+        if (size == 0) {
+            return false;
+        }
+
+        int expectedModCount = modCount;
+        long[] deathRow = new long[((size - 1) >> 6) + 1];
+        int removed = 0;
+        int index = 0;
+
+        // First mark, so that the list stays intact if 'filter' throws:
+        for (int slot = head; slot != NIL; slot = nextSlots[slot], index++) {
+            if (filter.test(item(slot))) {
+                deathRow[index >> 6] |= 1L << index;
+                removed++;
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        if (removed == 0) {
+            return false;
+        }
+
+        renumberSlots(deathRow);
+        distributeAllFingers();
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes and returns the last element of this list. Runs in constant
+     * time.
+     *
+     * @return the removed tail element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "removeLast on empty ArrayIndexedLinkedList");
+        }
+
+        return unlinkLast();
+    }
+
+    /**
+     * Removes the rightmost occurrence of {@code o}.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if an element was actually removed.
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+
+        if (index < 0) {
+            return false;
+        }
+
+        unlinkAt(index);
+        return true;
+    }
+
+    /**
+     * Remove all the elements that <strong>do not</strong> appear in
+     * {@code c}. Runs in \(\mathcal{O}(n + fn)\) time.
+     *
+     * @param c the collection of elements to retain.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Sets the element at index {@code index} to {@code element} and returns
+     * the old element. Runs in \(\mathcal{O}(\sqrt{n})\) time, and in constant
+     * time while the slots are in list order.
+     *
+     * @param index   the target index.
+     * @param element the element to set.
+     * @return the previous element at the given index.
+     */
+    @Override
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        int slot = getSlot(index);
+        E oldElement = item(slot);
+        items[slot] = element;
+        return oldElement;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the size of this list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the {@link Object} array containing all the elements in this
+     * list, in the same order as they appear in the list.
+     *
+     * @return the list contents in an {@link Object} array.
+     */
+    @Override
+    public Object[] toArray() {
+        if (inListOrder) {
+            return Arrays.copyOf(items, size);
+        }
+
+        Object[] array = new Object[size];
+        int index = 0;
+
+        for (int slot = head; slot != NIL; slot = nextSlots[slot]) {
+            array[index++] = items[slot];
+        }
+
+        return array;
+    }
+
+    /**
+     * Removes the list range {@code [fromIndex, ..., toIndex - 1]}. Runs in
+     * \(\mathcal{O}(\sqrt{n} + (toIndex - fromIndex))\) time.
+     *
+     * @param fromIndex the staring, inclusive range index.
+     * @param toIndex   the ending, exclusive range index.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int removalLength = toIndex - fromIndex;
+
+        if (removalLength == 0) {
+            return;
+        }
+
+        if (removalLength == size) {
+            clear();
+            return;
+        }
+
+        int slot = getSlotNoFingersFix(fromIndex);
+        int pred = prevSlots[slot];
+
+        for (int i = 0; i != removalLength; i++) {
+            int next = nextSlots[slot];
+            releaseSlot(slot);
+            slot = next;
+        }
+
+        int succ = slot;
+
+        // Link 'pred' and 'succ':
+        if (pred == NIL) {
+            head = succ;
+        } else {
+            nextSlots[pred] = succ;
+        }
+
+        if (succ == NIL) {
+            tail = pred;
+        } else {
+            prevSlots[succ] = pred;
+        }
+
+        // Removing a suffix keeps the remaining slots in list order:
+        inListOrder &= succ == NIL;
+        size -= removalLength;
+        modCount++;
+        removeFingersOnDeleteRange(fromIndex, toIndex, pred, succ);
+    }
+
+    /**
+     * Takes a free slot and stores {@code e} in it. Grows the slot arrays if
+     * there are no free slots.
+     *
+     * @param e the element to store.
+     * @return the slot holding {@code e}.
+     */
+    private int allocateSlot(E e) {
+        int slot;
+
+        if (freeSlotListHead != NIL) {
+            slot = freeSlotListHead;
+            freeSlotListHead = nextSlots[slot];
+        } else {
+            if (slotLimit == items.length) {
+                ensureCapacity(slotLimit + 1);
+            }
+
+            slot = slotLimit++;
+        }
+
+        items[slot] = e;
+        return slot;
+    }
+
+    /**
+     * Checks the element index.
+     *
+     * @param index the index to validate.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+
+    /**
+     * Checks the position index.
+     *
+     * @param index the index to validate.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+
+    /**
+     * Distributes the fingers evenly over this list. Runs in linear time.
+     */
+    private void distributeAllFingers() {
+        int fingers = getRecommendedNumberOfFingers();
+        fingerSlots = new int[Math.max(INITIAL_FINGER_CAPACITY, fingers + 1)];
+        fingerIndices = new int[fingerSlots.length];
+        numberOfFingers = 0;
+
+        if (fingers > 0) {
+            int distance = size / fingers;
+            int index = 0;
+
+            for (int slot = head;
+                    numberOfFingers < fingers;
+                    slot = nextSlots[slot]) {
+
+                if (index % distance == 0) {
+                    fingerSlots[numberOfFingers] = slot;
+                    fingerIndices[numberOfFingers++] = index;
+                }
+
+                index++;
+            }
+        }
+
+        fingerSlots[numberOfFingers] = NIL;
+        fingerIndices[numberOfFingers] = size;
+    }
+
+    /**
+     * Makes sure that the slot arrays can hold at least {@code capacity}
+     * elements. The arrays grow at least by a factor of two.
+     *
+     * @param capacity the requested capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= items.length) {
+            return;
+        }
+
+        int nextCapacity = Math.max(capacity, 2 * items.length);
+        items = Arrays.copyOf(items, nextCapacity);
+        prevSlots = Arrays.copyOf(prevSlots, nextCapacity);
+        nextSlots = Arrays.copyOf(nextSlots, nextCapacity);
+    }
+
+    /**
+     * Returns the index of the closest finger to the {@code elementIndex}th
+     * element.
+     *
+     * @param elementIndex the target element index.
+     * @return the index of the closest finger.
+     */
+    private int getClosestFingerIndex(int elementIndex) {
+        return normalize(getFingerIndexImpl(elementIndex), elementIndex);
+    }
+
+    /**
+     * Returns the finger index {@code i}, such that {@code fingerIndices[i]}
+     * is no less than {@code elementIndex}, and {@code fingerIndices[i]} is
+     * closest to {@code elementIndex}. Translated from the C++
+     * {@code lower_bound} algorithm.
+     *
+     * @param elementIndex the target element index.
+     * @return the index of the leftmost finger {@code f} for which
+     *         {@code elementIndex <= f.index}.
+     */
+    private int getFingerIndexImpl(int elementIndex) {
+        int count = numberOfFingers + 1; // + 1 for the end sentinel.
+        int idx = 0;
+
+        while (count > 0) {
+            int it = idx;
+            int step = count / 2;
+            it += step;
+
+            if (fingerIndices[it] < elementIndex) {
+                idx = ++it;
+                count -= step + 1;
+            } else {
+                count = step;
+            }
+        }
+
+        return idx;
+    }
+
+    /**
+     * Constructs an IndexOutOfBoundsException detail message.
+     *
+     * @param index the target index.
+     * @return the detail message.
+     */
+    private String getOutOfBoundsMessage(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * Returns the recommended number of fingers.
+     *
+     * @return the recommended number of fingers.
+     */
+    private int getRecommendedNumberOfFingers() {
+        return (int) Math.ceil(Math.sqrt(size));
+    }
+
+    /**
+     * Returns the slot of the {@code elementIndex}th element. The finger
+     * preceding the element is moved half-way between its neighbouring
+     * fingers.
+     *
+     * @param elementIndex the index of the target element.
+     * @return the slot holding the target element.
+     */
+    private int getSlot(int elementIndex) {
+        if (inListOrder) {
+            return elementIndex;
+        }
+
+        if (numberOfFingers < 3) {
+            // We need at least 3 fingers to do the actual trick:
+            return getSlotNoFingersFix(elementIndex);
+        }
+
+        int fingerIndex = getFingerIndexImpl(elementIndex);
+
+        if (fingerIndex == 0 || fingerIndex >= numberOfFingers - 1) {
+            return getSlotNoFingersFix(elementIndex);
+        }
+
+        int aIndex = fingerIndices[fingerIndex - 1];
+        int cIndex = fingerIndices[fingerIndex + 1];
+        int saveBIndex = fingerIndices[fingerIndex];
+        int nextBIndex = aIndex + (cIndex - aIndex) / 2;
+
+        // Rewind the finger b slot:
+        int b = rewind(fingerSlots[fingerIndex], nextBIndex - saveBIndex);
+        fingerSlots[fingerIndex] = b;
+        fingerIndices[fingerIndex] = nextBIndex;
+
+        // Go fetch the correct slot:
+        if (elementIndex < nextBIndex) {
+            // Here, the desired element is between a and b:
+            int leftDistance = elementIndex - aIndex;
+            int rightDistance = nextBIndex - elementIndex;
+
+            return leftDistance < rightDistance ?
+                    rewind(fingerSlots[fingerIndex - 1], leftDistance) :
+                    rewind(b, -rightDistance);
+        } else {
+            // Here, the desired element is between b and c:
+            int leftDistance = elementIndex - nextBIndex;
+            int rightDistance = cIndex - elementIndex;
+
+            return leftDistance < rightDistance ?
+                    rewind(b, leftDistance) :
+                    rewind(fingerSlots[fingerIndex + 1], -rightDistance);
+        }
+    }
+
+    /**
+     * Returns the slot of the {@code elementIndex}th element without modifying
+     * the fingers.
+     *
+     * @param elementIndex the index of the target element.
+     * @return the slot holding the target element.
+     */
+    private int getSlotNoFingersFix(int elementIndex) {
+        if (inListOrder) {
+            return elementIndex;
+        }
+
+        int fingerIndex = getClosestFingerIndex(elementIndex);
+        return rewind(fingerSlots[fingerIndex],
+                      elementIndex - fingerIndices[fingerIndex]);
+    }
+
+    /**
+     * Resets the finger arrays to the empty list state.
+     */
+    private void initFingers() {
+        fingerSlots = new int[INITIAL_FINGER_CAPACITY];
+        fingerIndices = new int[INITIAL_FINGER_CAPACITY];
+        fingerSlots[0] = NIL;
+        numberOfFingers = 0;
+    }
+
+    /**
+     * Allocates the slot arrays of the given capacity.
+     *
+     * @param capacity the capacity of the slot arrays.
+     */
+    private void initSlots(int capacity) {
+        items = new Object[capacity];
+        prevSlots = new int[capacity];
+        nextSlots = new int[capacity];
+    }
+
+    /**
+     * Inserts a new finger at the finger index {@code fingerIndex}.
+     *
+     * @param fingerIndex the finger index of the new finger.
+     * @param slot        the finger slot.
+     * @param index       the element index of {@code slot}.
+     */
+    private void insertFinger(int fingerIndex, int slot, int index) {
+        if (numberOfFingers + 2 > fingerSlots.length) {
+            int nextCapacity = 2 * fingerSlots.length;
+            fingerSlots = Arrays.copyOf(fingerSlots, nextCapacity);
+            fingerIndices = Arrays.copyOf(fingerIndices, nextCapacity);
+        }
+
+        int numberOfFingersToShift = numberOfFingers + 1 - fingerIndex;
+
+        System.arraycopy(fingerSlots,
+                         fingerIndex,
+                         fingerSlots,
+                         fingerIndex + 1,
+                         numberOfFingersToShift);
+
+        System.arraycopy(fingerIndices,
+                         fingerIndex,
+                         fingerIndices,
+                         fingerIndex + 1,
+                         numberOfFingersToShift);
+
+        fingerSlots[fingerIndex] = slot;
+        fingerIndices[fingerIndex] = index;
+        numberOfFingers++;
+    }
+
+    /**
+     * Returns the element stored in the slot {@code slot}.
+     *
+     * @param slot the slot.
+     * @return the element in {@code slot}.
+     */
+    @SuppressWarnings("unchecked")
+    private E item(int slot) {
+        return (E) items[slot];
+    }
+
+    /**
+     * Inserts {@code e} right before the element in the slot {@code succ}.
+     *
+     * @param e     the element to insert.
+     * @param index the index of {@code succ}.
+     * @param succ  the successor slot.
+     */
+    private void linkBefore(E e, int index, int succ) {
+        int slot = allocateSlot(e);
+        int pred = prevSlots[succ];
+
+        // Link:
+        nextSlots[slot] = succ;
+        prevSlots[slot] = pred;
+        prevSlots[succ] = slot;
+        nextSlots[pred] = slot;
+
+        size++;
+        modCount++;
+        inListOrder = false;
+
+        // Get the closest, upper finger's index:
+        int fingerIndex = getFingerIndexImpl(index);
+        shiftFingerIndices(fingerIndex, 1);
+
+        if (mustAddFinger()) {
+            // Insert the new finger pointing to 'slot':
+            insertFinger(fingerIndex, slot, index);
+        }
+    }
+
+    /**
+     * Prepends {@code e} to the head of this list.
+     *
+     * @param e the element to prepend.
+     */
+    private void linkFirst(E e) {
+        int slot = allocateSlot(e);
+        int oldHead = head;
+        prevSlots[slot] = NIL;
+        nextSlots[slot] = oldHead;
+        head = slot;
+
+        if (oldHead == NIL) {
+            // Once here, the list was empty before calling this method. Update
+            // the empty tail:
+            tail = slot;
+        } else {
+            // Otherwise, just link the old head to the new slot:
+            prevSlots[oldHead] = slot;
+        }
+
+        inListOrder &= size == 0 && slot == 0;
+        size++;
+        modCount++;
+        shiftFingerIndices(0, 1);
+
+        if (mustAddFinger()) {
+            insertFinger(0, slot, 0);
+        }
+    }
+
+    /**
+     * Appends {@code e} to the tail of this list.
+     *
+     * @param e the element to append.
+     */
+    private void linkLast(E e) {
+        int slot = allocateSlot(e);
+        int oldTail = tail;
+        prevSlots[slot] = oldTail;
+        nextSlots[slot] = NIL;
+        tail = slot;
+
+        if (oldTail == NIL) {
+            // Once here, the list was empty prior to calling this method.
+            // Update the empty head:
+            head = slot;
+        } else {
+            // Otherwise, just link the old tail to the new slot:
+            nextSlots[oldTail] = slot;
+        }
+
+        inListOrder &= slot == size;
+        size++;
+        modCount++;
+        fingerIndices[numberOfFingers] = size;
+
+        if (mustAddFinger()) {
+            insertFinger(numberOfFingers, slot, size - 1);
+        }
+    }
+
+    /**
+     * Moves the finger {@code fingerIndex} out of the slot it points to,
+     * shifting the fingers on the right one position to the left.
+     *
+     * @param fingerIndex the index of the finger to move.
+     */
+    private void moveFingerOutOfRemovalLocation(int fingerIndex) {
+        // Try push the fingers to the right:
+        for (int j = fingerIndex; j < numberOfFingers; ++j) {
+            if (fingerIndices[j] + 1 < fingerIndices[j + 1]) {
+                // Once here, we have an opportunity for pushing to the right:
+                for (int i = j; i >= fingerIndex; --i) {
+                    fingerSlots[i] = nextSlots[fingerSlots[i]];
+                }
+
+                shiftFingerIndices(j + 1, -1);
+                return;
+            }
+        }
+
+        // Could not push the fingers to the right. Push to the left:
+        int j = fingerIndex;
+
+        while (j > 0 && fingerIndices[j - 1] + 1 == fingerIndices[j]) {
+            j--;
+        }
+
+        for (int k = j; k <= fingerIndex; k++) {
+            fingerSlots[k] = prevSlots[fingerSlots[k]];
+            fingerIndices[k]--;
+        }
+
+        shiftFingerIndices(fingerIndex + 1, -1);
+    }
+
+    /**
+     * Returns {@code true} if and only if this list requires more fingers.
+     *
+     * @return {@code true} if and only if this list requires more fingers.
+     */
+    private boolean mustAddFinger() {
+        return numberOfFingers < getRecommendedNumberOfFingers();
+    }
+
+    /**
+     * Returns {@code true} if and only if this list requires less fingers.
+     *
+     * @return {@code true} if and only if this list requires less fingers.
+     */
+    private boolean mustRemoveFinger() {
+        return numberOfFingers > getRecommendedNumberOfFingers();
+    }
+
+    /**
+     * Returns the index of the closest finger among
+     * {@code fingerIndex - 1} and {@code fingerIndex}.
+     *
+     * @param fingerIndex  the lower bound finger index.
+     * @param elementIndex the target element index.
+     * @return the closest finger index.
+     */
+    private int normalize(int fingerIndex, int elementIndex) {
+        if (fingerIndex == 0) {
+            // Since we cannot point to '-1'th finger, return 0:
+            return 0;
+        }
+
+        if (fingerIndex == numberOfFingers) {
+            // Don't go outside of 'numberOfFingers - 1':
+            return numberOfFingers - 1;
+        }
+
+        int distance1 = elementIndex - fingerIndices[fingerIndex - 1];
+        int distance2 = fingerIndices[fingerIndex] - elementIndex;
+
+        // Return the closest finger index:
+        return distance1 < distance2 ? fingerIndex - 1 : fingerIndex;
+    }
+
+    /**
+     * Pushes {@code slot} to the free-slot list.
+     *
+     * @param slot the slot to release.
+     */
+    private void releaseSlot(int slot) {
+        items[slot] = null;
+        prevSlots[slot] = NIL;
+        nextSlots[slot] = freeSlotListHead;
+        freeSlotListHead = slot;
+    }
+
+    /**
+     * Removes the fingers covered by the removed range
+     * {@code [fromIndex, toIndex)}, shifts the fingers after the range, and
+     * pushes the missing fingers to the slots adjacent to the removed range.
+     *
+     * @param fromIndex the starting, inclusive index of the removed range.
+     * @param toIndex   the ending, exclusive index of the removed range.
+     * @param pred      the slot preceding the removed range.
+     * @param succ      the slot following the removed range.
+     */
+    private void removeFingersOnDeleteRange(int fromIndex,
+                                            int toIndex,
+                                            int pred,
+                                            int succ) {
+        int removalLength = toIndex - fromIndex;
+        int fromFingerIndex = getFingerIndexImpl(fromIndex);
+        int toFingerIndex = getFingerIndexImpl(toIndex);
+        int coveredFingers = toFingerIndex - fromFingerIndex;
+
+        // Remove the covered fingers and shift the fingers after the range:
+        for (int i = toFingerIndex; i <= numberOfFingers; i++) {
+            fingerSlots[i - coveredFingers] = fingerSlots[i];
+            fingerIndices[i - coveredFingers] = fingerIndices[i]
+                                              - removalLength;
+        }
+
+        numberOfFingers -= coveredFingers;
+
+        while (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        int missingFingers = getRecommendedNumberOfFingers() - numberOfFingers;
+
+        if (missingFingers == 0) {
+            return;
+        }
+
+        // Collect the free slots on the suffix side of the removed range:
+        int[] suffixSlots = new int[missingFingers];
+        int[] suffixIndices = new int[missingFingers];
+        int numberOfSuffixFingers = 0;
+        int fingerIndex = fromFingerIndex;
+        int index = fromIndex;
+
+        for (int slot = succ;
+                slot != NIL && numberOfSuffixFingers < missingFingers;
+                slot = nextSlots[slot], index++) {
+
+            if (fingerIndex < numberOfFingers
+                    && fingerIndices[fingerIndex] == index) {
+                fingerIndex++;
+            } else {
+                suffixSlots[numberOfSuffixFingers] = slot;
+                suffixIndices[numberOfSuffixFingers++] = index;
+            }
+        }
+
+        // Collect the free slots on the prefix side of the removed range. They
+        // are collected in descending index order, so we fill the new finger
+        // arrays from right to left:
+        int[] newSlots = new int[missingFingers];
+        int[] newIndices = new int[missingFingers];
+        int numberOfPrefixFingers = missingFingers - numberOfSuffixFingers;
+        fingerIndex = fromFingerIndex - 1;
+        index = fromIndex - 1;
+        int position = numberOfPrefixFingers;
+
+        for (int slot = pred; position > 0; slot = prevSlots[slot], index--) {
+            if (fingerIndex >= 0 && fingerIndices[fingerIndex] == index) {
+                fingerIndex--;
+            } else {
+                newSlots[--position] = slot;
+                newIndices[position] = index;
+            }
+        }
+
+        System.arraycopy(suffixSlots,
+                         0,
+                         newSlots,
+                         numberOfPrefixFingers,
+                         numberOfSuffixFingers);
+
+        System.arraycopy(suffixIndices,
+                         0,
+                         newIndices,
+                         numberOfPrefixFingers,
+                         numberOfSuffixFingers);
+
+        // Merge the new fingers with the existing ones:
+        int capacity = Math.max(fingerSlots.length,
+                                numberOfFingers + missingFingers + 1);
+
+        int[] mergedSlots = new int[capacity];
+        int[] mergedIndices = new int[capacity];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+
+        while (i < numberOfFingers || j < missingFingers) {
+            if (j == missingFingers
+                    || (i < numberOfFingers
+                        && fingerIndices[i] < newIndices[j])) {
+                mergedSlots[k] = fingerSlots[i];
+                mergedIndices[k++] = fingerIndices[i++];
+            } else {
+                mergedSlots[k] = newSlots[j];
+                mergedIndices[k++] = newIndices[j++];
+            }
+        }
+
+        mergedSlots[k] = NIL;
+        mergedIndices[k] = size;
+        fingerSlots = mergedSlots;
+        fingerIndices = mergedIndices;
+        numberOfFingers = k;
+    }
+
+    /**
+     * Removes the last finger and contracts the finger arrays if they are too
+     * sparse.
+     */
+    private void removeLastFinger() {
+        fingerSlots[--numberOfFingers] = NIL;
+        fingerIndices[numberOfFingers] = size;
+
+        if (fingerSlots.length > INITIAL_FINGER_CAPACITY
+                && numberOfFingers + 1 < fingerSlots.length
+                                       / THRESHOLD_FACTOR) {
+
+            int nextCapacity = Math.max(INITIAL_FINGER_CAPACITY,
+                                        fingerSlots.length / 2);
+
+            fingerSlots = Arrays.copyOf(fingerSlots, nextCapacity);
+            fingerIndices = Arrays.copyOf(fingerIndices, nextCapacity);
+        }
+    }
+
+    /**
+     * Copies the elements to fresh slot arrays in list order, skipping the
+     * elements whose bits are set in {@code deathRow}. Updates the size but
+     * not the fingers.
+     *
+     * @param deathRow the bit set of the indices of the elements to drop, or
+     *                 {@code null} if all the elements are kept.
+     */
+    private void renumberSlots(long[] deathRow) {
+        Object[] newItems = new Object[Math.max(DEFAULT_CAPACITY, size)];
+        int[] newPrevSlots = new int[newItems.length];
+        int[] newNextSlots = new int[newItems.length];
+        int newSize = 0;
+        int index = 0;
+
+        for (int slot = head; slot != NIL; slot = nextSlots[slot], index++) {
+            if (deathRow != null
+                    && (deathRow[index >> 6] & (1L << index)) != 0) {
+                continue;
+            }
+
+            newItems[newSize] = items[slot];
+            newPrevSlots[newSize] = newSize - 1;
+            newNextSlots[newSize] = newSize + 1;
+            newSize++;
+        }
+
+        if (newSize > 0) {
+            newNextSlots[newSize - 1] = NIL;
+        }
+
+        items = newItems;
+        prevSlots = newPrevSlots;
+        nextSlots = newNextSlots;
+        head = newSize == 0 ? NIL : 0;
+        tail = newSize - 1;
+        size = newSize;
+        freeSlotListHead = NIL;
+        slotLimit = newSize;
+        inListOrder = true;
+    }
+
+    /**
+     * Returns a slot that is {@code steps} hops away from {@code slot}. If
+     * {@code steps} is negative, moves to the left.
+     *
+     * @param slot  the starting slot.
+     * @param steps the number of hops to make.
+     * @return the requested slot.
+     */
+    private int rewind(int slot, int steps) {
+        if (steps < 0) {
+            for (int i = 0; i != -steps; ++i) {
+                slot = prevSlots[slot];
+            }
+        } else {
+            for (int i = 0; i != steps; ++i) {
+                slot = nextSlots[slot];
+            }
+        }
+
+        return slot;
+    }
+
+    /**
+     * Adds {@code shiftLength} to the indices of the fingers in the range
+     * {@code [startFingerIndex, numberOfFingers]}.
+     *
+     * @param startFingerIndex the index of the leftmost finger to shift.
+     * @param shiftLength      the length of the shift operation.
+     */
+    private void shiftFingerIndices(int startFingerIndex, int shiftLength) {
+        for (int i = startFingerIndex; i <= numberOfFingers; ++i) {
+            fingerIndices[i] += shiftLength;
+        }
+    }
+
+    /**
+     * Unlinks the {@code index}th element.
+     *
+     * @param index the index of the element to remove.
+     * @return the removed element.
+     */
+    private E unlinkAt(int index) {
+        if (index == 0) {
+            return unlinkFirst();
+        }
+
+        if (index == size - 1) {
+            return unlinkLast();
+        }
+
+        int closestFingerIndex = getClosestFingerIndex(index);
+        int slotToRemove;
+
+        if (fingerIndices[closestFingerIndex] == index) {
+            // Once here, the element with index 'index' is pointed by a
+            // finger:
+            slotToRemove = fingerSlots[closestFingerIndex];
+            moveFingerOutOfRemovalLocation(closestFingerIndex);
+        } else {
+            int steps = index - fingerIndices[closestFingerIndex];
+            slotToRemove = rewind(fingerSlots[closestFingerIndex], steps);
+            shiftFingerIndices(closestFingerIndex + 1, -1);
+
+            if (steps < 0) {
+                // Once here, we need to fix the index also of the
+                // 'closestFingerIndex'th finger:
+                fingerIndices[closestFingerIndex]--;
+            }
+        }
+
+        E item = unlinkSlot(slotToRemove);
+        size--;
+        modCount++;
+        inListOrder = false;
+
+        if (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        return item;
+    }
+
+    /**
+     * Unlinks the head element.
+     *
+     * @return the removed element.
+     */
+    private E unlinkFirst() {
+        // Move the prefix fingers packed at the beginning of the list one
+        // slot to the right:
+        int lastPrefixIndex = numberOfFingers;
+
+        for (int i = 0; i < numberOfFingers; ++i) {
+            if (fingerIndices[i] != i) {
+                lastPrefixIndex = i;
+                break;
+            }
+
+            fingerSlots[i] = nextSlots[fingerSlots[i]];
+        }
+
+        shiftFingerIndices(lastPrefixIndex, -1);
+        E item = unlinkSlot(head);
+        size--;
+        modCount++;
+        inListOrder = size == 0 && freeSlotListHead == 0;
+
+        if (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        fingerIndices[numberOfFingers] = size;
+        return item;
+    }
+
+    /**
+     * Unlinks the tail element.
+     *
+     * @return the removed element.
+     */
+    private E unlinkLast() {
+        int slot = tail;
+        size--;
+        modCount++;
+
+        if (fingerSlots[numberOfFingers - 1] == slot) {
+            // Once here, the last finger points to the tail. Since there are
+            // no more fingers than elements, we may simply remove it when not
+            // needed, and otherwise push it along with its packed
+            // predecessors to the left:
+            if (mustRemoveFinger()) {
+                removeLastFinger();
+            } else {
+                for (int i = numberOfFingers - 1; i >= 0; --i) {
+                    fingerSlots[i] = prevSlots[fingerSlots[i]];
+                    fingerIndices[i]--;
+
+                    if (i == 0 || fingerIndices[i - 1] != fingerIndices[i]) {
+                        break;
+                    }
+                }
+            }
+        } else if (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        fingerIndices[numberOfFingers] = size;
+        return unlinkSlot(slot);
+    }
+
+    /**
+     * Unlinks the element in the slot {@code slot} from the list and releases
+     * the slot. Does not update the size or the fingers.
+     *
+     * @param slot the slot to unlink.
+     * @return the unlinked element.
+     */
+    private E unlinkSlot(int slot) {
+        E item = item(slot);
+        int prev = prevSlots[slot];
+        int next = nextSlots[slot];
+
+        if (prev == NIL) {
+            head = next;
+        } else {
+            nextSlots[prev] = next;
+        }
+
+        if (next == NIL) {
+            tail = prev;
+        } else {
+            prevSlots[next] = prev;
+        }
+
+        releaseSlot(slot);
+        return item;
+    }
+
+    /**
+     * Saves the state of this list to a stream.
+     *
+     * @param s the object output stream.
+     *
+     * @serialData The size of the list is emitted (int), followed by all of
+     *             its elements (each an Object) in the proper order.
+     *
+     * @throws java.io.IOException if the I/O fails.
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+        throws java.io.IOException {
+        s.defaultWriteObject();
+        s.writeInt(size);
+
+        for (int slot = head; slot != NIL; slot = nextSlots[slot]) {
+            s.writeObject(items[slot]);
+        }
+    }
+
+    /**
+     * Reconstitutes this list from a stream.
+     *
+     * @param s the object input stream.
+     *
+     * @throws java.io.IOException if I/O fails.
+     * @throws ClassNotFoundException if the class is not found.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        int sz = s.readInt();
+        head = tail = NIL;
+        freeSlotListHead = NIL;
+        inListOrder = true;
+        initSlots(Math.max(DEFAULT_CAPACITY, sz));
+        initFingers();
+
+        for (int i = 0; i < sz; i++) {
+            linkLast((E) s.readObject());
+        }
+    }
+
+    /**
+     * This inner class implements the list iterator over the slots.
+     */
+    final class SlotIterator implements ListIterator<E> {
+
+        /**
+         * The slot of the next element, or {@link #NIL} if the iterator is at
+         * the end of the list.
+         */
+        private int nextSlot;
+
+        /**
+         * The index of the next element.
+         */
+        private int nextIndex;
+
+        /**
+         * The index of the most recently returned element, or {@code -1} if
+         * there is no such.
+         */
+        private int lastReturnedIndex = -1;
+
+        /**
+         * The slot of the most recently returned element.
+         */
+        private int lastReturnedSlot = NIL;
+
+        /**
+         * The expected modification count.
+         */
+        private int expectedModCount = modCount;
+
+        /**
+         * Constructs a new iterator pointing before the {@code index}th
+         * element.
+         *
+         * @param index the index of the next element.
+         */
+        SlotIterator(int index) {
+            nextIndex = index;
+            nextSlot = index == size ? NIL : getSlotNoFingersFix(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturnedSlot = nextSlot;
+            lastReturnedIndex = nextIndex++;
+            nextSlot = nextSlots[nextSlot];
+            return item(lastReturnedSlot);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            nextSlot = nextSlot == NIL ? tail : prevSlots[nextSlot];
+            lastReturnedSlot = nextSlot;
+            lastReturnedIndex = --nextIndex;
+            return item(nextSlot);
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            int succ = nextSlots[lastReturnedSlot];
+            unlinkAt(lastReturnedIndex);
+
+            if (nextSlot == lastReturnedSlot) {
+                // Once here, the removed element was returned by previous():
+                nextSlot = succ;
+            } else {
+                nextIndex--;
+            }
+
+            lastReturnedIndex = -1;
+            lastReturnedSlot = NIL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            items[lastReturnedSlot] = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+            ArrayIndexedLinkedList.this.add(nextIndex++, e);
+            lastReturnedIndex = -1;
+            lastReturnedSlot = NIL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+
+            while (modCount == expectedModCount && nextIndex < size) {
+                action.accept(item(nextSlot));
+                lastReturnedSlot = nextSlot;
+                lastReturnedIndex = nextIndex++;
+                nextSlot = nextSlots[nextSlot];
+            }
+
+            checkForComodification();
+        }
+
+        /**
+         * Checks that the list was not modified outside of this iterator.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
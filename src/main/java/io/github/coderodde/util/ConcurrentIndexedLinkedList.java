@@ -0,0 +1,1084 @@
+package io.github.coderodde.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ * This class implements a thread-safe {@link IndexedLinkedList}. All the
+ * operations are guarded by a single {@link StampedLock}: the modifications
+ * take the write lock, and the reads take the read lock. The hot
+ * single-element reads ({@link #get(int)}, {@link #size()},
+ * {@link #getFirst()}, {@link #peekFirst()} and the like) first run under an
+ * <i>optimistic</i> stamp, which writes nothing to shared memory, and fall back
+ * to the read lock only if a writer intervened. Read-heavy traffic therefore
+ * scales with the number of reader threads instead of serializing on a single
+ * monitor as with {@link Collections#synchronizedList(List)}.
+ *
+ * <p>
+ * A plain {@link IndexedLinkedList#get(int)} is not read-only: it moves the
+ * closest finger and the cached cursor. Here, the readers locate the nodes via
+ * {@code getNodeNoFingersFix} and leave the fingers as they are. The fingers
+ * are re-centered by the writers, whose operations relocate the fingers in
+ * the course of their own work, and by {@link #optimize()}.
+ *
+ * <p>
+ * The iterators (including the ones of {@link #descendingIterator()} and
+ * {@link #stream()}) and {@link #forEach(Consumer)} traverse an immutable
+ * {@link IndexedLinkedList#snapshot()} of the list taken at the moment of their
+ * creation. Taking the snapshot copies nothing and runs in constant time, and
+ * all the traversals between two writes share the same snapshot without
+ * locking. The traversals themselves run without locking as well, never throw
+ * {@link java.util.ConcurrentModificationException} and do not support
+ * modification: their {@code remove}, {@code set} and {@code add} throw
+ * {@link UnsupportedOperationException}. The price is paid by the first write
+ * after a snapshot, which copies the nodes in \(\mathcal{O}(n)\) time, so
+ * traversals interleaved with writes cost \(\mathcal{O}(n)\) per write
+ * instead of per traversal. Each operation of a {@link #subList(int, int)}
+ * view is atomic, but the view is not synchronized with the concurrent
+ * structural modifications of the backing list. The functions passed to
+ * {@link #removeIf(Predicate)}, {@link #replaceAll(UnaryOperator)} and
+ * {@link #sort(Comparator)} run under the write lock and must not access this
+ * list.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ * @param <E> the element type.
+ */
+public class ConcurrentIndexedLinkedList<E> extends AbstractList<E>
+                                            implements Deque<E>,
+                                                       java.io.Serializable {
+
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 4187339046271190127L;
+
+    /**
+     * The actual list.
+     */
+    final IndexedLinkedList<E> list = new IndexedLinkedList<>();
+
+    /**
+     * The lock guarding {@code list}.
+     */
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * The latest snapshot of {@code list}, shared by all the traversals until
+     * the next write. {@code null} if {@code list} does not share its nodes
+     * with it anymore.
+     */
+    private transient volatile List<E> traversalSnapshot;
+
+    /**
+     * Constructs an empty list.
+     */
+    public ConcurrentIndexedLinkedList() {
+    }
+
+    /**
+     * Constructs a new list and copies the data in {@code c} to it.
+     *
+     * @param c the collection to copy.
+     */
+    public ConcurrentIndexedLinkedList(Collection<? extends E> c) {
+        list.addAll(c);
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param e the element to append.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean add(E e) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.add(e);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index   the index at which to insert.
+     * @param element the element to insert.
+     * @throws IndexOutOfBoundsException if the index is outside of the valid
+     *                                   range.
+     */
+    @Override
+    public void add(int index, E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            list.add(index, element);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends all the elements of {@code c} to the tail of this list. The
+     * elements of {@code c} are copied before locking this list.
+     *
+     * @param c the collection to append.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        List<E> elements = snapshotOf(c);
+        long stamp = lock.writeLock();
+
+        try {
+            return list.addAll(elements);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts all the elements of {@code c} starting from the position
+     * {@code index}. The elements of {@code c} are copied before locking this
+     * list.
+     *
+     * @param index the index of the first inserted element.
+     * @param c     the collection to insert.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        List<E> elements = snapshotOf(c);
+        long stamp = lock.writeLock();
+
+        try {
+            return list.addAll(index, elements);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds the element {@code e} before the head of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void addFirst(E e) {
+        long stamp = lock.writeLock();
+
+        try {
+            list.addFirst(e);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds the element {@code e} after the tail of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void addLast(E e) {
+        add(e);
+    }
+
+    /**
+     * Checks the data structure invariant of the underlying list. Throws
+     * {@link java.lang.IllegalStateException} on invalid invariant.
+     */
+    public void checkInvariant() {
+        long stamp = lock.writeLock();
+
+        try {
+            list.checkInvarant();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Completely clears this list.
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+
+        try {
+            list.clear();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns {@code true} only if {@code o} is present in this list.
+     *
+     * @param o the query object.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns {@code true} only if this list contains all the elements
+     * mentioned in {@code c}.
+     *
+     * @param c the query object collection.
+     * @return {@code true} only if this list contains all the elements in
+     *         {@code c}.
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        List<?> elements = snapshotOf(c);
+        long stamp = lock.readLock();
+
+        try {
+            return list.containsAll(elements);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the descending iterator over a snapshot of this list.
+     *
+     * @return the descending iterator.
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        List<E> snapshot = snapshot();
+        ListIterator<E> iterator = snapshot.listIterator(snapshot.size());
+
+        return new Iterator<E>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return iterator.previous();
+            }
+        };
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    /**
+     * Applies {@code action} to each element in a snapshot of this list
+     * without locking. The snapshot is taken in constant time, and the
+     * elements are not copied.
+     *
+     * @param action the action to apply.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        snapshot().forEach(action);
+    }
+
+    /**
+     * Returns {@code index}th element. Does not relocate the fingers, and runs
+     * without locking unless a writer intervenes.
+     *
+     * @param index the index of the element to return.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E get(int index) {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            try {
+                E item = getImpl(index);
+
+                if (lock.validate(stamp)) {
+                    return item;
+                }
+            } catch (RuntimeException ex) {
+                // Once here, either the index is invalid, or we have read an
+                // inconsistent state:
+                if (lock.validate(stamp)) {
+                    throw ex;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return getImpl(index);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getFirst() {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            try {
+                E item = list.getFirst();
+
+                if (lock.validate(stamp)) {
+                    return item;
+                }
+            } catch (RuntimeException ex) {
+                if (lock.validate(stamp)) {
+                    throw ex;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return list.getFirst();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the last element of this list.
+     *
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getLast() {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            try {
+                E item = list.getLast();
+
+                if (lock.validate(stamp)) {
+                    return item;
+                }
+            } catch (RuntimeException ex) {
+                if (lock.validate(stamp)) {
+                    throw ex;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return list.getLast();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the index of the leftmost {@code o}, or {@code -1} if {@code o}
+     * does not appear in this list.
+     *
+     * @param o the object to search.
+     * @return the index of the leftmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int indexOf(Object o) {
+        long stamp = lock.readLock();
+
+        try {
+            return list.indexOf(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns {@code true} only if this list is empty.
+     *
+     * @return {@code true} only if this list is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the iterator over a snapshot of this list.
+     *
+     * @return the iterator over a snapshot of this list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return snapshot().iterator();
+    }
+
+    /**
+     * Returns the index of the rightmost {@code o}, or {@code -1} if
+     * {@code o} does not appear in this list.
+     *
+     * @param o the object to search.
+     * @return the index of the rightmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        long stamp = lock.readLock();
+
+        try {
+            return list.lastIndexOf(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the list iterator over a snapshot of this list.
+     *
+     * @return the list iterator.
+     */
+    @Override
+    public ListIterator<E> listIterator() {
+        return snapshot().listIterator();
+    }
+
+    /**
+     * Returns the list iterator over a snapshot of this list pointing between
+     * {@code list[index - 1]} and {@code list[index]}.
+     *
+     * @param index the gap index.
+     * @return the list iterator.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return snapshot().listIterator(index);
+    }
+
+    /**
+     * Adds {@code e} after the tail element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offer(E e) {
+        return add(e);
+    }
+
+    /**
+     * Adds {@code e} before the head element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    /**
+     * Adds {@code e} after the tail element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerLast(E e) {
+        return add(e);
+    }
+
+    /**
+     * Moves all the fingers such that they are evenly distributed. Runs in
+     * linear time under the write lock.
+     */
+    public void optimize() {
+        long stamp = lock.writeLock();
+
+        try {
+            list.optimize();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Takes a look at the first element in this list.
+     *
+     * @return the head element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Takes a look at the first element in this list.
+     *
+     * @return the head element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peekFirst() {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            try {
+                E item = list.peekFirst();
+
+                if (lock.validate(stamp)) {
+                    return item;
+                }
+            } catch (RuntimeException ex) {
+                // Once here, we have read an inconsistent state.
+            }
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return list.peekFirst();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Takes a look at the last element in this list.
+     *
+     * @return the tail element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peekLast() {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            try {
+                E item = list.peekLast();
+
+                if (lock.validate(stamp)) {
+                    return item;
+                }
+            } catch (RuntimeException ex) {
+                // Once here, we have read an inconsistent state.
+            }
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return list.peekLast();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the
+     * first element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the
+     * first element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E pollFirst() {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.pollFirst();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the last
+     * element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E pollLast() {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.pollLast();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the first element and returns it.
+     *
+     * @return the first element.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Adds {@code e} before the head of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    /**
+     * Removes and returns the first element.
+     *
+     * @return the head element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes the element residing at the given index.
+     *
+     * @param index the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.remove(index);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the leftmost occurrence of {@code o} in this list.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if {@code o} was located and removed.
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Removes from this list all the elements mentioned in {@code c}.
+     *
+     * @param c the collection holding all the elements to remove.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        Collection<?> elements = c == this ? snapshot() : c;
+        long stamp = lock.writeLock();
+
+        try {
+            return list.removeAll(elements);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the first element from this list.
+     *
+     * @return the first element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeFirst() {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.removeFirst();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the leftmost occurrence of {@code o}.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if {@code o} was present in the list and was
+     *         successfully removed.
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.removeFirstOccurrence(o);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes from this list all the elements that satisfy the given input
+     * predicate. The predicate runs under the write lock.
+     *
+     * @param filter the filtering predicate.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        long stamp = lock.writeLock();
+
+        try {
+            return list.removeIf(filter);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @return the removed tail element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeLast() {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.removeLast();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the rightmost occurrence of {@code o}.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if an element was actually removed.
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.removeLastOccurrence(o);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replaces each element with the result of applying {@code operator} to
+     * it. The operator runs under the write lock.
+     *
+     * @param operator the operator to apply.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        long stamp = lock.writeLock();
+
+        try {
+            list.replaceAll(operator);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove all the elements that <strong>do not</strong> appear in
+     * {@code c}.
+     *
+     * @param c the collection of elements to retain.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        Collection<?> elements = c == this ? snapshot() : c;
+        long stamp = lock.writeLock();
+
+        try {
+            return list.retainAll(elements);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sets the element at index {@code index} to {@code element} and returns
+     * the old element.
+     *
+     * @param index   the target index.
+     * @param element the element to set.
+     * @return the previous element at the given index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E set(int index, E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.set(index, element);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the size of this list.
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = list.size();
+
+        if (stamp != 0L && lock.validate(stamp)) {
+            return size;
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return list.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Sorts this list. The comparator runs under the write lock.
+     *
+     * @param c the element comparator, or {@code null} for the natural
+     *          ordering.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        long stamp = lock.writeLock();
+
+        try {
+            list.sort(c);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the spliterator over a snapshot of this list. Its size is the
+     * size of the snapshot, not of this list.
+     *
+     * @return the spliterator over a snapshot of this list.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return snapshot().spliterator();
+    }
+
+    /**
+     * Returns the {@link Object} array containing all the elements in this
+     * list, in the same order as they appear in the list.
+     *
+     * @return the list contents in an {@link Object} array.
+     */
+    @Override
+    public Object[] toArray() {
+        long stamp = lock.readLock();
+
+        try {
+            return list.toArray();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns an array containing all the elements in this list, in the same
+     * order as they appear in the list.
+     *
+     * @param <T> the array component type.
+     * @param a   the array to fill, if large enough.
+     * @return the list contents in an array.
+     */
+    @Override
+    public <T> T[] toArray(T[] a) {
+        long stamp = lock.readLock();
+
+        try {
+            return list.toArray(a);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Removes the list range {@code [fromIndex, ..., toIndex - 1]}.
+     *
+     * @param fromIndex the staring, inclusive range index.
+     * @param toIndex   the ending, exclusive range index.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+
+        try {
+            list.subList(fromIndex, toIndex).clear();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the {@code index}th element without modifying the underlying
+     * list. May be called under an optimistic stamp.
+     *
+     * @param index the index of the element to return.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    private E getImpl(int index) {
+        int size = list.size();
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + size);
+        }
+
+        return list.fingerList.getNodeNoFingersFix(index).item;
+    }
+
+    /**
+     * Returns an immutable snapshot of this list. As long as {@code list}
+     * shares its nodes with the latest snapshot, that is, no write happened
+     * since it was taken, returns it without locking. Otherwise, takes a new
+     * one under the write lock in constant time, since taking a snapshot marks
+     * the nodes of {@code list} as shared.
+     *
+     * @return the snapshot of this list.
+     */
+    private List<E> snapshot() {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            List<E> snapshot = traversalSnapshot;
+
+            if (snapshot != null && list.shared && lock.validate(stamp)) {
+                return snapshot;
+            }
+        }
+
+        stamp = lock.writeLock();
+
+        try {
+            if (traversalSnapshot == null || !list.shared) {
+                traversalSnapshot = list.snapshot();
+            }
+
+            return traversalSnapshot;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies the elements of {@code c}, so that the copy may be accessed
+     * under the lock of this list even if {@code c} is this list.
+     *
+     * @param <T> the element type.
+     * @param c   the collection to copy.
+     * @return the copy of {@code c}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> snapshotOf(Collection<? extends T> c) {
+        return Arrays.asList((T[]) c.toArray());
+    }
+
+    /**
+     * Releases the write lock. If the write made {@code list} copy away its
+     * nodes, drops the snapshot the traversals shared, so that the old nodes
+     * are kept alive only by the traversals still running over them.
+     *
+     * @param stamp the write stamp.
+     */
+    private void unlockWrite(long stamp) {
+        if (!list.shared) {
+            traversalSnapshot = null;
+        }
+
+        lock.unlockWrite(stamp);
+    }
+
+    /**
+     * Saves the state of this list to a stream under the read lock.
+     *
+     * @param s the object output stream.
+     *
+     * @throws java.io.IOException if the I/O fails.
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+        throws java.io.IOException {
+        long stamp = lock.readLock();
+
+        try {
+            s.defaultWriteObject();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package io.github.coderodde.util;
+
+/**
+ * This interface defines the API for the policies deciding how many fingers an
+ * {@link IndexedLinkedList} maintains. More fingers make the single-element
+ * operations walk fewer nodes at the expense of memory and finger maintenance.
+ * <p>
+ * The list adds a finger as soon as it holds fewer than
+ * {@code getNumberOfFingers(size)} fingers, and removes a finger only once it
+ * holds more than {@code getNumberOfFingers(size + getHysteresis())} fingers.
+ * A positive hysteresis keeps a list whose size oscillates around a step of
+ * the policy function from adding and removing a finger on every operation.
+ * <p>
+ * Regardless of the policy, the lists of at most three elements keep
+ * \(\Bigg\lceil \sqrt{n} \Bigg\rceil\) fingers, and larger lists keep at
+ * least two fingers and fewer fingers than elements. Within these bounds,
+ * {@code getNumberOfFingers} must be non-decreasing and may grow by at most one
+ * when {@code size} grows by one.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ */
+public interface FingerPolicy {
+
+    /**
+     * The default policy maintaining \(\Bigg\lceil \sqrt{n} \Bigg\rceil\)
+     * fingers.
+     */
+    FingerPolicy SQRT = new ScaledSqrtPolicy(1.0, 0);
+
+    /**
+     * Returns the policy maintaining \(\Bigg\lceil c \sqrt{n} \Bigg\rceil\)
+     * fingers. The values of {@code c} larger than one pay memory for faster
+     * access, and the values smaller than one do the opposite.
+     *
+     * @param c          the scaling factor.
+     * @param hysteresis the hysteresis in elements.
+     * @return the scaled square root policy.
+     * @throws IllegalArgumentException if {@code c} is not positive or
+     *                                  {@code hysteresis} is negative.
+     */
+    static FingerPolicy scaledSqrt(double c, int hysteresis) {
+        return new ScaledSqrtPolicy(c, hysteresis);
+    }
+
+    /**
+     * Returns the policy maintaining \(\Bigg\lceil c \log_2 (n + 1)
+     * \Bigg\rceil\) fingers. Suits the lists that are accessed mostly at the
+     * ends, such as logs.
+     *
+     * @param c          the scaling factor.
+     * @param hysteresis the hysteresis in elements.
+     * @return the logarithmic policy.
+     * @throws IllegalArgumentException if {@code c} is not within
+     *                                  {@code (0, 1]} or {@code hysteresis} is
+     *                                  negative.
+     */
+    static FingerPolicy logarithmic(double c, int hysteresis) {
+        return new LogarithmicPolicy(c, hysteresis);
+    }
+
+    /**
+     * Returns the policy maintaining {@code numberOfFingers} fingers
+     * regardless of the list size.
+     *
+     * @param numberOfFingers the number of fingers.
+     * @return the fixed-count policy.
+     * @throws IllegalArgumentException if {@code numberOfFingers} is not
+     *                                  positive.
+     */
+    static FingerPolicy fixed(int numberOfFingers) {
+        return new FixedPolicy(numberOfFingers);
+    }
+
+    /**
+     * Returns the target number of fingers for a list of {@code size}
+     * elements.
+     *
+     * @param size the size of the list.
+     * @return the target number of fingers.
+     */
+    int getNumberOfFingers(int size);
+
+    /**
+     * Returns the number of elements a list may lose before it removes a
+     * finger beyond the target finger count. Defaults to zero.
+     *
+     * @return the non-negative hysteresis in elements.
+     */
+    default int getHysteresis() {
+        return 0;
+    }
+
+    /**
+     * Implements the \(\Bigg\lceil c \sqrt{n} \Bigg\rceil\) policy.
+     */
+    final class ScaledSqrtPolicy implements FingerPolicy {
+
+        private final double c;
+        private final int hysteresis;
+
+        ScaledSqrtPolicy(double c, int hysteresis) {
+            if (!(c > 0.0) || Double.isInfinite(c)) {
+                throw new IllegalArgumentException(
+                        "The scaling factor (" + c + ") must be positive.");
+            }
+
+            this.c = c;
+            this.hysteresis = checkHysteresis(hysteresis);
+        }
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public int getNumberOfFingers(int size) {
+            if (c == 1.0) {
+                // Keep the default policy exact:
+                return (int) Math.ceil(Math.sqrt(size));
+            }
+
+            return (int) Math.min(Integer.MAX_VALUE,
+                                  Math.ceil(c * Math.sqrt(size)));
+        }
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public int getHysteresis() {
+            return hysteresis;
+        }
+
+        @Override
+        public String toString() {
+            return c == 1.0 && hysteresis == 0 ?
+                   "SQRT" :
+                   "SCALED_SQRT(c = " + c + ", hysteresis = " + hysteresis
+                                      + ")";
+        }
+    }
+
+    /**
+     * Implements the \(\Bigg\lceil c \log_2 (n + 1) \Bigg\rceil\) policy.
+     */
+    final class LogarithmicPolicy implements FingerPolicy {
+
+        private final double c;
+        private final int hysteresis;
+
+        LogarithmicPolicy(double c, int hysteresis) {
+            // 'c' larger than one might grow the finger count by more than one
+            // per element:
+            if (!(c > 0.0) || c > 1.0) {
+                throw new IllegalArgumentException(
+                        "The scaling factor (" + c + ") must be within "
+                                + "(0, 1].");
+            }
+
+            this.c = c;
+            this.hysteresis = checkHysteresis(hysteresis);
+        }
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public int getNumberOfFingers(int size) {
+            return (int) Math.ceil(c * Math.log(size + 1.0) / Math.log(2.0));
+        }
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public int getHysteresis() {
+            return hysteresis;
+        }
+
+        @Override
+        public String toString() {
+            return "LOGARITHMIC(c = " + c + ", hysteresis = " + hysteresis
+                                      + ")";
+        }
+    }
+
+    /**
+     * Implements the fixed-count policy.
+     */
+    final class FixedPolicy implements FingerPolicy {
+
+        private final int numberOfFingers;
+
+        FixedPolicy(int numberOfFingers) {
+            if (numberOfFingers < 1) {
+                throw new IllegalArgumentException(
+                        "The number of fingers (" + numberOfFingers
+                                + ") must be positive.");
+            }
+
+            this.numberOfFingers = numberOfFingers;
+        }
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public int getNumberOfFingers(int size) {
+            return Math.min(numberOfFingers, size);
+        }
+
+        @Override
+        public String toString() {
+            return "FIXED(" + numberOfFingers + ")";
+        }
+    }
+
+    /**
+     * Validates the hysteresis.
+     *
+     * @param hysteresis the hysteresis to validate.
+     * @return {@code hysteresis}.
+     * @throws IllegalArgumentException if {@code hysteresis} is negative.
+     */
+    static int checkHysteresis(int hysteresis) {
+        if (hysteresis < 0) {
+            throw new IllegalArgumentException(
+                    "The hysteresis (" + hysteresis + ") is negative.");
+        }
+
+        return hysteresis;
+    }
+}
@@ -0,0 +1,265 @@
+package io.github.coderodde.util;
+
+/**
+ * This interface defines the API for the algorithms locating a finger in the
+ * finger list of an {@link IndexedLinkedList}. The finger indices are given as
+ * an array {@code fingerIndices} whose first {@code numberOfFingers + 1}
+ * components are sorted in ascending order. The component
+ * {@code fingerIndices[numberOfFingers]} is the end-of-finger-list sentinel
+ * index, which equals the size of the owner list.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ */
+public interface FingerSearchStrategy {
+
+    /**
+     * The binary lower bound search. Runs in \(\mathcal{O}(\log n)\) time
+     * regardless of the finger distribution.
+     */
+    FingerSearchStrategy BINARY = new BinarySearch();
+
+    /**
+     * The interpolation search. Runs in \(\mathcal{O}(\log \log n)\) expected
+     * time on evenly distributed fingers, yet may degrade to
+     * \(\mathcal{O}(\sqrt{n})\) on skewed finger distributions.
+     */
+    FingerSearchStrategy INTERPOLATION = new InterpolationSearch();
+
+    /**
+     * Probes the interpolated position once and gallops from it towards the
+     * target finger. Runs in \(\mathcal{O}(1)\) time on evenly distributed
+     * fingers and in \(\mathcal{O}(\log d)\) time in general, where \(d\) is
+     * the distance between the probed and the target fingers.
+     */
+    FingerSearchStrategy INTERPOLATION_GALLOPING =
+            new InterpolationGallopingSearch();
+
+    /**
+     * Returns the smallest finger index {@code i} such that
+     * {@code fingerIndices[i] >= elementIndex}, or {@code numberOfFingers + 1}
+     * if there is no such finger index.
+     *
+     * @param fingerIndices   the sorted finger indices.
+     * @param numberOfFingers the number of fingers not counting the
+     *                        end-of-finger-list sentinel.
+     * @param elementIndex    the target element index.
+     * @return the index of the leftmost finger {@code f}, for which
+     *         {@code elementIndex <= f.index}.
+     */
+    int search(int[] fingerIndices, int numberOfFingers, int elementIndex);
+
+    /**
+     * Implements the binary lower bound search. This algorithm is translated
+     * from
+     * <a href="https://en.cppreference.com/w/cpp/algorithm/lower_bound">C++
+     * <code>lower_bound</code> algorithm</a>.
+     */
+    final class BinarySearch implements FingerSearchStrategy {
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public int search(int[] fingerIndices,
+                          int numberOfFingers,
+                          int elementIndex) {
+            return lowerBound(fingerIndices,
+                              0,
+                              numberOfFingers + 1,
+                              elementIndex);
+        }
+
+        /**
+         * Returns the smallest index {@code i} in the range
+         * {@code [fromIndex, toIndex)} such that
+         * {@code array[i] >= key}, or {@code toIndex} if there is no such
+         * index.
+         *
+         * @param array     the sorted array to search.
+         * @param fromIndex the leftmost index of the search range.
+         * @param toIndex   the one past the rightmost index of the search
+         *                  range.
+         * @param key       the search key.
+         * @return the lower bound of {@code key}.
+         */
+        static int lowerBound(int[] array,
+                              int fromIndex,
+                              int toIndex,
+                              int key) {
+            int count = toIndex - fromIndex;
+            int idx = fromIndex;
+
+            while (count > 0) {
+                int it = idx;
+                int step = count / 2;
+                it += step;
+
+                if (array[it] < key) {
+                    idx = ++it;
+                    count -= step + 1;
+                } else {
+                    count = step;
+                }
+            }
+
+            return idx;
+        }
+
+        @Override
+        public String toString() {
+            return "BINARY";
+        }
+    }
+
+    /**
+     * Implements the interpolation lower bound search.
+     */
+    final class InterpolationSearch implements FingerSearchStrategy {
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public int search(int[] fingerIndices,
+                          int numberOfFingers,
+                          int elementIndex) {
+
+            if (elementIndex <= fingerIndices[0]) {
+                return 0;
+            }
+
+            if (elementIndex > fingerIndices[numberOfFingers]) {
+                return numberOfFingers + 1;
+            }
+
+            // Once here, the invariant
+            // 'fingerIndices[lo] < elementIndex <= fingerIndices[hi]' holds:
+            int lo = 0;
+            int hi = numberOfFingers;
+
+            while (hi - lo > 1) {
+                int mid = interpolate(fingerIndices, lo, hi, elementIndex);
+
+                if (fingerIndices[mid] < elementIndex) {
+                    lo = mid;
+                } else {
+                    hi = mid;
+                }
+            }
+
+            return hi;
+        }
+
+        @Override
+        public String toString() {
+            return "INTERPOLATION";
+        }
+
+        /**
+         * Interpolates the finger index of {@code elementIndex} strictly
+         * between {@code lo} and {@code hi}. Requires
+         * {@code fingerIndices[lo] < elementIndex <= fingerIndices[hi]} and
+         * {@code hi - lo > 1}.
+         *
+         * @param fingerIndices the sorted finger indices.
+         * @param lo            the left bound finger index.
+         * @param hi            the right bound finger index.
+         * @param elementIndex  the target element index.
+         * @return the interpolated finger index within {@code (lo, hi)}.
+         */
+        static int interpolate(int[] fingerIndices,
+                               int lo,
+                               int hi,
+                               int elementIndex) {
+
+            long span = (long) fingerIndices[hi] - fingerIndices[lo];
+            long offset = (long) elementIndex - fingerIndices[lo];
+            int mid = lo + (int)(offset * (hi - lo) / span);
+
+            // Keep the probe strictly within '(lo, hi)' in order to guarantee
+            // progress:
+            return Math.max(lo + 1, Math.min(mid, hi - 1));
+        }
+    }
+
+    /**
+     * Implements the interpolation search that switches to galloping after
+     * the very first probe.
+     */
+    final class InterpolationGallopingSearch implements FingerSearchStrategy {
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public int search(int[] fingerIndices,
+                          int numberOfFingers,
+                          int elementIndex) {
+
+            if (elementIndex <= fingerIndices[0]) {
+                return 0;
+            }
+
+            if (elementIndex > fingerIndices[numberOfFingers]) {
+                return numberOfFingers + 1;
+            }
+
+            if (numberOfFingers < 2) {
+                // Once here, 'fingerIndices[0] < elementIndex' and
+                // 'elementIndex <= fingerIndices[1]':
+                return 1;
+            }
+
+            int probe = InterpolationSearch.interpolate(fingerIndices,
+                                                        0,
+                                                        numberOfFingers,
+                                                        elementIndex);
+
+            if (fingerIndices[probe] < elementIndex) {
+                // Gallop to the right. 'fingerIndices[numberOfFingers]' is no
+                // less than 'elementIndex' so the gallop stops there at the
+                // latest:
+                int lo = probe;
+                int bound = 1;
+
+                while (probe + bound < numberOfFingers
+                        && fingerIndices[probe + bound] < elementIndex) {
+                    lo = probe + bound;
+                    bound <<= 1;
+                }
+
+                int hi = Math.min(probe + bound, numberOfFingers);
+
+                return BinarySearch.lowerBound(fingerIndices,
+                                               lo + 1,
+                                               hi,
+                                               elementIndex);
+            } else {
+                // Gallop to the left. 'fingerIndices[0]' is less than
+                // 'elementIndex' so the gallop stops there at the latest:
+                int hi = probe;
+                int bound = 1;
+
+                while (probe - bound > 0
+                        && fingerIndices[probe - bound] >= elementIndex) {
+                    hi = probe - bound;
+                    bound <<= 1;
+                }
+
+                int lo = Math.max(probe - bound, 0);
+
+                return BinarySearch.lowerBound(fingerIndices,
+                                               lo + 1,
+                                               hi,
+                                               elementIndex);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "INTERPOLATION_GALLOPING";
+        }
+    }
+}
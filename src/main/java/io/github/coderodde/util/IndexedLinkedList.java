@@ -45,7 +45,7 @@ import java.util.function.UnaryOperator;
  * \(\sqrt{n}\), and assuming that the fingers are evenly distributed, each 
  * finger "covers" \(n / \sqrt{n} = \sqrt{n}\) elements. In order to access an 
  * element in the actual list, we first consult the finger list for the index 
- * {@code i} of the finger {@code fingerArray[i]} that is closest to the index 
+ * {@code i} of the finger {@code fingerIndices[i]} that is closest to the index 
  * of the target element. This runs in 
  * 
  * \[ 
@@ -136,7 +136,9 @@ public class IndexedLinkedList<E> implements Deque<E>,
     }
 
     /**
-     * This class implements the finger data structure.
+     * This class implements the finger data structure. Since the finger list
+     * stores its fingers in parallel arrays, the instances of this class are
+     * only snapshots of the finger list components.
      * 
      * @param <E> the element type stored in a node of a finger.
      */
@@ -220,10 +222,14 @@ public class IndexedLinkedList<E> implements Deque<E>,
     }
 
     /**
-     * Implements the actual finger list index for faster access and 
-     * modification.
-     * 
-     * @param <E> the list element data type. 
+     * Implements the actual finger list index for faster access and
+     * modification. The fingers are stored as a structure of arrays: the
+     * finger indices reside in the dense {@code int} array
+     * {@code fingerIndices} and the finger nodes in the parallel array
+     * {@code fingerNodes}. This way, the binary search and the bulk index
+     * shifts scan contiguous memory, and no finger objects are allocated.
+     *
+     * @param <E> the list element data type.
      */
     static final class FingerList<E> {
 
@@ -239,36 +245,168 @@ public class IndexedLinkedList<E> implements Deque<E>,
 
         /**
          * When the actual size of the finger list (end-sentinel included) is
-         * smaller than {@code fingerArray.length / THRESHOLD_FACTOR}, the array is
-         * contracted to {@code fingerArray.length / CONTRACTION_FACTOR} elements.
+         * smaller than {@code fingerIndices.length / THRESHOLD_FACTOR}, the
+         * arrays are contracted to
+         * {@code fingerIndices.length / CONTRACTION_FACTOR} elements.
          */
         static final int THRESHOLD_FACTOR = 4;
 
         /**
-         * The actual contraction factor. The capacity of the finger array will be 
-         * divided by this constant.
+         * The actual contraction factor. The capacity of the finger arrays will
+         * be divided by this constant.
          */
         static final int CONTRACTION_FACTOR = 2;
 
         /**
-         * The actual list storage array.
+         * {@code fingerIndices[i]} is the index of the {@code i}th finger.
+         */
+        int[] fingerIndices = new int[INITIAL_CAPACITY];
+
+        /**
+         * {@code fingerNodes[i]} is the node of the {@code i}th finger.
+         */
+        Node<E>[] fingerNodes = new Node[INITIAL_CAPACITY];
+
+        /**
+         * The maximum number of finger hops a bucketed finger lookup may make
+         * before the bucket table is considered stale and is rebuilt.
+         */
+        static final int MAXIMUM_BUCKET_SCAN_LENGTH = 8;
+
+        /**
+         * {@code bucketTable[b]} is the hint finger index from which to start
+         * searching the fingers for the element indices in the bucket
+         * {@code b}, i.e., the element indices {@code e} for which
+         * {@code e >>> bucketShift == b}. Is {@code null} when the bucketed
+         * finger lookup is disabled.
+         */
+        int[] bucketTable;
+
+        /**
+         * The number of buckets in use in {@code bucketTable}.
+         */
+        int numberOfBuckets;
+
+        /**
+         * The base 2 logarithm of the bucket width.
+         */
+        int bucketShift;
+
+        /**
+         * In the automatic finger search mode, the finger search strategy is
+         * reselected after this many finger lookups.
+         */
+        static final int STRATEGY_RESELECTION_PERIOD = 1024;
+
+        /**
+         * In the automatic finger search mode, the interpolation search is
+         * selected when the list entropy is at least this large.
+         */
+        static final double INTERPOLATION_ENTROPY_THRESHOLD = 0.9;
+
+        /**
+         * In the automatic finger search mode, the hybrid interpolation and
+         * galloping search is selected when the list entropy is at least this
+         * large, yet below {@link #INTERPOLATION_ENTROPY_THRESHOLD}. Otherwise,
+         * the binary search is selected.
+         */
+        static final double GALLOPING_ENTROPY_THRESHOLD = 0.5;
+
+        /**
+         * The finger search strategy currently in use.
+         */
+        FingerSearchStrategy searchStrategy = FingerSearchStrategy.BINARY;
+
+        /**
+         * Indicates whether {@code searchStrategy} is selected automatically
+         * from the list entropy.
+         */
+        boolean automaticSearchStrategy;
+
+        /**
+         * The number of finger lookups left until the next automatic
+         * reselection of the finger search strategy.
+         */
+        int lookupsUntilStrategyReselection;
+
+        /**
+         * The Fenwick tree over the finger slots {@code 0, 1, ..., size}
+         * holding the deferred finger index shifts. The actual index of the
+         * {@code i}th finger is {@code fingerIndices[i]} plus the prefix sum
+         * of the tree up to the slot {@code i}. Is {@code null} when the lazy
+         * finger shifting is disabled.
+         */
+        int[] shiftTree;
+
+        /**
+         * Indicates whether {@code shiftTree} holds any deferred shifts not
+         * yet applied to {@code fingerIndices}.
+         */
+        boolean hasPendingShifts;
+
+        /**
+         * The base offset added to every finger index, the end-of-finger-list
+         * sentinel index included. Allows shifting all the fingers at once in
+         * constant time on the head insertions and removals. Is folded into
+         * {@code fingerIndices} by {@link #applyPendingShifts()}.
+         */
+        int indexOffset;
+
+        /**
+         * The number of the most recently accessed element indices sampled in
+         * the adaptive finger placement mode. Must be a power of two.
+         */
+        static final int ACCESS_SAMPLE_CAPACITY = 1 << 13;
+
+        /**
+         * The number of sorted access samples per bin in the access density
+         * estimate of the adaptive finger placement.
+         */
+        static final int SAMPLES_PER_PLACEMENT_BIN = 32;
+
+        /**
+         * The minimum number of node accesses between two consecutive adaptive
+         * finger placements.
+         */
+        static final int MINIMUM_PLACEMENT_PERIOD = 1024;
+
+        /**
+         * The maximum number of node accesses between two consecutive adaptive
+         * finger placements. Keeps the placement responsive to workload changes
+         * on huge lists.
+         */
+        static final int MAXIMUM_PLACEMENT_PERIOD = 1 << 24;
+
+        /**
+         * The ring buffer of the most recently accessed element indices. Is
+         * {@code null} when the adaptive finger placement is disabled.
+         */
+        int[] accessSamples;
+
+        /**
+         * The total number of accesses recorded in {@code accessSamples}.
+         */
+        long numberOfAccesses;
+
+        /**
+         * The number of node accesses left until the next adaptive finger
+         * placement.
          */
-        Finger<E>[] fingerArray = new Finger[INITIAL_CAPACITY];
+        int accessesUntilPlacement;
 
         /**
          * Constructs this finger list setting it to empty.
-         * 
-         * @param list the owner list. 
+         *
+         * @param list the owner list.
          */
         FingerList(IndexedLinkedList<E> list) {
             this.list = list;
-            this.fingerArray[0] = new Finger<>(null, 0);
         }
 
         /**
-         * Verifies that this finger list and {@code o} have the same size and 
+         * Verifies that this finger list and {@code o} have the same size and
          * content. Runs in worst-case linear time.
-         * 
+         *
          * @param o the object to compare to.
          * @return {@code true} if and only if {@code o} is a {@code FingerList},
          *         has the same size as this finger list and the same content.
@@ -289,12 +427,17 @@ public class IndexedLinkedList<E> implements Deque<E>,
 
             final FingerList<E> other = (FingerList<E>) o;
 
+            applyPendingShifts();
+            other.applyPendingShifts();
+
             if (size != other.size) {
                 return false;
             }
 
             for (int i = 0; i < size; i++) {
-                if (!Objects.equals(fingerArray[i], other.fingerArray[i])) {
+                if (fingerIndices[i] != other.fingerIndices[i]
+                        || !Objects.equals(fingerNodes[i],
+                                           other.fingerNodes[i])) {
                     return false;
                 }
             }
@@ -304,7 +447,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
 
         @Override
         public String toString() {
-            StringBuilder sb = 
+            StringBuilder sb =
                     new StringBuilder()
                             .append("[FingerList (size = ")
                             .append(size + 1)
@@ -319,7 +462,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
                     sb.append(", ");
                 }
 
-                sb.append(fingerArray[i].toString());
+                sb.append(getFinger(i).toString());
             }
 
             return sb.append("]").toString();
@@ -332,47 +475,326 @@ public class IndexedLinkedList<E> implements Deque<E>,
         int size;
 
         /**
-         * Adjusts the finger list after removing the first finger. runs in worst-
-         * case \(\mathcal{O}(\sqrt{n})\) time.
+         * Adjusts the finger list after removing the first element. If no
+         * finger points to the removed head node, only decrements the index
+         * offset. Otherwise, removes the first finger if the owner list holds
+         * too many fingers, and moves it next to the last finger if not. If the
+         * end of the list is packed with fingers, moves the fingers packed at
+         * the beginning of the list one node to the right instead. Runs in
+         * amortized constant time when the fingers are spread evenly, and in
+         * worst-case \(\mathcal{O}(\sqrt{n})\) time.
          */
         void adjustOnRemoveFirst() {
+            if (size == 0 || getShiftedFingerIndex(0) != 0) {
+                // Once here, no finger points to the removed node:
+                shiftAllFingerIndices(-1);
+                return;
+            }
+
+            if (list.mustRemoveFinger()) {
+                // Once here, the finger pointing to the removed node is the
+                // one to remove:
+                removeFirstFinger();
+                shiftAllFingerIndices(-1);
+                return;
+            }
+
+            if (moveFirstFingerToEnd()) {
+                shiftAllFingerIndices(-1);
+                return;
+            }
+
             int lastPrefixIndex = Integer.MAX_VALUE;
 
             for (int i = 0; i < size; ++i) {
-                Finger<E> finger = fingerArray[i];
-
-                if (finger.index != i) {
+                if (getShiftedFingerIndex(i) != i) {
                     lastPrefixIndex = i;
                     break;
                 } else {
-                    finger.node = finger.node.next;
+                    fingerNodes[i] = fingerNodes[i].next;
                 }
             }
 
-            shiftFingerIndicesToLeftOnceAll(lastPrefixIndex);
+            if (lastPrefixIndex <= size) {
+                deferShiftFingerIndices(lastPrefixIndex, -1);
+            }
         }
 
         /**
-         * Appends the input finger to the tail of the finger list. Runs in 
+         * Adjusts the finger list after removing the last element. Moves the
+         * fingers packed at the very end of the list one position to the left
+         * so that no finger points to the removed tail node. Runs in worst-case
+         * \(\mathcal{O}(\sqrt{n})\) time.
+         */
+        void adjustOnRemoveLast() {
+            int removedIndex = list.size;
+
+            for (int i = size - 1; i >= 0; --i) {
+                if (getShiftedFingerIndex(i) != removedIndex--) {
+                    break;
+                }
+
+                fingerNodes[i] = fingerNodes[i].prev;
+                fingerIndices[i]--;
+            }
+        }
+
+        /**
+         * Appends the input finger to the tail of the finger list. Runs in
          * amortized constant time.
          *
-         * @param finger the finger to append.
+         * @param node  the node of the finger to append.
+         * @param index the index of the finger to append.
          */
-         void appendFingerImpl(Finger<E> finger) {
+         void appendFingerImpl(Node<E> node, int index) {
 
-            enlargeFingerArrayWithEmptyRange(size + 2 , 
-                                             size, 
+            enlargeFingerArrayWithEmptyRange(size + 2 ,
+                                             size,
                                              1,
                                              1);
-            fingerArray[size - 1] = finger;
-            fingerArray[size].index = list.size;
+            fingerNodes[size - 1] = node;
+            fingerIndices[size - 1] = index;
+            fingerIndices[size] = list.size;
+        }
+
+        /**
+         * Returns a new finger list sharing the finger arrays of this finger
+         * list and holding its current number of fingers. The view keeps 
+         * locating the nodes below the current list size via
+         * {@link #getNodeNoFingersFix(int)} as long as the owner list does not
+         * overwrite the shared array slots: an append-only list never moves 
+         * its fingers, and a list shared with a snapshot copies the arrays 
+         * before modifying them. Must not be called while there are pending 
+         * shifts.
+         *
+         * @return the view of this finger list.
+         */
+        FingerList<E> sharedView() {
+            FingerList<E> view = new FingerList<>(list);
+            view.fingerIndices = fingerIndices;
+            view.fingerNodes = fingerNodes;
+            view.size = size;
+            return view;
+        }
+
+        /**
+         * Replaces all the fingers with the first {@code count} fingers in the
+         * parallel arrays {@code indices} and {@code nodes}, and appends the 
+         * end-of-finger-list sentinel. The arrays must have room for the
+         * sentinel, and their capacity must be obtained via 
+         * {@link #getArrayCapacity(int)}. Drops the deferred shifts and the 
+         * access samples, and rebuilds the bucket table if needed.
+         *
+         * @param indices the finger indices.
+         * @param nodes   the finger nodes.
+         * @param count   the number of fingers.
+         */
+        void setFingers(int[] indices, Node<E>[] nodes, int count) {
+            indices[count] = list.size;
+            nodes[count] = null;
+            fingerIndices = indices;
+            fingerNodes = nodes;
+            size = count;
+            indexOffset = 0;
+
+            if (shiftTree != null) {
+                shiftTree = new int[indices.length + 1];
+                hasPendingShifts = false;
+            }
+
+            if (accessSamples != null) {
+                numberOfAccesses = 0;
+                accessesUntilPlacement = MINIMUM_PLACEMENT_PERIOD;
+            }
+
+            if (bucketTable != null) {
+                rebuildBucketTable();
+            }
+        }
+
+        /**
+         * Returns the capacity of the finger arrays holding 
+         * {@code requestedCapacity} slots, end-of-finger-list sentinel 
+         * included.
+         *
+         * @param requestedCapacity the number of slots needed.
+         * @return the capacity of the finger arrays.
+         */
+        static int getArrayCapacity(int requestedCapacity) {
+            int capacity = INITIAL_CAPACITY;
+
+            while (capacity < requestedCapacity) {
+                capacity *= 2;
+            }
+
+            return capacity;
+        }
+
+        /**
+         * Remaps the fingers after the owner list has reversed its node
+         * chain: the finger at the element index \(i\) moves to the index
+         * \(n - 1 - i\), where \(n\) is the list size. Reverses the finger
+         * arrays in place and keeps the end-of-finger-list sentinel where it
+         * is. Runs in \(\mathcal{O}(\sqrt{n})\) time and allocates nothing.
+         */
+        void reverseFingers() {
+            applyPendingShifts();
+            int n = list.size;
+
+            for (int i = 0; i < size; i++) {
+                fingerIndices[i] = n - 1 - fingerIndices[i];
+            }
+
+            reverseFingerArrays(0, size);
+
+            if (accessSamples != null) {
+                int numberOfSamples =
+                        (int) Math.min(numberOfAccesses,
+                                       ACCESS_SAMPLE_CAPACITY);
+
+                for (int i = 0; i < numberOfSamples; i++) {
+                    // Stale samples past the list end clamp to the head:
+                    accessSamples[i] = Math.max(0, n - 1 - accessSamples[i]);
+                }
+            }
+
+            if (bucketTable != null) {
+                rebuildBucketTable();
+            }
+        }
+
+        /**
+         * Remaps the fingers after the owner list has swapped the adjacent
+         * element ranges {@code [fromIndex, splitIndex)} and
+         * {@code [splitIndex, toIndex)}: the fingers of the left range move
+         * right by the length of the right range, and vice versa. The fingers
+         * of the right range are moved before the ones of the left range via
+         * three in-place reversals of the finger arrays. The fingers outside
+         * of {@code [fromIndex, toIndex)} are not touched. Runs in
+         * \(\mathcal{O}(\sqrt{n})\) time and allocates nothing.
+         *
+         * @param fromIndex  the starting, inclusive index of the left range.
+         * @param splitIndex the starting, inclusive index of the right range.
+         * @param toIndex    the ending, exclusive index of the right range.
+         */
+        void rotateFingers(int fromIndex, int splitIndex, int toIndex) {
+            applyPendingShifts();
+            int leftLength = splitIndex - fromIndex;
+            int rightLength = toIndex - splitIndex;
+            int firstFinger = getFingerIndexImpl(fromIndex);
+            int endFinger = firstFinger;
+            int numberOfLeftFingers = 0;
+
+            for (; endFinger < size && fingerIndices[endFinger] < toIndex;
+                    endFinger++) {
+
+                if (fingerIndices[endFinger] < splitIndex) {
+                    fingerIndices[endFinger] += rightLength;
+                    numberOfLeftFingers++;
+                } else {
+                    fingerIndices[endFinger] -= leftLength;
+                }
+            }
+
+            // Move the fingers of the right range before the left ones:
+            int splitFinger = firstFinger + numberOfLeftFingers;
+            reverseFingerArrays(firstFinger, splitFinger);
+            reverseFingerArrays(splitFinger, endFinger);
+            reverseFingerArrays(firstFinger, endFinger);
+
+            if (accessSamples != null) {
+                int numberOfSamples =
+                        (int) Math.min(numberOfAccesses,
+                                       ACCESS_SAMPLE_CAPACITY);
+
+                for (int i = 0; i < numberOfSamples; i++) {
+                    int sample = accessSamples[i];
+
+                    if (sample >= fromIndex && sample < splitIndex) {
+                        accessSamples[i] = sample + rightLength;
+                    } else if (sample >= splitIndex && sample < toIndex) {
+                        accessSamples[i] = sample - leftLength;
+                    }
+                }
+            }
+
+            if (bucketTable != null) {
+                rebuildBucketTable();
+            }
+        }
+
+        /**
+         * Reverses the finger range {@code [fromIndex, toIndex)} in both the
+         * finger arrays.
+         *
+         * @param fromIndex the index of the first finger in the range.
+         * @param toIndex   the index one past the last finger in the range.
+         */
+        private void reverseFingerArrays(int fromIndex, int toIndex) {
+            for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+                int index = fingerIndices[i];
+                fingerIndices[i] = fingerIndices[j];
+                fingerIndices[j] = index;
+
+                Node<E> node = fingerNodes[i];
+                fingerNodes[i] = fingerNodes[j];
+                fingerNodes[j] = node;
+            }
+        }
+
+        /**
+         * Applies all the deferred finger index shifts to
+         * {@code fingerIndices} and clears the shift tree and the index
+         * offset. Every operation that reads or moves the finger indices
+         * directly must call this method first. Runs in
+         * \(\mathcal{O}(\sqrt{n})\) time if there are pending shifts, and in
+         * constant time otherwise.
+         */
+        void applyPendingShifts() {
+            if (indexOffset != 0) {
+                int[] indices = fingerIndices;
+                int offset = indexOffset;
+
+                for (int i = 0; i <= size; i++) {
+                    indices[i] += offset;
+                }
+
+                indexOffset = 0;
+            }
+
+            if (!hasPendingShifts) {
+                return;
+            }
+
+            int[] tree = shiftTree;
+            int n = size + 1;
+
+            // Convert the Fenwick tree back to the array of shift deltas:
+            for (int i = n; i > 0; i--) {
+                int parent = i + (i & -i);
+
+                if (parent <= n) {
+                    tree[parent] -= tree[i];
+                }
+            }
+
+            // Accumulate the deltas into the finger indices:
+            int shift = 0;
+
+            for (int i = 1; i <= n; i++) {
+                shift += tree[i];
+                tree[i] = 0;
+                fingerIndices[i - 1] += shift;
+            }
+
+            hasPendingShifts = false;
         }
 
         /**
          * Pushes {@code numberOfFingersToMoveToPrefix} fingers to the prefix with
          * {@code numberOfFingersInPrefix} fingers.
-         * 
-         * @param fromIndex                     the index of the leftmost element to 
+         *
+         * @param fromIndex                     the index of the leftmost element to
          *                                      remove.
          * @param numberOfPrefixFingers         the number of fingers already in the
          *                                      prefix.
@@ -383,11 +805,13 @@ public class IndexedLinkedList<E> implements Deque<E>,
                            int numberOfPrefixFingers,
                            int numberOfFingersToMove) {
 
+            applyPendingShifts();
+
             makeRoomAtPrefix(fromIndex,
-                             numberOfPrefixFingers, 
+                             numberOfPrefixFingers,
                              numberOfFingersToMove);
 
-            pushCoveredFingersToPrefix(fromIndex, 
+            pushCoveredFingersToPrefix(fromIndex,
                                        numberOfPrefixFingers,
                                        numberOfFingersToMove);
         }
@@ -397,13 +821,15 @@ public class IndexedLinkedList<E> implements Deque<E>,
                            int numberOfSuffixFingers,
                            int numberOfFingetsToMove) {
 
+            applyPendingShifts();
+
             makeRoomAtSuffix(toIndex,
                              toFingerIndex,
-                             numberOfSuffixFingers, 
+                             numberOfSuffixFingers,
                              numberOfFingetsToMove);
 
             pushCoveredFingersToSuffix(toIndex,
-                                       numberOfSuffixFingers, 
+                                       numberOfSuffixFingers,
                                        numberOfFingetsToMove);
         }
 
@@ -413,36 +839,53 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * tests.
          */
         void clear() {
-            Arrays.fill(fingerArray, 
-                        0, 
+            Arrays.fill(fingerNodes,
+                        0,
                         size,
                         null);
 
-            fingerArray    = new Finger[INITIAL_CAPACITY];
-            fingerArray[0] = new Finger<>(null, 0);
+            fingerIndices = new int[INITIAL_CAPACITY];
+            fingerNodes   = new Node[INITIAL_CAPACITY];
             size = 0;
+            indexOffset = 0;
+
+            if (shiftTree != null) {
+                shiftTree = new int[INITIAL_CAPACITY + 1];
+                hasPendingShifts = false;
+            }
+
+            if (bucketTable != null) {
+                bucketTable = new int[INITIAL_CAPACITY];
+                numberOfBuckets = 1;
+                bucketShift = 0;
+            }
+
+            if (accessSamples != null) {
+                numberOfAccesses = 0;
+                accessesUntilPlacement = MINIMUM_PLACEMENT_PERIOD;
+            }
         }
 
         /**
-         * Contracts the finger array, if possible. The {@code nextSize} defines the
-         * requested finger array size not counting the end-of-finger-list sentinel
-         * finger.
+         * Contracts the finger arrays, if possible. The {@code nextSize} defines
+         * the requested finger array size not counting the end-of-finger-list
+         * sentinel finger.
          *
          * @param nextSize the requested size not counting the end-of-finger-list
          * sentinel finger.
          */
         void contractFingerArrayIfNeeded(int nextSize) {
-            if (fingerArray.length == INITIAL_CAPACITY) {
+            if (fingerIndices.length == INITIAL_CAPACITY) {
                 // Nothing to contract:
                 return;
             }
 
             // Can we contract at least once?
-            if (nextSize + 1 < fingerArray.length / THRESHOLD_FACTOR) {
+            if (nextSize + 1 < fingerIndices.length / THRESHOLD_FACTOR) {
 
-                int nextCapacity = fingerArray.length / CONTRACTION_FACTOR;
+                int nextCapacity = fingerIndices.length / CONTRACTION_FACTOR;
 
-                // Good, we can. But can we keep on splitting in half the 
+                // Good, we can. But can we keep on splitting in half the
                 // capacity any further?
                 while (nextCapacity >= (nextSize + 1) * CONTRACTION_FACTOR
                     && nextCapacity > INITIAL_CAPACITY) {
@@ -450,39 +893,133 @@ public class IndexedLinkedList<E> implements Deque<E>,
                     nextCapacity /= CONTRACTION_FACTOR;
                 }
 
-                Finger[] nextFingerArray = new Finger[nextCapacity];
+                fingerIndices = Arrays.copyOf(fingerIndices, nextCapacity);
+                fingerNodes   = Arrays.copyOf(fingerNodes, nextCapacity);
+            }
+        }
 
-                System.arraycopy(fingerArray,
-                                 0,
-                                 nextFingerArray, 
-                                 0, 
-                                 nextCapacity);
 
-                fingerArray = nextFingerArray;
+        /**
+         * Moves all the fingers in range {@code [startFingerIndex, size]}
+         * {@code shiftLength} positions to the right, or to the left if
+         * {@code shiftLength} is negative. If the lazy finger shifting is
+         * enabled, only records the shift in the shift tree in
+         * \(\mathcal{O}(\log n)\) time. Otherwise, shifts the finger indices
+         * right away.
+         *
+         * @param startFingerIndex the index of the leftmost finger to shift.
+         * @param shiftLength      the signed length of the shift.
+         */
+        void deferShiftFingerIndices(int startFingerIndex, int shiftLength) {
+            if (shiftTree == null) {
+                shiftFingerIndicesToRight(startFingerIndex, shiftLength);
+                return;
+            }
+
+            int n = size + 1;
+
+            if (shiftTree.length <= n) {
+                // Once here, the finger arrays have grown since the shift tree
+                // was allocated:
+                applyPendingShifts();
+                shiftTree = new int[fingerIndices.length + 1];
             }
+
+            int[] tree = shiftTree;
+
+            for (int i = startFingerIndex + 1; i <= n; i += i & -i) {
+                tree[i] += shiftLength;
+            }
+
+            hasPendingShifts = true;
+        }
+
+        /**
+         * Disables the adaptive finger placement. The fingers stay where they
+         * are until the subsequent accesses normalize them.
+         */
+        void disableAdaptivePlacement() {
+            accessSamples = null;
+            numberOfAccesses = 0;
         }
 
+        /**
+         * Disables the bucketed finger lookup.
+         */
+        void disableBucketTable() {
+            bucketTable = null;
+            numberOfBuckets = 0;
+            bucketShift = 0;
+        }
+
+        /**
+         * Applies the pending shifts and disables the lazy finger shifting.
+         */
+        void disableLazyShifting() {
+            applyPendingShifts();
+            shiftTree = null;
+        }
+
+        /**
+         * Enables the adaptive finger placement.
+         */
+        void enableAdaptivePlacement() {
+            if (accessSamples == null) {
+                accessSamples = new int[ACCESS_SAMPLE_CAPACITY];
+                accessesUntilPlacement = MINIMUM_PLACEMENT_PERIOD;
+            }
+        }
+
+        /**
+         * Enables the bucketed finger lookup and builds the bucket table. Runs
+         * in \(\mathcal{O}(\sqrt{n})\) time.
+         */
+        void enableBucketTable() {
+            if (bucketTable == null) {
+                bucketTable = new int[INITIAL_CAPACITY];
+            }
+
+            rebuildBucketTable();
+        }
+
+        /**
+         * Enables the lazy finger shifting.
+         */
+        void enableLazyShifting() {
+            if (shiftTree == null) {
+                shiftTree = new int[fingerIndices.length + 1];
+            }
+        }
 
         void enlargeFingerArrayWithEmptyRange(int requestedCapacity,
                                               int fingerRangeStartIndex,
                                               int fingerRangeLength,
                                               int elementRangeLength) {
 
-            if (requestedCapacity > fingerArray.length) {
+            applyPendingShifts();
+
+            if (requestedCapacity > fingerIndices.length) {
                 // Compute the next accommodating capacity:
-                int nextCapacity = 2 * fingerArray.length;
+                int nextCapacity = 2 * fingerIndices.length;
 
                 while (nextCapacity < requestedCapacity) {
                     nextCapacity *= 2;
                 }
 
                 // Here, we have a next accommodating capacity!
-                Finger<E>[] nextFingerArray = new Finger[nextCapacity];
+                int[] nextFingerIndices = new int[nextCapacity];
+                Node<E>[] nextFingerNodes = new Node[nextCapacity];
 
                 // Copy the finger array prefix:
-                System.arraycopy(fingerArray, 
+                System.arraycopy(fingerIndices,
                                  0,
-                                 nextFingerArray, 
+                                 nextFingerIndices,
+                                 0,
+                                 fingerRangeStartIndex);
+
+                System.arraycopy(fingerNodes,
+                                 0,
+                                 nextFingerNodes,
                                  0,
                                  fingerRangeStartIndex);
 
@@ -492,14 +1029,21 @@ public class IndexedLinkedList<E> implements Deque<E>,
                                            + 1;
 
                 // Make room for the finger range:
-                System.arraycopy(fingerArray, 
+                System.arraycopy(fingerIndices,
+                                 fingerRangeStartIndex,
+                                 nextFingerIndices,
+                                 fingerRangeStartIndex + fingerRangeLength,
+                                 numberOfFingersToShift);
+
+                System.arraycopy(fingerNodes,
                                  fingerRangeStartIndex,
-                                 nextFingerArray,
+                                 nextFingerNodes,
                                  fingerRangeStartIndex + fingerRangeLength,
                                  numberOfFingersToShift);
 
-                // Deploy 'nextFingerArraqy':
-                fingerArray = nextFingerArray;
+                // Deploy the new finger arrays:
+                fingerIndices = nextFingerIndices;
+                fingerNodes   = nextFingerNodes;
 
                 // Update the number of fingers in this finger list:
                 size += fingerRangeLength;
@@ -509,7 +1053,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
                                           elementRangeLength);
             } else {
                 // Shift the right part to the right:
-                shiftFingerIndicesToRight(fingerRangeStartIndex, 
+                shiftFingerIndicesToRight(fingerRangeStartIndex,
                                           elementRangeLength);
 
                 int numberOfSuffixFingers = size
@@ -517,9 +1061,15 @@ public class IndexedLinkedList<E> implements Deque<E>,
                                           - fingerRangeStartIndex;
 
                 // Make room for the finger range:
-                System.arraycopy(fingerArray,
+                System.arraycopy(fingerIndices,
                                  fingerRangeStartIndex,
-                                 fingerArray,
+                                 fingerIndices,
+                                 fingerRangeStartIndex + fingerRangeLength,
+                                 numberOfSuffixFingers);
+
+                System.arraycopy(fingerNodes,
+                                 fingerRangeStartIndex,
+                                 fingerNodes,
                                  fingerRangeStartIndex + fingerRangeLength,
                                  numberOfSuffixFingers);
 
@@ -528,13 +1078,16 @@ public class IndexedLinkedList<E> implements Deque<E>,
         }
 
         /**
-         * Returns {@code index}th finger.
+         * Returns a snapshot of the {@code index}th finger. The returned
+         * object is not backed by this finger list. Used for debugging and
+         * testing.
          *
          * @param index the index of the target finger.
-         * @return the {@code index}th finger.
+         * @return the snapshot of the {@code index}th finger.
          */
         Finger<E> getFinger(int index) {
-            return fingerArray[index];
+            applyPendingShifts();
+            return new Finger<>(fingerNodes[index], fingerIndices[index]);
         }
 
         /**
@@ -546,17 +1099,17 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * {@code elementIndex}th element.
          */
         int getClosestFingerIndex(int elementIndex) {
-            return normalize(getFingerIndexImpl(elementIndex), 
+            return normalize(getFingerIndexImpl(elementIndex),
                              elementIndex);
         }
 
         /**
          * Returns the finger index {@code i}, such that
-         * {@code fingerArray[i].index} is no less than {@code elementIndex}, and
-         * {@code fingerArray[i].index} is closest to {@code elementIndex}. This
-         * algorithm is translated from
-         * <a href="https://en.cppreference.com/w/cpp/algorithm/lower_bound">C++
-         * <code>lower_bound</code> algorithm</a>.
+         * {@code fingerIndices[i]} is no less than {@code elementIndex}, and
+         * {@code fingerIndices[i]} is closest to {@code elementIndex}. Consults
+         * the bucket table first, if enabled, and the current finger search
+         * strategy otherwise. If there are pending lazy shifts, runs the binary
+         * search over the shifted finger indices instead.
          *
          * @param elementIndex the target element index.
          * @return the index of the finger {@code f}, for which
@@ -564,16 +1117,56 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * finger.
          */
         int getFingerIndexImpl(int elementIndex) {
-            int count = size + 1; // + 1 for the end sentinel.
+            if (hasPendingShifts) {
+                // Once here, 'fingerIndices' is not up to date. Neither the
+                // bucket table nor the search strategy applies:
+                return getFingerIndexWithPendingShifts(elementIndex);
+            }
+
+            if (bucketTable != null) {
+                // The bucket table maps the actual element indices:
+                applyPendingShifts();
+                int fingerIndex = getFingerIndexViaBucketTable(elementIndex);
+
+                if (fingerIndex >= 0) {
+                    return fingerIndex;
+                }
+
+                // Once here, the bucket table is too stale. Rebuild it for the
+                // subsequent lookups and fall back to the search strategy:
+                rebuildBucketTable();
+            }
+
+            if (automaticSearchStrategy
+                    && --lookupsUntilStrategyReselection <= 0) {
+                selectSearchStrategy();
+            }
+
+            // The finger indices are relative to the index offset:
+            return searchStrategy.search(fingerIndices,
+                                         size,
+                                         elementIndex - indexOffset);
+        }
+
+        /**
+         * Computes the same finger index as {@link #getFingerIndexImpl(int)}
+         * via the binary search over the shifted finger indices. Runs in
+         * \(\mathcal{O}(\log^2 n)\) time.
+         *
+         * @param elementIndex the target element index.
+         * @return the index of the leftmost finger {@code f}, for which
+         *         {@code elementIndex <= f.index}.
+         */
+        int getFingerIndexWithPendingShifts(int elementIndex) {
+            int count = size + 1;
             int idx = 0;
 
             while (count > 0) {
-                int it = idx;
                 int step = count / 2;
-                it += step;
+                int it = idx + step;
 
-                if (fingerArray[it].index < elementIndex) {
-                    idx = ++it;
+                if (getShiftedFingerIndex(it) < elementIndex) {
+                    idx = it + 1;
                     count -= step + 1;
                 } else {
                     count = step;
@@ -584,18 +1177,68 @@ public class IndexedLinkedList<E> implements Deque<E>,
         }
 
         /**
-         * Access the {@code index}th node without modifying the fingers unlike 
-         * {@link #getNode(int)}. 
-         * 
+         * Computes the same finger index as {@link #getFingerIndexImpl(int)}
+         * by starting from the hint finger of the bucket of
+         * {@code elementIndex} and hopping over the neighbouring fingers. Since
+         * the fingers are spread roughly evenly and there are about as many
+         * buckets as fingers, this runs in \(\mathcal{O}(1)\) expected time.
+         * The hints need not be exact: a stale hint only costs more hops.
+         *
+         * @param elementIndex the target element index.
+         * @return the finger index, or {@code -1} if the lookup had to make
+         *         more than {@link #MAXIMUM_BUCKET_SCAN_LENGTH} hops.
+         */
+        int getFingerIndexViaBucketTable(int elementIndex) {
+            if (elementIndex <= 0) {
+                // No finger may precede the very first one:
+                return 0;
+            }
+
+            int bucket = Math.min(elementIndex >>> bucketShift,
+                                  numberOfBuckets - 1);
+
+            int fingerIndex = Math.min(bucketTable[bucket], size);
+            int[] indices = fingerIndices;
+            int hops = 0;
+
+            // Hop to the left while the preceding finger is not to the left of
+            // 'elementIndex':
+            while (fingerIndex > 0
+                    && indices[fingerIndex - 1] >= elementIndex) {
+                fingerIndex--;
+
+                if (++hops > MAXIMUM_BUCKET_SCAN_LENGTH) {
+                    return -1;
+                }
+            }
+
+            // Hop to the right while the current finger is to the left of
+            // 'elementIndex':
+            while (fingerIndex <= size
+                    && indices[fingerIndex] < elementIndex) {
+                fingerIndex++;
+
+                if (++hops > MAXIMUM_BUCKET_SCAN_LENGTH) {
+                    return -1;
+                }
+            }
+
+            return fingerIndex;
+        }
+
+        /**
+         * Access the {@code index}th node without modifying the fingers unlike
+         * {@link #getNode(int)}.
+         *
          * @param index the index of the desired node.
-         * 
+         *
          * @return the {@code index}th node.
          */
         Node<E> getNodeNoFingersFix(int index) {
-            Finger finger = fingerArray[getClosestFingerIndex(index)];
-            int steps = index - finger.index;
+            int fingerIndex = getClosestFingerIndex(index);
+            int steps = index - getShiftedFingerIndex(fingerIndex);
 
-            return IndexedLinkedList.rewindFinger(finger, 
+            return IndexedLinkedList.rewindFinger(fingerNodes[fingerIndex],
                                                   steps);
         }
 
@@ -612,6 +1255,19 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 return list.getNodeSequentially(elementIndex);
             }
 
+            if (accessSamples != null) {
+                // Once here, the fingers are placed by the access frequencies
+                // instead of being normalized on each access:
+                accessSamples[(int) numberOfAccesses++
+                              & (ACCESS_SAMPLE_CAPACITY - 1)] = elementIndex;
+
+                if (--accessesUntilPlacement <= 0) {
+                    placeFingersByAccessFrequency();
+                }
+
+                return getNodeNoFingersFix(elementIndex);
+            }
+
             int fingerIndex = getFingerIndexImpl(elementIndex);
 
             if (fingerIndex == 0) {
@@ -623,52 +1279,53 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 return getSuffixNode(elementIndex);
             }
 
-            Finger a = fingerArray[fingerIndex - 1];
-            Finger b = fingerArray[fingerIndex];
-            Finger c = fingerArray[fingerIndex + 1];
+            int aIndex = getShiftedFingerIndex(fingerIndex - 1);
+            int cIndex = getShiftedFingerIndex(fingerIndex + 1);
 
-            int diff = c.index - a.index;
+            int diff = cIndex - aIndex;
             int step = diff / 2;
-            int saveBIndex = b.index;
-            int nextBIndex = a.index + step;
-
-            b.index = nextBIndex;
+            int saveBIndex = getShiftedFingerIndex(fingerIndex);
+            int nextBIndex = aIndex + step;
+            Node<E> bNode = fingerNodes[fingerIndex];
 
             // Rewind the finger b node:
             if (saveBIndex < nextBIndex) {
                 for (int i = 0; i != nextBIndex - saveBIndex; i++) {
-                    b.node = b.node.next;
+                    bNode = bNode.next;
                 }
             } else {
                 // Here, 'saveBIndex >= nextBIndex':
                 for (int i = 0; i != saveBIndex - nextBIndex; i++) {
-                    b.node = b.node.prev;
+                    bNode = bNode.prev;
                 }
             }
 
+            fingerIndices[fingerIndex] += nextBIndex - saveBIndex;
+            fingerNodes[fingerIndex] = bNode;
+
             // Go fetch the correct node:
             if (elementIndex < nextBIndex) {
                 // Here, the desired element is between a and b:
-                int leftDistance = elementIndex - a.index;
-                int rightDistance = b.index - elementIndex;
+                int leftDistance = elementIndex - aIndex;
+                int rightDistance = nextBIndex - elementIndex;
 
                 if (leftDistance < rightDistance) {
-                    return scrollToRight(a.node,
+                    return scrollToRight(fingerNodes[fingerIndex - 1],
                                          leftDistance);
                 } else {
-                    return scrollToLeft(b.node,
+                    return scrollToLeft(bNode,
                                         rightDistance);
                 }
             } else {
                 // Here, the desired element is between c and b:
-                int leftDistance = elementIndex - b.index;
-                int rightDistance = c.index - elementIndex;
+                int leftDistance = elementIndex - nextBIndex;
+                int rightDistance = cIndex - elementIndex;
 
                 if (leftDistance < rightDistance) {
-                    return scrollToRight(b.node, 
+                    return scrollToRight(bNode,
                                          leftDistance);
                 } else {
-                    return scrollToLeft(c.node,
+                    return scrollToLeft(fingerNodes[fingerIndex + 1],
                                         rightDistance);
                 }
             }
@@ -682,15 +1339,14 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * @return the node corresponding to the {@code elementIndex}th position.
          */
         private Node<E> getPrefixNode(int elementIndex) {
-            Finger<E> a = fingerArray[0];
-            Finger<E> b = fingerArray[1];
-            Node<E> aNode = a.node;
+            Node<E> aNode = fingerNodes[0];
 
             // Put a between b and the beginning of the list:
-            int nextAIndex = b.index / 2;
-            int saveAIndex = a.index;
+            int bIndex = getShiftedFingerIndex(1);
+            int nextAIndex = bIndex / 2;
+            int saveAIndex = getShiftedFingerIndex(0);
 
-            a.index = nextAIndex;
+            fingerIndices[0] += nextAIndex - saveAIndex;
 
             if (saveAIndex < nextAIndex) {
                 // Here, we need to rewind to the right:
@@ -705,12 +1361,12 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 }
             }
 
-            a.node = aNode;
+            fingerNodes[0] = aNode;
 
             // Go get the proper node:
             if (elementIndex < nextAIndex) {
                 // Here, the desired element is between the head of the list and
-                // the very first fi    nger:
+                // the very first finger:
                 int leftDistance = elementIndex;
                 int rightDistance = nextAIndex - elementIndex;
 
@@ -718,11 +1374,22 @@ public class IndexedLinkedList<E> implements Deque<E>,
                     return scrollToRight(list.head,
                                          elementIndex);
                 } else {
-                    return scrollToLeft(aNode, 
+                    return scrollToLeft(aNode,
                                         rightDistance);
                 }
             } else {
-                return aNode;
+                // Here, the desired element is between the first and the
+                // second fingers:
+                int leftDistance = elementIndex - nextAIndex;
+                int rightDistance = bIndex - elementIndex;
+
+                if (leftDistance < rightDistance) {
+                    return scrollToRight(aNode,
+                                         leftDistance);
+                } else {
+                    return scrollToLeft(fingerNodes[1],
+                                        rightDistance);
+                }
             }
         }
 
@@ -734,14 +1401,13 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * @return the {@code elementIndex}th node.
          */
         private Node<E> getSuffixNode(int elementIndex) {
-            Finger<E> a = fingerArray[size - 2];
-            Finger<E> b = fingerArray[size - 1];
-            Node<E> bNode = b.node;
+            int aIndex = getShiftedFingerIndex(size - 2);
+            Node<E> bNode = fingerNodes[size - 1];
 
-            int saveBIndex = b.index;
-            int nextBIndex = (a.index + list.size) / 2;
+            int saveBIndex = getShiftedFingerIndex(size - 1);
+            int nextBIndex = (aIndex + list.size) / 2;
 
-            b.index = nextBIndex;
+            fingerIndices[size - 1] += nextBIndex - saveBIndex;
 
             // Rewind the finger 'b' to between 'a' and tail:
             if (saveBIndex < nextBIndex) {
@@ -759,23 +1425,23 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 }
             }
 
-            b.node = bNode;
+            fingerNodes[size - 1] = bNode;
 
             // Go get the proper node:
             if (elementIndex < nextBIndex) {
                 // Here, the desired element node is between 'a' and 'b':
-                int leftDistance = elementIndex - a.index;
+                int leftDistance = elementIndex - aIndex;
                 int rightDistance = nextBIndex - elementIndex;
 
                 if (leftDistance < rightDistance) {
-                    return scrollToRight(a.node,
+                    return scrollToRight(fingerNodes[size - 2],
                                          leftDistance);
                 } else {
-                    return scrollToLeft(b.node,
+                    return scrollToLeft(bNode,
                                         rightDistance);
                 }
             } else {
-                // Here, the desired element node is between 'b' and the tail 
+                // Here, the desired element node is between 'b' and the tail
                 // node of the list:
                 int leftDistance = elementIndex - nextBIndex;
                 int rightDistance = list.size - elementIndex - 1;
@@ -783,10 +1449,10 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 if (leftDistance < rightDistance) {
                     // Once here, rewind the node reference from bNode to the
                     // right:
-                    return scrollToRight(bNode, 
+                    return scrollToRight(bNode,
                                          leftDistance);
                 } else {
-                    // Once here, rewind the node reference from tail to the 
+                    // Once here, rewind the node reference from tail to the
                     // left:
                     return scrollToLeft(list.tail,
                                         rightDistance);
@@ -794,26 +1460,52 @@ public class IndexedLinkedList<E> implements Deque<E>,
             }
         }
 
+        /**
+         * Returns the actual index of the {@code fingerIndex}th finger taking
+         * the index offset and the pending lazy shifts into account. Runs in
+         * \(\mathcal{O}(\log n)\) time if there are pending shifts, and in
+         * constant time otherwise.
+         *
+         * @param fingerIndex the index of the target finger.
+         * @return the actual index of the target finger.
+         */
+        int getShiftedFingerIndex(int fingerIndex) {
+            int index = fingerIndices[fingerIndex] + indexOffset;
+
+            if (hasPendingShifts) {
+                int[] tree = shiftTree;
+
+                for (int i = fingerIndex + 1; i > 0; i -= i & -i) {
+                    index += tree[i];
+                }
+            }
+
+            return index;
+        }
+
         /**
          * Inserts the input finger into the finger list such that the entire finger
          * list is sorted by indices.
          *
-         * @param finger the finger to insert.
+         * @param node  the node of the finger to insert.
+         * @param index the index of the finger to insert.
          */
-        void insertFingerAndShiftOnceToRight(Finger<E> finger) {
-            int beforeFingerIndex = getFingerIndexImpl(finger.index);
+        void insertFingerAndShiftOnceToRight(Node<E> node, int index) {
+            applyPendingShifts();
+            int beforeFingerIndex = getFingerIndexImpl(index);
 
             enlargeFingerArrayWithEmptyRange(size + 2,
-                                             beforeFingerIndex, 
+                                             beforeFingerIndex,
                                              1,
                                              1);
 
-            fingerArray[beforeFingerIndex] = finger;
+            fingerNodes[beforeFingerIndex] = node;
+            fingerIndices[beforeFingerIndex] = index;
         }
 
         /**
          * Returns {@code true} if this finger list is empty.
-         * 
+         *
          * @return {@code true} if this finger contains no fingers (except the
          *         end-of-finger-list sentinel).
          */
@@ -835,8 +1527,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
                              int roomSize,
                              int numberOfNodes) {
 
-            enlargeFingerArrayWithEmptyRange(size + 1 + roomSize, 
-                                             fingerIndex, 
+            enlargeFingerArrayWithEmptyRange(size + 1 + roomSize,
+                                             fingerIndex,
                                              roomSize,
                                              numberOfNodes);
         }
@@ -851,8 +1543,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
             }
 
             int targetFingerIndex = numberOfPrefixFingers - 1;
-            int freeFingerSpotsSoFar = fromIndex 
-                                     - getFinger(targetFingerIndex).index
+            int freeFingerSpotsSoFar = fromIndex
+                                     - fingerIndices[targetFingerIndex]
                                      - 1;
 
             if (freeFingerSpotsSoFar >= numberOfFingersToMove) {
@@ -860,11 +1552,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
             }
 
             for (; targetFingerIndex > 0; targetFingerIndex--) {
-               Finger<E> finger1 = getFinger(targetFingerIndex - 1);
-               Finger<E> finger2 = getFinger(targetFingerIndex);
-
-               int distance = finger2.index
-                            - finger1.index
+               int distance = fingerIndices[targetFingerIndex]
+                            - fingerIndices[targetFingerIndex - 1]
                             - 1;
 
                freeFingerSpotsSoFar += distance;
@@ -875,30 +1564,27 @@ public class IndexedLinkedList<E> implements Deque<E>,
             }
 
             if (freeFingerSpotsSoFar < numberOfFingersToMove) {
-                // Once here, we need to move the leftmost prefix finger to the 
+                // Once here, we need to move the leftmost prefix finger to the
                 // left.
-                int index = fromIndex 
-                          - numberOfPrefixFingers 
+                int index = fromIndex
+                          - numberOfPrefixFingers
                           - numberOfFingersToMove;
 
                 Node<E> node = getNodeNoFingersFix(index);
 
                 for (int i = 0; i < numberOfPrefixFingers; i++) {
-                    Finger<E> finger = getFinger(i);
-                    finger.index = index++;
-                    finger.node = node;
+                    fingerIndices[i] = index++;
+                    fingerNodes[i] = node;
                     node = node.next;
                 }
             } else {
-                Finger<E> startFinger = getFinger(targetFingerIndex - 1);
-                int index = startFinger.index;
-                Node<E> node = startFinger.node;
+                int index = fingerIndices[targetFingerIndex - 1];
+                Node<E> node = fingerNodes[targetFingerIndex - 1];
 
                 for (int i = targetFingerIndex; i < numberOfPrefixFingers; i++) {
-                    Finger<E> finger = getFinger(i);
                     node = node.next;
-                    finger.node = node;
-                    finger.index = ++index;
+                    fingerNodes[i] = node;
+                    fingerIndices[i] = ++index;
                 }
             }
         }
@@ -914,7 +1600,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
             }
 
             int targetFingerIndex = size - numberOfSuffixFingers;
-            int freeFingerSpotsSoFar = getFinger(targetFingerIndex).index 
+            int freeFingerSpotsSoFar = fingerIndices[targetFingerIndex]
                                      - toIndex;
 
             if (freeFingerSpotsSoFar >= numberOfFingersToMove) {
@@ -922,11 +1608,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
             }
 
             for (; targetFingerIndex < size - 1; targetFingerIndex++) {
-                Finger<E> finger1 = getFinger(targetFingerIndex);
-                Finger<E> finger2 = getFinger(targetFingerIndex + 1);
-
-                int distance = finger2.index 
-                             - finger1.index 
+                int distance = fingerIndices[targetFingerIndex + 1]
+                             - fingerIndices[targetFingerIndex]
                              - 1;
 
                 freeFingerSpotsSoFar += distance;
@@ -937,7 +1620,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
             }
 
             if (freeFingerSpotsSoFar < numberOfFingersToMove) {
-                // Once here, we need to move the rightmost suffix finger to the 
+                // Once here, we need to move the rightmost suffix finger to the
                 // right.
                 int index = list.size
                           - numberOfSuffixFingers;
@@ -945,29 +1628,88 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 Node<E> node = getNodeNoFingersFix(index);
 
                 for (int i = 0; i < numberOfSuffixFingers; i++) {
-                    Finger<E> finger =
-                            getFinger(size - numberOfSuffixFingers + i);
-
-                    finger.index = index++;
-                    finger.node = node;
+                    int fingerIndex = size - numberOfSuffixFingers + i;
+                    fingerIndices[fingerIndex] = index++;
+                    fingerNodes[fingerIndex] = node;
                     node = node.next;
                 }
             } else {
-                Finger<E> startFinger = getFinger(targetFingerIndex + 1);
-                int index = startFinger.index - 1;
-                Node<E> node = startFinger.node.prev;
+                int index = fingerIndices[targetFingerIndex + 1] - 1;
+                Node<E> node = fingerNodes[targetFingerIndex + 1].prev;
 
-                for (int i = targetFingerIndex; 
-                        i >= toFingerIndex; 
+                for (int i = targetFingerIndex;
+                        i >= toFingerIndex;
                         i--) {
-                    Finger<E> finger = getFinger(i);
-                    finger.index = index--;
-                    finger.node = node;
+                    fingerIndices[i] = index--;
+                    fingerNodes[i] = node;
                     node = node.prev;
                 }
             }
         }
 
+        /**
+         * Moves the first finger, which points to the removed head node, to the
+         * middle of the gap between the last finger and the end of the list.
+         * If the last finger points to the tail node, moves the first finger to
+         * the middle of the gap preceding the last finger instead. Must be
+         * called before the finger indices are shifted to account for the head
+         * removal. In a list used as a queue, each finger reaches the head only
+         * once per \(\mathcal{O}(\sqrt{n})\) removals, which makes the
+         * \(\mathcal{O}(\sqrt{n})\) running time of this method amortized
+         * constant per removal.
+         *
+         * @return {@code true} if the first finger was moved, and
+         *         {@code false} if both the gaps are empty.
+         */
+        boolean moveFirstFingerToEnd() {
+            // Here, the removed head node is still counted in the indices:
+            int listSize = list.size + 1;
+            int lastFingerIndex = getShiftedFingerIndex(size - 1);
+            int numberOfPrecedingFingers;
+            int index;
+            Node<E> node;
+
+            if (listSize - lastFingerIndex > 1) {
+                numberOfPrecedingFingers = size - 1;
+                index = lastFingerIndex + (listSize - lastFingerIndex) / 2;
+                node = scrollToLeft(list.tail, listSize - 1 - index);
+            } else if (size > 1) {
+                int previousFingerIndex = getShiftedFingerIndex(size - 2);
+
+                if (lastFingerIndex - previousFingerIndex < 2) {
+                    // Once here, both the gaps are empty:
+                    return false;
+                }
+
+                numberOfPrecedingFingers = size - 2;
+                index = previousFingerIndex
+                      + (lastFingerIndex - previousFingerIndex) / 2;
+
+                node = scrollToLeft(fingerNodes[size - 1],
+                                    lastFingerIndex - index);
+            } else {
+                return false;
+            }
+
+            applyPendingShifts();
+
+            System.arraycopy(fingerIndices,
+                             1,
+                             fingerIndices,
+                             0,
+                             numberOfPrecedingFingers);
+
+            System.arraycopy(fingerNodes,
+                             1,
+                             fingerNodes,
+                             0,
+                             numberOfPrecedingFingers);
+
+            fingerIndices[numberOfPrecedingFingers] = index;
+            fingerNodes[numberOfPrecedingFingers] = node;
+            return true;
+        }
+
         /**
          * Makes sure that the returned finger index {@code i} points to the closest
          * finger in the finger array.
@@ -989,16 +1731,141 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 return size - 1;
             }
 
-            Finger finger1 = fingerArray[fingerIndex - 1];
-            Finger finger2 = fingerArray[fingerIndex];
-
-            int distance1 = elementIndex - finger1.index;
-            int distance2 = finger2.index - elementIndex;
+            int distance1 = elementIndex
+                          - getShiftedFingerIndex(fingerIndex - 1);
+            int distance2 = getShiftedFingerIndex(fingerIndex) - elementIndex;
 
             // Return the closest finger index:
             return distance1 < distance2 ? fingerIndex - 1 : fingerIndex;
         }
 
+        /**
+         * Relocates all the fingers according to the sampled accesses. Sorts
+         * the sampled element indices and groups them into bins of
+         * {@link #SAMPLES_PER_PLACEMENT_BIN} samples each. The bin spanning
+         * \(w\) elements and holding \(c\) samples has the estimated access
+         * density \(c / w\) and receives fingers in proportion to
+         * \(\sqrt{c w}\), which makes the finger density proportional to the
+         * square root of the access density. Such a placement minimizes the
+         * expected walk length from the closest finger. The elements after the
+         * last sample form a bin with a single pseudo-sample so that the
+         * rarely accessed regions keep some fingers. Runs in
+         * \(\mathcal{O}(n)\) time, which amortizes to a constant per access
+         * since the placement period is at least \(n\) accesses for the lists
+         * of at most {@link #MAXIMUM_PLACEMENT_PERIOD} elements.
+         */
+        void placeFingersByAccessFrequency() {
+            applyPendingShifts();
+
+            int n = list.size;
+            int numberOfSamples =
+                    (int) Math.min(numberOfAccesses, ACCESS_SAMPLE_CAPACITY);
+
+            int[] samples = Arrays.copyOf(accessSamples, numberOfSamples);
+            Arrays.sort(samples);
+
+            // 'binEndIndices[b]' is the inclusive end index of the 'b'th bin,
+            // which starts right after the end index of the previous bin:
+            int maximumNumberOfBins =
+                    numberOfSamples / SAMPLES_PER_PLACEMENT_BIN + 2;
+
+            int[] binEndIndices = new int[maximumNumberOfBins];
+            int[] binCounts = new int[maximumNumberOfBins];
+            int numberOfBins = 0;
+            int previousEndIndex = -1;
+
+            for (int i = 0; i < numberOfSamples;
+                    i += SAMPLES_PER_PLACEMENT_BIN) {
+
+                int end = Math.min(numberOfSamples,
+                                   i + SAMPLES_PER_PLACEMENT_BIN);
+
+                int endIndex = samples[end - 1];
+
+                if (endIndex <= previousEndIndex) {
+                    // Once here, the bin is a run of equal samples. Merge it
+                    // with the previous bin:
+                    binCounts[numberOfBins - 1] += end - i;
+                    continue;
+                }
+
+                binEndIndices[numberOfBins] = endIndex;
+                binCounts[numberOfBins++] = end - i;
+                previousEndIndex = endIndex;
+            }
+
+            if (previousEndIndex < n - 1) {
+                binEndIndices[numberOfBins] = n - 1;
+                binCounts[numberOfBins++] = 1;
+            }
+
+            double[] weights = new double[numberOfBins];
+            double totalWeight = 0.0;
+            previousEndIndex = -1;
+
+            for (int bin = 0; bin < numberOfBins; bin++) {
+                int binWidth = binEndIndices[bin] - previousEndIndex;
+                weights[bin] = Math.sqrt((double) binCounts[bin] * binWidth);
+                totalWeight += weights[bin];
+                previousEndIndex = binEndIndices[bin];
+            }
+
+            // Place the 'i'th finger at the '(i + 1/2) / size' quantile of the
+            // weights, assuming uniform weight within each bin:
+            int[] targets = new int[size];
+            double cumulativeWeight = 0.0;
+            int bin = 0;
+            previousEndIndex = -1;
+
+            for (int i = 0; i < size; i++) {
+                double quantile = (i + 0.5) * totalWeight / size;
+
+                while (cumulativeWeight + weights[bin] <= quantile
+                        && bin < numberOfBins - 1) {
+                    cumulativeWeight += weights[bin];
+                    previousEndIndex = binEndIndices[bin++];
+                }
+
+                double offset = Math.min(1.0, (quantile - cumulativeWeight)
+                                                    / weights[bin]);
+
+                int binWidth = binEndIndices[bin] - previousEndIndex;
+
+                targets[i] = previousEndIndex + 1
+                           + (int)(offset * (binWidth - 1) + 0.5);
+            }
+
+            // Make the target indices strictly increasing within [0, n):
+            for (int i = 0, previous = -1; i < size; i++) {
+                previous = targets[i] = Math.max(targets[i], previous + 1);
+            }
+
+            for (int i = size - 1, next = n; i >= 0; i--) {
+                next = targets[i] = Math.min(targets[i], next - 1);
+            }
+
+            // Walk the list once relocating the fingers:
+            Node<E> node = list.head;
+            int index = 0;
+
+            for (int i = 0; i < size; i++) {
+                for (; index < targets[i]; index++) {
+                    node = node.next;
+                }
+
+                fingerNodes[i] = node;
+                fingerIndices[i] = index;
+            }
+
+            accessesUntilPlacement = Math.max(MINIMUM_PLACEMENT_PERIOD,
+                                              Math.min(n,
+                                                       MAXIMUM_PLACEMENT_PERIOD));
+
+            if (bucketTable != null) {
+                rebuildBucketTable();
+            }
+        }
+
         /**
          * Creates a finger for the input node {@code node} and inserts it at the
          * head of the finger array.
@@ -1006,49 +1873,64 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * @param node the target node.
          */
         void prependFingerForNode(Node<E> node) {
-            Finger<E> finger = new Finger<>(node, 0);
+            applyPendingShifts();
 
-            // 'size + 1': actual number of fingers + the end-of-finger-list 
+            // 'size + 1': actual number of fingers + the end-of-finger-list
             // sentinel:
-            if (size + 1 == fingerArray.length) {
-                // Once here, the 'fingerArray' is fully filled:
-                Finger<E>[] newFingerArray = new Finger[2 * fingerArray.length];
+            if (size + 1 == fingerIndices.length) {
+                // Once here, the finger arrays are fully filled:
+                int[] newFingerIndices = new int[2 * fingerIndices.length];
+                Node<E>[] newFingerNodes = new Node[2 * fingerNodes.length];
+
+                // Move the current finger list contents to the new finger
+                // arrays:
+                System.arraycopy(fingerIndices,
+                                 0,
+                                 newFingerIndices,
+                                 1,
+                                 size + 1);
 
-                // Move the current finger list contents to the new finger array:
-                System.arraycopy(fingerArray, 
+                System.arraycopy(fingerNodes,
                                  0,
-                                 newFingerArray, 
+                                 newFingerNodes,
                                  1,
                                  size + 1);
 
-                fingerArray = newFingerArray;
+                fingerIndices = newFingerIndices;
+                fingerNodes   = newFingerNodes;
 
-                // Shift all the rest fingers' indices one step to the right towards
-                // higher indices:
+                // Shift all the rest fingers' indices one step to the right
+                // towards higher indices:
                 shiftFingerIndicesToRightOnce(1);
 
                 // Update the index of the new end-of-finger-list sentinel:
-                ++getFinger(size() + 1).index;
+                ++fingerIndices[size() + 1];
             } else {
                 // Shift the all fingers' indices one step to the right:
                 shiftFingerIndicesToRightOnce(0);
 
                 // Make room for the new finger:
-                System.arraycopy(fingerArray,
+                System.arraycopy(fingerIndices,
                                  0,
-                                 fingerArray,
-                                 1, 
+                                 fingerIndices,
+                                 1,
                                  size + 1);
 
+                System.arraycopy(fingerNodes,
+                                 0,
+                                 fingerNodes,
+                                 1,
+                                 size + 1);
             }
 
-            fingerArray[0] = finger;
+            fingerIndices[0] = 0;
+            fingerNodes[0] = node;
             size++;
         }
 
         /**
          * Pushes {@code numberOfFingersToPush} to the finger prefix.
-         * 
+         *
          * @param fromIndex             the starting index of the range to delete.
          * @param numberOfPrefixFingers the number of fingers in the prefix.
          * @param numberOfFingersToPush the number of fingers to move to the prefix.
@@ -1061,59 +1943,112 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 Node<E> node = getNodeNoFingersFix(index);
 
                 for (int i = numberOfFingersToPush - 1; i >= 0; i--) {
-                    Finger<E> finger = getFinger(i);
-                    finger.index = index--;
-                    finger.node = node;
+                    fingerIndices[i] = index--;
+                    fingerNodes[i] = node;
                     node = node.prev;
                 }
             } else {
-                Finger<E> rightmostPrefixFinger = 
-                        getFinger(numberOfPrefixFingers - 1);
+                int index = fingerIndices[numberOfPrefixFingers - 1] + 1;
+                Node<E> node = fingerNodes[numberOfPrefixFingers - 1].next;
+
+                for (int i = numberOfPrefixFingers;
+                        i < numberOfPrefixFingers + numberOfFingersToPush;
+                        i++) {
 
-                int index = rightmostPrefixFinger.index + 1;
-                Node<E> node = rightmostPrefixFinger.node.next;
+                    fingerIndices[i] = index++;
+                    fingerNodes[i] = node;
+                    node = node.next;
+                }
+            }
+        }
+
+        void pushCoveredFingersToSuffix(int toIndex,
+                                        int numberOfSuffixFingers,
+                                        int numberOfFingersToPush) {
+            if (numberOfSuffixFingers == 0) {
+                int index = toIndex;
+                Node<E> node = getNodeNoFingersFix(index);
+
+                for (int i = 0; i < numberOfFingersToPush; i++) {
+                    int fingerIndex = size - numberOfFingersToPush + i;
+                    fingerIndices[fingerIndex] = index++;
+                    fingerNodes[fingerIndex] = node;
+                    node = node.next;
+                }
+            } else {
+                int leftmostSuffixFingerIndex = size - numberOfSuffixFingers;
+                int index = fingerIndices[leftmostSuffixFingerIndex];
+                Node<E> node = fingerNodes[leftmostSuffixFingerIndex];
+
+                for (int i = 0; i < numberOfFingersToPush; i++) {
+                    int fingerIndex = leftmostSuffixFingerIndex - 1 - i;
+                    node = node.prev;
+                    fingerNodes[fingerIndex] = node;
+                    fingerIndices[fingerIndex] = --index;
+                }
+            }
+        }
+
+        /**
+         * Rebuilds the bucket table. The bucket width is the largest power of
+         * two not exceeding the average distance between two consecutive
+         * fingers so that a bucket contains only a constant number of fingers
+         * on average. Runs in \(\mathcal{O}(\sqrt{n})\) time.
+         */
+        void rebuildBucketTable() {
+            applyPendingShifts();
+            int averageFingerDistance = list.size / Math.max(1, size);
+
+            bucketShift = averageFingerDistance < 2 ?
+                          0 :
+                          31 - Integer.numberOfLeadingZeros(
+                                  averageFingerDistance);
+
+            numberOfBuckets = (list.size >>> bucketShift) + 1;
+
+            if (bucketTable.length < numberOfBuckets
+                    || (bucketTable.length > INITIAL_CAPACITY
+                    && numberOfBuckets < bucketTable.length / THRESHOLD_FACTOR)) {
+                // Once here, we need to expand or contract the bucket table:
+                bucketTable = new int[Math.max(INITIAL_CAPACITY,
+                                               2 * numberOfBuckets)];
+            }
+
+            int[] indices = fingerIndices;
+            int fingerIndex = 0;
 
-                for (int i = numberOfPrefixFingers; 
-                        i < numberOfPrefixFingers + numberOfFingersToPush;
-                        i++) {
+            for (int bucket = 0; bucket < numberOfBuckets; bucket++) {
+                int bucketStartIndex = bucket << bucketShift;
 
-                    Finger<E> finger = getFinger(i);
-                    finger.index = index++;
-                    finger.node = node;
-                    node = node.next;
+                while (fingerIndex < size
+                        && indices[fingerIndex] < bucketStartIndex) {
+                    fingerIndex++;
                 }
+
+                bucketTable[bucket] = fingerIndex;
             }
         }
 
-        void pushCoveredFingersToSuffix(int toIndex,
-                                        int numberOfSuffixFingers,
-                                        int numberOfFingersToPush) {
-            if (numberOfSuffixFingers == 0) {
-                int index = toIndex;
-                Node<E> node = getNodeNoFingersFix(index);
-
-                for (int i = 0; i < numberOfFingersToPush; i++) {
-                    Finger<E> finger = getFinger(size - numberOfFingersToPush + i);
-                    finger.index = index++;
-                    finger.node = node;
-                    node = node.next;
-                }
-            } else {
-                Finger<E> leftmostSuffixFinger = 
-                        getFinger(size - numberOfSuffixFingers);
+        /**
+         * Removes the very first finger.
+         */
+        void removeFirstFinger() {
+            applyPendingShifts();
 
-                int index = leftmostSuffixFinger.index;
-                Node<E> node = leftmostSuffixFinger.node;
+            System.arraycopy(fingerIndices,
+                             1,
+                             fingerIndices,
+                             0,
+                             size);
 
-                for (int i = 0; i < numberOfFingersToPush; i++) {
-                    Finger<E> finger = 
-                            getFinger(size - numberOfSuffixFingers - 1 - i);
+            System.arraycopy(fingerNodes,
+                             1,
+                             fingerNodes,
+                             0,
+                             size);
 
-                    node = node.prev;
-                    finger.node = node;
-                    finger.index = --index;
-                }
-            }
+            fingerNodes[size] = null;
+            contractFingerArrayIfNeeded(--size);
         }
 
         /**
@@ -1121,17 +2056,18 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * sentinel finger.
          */
         void removeFinger() {
+            applyPendingShifts();
             contractFingerArrayIfNeeded(--size);
-            fingerArray[size] = fingerArray[size + 1];
-            fingerArray[size + 1] = null;
-            fingerArray[size].index = list.size;
+            fingerNodes[size] = fingerNodes[size + 1];
+            fingerNodes[size + 1] = null;
+            fingerIndices[size] = list.size;
         }
 
         /**
-         * This method is responsible for actual removal of the fingers. Run in 
+         * This method is responsible for actual removal of the fingers. Run in
          * worst-case \(\mathcal{O}(\sqrt{N})\) time.
-         * 
-         * @param fromFingerIndex         the index of the very first finger to 
+         *
+         * @param fromFingerIndex         the index of the very first finger to
          *                                remove.
          * @param numberOfFingersToRemove the number of fingers to remove.
          * @param removalRangeLength      the length of the element range belonging
@@ -1141,6 +2077,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
                                             int numberOfFingersToRemove,
                                             int removalRangeLength) {
 
+            applyPendingShifts();
+
             if (numberOfFingersToRemove != 0) {
                 // Push 'numberOfFingersToRemove' towards to the prefix:
                 int copyLength = size
@@ -1149,18 +2087,28 @@ public class IndexedLinkedList<E> implements Deque<E>,
                                - list.numberOfCoveringFingersToPrefix
                                + 1;
 
-                System.arraycopy(
-                        fingerArray, 
-                        fromFingerIndex 
+                int sourceIndex = fromFingerIndex
                                 + list.numberOfCoveringFingersToPrefix
-                                + numberOfFingersToRemove,
-                        fingerArray, 
-                        fromFingerIndex + list.numberOfCoveringFingersToPrefix, 
-                        copyLength);
-
-                // Set all unused finger array positions to 'null' in order to get
-                // rid of junk:
-                Arrays.fill(fingerArray,
+                                + numberOfFingersToRemove;
+
+                int targetIndex = fromFingerIndex
+                                + list.numberOfCoveringFingersToPrefix;
+
+                System.arraycopy(fingerIndices,
+                                 sourceIndex,
+                                 fingerIndices,
+                                 targetIndex,
+                                 copyLength);
+
+                System.arraycopy(fingerNodes,
+                                 sourceIndex,
+                                 fingerNodes,
+                                 targetIndex,
+                                 copyLength);
+
+                // Set all unused finger node positions to 'null' in order to
+                // get rid of junk:
+                Arrays.fill(fingerNodes,
                             size - numberOfFingersToRemove + 1,
                             size + 1,
                             null);
@@ -1178,13 +2126,13 @@ public class IndexedLinkedList<E> implements Deque<E>,
         }
 
         /**
-         * Returns a node that is {@code steps} hops away from {@code node} to the 
+         * Returns a node that is {@code steps} hops away from {@code node} to the
          * left.
-         * 
+         *
          * @param node  the starting node.
          * @param steps the number of hops to make.
          * @param <E>   the element type.
-         * 
+         *
          * @return the requested node.
          */
         static <E> Node<E> scrollToLeft(Node<E> node, int steps) {
@@ -1196,13 +2144,13 @@ public class IndexedLinkedList<E> implements Deque<E>,
         }
 
         /**
-         * Returns a node that is {@code steps} hops away from {@code node} to the 
+         * Returns a node that is {@code steps} hops away from {@code node} to the
          * right.
-         * 
+         *
          * @param node  the starting node.
          * @param steps the number of hops to make.
          * @param <E>   the element type.
-         * 
+         *
          * @return the requested node.
          */
         static <E> Node<E> scrollToRight(Node<E> node, int steps) {
@@ -1214,45 +2162,112 @@ public class IndexedLinkedList<E> implements Deque<E>,
         }
 
         /**
-         * Sets the finger {@code finger} to the finger array at index
-         * {@code index}.
+         * Selects the finger search strategy from the entropy of the owner
+         * list. Runs in \(\mathcal{O}(\sqrt{n})\) time.
+         */
+        void selectSearchStrategy() {
+            lookupsUntilStrategyReselection = STRATEGY_RESELECTION_PERIOD;
+
+            if (list.isEmpty()) {
+                searchStrategy = FingerSearchStrategy.BINARY;
+                return;
+            }
+
+            double entropy = list.getEntropy();
+
+            if (entropy >= INTERPOLATION_ENTROPY_THRESHOLD) {
+                searchStrategy = FingerSearchStrategy.INTERPOLATION;
+            } else if (entropy >= GALLOPING_ENTROPY_THRESHOLD) {
+                searchStrategy = FingerSearchStrategy.INTERPOLATION_GALLOPING;
+            } else {
+                searchStrategy = FingerSearchStrategy.BINARY;
+            }
+        }
+
+        /**
+         * Sets the finger search strategy. If {@code strategy} is
+         * {@code null}, the strategy is selected automatically from the list
+         * entropy.
+         *
+         * @param strategy the finger search strategy or {@code null}.
+         */
+        void setSearchStrategy(FingerSearchStrategy strategy) {
+            if (strategy == null) {
+                automaticSearchStrategy = true;
+                selectSearchStrategy();
+            } else {
+                automaticSearchStrategy = false;
+                searchStrategy = strategy;
+            }
+        }
+
+        /**
+         * Sets the {@code fingerIndex}th finger to point to {@code node} with
+         * the index {@code index}.
          *
-         * @param index the index of the finger list component.
-         * @param finger the target finger to set.
+         * @param fingerIndex the index of the finger list component.
+         * @param node        the node of the finger.
+         * @param index       the index of the finger.
          */
-        void setFinger(int index, Finger<E> finger) {
-            fingerArray[index] = finger;
+        void setFinger(int fingerIndex, Node<E> node, int index) {
+            applyPendingShifts();
+            fingerNodes[fingerIndex] = node;
+            fingerIndices[fingerIndex] = index;
         }
 
         /**
-         * Sets all the leftmost {@code indices.length} fingers to the specified 
+         * Sets all the leftmost {@code indices.length} fingers to the specified
          * indices.
-         * 
+         *
          * @param indices the target indices.
          */
         void setFingerIndices(int... indices) {
+            applyPendingShifts();
             Arrays.sort(indices);
             int fingerIndex = 0;
 
             for (final int index : indices) {
-                final Finger<E> finger = fingerArray[fingerIndex++];
-                finger.index = index;
-                finger.node = getNodeSequentially(index);
+                fingerIndices[fingerIndex] = index;
+                fingerNodes[fingerIndex++] = getNodeSequentially(index);
             }
         }
 
         /**
-         * Accesses the {@code index}th node sequentially without using fingers and 
+         * Sets the actual index of the {@code fingerIndex}th finger to
+         * {@code index} taking the pending lazy shifts into account.
+         *
+         * @param fingerIndex the index of the target finger.
+         * @param index       the new actual index of the target finger.
+         */
+        void setShiftedFingerIndex(int fingerIndex, int index) {
+            fingerIndices[fingerIndex] += index
+                                        - getShiftedFingerIndex(fingerIndex);
+        }
+
+        /**
+         * Accesses the {@code index}th node sequentially without using fingers and
          * modifying the fingers.
-         * 
+         *
          * @param index the index of the desired node.
-         * 
-         * @return {@code index} node. 
+         *
+         * @return {@code index} node.
          */
         private Node<E> getNodeSequentially(final int index) {
             return list.getNodeSequentially(index);
         }
 
+        /**
+         * Moves all the fingers, the end-of-finger-list sentinel finger
+         * included, {@code shiftLength} positions to the right, or to the left
+         * if {@code shiftLength} is negative. Only updates the index offset and
+         * so runs in constant time.
+         *
+         * @param shiftLength the signed length of the shift.
+         */
+        void shiftAllFingerIndices(int shiftLength) {
+            indexOffset += shiftLength;
+        }
+
         /**
          * Moves all the fingers in range {@code [startFingerIndex, size]}
          * {@code shiftLength} positions to the left (towards smaller indices).
@@ -1261,8 +2276,10 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * @param shiftLength the length of the shift operation.
          */
         void shiftFingerIndicesToLeft(int startFingerIndex, int shiftLength) {
+            int[] indices = fingerIndices;
+
             for (int i = startFingerIndex; i <= size; ++i) {
-                fingerArray[i].index -= shiftLength;
+                indices[i] -= shiftLength;
             }
         }
 
@@ -1271,11 +2288,9 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * position to the left (towards smaller indices).
          *
          * @param startFingerIndex the index of the leftmost finger to shift.
-         */ 
+         */
         void shiftFingerIndicesToLeftOnceAll(int startFingerIndex) {
-            for (int i = startFingerIndex; i <= size; ++i) {
-                fingerArray[i].index--;
-            }
+            shiftFingerIndicesToLeft(startFingerIndex, 1);
         }
 
         /**
@@ -1286,8 +2301,10 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * @param shiftLength the length of the shift operation.
          */
         void shiftFingerIndicesToRight(int startIndex, int shiftLength) {
+            int[] indices = fingerIndices;
+
             for (int i = startIndex; i <= size; ++i) {
-                fingerArray[i].index += shiftLength;
+                indices[i] += shiftLength;
             }
         }
 
@@ -1364,6 +2381,106 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     transient int numberOfCoveringFingersToSuffix;
     
+    /**
+     * The default list size at which the two-level finger mode is entered.
+     */
+    static final int DEFAULT_TWO_LEVEL_FINGER_THRESHOLD = 1 << 23;
+    
+    /**
+     * The minimum allowed two-level finger threshold. Below it, the two-level
+     * finger mode would need as many fingers as there are elements.
+     */
+    static final int MINIMUM_TWO_LEVEL_FINGER_THRESHOLD = 8;
+    
+    /**
+     * The two-level finger mode is left once the list size drops below the
+     * two-level finger threshold divided by this factor. Prevents a list
+     * oscillating around the threshold from rebuilding its fingers over and
+     * over again.
+     */
+    static final int TWO_LEVEL_FINGER_HYSTERESIS_FACTOR = 2;
+    
+    /**
+     * The list size at which this list enters the two-level finger mode.
+     */
+    transient int twoLevelFingerThreshold = DEFAULT_TWO_LEVEL_FINGER_THRESHOLD;
+    
+    /**
+     * Indicates whether this list is in the two-level finger mode.
+     */
+    transient boolean twoLevelFingers;
+    
+    /**
+     * Indicates whether the lazy finger shifting was requested via 
+     * {@link #setLazyFingerShifting(boolean)}. The two-level finger mode 
+     * shifts the fingers lazily regardless.
+     */
+    transient boolean lazyFingerShifting;
+    
+    /**
+     * The policy deciding the number of fingers in this list.
+     */
+    transient FingerPolicy fingerPolicy = FingerPolicy.SQRT;
+    
+    /**
+     * The maximum distance between the cursor and the requested element index
+     * at which {@link #getNode(int)} walks from the cursor instead of 
+     * consulting the fingers.
+     */
+    static final int MAXIMUM_CURSOR_DISTANCE = 16;
+    
+    /**
+     * The most recently accessed node, or {@code null} if there is no such.
+     */
+    transient Node<E> cursorNode;
+    
+    /**
+     * The index of {@code cursorNode}.
+     */
+    transient int cursorIndex;
+    
+    /**
+     * The cursor is valid only while {@code modCount} equals this value.
+     */
+    transient int cursorModCount;
+    
+    /**
+     * The maximum number of unlinked nodes kept for reuse. Zero disables the
+     * node pool.
+     */
+    transient int nodePoolCapacity;
+    
+    /**
+     * The top of the stack of the unlinked nodes kept for reuse. The stack is
+     * chained via the {@code next} references.
+     */
+    transient Node<E> nodePool;
+    
+    /**
+     * The number of nodes in {@code nodePool}.
+     */
+    transient int nodePoolSize;
+    
+    /**
+     * Indicates whether the nodes of this list are shared with a snapshot. 
+     * Such a list copies them via {@link #unshare()} before modifying them, 
+     * and locates the nodes without moving the fingers or the cursor.
+     */
+    transient boolean shared;
+    
+    /**
+     * Indicates whether the finger arrays of this list are shared with a 
+     * snapshot. Such a list copies them via {@link #unshareFingers()} before
+     * moving the fingers.
+     */
+    transient boolean fingersShared;
+    
+    /**
+     * The number of times this list copied its nodes away from a snapshot.
+     * Lets the iterators detect that their cached nodes belong to a snapshot.
+     */
+    transient int unshareCount;
+    
     /**
      * Constructs an empty list.
      */
@@ -1371,6 +2488,22 @@ public class IndexedLinkedList<E> implements Deque<E>,
         this.fingerList = new FingerList<>(this);
     }
     
+    /**
+     * Constructs an empty list maintaining its fingers according to
+     * {@code fingerPolicy}. The two-level finger mode (see 
+     * {@link #setTwoLevelFingerThreshold(int)}) applies only to the default
+     * {@link FingerPolicy#SQRT} policy.
+     * 
+     * @param fingerPolicy the finger policy.
+     */
+    public IndexedLinkedList(FingerPolicy fingerPolicy) {
+        this();
+        this.fingerPolicy = 
+                Objects.requireNonNull(
+                        fingerPolicy, 
+                        "The input finger policy is null.");
+    }
+    
     /**
      * Constructs a new list and copies the data in {@code c} to it. Runs in
      * \(\mathcal{O}(m + \sqrt{m})\) time, where \(m = |c|\).
@@ -1382,6 +2515,19 @@ public class IndexedLinkedList<E> implements Deque<E>,
         addAll(c);
     }
     
+    /**
+     * Constructs a new list maintaining its fingers according to 
+     * {@code fingerPolicy} and copies the data in {@code c} to it.
+     * 
+     * @param c            the collection to copy. 
+     * @param fingerPolicy the finger policy.
+     */
+    public IndexedLinkedList(Collection<? extends E> c,
+                             FingerPolicy fingerPolicy) {
+        this(fingerPolicy);
+        addAll(c);
+    }
+    
     /**
      * Appends the specified element to the end of this list. Runs in amortized 
      * constant time.
@@ -1410,6 +2556,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
     @Override
     public void add(int index, E element) {
         checkPositionIndex(index);
+        unshare();
         
         if (index == size) { // Check push-back first as it is used more often.
             linkLast(element);
@@ -1462,6 +2609,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
         if (c.isEmpty()) {
             return false;
         }
+        
+        unshare();
 
         if (size == 0) {
             setAll(c);
@@ -1478,7 +2627,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
     
     /**
      * Adds the element {@code e} before the head of this list. Runs in 
-     * \(\mathcal{O}(\sqrt{n})\) time.
+     * amortized \(\mathcal{O}(1)\) time.
      * 
      * @param e the element to add.
      */
@@ -1516,11 +2665,15 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * Runs in worst case \(\mathcal{O}(n)\) time.
      */
     public void checkInvarant() {
-        // The first finger spot can never be 'null':
-        if (fingerList.getFinger(0) == null) {
+        // The finger index and node arrays must be of the same capacity:
+        if (fingerList.fingerIndices.length 
+                != fingerList.fingerNodes.length) {
             throw new IllegalStateException(
-                    "fingerList[0] is null. " + 
-                    "Must be at least the end-of-finger-list sentinel.");
+                    "fingerIndices.length = " 
+                            + fingerList.fingerIndices.length
+                            + " != " 
+                            + fingerList.fingerNodes.length 
+                            + " = fingerNodes.length");
         }
         
         if (fingerList.isEmpty()) {
@@ -1547,6 +2700,11 @@ public class IndexedLinkedList<E> implements Deque<E>,
             }
         }
         
+        if (!fingerList.isEmpty() && fingerList.fingerNodes[0] == null) {
+            // The first finger must point to a node:
+            throw new IllegalStateException("fingerList[0].node is null.");
+        }
+        
         if (fingerList.getFinger(0).index < 0) {
             // Negative initial finger index:
             throw new IllegalStateException(
@@ -1560,10 +2718,10 @@ public class IndexedLinkedList<E> implements Deque<E>,
             Finger<E> right = fingerList.getFinger(i + 1);
             
             // First left will be checked in the very beginning of this method:
-            if (right == null) {
-                // 'right' cannot be 'null':
+            if (right.node == null) {
+                // 'right' must point to a node:
                 throw new IllegalStateException(
-                        "fingerList[" + (i + 1) + "] is null.");
+                        "fingerList[" + (i + 1) + "].node is null.");
             }
             
             if (left.index >= right.index) {
@@ -1581,24 +2739,29 @@ public class IndexedLinkedList<E> implements Deque<E>,
             }
         }
         
-        if (getRecommendedNumberOfFingers() != fingerList.size()) {
+        if (!fingerList.isEmpty() 
+                && fingerList.getFinger(fingerList.size() - 1).index >= size) {
+            // The last finger must point to an element:
+            throw new IllegalStateException(
+                    "The last finger index " 
+                            + fingerList.getFinger(fingerList.size() - 1).index
+                            + " is not less than the list size " 
+                            + size);
+        }
+        
+        if (fingerList.size() < getRecommendedNumberOfFingers()
+                || fingerList.size() > getMaximumNumberOfFingers(size)) {
             // The required and actual number of fingers mismatch:
             throw new IllegalStateException(
-                    "Number of fingers mismatch: required = " 
+                    "Number of fingers mismatch: required = [" 
                             + getRecommendedNumberOfFingers() 
-                            + ", actual = " 
+                            + ", "
+                            + getMaximumNumberOfFingers(size)
+                            + "], actual = " 
                             + fingerList.size());
         }
         
         Finger<E> sentinelFinger = fingerList.getFinger(fingerList.size());
-                
-        if (sentinelFinger == null) {
-            // Here, the end-of-finger-list sentinel is 'null':
-            throw new IllegalStateException(
-                    "No sentinel finger (number of fingers = " 
-                            + fingerList.size() 
-                            + ").");
-        }
         
         if (sentinelFinger.index != this.size) {
             // Size mismatch:
@@ -1646,19 +2809,21 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         // Check that there is no junk fingers in the rest of the finger array:
         for (int i = fingerList.size() + 1;
-                 i < fingerList.fingerArray.length;  
+                 i < fingerList.fingerNodes.length;  
                  i++) {
             
-            finger = fingerList.getFinger(i);
-            
-            if (finger != null) {
+            if (fingerList.fingerNodes[i] != null) {
                 // Found a junk finger:
                 throw new IllegalStateException(
-                        "Junk finger " + finger + " at fingerList[" + i + "]");
+                        "Junk finger " 
+                                + fingerList.getFinger(i) 
+                                + " at fingerList[" 
+                                + i 
+                                + "]");
             }
         }
         
-        int length = fingerList.fingerArray.length;
+        int length = fingerList.fingerIndices.length;
         
         // Finally, check that the finger list cannot be contracted:
         if (length == FingerList.INITIAL_CAPACITY) {
@@ -1683,23 +2848,33 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     @Override
     public void clear() {
+        if (shared) {
+            // Once here, the nodes and the finger arrays belong to a snapshot.
+            // Forget them instead of clearing them:
+            shared = false;
+            fingersShared = false;
+            head = null;
+            fingerList.size = 0;
+        }
+        
         fingerList.clear();
         size = 0;
         
         // Help GC:
         for (Node<E> node = head; node != null;) {
             // Unlink 'node':
-            node.prev = null;
-            node.item = null;
             Node<E> next = node.next;
-            node.next = null;
+            recycleNode(node);
             node = next;
         }
 
         // Repair the invariant:
         head = tail = null;
+        cursorNode = null;
         // Signal that state was changed:
         modCount++;
+        // Leave the two-level finger mode, if needed:
+        updateFingerMode();
     }
     
     /**
@@ -1709,7 +2884,80 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     @Override
     public Object clone() {
-        return new IndexedLinkedList<>(this);
+        return new IndexedLinkedList<>(this, fingerPolicy);
+    }
+    
+    /**
+     * Appends all the elements of {@code other} to the tail of this list by 
+     * stealing its nodes, and leaves {@code other} empty. The node chains are
+     * relinked in constant time. The finger lists of both lists are merged 
+     * into one, after which the excess fingers, if any, are dropped evenly. 
+     * All in all, runs in \(\mathcal{O}(\sqrt{n} + \sqrt{n'})\) time, where
+     * \(n\) and \(n'\) are the sizes of this list and {@code other}.
+     * 
+     * @param other the list whose nodes to append.
+     * @throws IllegalArgumentException if {@code other} is this list.
+     */
+    public void concat(IndexedLinkedList<E> other) {
+        Objects.requireNonNull(other);
+        
+        if (other == this) {
+            throw new IllegalArgumentException(
+                    "Cannot concatenate a list with itself.");
+        }
+        
+        if (other.isEmpty()) {
+            return;
+        }
+        
+        unshare();
+        other.unshare();
+        fingerList.applyPendingShifts();
+        other.fingerList.applyPendingShifts();
+        
+        // Merge the finger lists:
+        int numberOfFingers = fingerList.size();
+        int numberOfOtherFingers = other.fingerList.size();
+        int[] indices = new int[numberOfFingers + numberOfOtherFingers];
+        Node<E>[] nodes = new Node[numberOfFingers + numberOfOtherFingers];
+        
+        System.arraycopy(fingerList.fingerIndices, 
+                         0, 
+                         indices, 
+                         0, 
+                         numberOfFingers);
+        
+        System.arraycopy(fingerList.fingerNodes, 
+                         0, 
+                         nodes, 
+                         0, 
+                         numberOfFingers);
+        
+        for (int i = 0; i < numberOfOtherFingers; i++) {
+            indices[numberOfFingers + i] = 
+                    other.fingerList.fingerIndices[i] + size;
+            
+            nodes[numberOfFingers + i] = other.fingerList.fingerNodes[i];
+        }
+        
+        // Link the node chains:
+        if (tail == null) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+            other.head.prev = tail;
+        }
+        
+        tail = other.tail;
+        size += other.size;
+        modCount++;
+        
+        // Keep clear() off the stolen nodes:
+        other.head = null;
+        other.clear();
+        
+        resetFingers(indices, nodes, numberOfFingers + numberOfOtherFingers);
+        updateFingerMode();
     }
     
     /**
@@ -1752,14 +3000,28 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     public IndexedLinkedList<E> deepCopy() {
         // First, copy the actual content:
-        IndexedLinkedList<E> other = new IndexedLinkedList<>(this);
-        int fingerIndex = 0;
+        IndexedLinkedList<E> other = 
+                new IndexedLinkedList<>(this, fingerPolicy);
+        
+        fingerList.applyPendingShifts();
+        
+        if (other.fingerList.size != fingerList.size) {
+            // Once here, this list holds more fingers than the finger policy
+            // requires due to its hysteresis:
+            other.fingerList.fingerIndices = 
+                    new int[fingerList.fingerIndices.length];
+            
+            other.fingerList.fingerNodes = 
+                    new Node[fingerList.fingerNodes.length];
+            
+            other.fingerList.size = fingerList.size;
+        }
         
         // Copy the finger list:
         for (int i = 0; i <= this.fingerList.size; i++) {
             // Copy the finger:
-            other.fingerList.fingerArray[fingerIndex++] = 
-                    new Finger<>(fingerList.fingerArray[i]);
+            other.fingerList.fingerIndices[i] = fingerList.fingerIndices[i];
+            other.fingerList.fingerNodes[i]   = fingerList.fingerNodes[i];
         }
         
         return other;
@@ -1775,11 +3037,11 @@ public class IndexedLinkedList<E> implements Deque<E>,
             return;
         }
         
+        unshareFingers();
+        
         if (fingerList.size() == 1) {
             // Handles a special case:
-            Finger<E> finger = fingerList.getFinger(0);
-            finger.index = 0;
-            finger.node = head;
+            fingerList.setFinger(0, head, 0);
             return;
         }
         
@@ -1792,8 +3054,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         // Just pack all the fingers at the very beginning.
         for (int i = 0; i < leftFingers; ++i) {
             // Pack the current finger:
-            fingerList.getFinger(i).index = i;
-            fingerList.getFinger(i).node  = node;
+            fingerList.setFinger(i, node, i);
             // Grab the reference to the next node:
             node = node.next;
         }
@@ -1802,8 +3063,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         // Pack the remaining fingers at the end of the list:
         for (int i = 0; i < rightFingers; ++i) {
-            fingerList.getFinger(sz - 1 - i).index = size - 1 - i;
-            fingerList.getFinger(sz - 1 - i).node  = node;
+            fingerList.setFinger(sz - 1 - i, node, size - 1 - i);
             // Grab the reference to the previous node:
             node = node.prev;
         }
@@ -1837,6 +3097,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
             return;
         }
         
+        unshareFingers();
+        
         int fingerPrefixLength = fingerList.getFingerIndexImpl(fromIndex);
         int fingerSuffixLength = fingerList.size() 
                                - fingerList.getFingerIndexImpl(toIndex);
@@ -1857,11 +3119,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
         Node<E> node = getNode(fromIndex);
         
         for (int i = 0; i < numberOfRangeFingers - 1; ++i) {
-            // Grab the ith finger in the range:
-            Finger<E> finger = fingerList.getFinger(i + fingerPrefixLength);
-            // Update its data:
-            finger.node      = node;
-            finger.index     = index;
+            // Update the data of the ith finger in the range:
+            fingerList.setFinger(i + fingerPrefixLength, node, index);
             // Advance both node and index to the next finger's node:
             node   = scrollNodeToRight(node, numberOfElementsPerFinger);
             index += numberOfElementsPerFinger;
@@ -1869,12 +3128,9 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         // Since we cannot advance node to the right, we need to deal with the
         // last (non-sentinel) finger manually:
-        Finger<E> lastFinger =
-                fingerList.getFinger(
-                        numberOfRangeFingers - 1 + fingerPrefixLength);
-        
-        lastFinger.node  = node;
-        lastFinger.index = index;
+        fingerList.setFinger(numberOfRangeFingers - 1 + fingerPrefixLength,
+                             node,
+                             index);
     }    
     
     /**
@@ -1919,6 +3175,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * Returns {@code index}th element. Runs in the worst-case 
      * \(\mathcal{O}(\sqrt{n})\) time, but may run in \(\mathcal{O}(\sqrt{n})\)
      * if the entropy of this list is high.
+     * If {@code index} is close to the most recently
+     * accessed index, runs in constant time.
      * 
      * @return {@code index}th element.
      * @throws IndexOutOfBoundsException if the index is out of range
@@ -1941,12 +3199,20 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @return the entropy of this list.
      */
     public double getEntropy() {
+        fingerList.applyPendingShifts();
         double sum = 0.0;
         
+        // In the two-level finger mode and under custom finger policies, the
+        // fingers are not necessarily \sqrt{N} apart:
+        double expectedDistance = 
+                twoLevelFingers || fingerPolicy != FingerPolicy.SQRT ? 
+                (double) size / fingerList.size() : 
+                fingerList.size();
+        
         for (int i = 0; i < fingerList.size(); i++) {
-            double value = fingerList.getFinger(i + 1).index 
-                         - fingerList.getFinger(i).index 
-                         - fingerList.size();
+            double value = fingerList.fingerIndices[i + 1] 
+                         - fingerList.fingerIndices[i] 
+                         - expectedDistance;
             
             sum += Math.abs(value);
         }
@@ -1954,6 +3220,34 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return Math.max(0.0, 1.0 - sum / size);
     }
     
+    /**
+     * Returns the finger policy of this list.
+     * 
+     * @return the finger policy.
+     */
+    public FingerPolicy getFingerPolicy() {
+        return fingerPolicy;
+    }
+    
+    /**
+     * Returns the finger search strategy currently in use. In the automatic
+     * selection mode, returns the most recently selected strategy.
+     * 
+     * @return the current finger search strategy.
+     */
+    public FingerSearchStrategy getFingerSearchStrategy() {
+        return fingerList.searchStrategy;
+    }
+    
+    /**
+     * Returns the maximum number of unlinked nodes this list keeps for reuse.
+     * 
+     * @return the node pool capacity.
+     */
+    public int getNodePoolCapacity() {
+        return nodePoolCapacity;
+    }
+    
     /**
      * Returns the first element of this list. Runs in constant time.
      * 
@@ -1986,6 +3280,16 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return tail.item;
     }
     
+    /**
+     * Returns the list size at which this list switches to the two-level 
+     * finger mode.
+     * 
+     * @return the two-level finger threshold.
+     */
+    public int getTwoLevelFingerThreshold() {
+        return twoLevelFingerThreshold;
+    }
+    
     /**
      * Returns the hash code of this list. Runs in linear time.
      * 
@@ -2015,6 +3319,24 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return indexOfRange(obj, 0, size);
     }
     
+    /**
+     * Returns {@code true} only if the adaptive finger placement is enabled.
+     * 
+     * @return {@code true} only if the adaptive finger placement is enabled.
+     */
+    public boolean isAdaptiveFingerPlacement() {
+        return fingerList.accessSamples != null;
+    }
+    
+    /**
+     * Returns {@code true} only if the bucketed finger lookup is enabled.
+     * 
+     * @return {@code true} only if the bucketed finger lookup is enabled.
+     */
+    public boolean isBucketedFingerLookup() {
+        return fingerList.bucketTable != null;
+    }
+    
     /**
      * Returns {@code true} only if this list is empty.
      * 
@@ -2024,6 +3346,24 @@ public class IndexedLinkedList<E> implements Deque<E>,
     public boolean isEmpty() {
         return size == 0;
     }
+    
+    /**
+     * Returns {@code true} only if the lazy finger shifting is enabled.
+     * 
+     * @return {@code true} only if the lazy finger shifting is enabled.
+     */
+    public boolean isLazyFingerShifting() {
+        return lazyFingerShifting;
+    }
+    
+    /**
+     * Returns {@code true} only if this list is in the two-level finger mode.
+     * 
+     * @return {@code true} only if this list is in the two-level finger mode.
+     */
+    public boolean isTwoLevelFingerMode() {
+        return twoLevelFingers;
+    }
 
     /**
      * Returns the iterator over this list.
@@ -2075,9 +3415,76 @@ public class IndexedLinkedList<E> implements Deque<E>,
     public ListIterator<E> listIterator(int index) {
         return new EnhancedIterator(index);
     }
-    
+
     /**
-     * Adds {@code e} after the tail element of this list. Runs in constant 
+     * Moves the element at the index {@code fromIndex} such that it ends up at
+     * the index {@code toIndex}, just like
+     * {@code add(toIndex, remove(fromIndex))} would do, but relinks the
+     * existing node instead of recycling it. For example, {@code move(i, 0)}
+     * bumps the {@code i}th element to the front.
+     * Runs in \(\mathcal{O}(\sqrt{n})\) time and allocates nothing.
+     *
+     * @param fromIndex the current index of the element to move.
+     * @param toIndex   the index of the element after the move.
+     * @throws IndexOutOfBoundsException if any of the indices is out of range.
+     * @see #moveRange(int, int, int)
+     */
+    public void move(int fromIndex, int toIndex) {
+        checkElementIndex(fromIndex);
+        checkElementIndex(toIndex);
+        moveRange(fromIndex, fromIndex + 1, toIndex);
+    }
+
+    /**
+     * Moves the list range {@code [fromIndex, ..., toIndex - 1]} such that its
+     * first element ends up at the index {@code destinationIndex}. In other
+     * words, the result is the same as removing the range and inserting it at
+     * {@code destinationIndex} into the remaining list. The range and the
+     * elements it jumps over are detached and reattached as two node chains,
+     * and the fingers between the two positions are repaired in a single pass
+     * over them. Runs in \(\mathcal{O}(\sqrt{n})\) time and allocates nothing.
+     *
+     * @param fromIndex        the starting, inclusive index of the range to
+     *                         move.
+     * @param toIndex          the ending, exclusive index of the range to
+     *                         move.
+     * @param destinationIndex the index of the first moved element after the
+     *                         move. Must be within
+     *                         {@code [0, size - (toIndex - fromIndex)]}.
+     * @throws IndexOutOfBoundsException if any of the indices is out of range.
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}.
+     */
+    public void moveRange(int fromIndex, int toIndex, int destinationIndex) {
+        checkFromTo(fromIndex, toIndex);
+        int rangeLength = toIndex - fromIndex;
+
+        if (destinationIndex < 0 || destinationIndex > size - rangeLength) {
+            throw new IndexOutOfBoundsException(
+                    String.format(
+                            "destinationIndex(%d) is not within [0, %d]",
+                            destinationIndex,
+                            size - rangeLength));
+        }
+
+        if (rangeLength == 0 || destinationIndex == fromIndex) {
+            return;
+        }
+
+        unshare();
+
+        if (destinationIndex < fromIndex) {
+            // The range jumps to the left over [destinationIndex, fromIndex):
+            swapAdjacentRanges(destinationIndex, fromIndex, toIndex);
+        } else {
+            // The range jumps to the right over the elements following it:
+            swapAdjacentRanges(fromIndex,
+                               toIndex,
+                               destinationIndex + rangeLength);
+        }
+    }
+
+    /**
+     * Adds {@code e} after the tail element of this list. Runs in constant
      * time.
      * 
      * @param e the element to add.
@@ -2090,7 +3497,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
 
     /**
      * Adds {@code e} before the head element of this list. Runs in 
-     * \(\mathcal{O}(\sqrt{n})\) time.
+     * amortized \(\mathcal{O}(1)\) time.
      * 
      * @param e the element to add.
      * @return always {@code true}.
@@ -2155,7 +3562,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
     /**
      * If this list is empty, does nothing else but return {@code null}. 
      * Otherwise, removes the first element and returns it. Runs in 
-     * \(\mathcal{O}(\sqrt{n})\) time.
+     * amortized \(\mathcal{O}(1)\) time.
      * 
      * @return the first element (which was removed due to the call to this 
      *         method), or {@code null} if the list is empty.
@@ -2168,7 +3575,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
     /**
      * If this list is empty, does nothing else but return {@code null}. 
      * Otherwise, removes the first element and returns it. Runs in 
-     * \(\mathcal{O}(\sqrt{n})\) time.
+     * amortized \(\mathcal{O}(1)\) time.
      * 
      * @return the first element (which was removed due to the call to this 
      *         method), or {@code null} if the list is empty.
@@ -2193,7 +3600,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
     
     /**
      * Removes the first element and returns it.
-     * Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     * Runs in amortized \(\mathcal{O}(1)\) time.
      * 
      * @return the first element.
      * @throws NoSuchElementException if the list is empty.
@@ -2205,7 +3612,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
 
     /**
      * Adds {@code e} before the head of this list. Runs in 
-     * \(\mathcal{O}(\sqrt{n})\) time.
+     * amortized \(\mathcal{O}(1)\) time.
      */
     @Override
     public void push(E e) {
@@ -2226,6 +3633,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @param random the random number generator object.
      */
     public void randomizeFingers(Random random) {
+        unshareFingers();
         final Set<Integer> indexFilter = new HashSet<>();
         // Load the set of valid, random integers of size 'fingerList.size()':
         while (indexFilter.size() < fingerList.size) {
@@ -2239,9 +3647,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         // Update the finger list:
         for (int i = 0; i < fingerList.size; i++) {
-            Finger finger = fingerList.fingerArray[i];
-            finger.index  = newFingerIndexArray[i];
-            finger.node   = getNodeSequentially(finger.index);
+            int index = newFingerIndexArray[i];
+            fingerList.setFinger(i, getNodeSequentially(index), index);
         }
     }
 
@@ -2257,7 +3664,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
     
     /**
      * Removes and returns the first element. Runs in 
-     * \(\mathcal{O}(\sqrt{n})\) time.
+     * amortized \(\mathcal{O}(1)\) time.
      * 
      * @return the head element of this list.
      * @throws NoSuchElementException if this list is empty.
@@ -2278,54 +3685,60 @@ public class IndexedLinkedList<E> implements Deque<E>,
     @Override
     public E remove(int index) {
         checkElementIndex(index);
+        unshare();
+        
+        if (index == 0) {
+            // Removing the head node does not need a finger search:
+            return removeFirstImpl();
+        }
         
         // Get the closest finger:
-        int closestFingerIndex  = fingerList.getClosestFingerIndex(index);
-        Finger<E> closestFinger = fingerList.getFinger(closestFingerIndex);
+        int closestFingerIndex = fingerList.getClosestFingerIndex(index);
+        int closestFingerElementIndex = 
+                fingerList.getShiftedFingerIndex(closestFingerIndex);
         
         E returnValue;
         Node<E> nodeToRemove;
         
-        if (closestFinger.index == index) {
+        if (closestFingerElementIndex == index) {
             // Once here, element with index 'index' is pointed by a finger:
-            nodeToRemove = closestFinger.node;
+            nodeToRemove = fingerList.fingerNodes[closestFingerIndex];
             // Move the pointing finger out of the node to be removed:
-            moveFingerOutOfRemovalLocation(closestFinger, 
-                                           closestFingerIndex);    
+            moveFingerOutOfRemovalLocation(closestFingerIndex);    
         } else {
             // Keep the fingers at their original position.
             // Find the target node. Effectively, 'steps' communicates how much
             // steps we must do to the left:
-            int steps = index - closestFinger.index;
+            int steps = index - closestFingerElementIndex;
             
             // Once here, the closest finger does not point to the node to be
             // removed. Traverse to the actual removal node:
             nodeToRemove =
                     rewindFinger(
-                            closestFinger,
+                            fingerList.fingerNodes[closestFingerIndex],
                             steps);
             
             // Shift all the indices starting from 'closestFingerIndex + 1'th 
             // finger o ne position to the left (smaller indices):
-            fingerList.shiftFingerIndicesToLeftOnceAll(closestFingerIndex + 1);
+            fingerList.deferShiftFingerIndices(closestFingerIndex + 1, -1);
             
             if (steps < 0) {          
                 // Once here, we need to fix the index also of the 
                 // 'closestFingerIndex'th finger:
-                fingerList.getFinger(closestFingerIndex).index--;
+                fingerList.fingerIndices[closestFingerIndex]--;
             }
         }
         
         // Actually unlink the target node:
         returnValue = nodeToRemove.item;
         unlink(nodeToRemove);
+        moveCursorOnUnlink(index);
         decreaseSize();
 
-        if (mustRemoveFinger()) {
-            // Once here, we can safely remove the last finger:
-            removeFinger();
-        }
-
+        // Once here, we can safely remove the last finger:
+        removeFingerIfNeeded();
+        
+        updateFingerMode();
         return returnValue;
     }
 
@@ -2341,6 +3754,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     @Override
     public boolean remove(Object o) {
+        unshare();
         int index = 0;
 
         for (Node<E> x = head; x != null; x = x.next, index++) {
@@ -2355,8 +3769,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
     
     /**
      * Removes from this list all the elements mentioned in {@code c}. Runs in
-     * \(\mathcal{O}(n\sqrt{n} + fn)\) time, where \(\mathcal{O}(f)\) is the 
-     * time of checking for element inclusion in {@code c}.
+     * \(\mathcal{O}(n + fn)\) time, where \(\mathcal{O}(f)\) is the time of 
+     * checking for element inclusion in {@code c}.
      * 
      * @param c the collection holding all the elements to remove.
      * @return {@code true} only if at least one element in {@code c} was 
@@ -2369,7 +3783,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
 
     /**
      * Removes the first element from this list. Runs in 
-     * \(\mathcal{O}(\sqrt{n})\) time.
+     * amortized \(\mathcal{O}(1)\) time.
      * 
      * @return the first element.
      */
@@ -2392,6 +3806,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     @Override
     public boolean removeFirstOccurrence(Object o) {
+        unshare();
         int index = 0;
         
         for (Node<E> x = head; x != null; x = x.next, index++) {
@@ -2406,7 +3821,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
     
     /**
      * Removes from this list all the elements that satisfy the given input
-     * predicate. Runs in \(\mathcal{O}(n\sqrt{n})\) time.
+     * predicate. Runs in \(\mathcal{O}(n)\) time.
      * 
      * @param filter the filtering predicate.
      * @return {@code true} only if at least one element was removed.
@@ -2441,6 +3856,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     @Override
     public boolean removeLastOccurrence(Object o) {
+        unshare();
         int index = size - 1;
 
         for (Node<E> x = tail; x != null; x = x.prev, index--) {
@@ -2472,8 +3888,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
     
     /**
      * Remove all the elements that <strong>do not</strong> appear in 
-     * {@code c}. Runs in worst-case \(\mathcal{O}(nf + n\sqrt{n})\) time, where
-     * the inclusion check in {@code c} is run in \(\mathcal{O}(f)\) time.
+     * {@code c}. Runs in worst-case \(\mathcal{O}(nf + n)\) time, where the
+     * inclusion check in {@code c} is run in \(\mathcal{O}(f)\) time.
      * 
      * @param c the collection of elements to retain.
      * @return {@code true} only if at least one element was removed.
@@ -2482,10 +3898,87 @@ public class IndexedLinkedList<E> implements Deque<E>,
     public boolean retainAll(Collection<?> c) {
         return batchRemove(c, false, 0, size);
     }
-    
+
+    /**
+     * Reverses the order of the elements in this list by swapping the
+     * {@code prev} and {@code next} links of each node in a single pass. The
+     * fingers stay on their nodes; only their indices are remapped, in
+     * \(\mathcal{O}(\sqrt{n})\) time. All in all, runs in linear time and
+     * allocates nothing.
+     */
+    public void reverse() {
+        if (size < 2) {
+            return;
+        }
+
+        unshare();
+
+        for (Node<E> node = head; node != null; ) {
+            Node<E> next = node.next;
+            node.next = node.prev;
+            node.prev = next;
+            node = next;
+        }
+
+        Node<E> oldHead = head;
+        head = tail;
+        tail = oldHead;
+
+        fingerList.reverseFingers();
+        modCount++;
+    }
+
+    /**
+     * Rotates the elements in this list by {@code distance} positions to the
+     * right: the element at the index \(i\) moves to the index
+     * \((i + \mathit{distance}) \bmod n\), just like in
+     * {@link java.util.Collections#rotate(List, int)}. The distance may be
+     * negative or exceed the list size. Instead of moving any element, joins
+     * the tail node to the head node and cuts the resulting ring before the
+     * new head node, so only four links change. The fingers stay on their
+     * nodes; only their indices are remapped. All in all, runs in
+     * \(\mathcal{O}(\sqrt{n})\) time and allocates nothing.
+     *
+     * @param distance the rotation distance.
+     */
+    public void rotate(int distance) {
+        if (size < 2) {
+            return;
+        }
+
+        distance %= size;
+
+        if (distance < 0) {
+            distance += size;
+        }
+
+        if (distance == 0) {
+            return;
+        }
+
+        unshare();
+        fingerList.applyPendingShifts();
+
+        Node<E> newHead = fingerList.getNodeNoFingersFix(size - distance);
+        Node<E> newTail = newHead.prev;
+
+        // Close the ring and cut it before the new head:
+        tail.next = head;
+        head.prev = tail;
+        newTail.next = null;
+        newHead.prev = null;
+        head = newHead;
+        tail = newTail;
+
+        fingerList.rotateFingers(0, size - distance, size);
+        modCount++;
+    }
+
     /**
      * Sets the element at index {@code index} to {@code element} and returns
-     * the old element. Runs in worst-case \(\mathcal{O}(\sqrt{n})\) time.
+     * the old element. Runs in worst-case \(\mathcal{O}(\sqrt{n})\) time. If
+     * {@code index} is close to the most recently accessed index, runs in 
+     * constant time.
      * 
      * @param index   the target index.
      * @param element the element to set.
@@ -2494,12 +3987,172 @@ public class IndexedLinkedList<E> implements Deque<E>,
     @Override
     public E set(int index, E element) {
         checkElementIndex(index);
+        unshare();
         Node<E> node = getNode(index);
         E oldElement = node.item;
         node.item = element;
         return oldElement;
     }
     
+    /**
+     * Enables or disables the adaptive finger placement. Normally, each 
+     * access via {@code get} or {@code set} moves the closest finger halfway 
+     * between its neighbours, which suits the uniformly distributed accesses.
+     * When enabled, this list samples the 
+     * {@value FingerList#ACCESS_SAMPLE_CAPACITY} most recently accessed 
+     * element indices instead, and periodically relocates the fingers such 
+     * that half of them are spread evenly and the other half follow the 
+     * distribution of the sampled indices. Pays off on skewed workloads, such as Zipf-distributed
+     * accesses, where the hot segments get dense fingers while the walks in 
+     * the cold segments stay at most about twice as long as normally. The 
+     * relocation runs in \(\mathcal{O}(n)\) time once per at least \(n\) 
+     * accesses. The setting is not copied by {@link #clone()} or 
+     * serialization.
+     * 
+     * @param enabled whether to enable the adaptive finger placement.
+     */
+    public void setAdaptiveFingerPlacement(boolean enabled) {
+        if (enabled) {
+            fingerList.enableAdaptivePlacement();
+        } else {
+            fingerList.disableAdaptivePlacement();
+        }
+    }
+    
+    /**
+     * Enables or disables the bucketed finger lookup. When enabled, the finger
+     * list maintains a table mapping each bucket of element indices to a 
+     * nearby finger, so that locating the closest finger in {@code get}, 
+     * {@code set}, {@code add(int, E)} and {@code remove(int)} runs in 
+     * \(\mathcal{O}(1)\) expected time instead of 
+     * \(\mathcal{O}(\log n)\). The table is rebuilt lazily in 
+     * \(\mathcal{O}(\sqrt{n})\) time once modifications have made it too 
+     * stale. Pays off on large, read-heavy lists. The setting is not copied by
+     * {@link #clone()} or serialization.
+     * 
+     * @param enabled whether to enable the bucketed finger lookup.
+     */
+    public void setBucketedFingerLookup(boolean enabled) {
+        if (enabled) {
+            fingerList.enableBucketTable();
+        } else {
+            fingerList.disableBucketTable();
+        }
+    }
+    
+    /**
+     * Sets the algorithm used for locating the fingers. Passing {@code null}
+     * makes this list select the algorithm automatically from 
+     * {@link #getEntropy()}: the well-balanced lists use the interpolation
+     * search, the moderately balanced lists use the hybrid interpolation and
+     * galloping search and the rest use the binary search. The automatic
+     * selection is reevaluated periodically. Defaults to 
+     * {@link FingerSearchStrategy#BINARY}.
+     * 
+     * @param strategy the finger search strategy, or {@code null} for the 
+     *                 automatic selection.
+     */
+    public void setFingerSearchStrategy(FingerSearchStrategy strategy) {
+        fingerList.setSearchStrategy(strategy);
+    }
+    
+    /**
+     * Enables or disables the lazy finger shifting. Normally, inserting an 
+     * element in the middle of this list increments the indices of all the 
+     * fingers to the right of the insertion point. When enabled, such 
+     * increments are recorded in a Fenwick tree over the finger slots in 
+     * \(\mathcal{O}(\log n)\) time and the actual finger indices are computed 
+     * on demand. The deferred increments are applied to the fingers in one 
+     * \(\mathcal{O}(\sqrt{n})\) pass before the next operation that rearranges 
+     * the fingers, such as removal. Pays off on insertion-heavy workloads. The 
+     * setting is not copied by {@link #clone()} or serialization.
+     * 
+     * @param enabled whether to enable the lazy finger shifting.
+     */
+    public void setLazyFingerShifting(boolean enabled) {
+        lazyFingerShifting = enabled;
+        
+        if (enabled) {
+            fingerList.enableLazyShifting();
+        } else if (!twoLevelFingers) {
+            fingerList.disableLazyShifting();
+        }
+    }
+    
+    /**
+     * Sets the maximum number of unlinked nodes this list keeps for reuse. 
+     * Normally, each insertion allocates a new node and each removal leaves the
+     * removed node to the garbage collector. When the capacity is positive, 
+     * the removals push the unlinked nodes to a bounded free-list, and the 
+     * insertions pop the nodes from it before allocating new ones. This makes 
+     * the steady-state insertion and removal churn, such as a sliding window 
+     * of {@code addLast} and {@code removeFirst}, allocation-free at the 
+     * expense of keeping up to {@code capacity} empty nodes reachable. 
+     * Passing zero disables the node pool and releases the pooled nodes. 
+     * Defaults to zero. The setting is not copied by {@link #clone()} or 
+     * serialization.
+     * 
+     * @param capacity the maximum number of pooled nodes.
+     * @throws IllegalArgumentException if {@code capacity} is negative.
+     */
+    public void setNodePoolCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                    "The node pool capacity (" + capacity + ") is negative.");
+        }
+        
+        nodePoolCapacity = capacity;
+        
+        // Release the nodes exceeding the new capacity:
+        while (nodePoolSize > capacity) {
+            Node<E> node = nodePool;
+            nodePool = node.next;
+            node.next = null;
+            nodePoolSize--;
+        }
+    }
+    
+    /**
+     * Sets the list size at which this list switches to the two-level finger
+     * mode. Large lists keep \(\Bigg\lceil \sqrt{n} \Bigg\rceil\) fingers so 
+     * that the single-element operations walk \(\mathcal{O}(\sqrt{n})\) nodes 
+     * from the closest finger. In the two-level finger mode, the list keeps 
+     * \(\Bigg\lceil n^{2/3} \Bigg\rceil\) fingers instead, reducing the walks
+     * to \(\mathcal{O}(n^{1/3})\) nodes. The finger indices are maintained 
+     * via the coarse layer of the lazy finger shifting (see 
+     * {@link #setLazyFingerShifting(boolean)}) so that shifting the fingers
+     * after an insertion or a removal takes \(\mathcal{O}(\log n)\) time. All
+     * in all, the single-element operations run in 
+     * \(\mathcal{O}(n^{1/3})\) amortized time. The bulk operations, however,
+     * run slower due to the larger number of fingers.
+     * <p>
+     * This list leaves the two-level finger mode once its size drops below 
+     * the half of {@code threshold}. Switching the mode rebuilds the fingers 
+     * in \(\mathcal{O}(n)\) time. Passing {@link Integer#MAX_VALUE} disables 
+     * the two-level finger mode. Defaults to 
+     * {@value #DEFAULT_TWO_LEVEL_FINGER_THRESHOLD}. The setting is not copied 
+     * by {@link #clone()} or serialization.
+     * 
+     * @param threshold the list size at which to enter the two-level finger
+     *                  mode.
+     * @throws IllegalArgumentException if {@code threshold} is less than 
+     *                                  {@value #MINIMUM_TWO_LEVEL_FINGER_THRESHOLD}.
+     */
+    public void setTwoLevelFingerThreshold(int threshold) {
+        if (threshold < MINIMUM_TWO_LEVEL_FINGER_THRESHOLD) {
+            throw new IllegalArgumentException(
+                    "The two-level finger threshold (" 
+                            + threshold 
+                            + ") is too small. Must be at least " 
+                            + MINIMUM_TWO_LEVEL_FINGER_THRESHOLD 
+                            + ".");
+        }
+        
+        twoLevelFingerThreshold = threshold;
+        unshareFingers();
+        updateFingerMode();
+    }
+    
     /**
      * Returns the number of elements in this list.
      * 
@@ -2510,6 +4163,41 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return size;
     }
     
+    /**
+     * Returns an immutable snapshot of the current contents of this list. The
+     * snapshot shares the nodes and the finger arrays with this list, and is
+     * created in constant time unless there are pending finger index shifts 
+     * (see {@link #setLazyFingerShifting(boolean)}), which are applied first.
+     * Since the nodes are doubly-linked, they cannot be copied one by one as 
+     * they are modified. Instead, the first subsequent operation of this list 
+     * that modifies the nodes, such as {@code add}, {@code remove} or 
+     * {@code set}, copies all the nodes and the fingers in 
+     * \(\mathcal{O}(n)\) time, after which this list no longer touches the 
+     * shared structure. The operations moving only the fingers, such as 
+     * {@link #distributeFingers(int, int)}, copy only the finger arrays in 
+     * \(\mathcal{O}(\sqrt{n})\) time. Until then, {@code get} and the 
+     * iteration copy nothing: they locate the nodes without relocating the
+     * fingers. Taking more snapshots before such an operation shares the same
+     * structure.
+     * <p>
+     * The snapshot never changes. Its {@code get} runs in 
+     * \(\mathcal{O}(\sqrt{n})\) time without relocating the fingers, and 
+     * neither it nor the iteration writes anything, so any number of threads 
+     * may read the snapshot concurrently without locking, even while this 
+     * list is being modified.
+     * 
+     * @return the snapshot of this list.
+     */
+    public List<E> snapshot() {
+        fingerList.applyPendingShifts();
+        shared = true;
+        fingersShared = true;
+        return new IndexedLinkedListSnapshot<>(head, 
+                                               tail, 
+                                               size, 
+                                               fingerList.sharedView());
+    }
+    
     /**
      * Sorts stably this list into non-descending order. Runs in 
      * \(\mathcal{O}(n \log n)\).
@@ -2522,6 +4210,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
             return;
         }
         
+        unshare();
+        
         // Convert to an array and sort the array:
         Object[] array = toArray();
         Arrays.sort((E[]) array, c);
@@ -2540,6 +4230,78 @@ public class IndexedLinkedList<E> implements Deque<E>,
         modCount++;
     }
     
+    /**
+     * Splits this list at the index {@code index}: this list keeps the 
+     * elements {@code [0, index)}, and the returned new list receives the 
+     * elements {@code [index, size)}. The node chain is cut in constant time,
+     * and the node at {@code index} is located in 
+     * \(\mathcal{O}(\sqrt{n})\) time. Each part keeps the fingers that point
+     * into it. If a part lacks fingers, the missing ones are placed next to 
+     * the kept fingers, visiting \(\mathcal{O}(\sqrt{n})\) nodes in total. 
+     * The subsequent accesses spread them further apart. Only if the kept 
+     * fingers are too crowded for that, the fingers of the part are rebuilt 
+     * in linear time. The returned list uses the finger policy of this list.
+     * 
+     * @param index the index of the first element of the suffix.
+     * @return the list holding the suffix of this list.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public IndexedLinkedList<E> splitAt(int index) {
+        checkPositionIndex(index);
+        IndexedLinkedList<E> suffix = new IndexedLinkedList<>(fingerPolicy);
+        
+        if (index == size) {
+            return suffix;
+        }
+        
+        unshare();
+        fingerList.applyPendingShifts();
+        
+        int splitFingerIndex = fingerList.getFingerIndexImpl(index);
+        int numberOfSuffixFingers = fingerList.size() - splitFingerIndex;
+        int[] suffixIndices = new int[numberOfSuffixFingers];
+        Node<E>[] suffixNodes = new Node[numberOfSuffixFingers];
+        
+        for (int i = 0; i < numberOfSuffixFingers; i++) {
+            suffixIndices[i] = 
+                    fingerList.fingerIndices[splitFingerIndex + i] - index;
+            
+            suffixNodes[i] = fingerList.fingerNodes[splitFingerIndex + i];
+        }
+        
+        // Cut the node chain:
+        Node<E> suffixHead = fingerList.getNodeNoFingersFix(index);
+        Node<E> prefixTail = suffixHead.prev;
+        
+        suffix.head = suffixHead;
+        suffix.tail = tail;
+        suffix.size = size - index;
+        suffix.modCount++;
+        suffixHead.prev = null;
+        tail = prefixTail;
+        
+        if (prefixTail == null) {
+            head = null;
+        } else {
+            prefixTail.next = null;
+        }
+        
+        size = index;
+        modCount++;
+        
+        resetFingers(fingerList.fingerIndices, 
+                     fingerList.fingerNodes, 
+                     splitFingerIndex);
+        
+        suffix.resetFingers(suffixIndices, 
+                            suffixNodes, 
+                            numberOfSuffixFingers);
+        
+        updateFingerMode();
+        suffix.updateFingerMode();
+        return suffix;
+    }
+    
     /**
      * Returns the spliterator over this list.
      */
@@ -2656,6 +4418,73 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return stringBuilder.append("]").toString();
     }
     
+    /**
+     * Moves the list range {@code [fromIndex, ..., toIndex - 1]} of this list 
+     * into {@code target} such that the first moved element ends up at the 
+     * index {@code targetIndex}. The nodes are relinked instead of being 
+     * copied, so no node is allocated. Both finger lists are repaired just like
+     * in {@link #removeRange(int, int)} and {@link #addAll(int, Collection)}.
+     * Runs in \(\mathcal{O}(\sqrt{n} + \sqrt{n'})\) time, where \(n\) and
+     * \(n'\) are the sizes of this list and {@code target}, plus 
+     * \(\mathcal{O}(m)\) time, where \(m = \) {@code toIndex - fromIndex}, 
+     * when {@code target} needs more fingers for the moved elements.
+     * 
+     * @param fromIndex   the starting, inclusive index of the range to move.
+     * @param toIndex     the ending, exclusive index of the range to move.
+     * @param target      the list to move the range to.
+     * @param targetIndex the index in {@code target} at which to insert the 
+     *                    range.
+     * @throws IndexOutOfBoundsException if any of the indices is out of range.
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}, or 
+     *                                  {@code target} is this list.
+     */
+    public void transferRange(int fromIndex,
+                              int toIndex,
+                              IndexedLinkedList<E> target,
+                              int targetIndex) {
+        checkFromTo(fromIndex, toIndex);
+        Objects.requireNonNull(target);
+        
+        if (target == this) {
+            throw new IllegalArgumentException(
+                    "Cannot transfer a range to the same list.");
+        }
+        
+        target.checkPositionIndex(targetIndex);
+        int rangeLength = toIndex - fromIndex;
+        
+        if (rangeLength == 0) {
+            return;
+        }
+        
+        unshare();
+        target.unshare();
+        
+        Node<E> firstNode;
+        Node<E> lastNode;
+        
+        if (rangeLength == size) {
+            firstNode = head;
+            lastNode = tail;
+            
+            // Keep clear() off the transferred nodes:
+            head = null;
+            clear();
+        } else {
+            removeRangeFromFingerList(fromIndex, toIndex);
+            firstNode = removeRangeStartNode;
+            lastNode = removeRangeEndNode;
+            detachNodeRange(firstNode, lastNode);
+            modCount++;
+            
+            // Attempt to contract the finger array:
+            fingerList.contractFingerArrayIfNeeded(size);
+            updateFingerMode();
+        }
+        
+        target.linkNodeRange(firstNode, lastNode, rangeLength, targetIndex);
+    }
+    
     /**
      * Implements the batch remove. If {@code complement} is {@code true}, this 
      * operation removes all the elements appearing in {@code c}. Otherwise, it 
@@ -2674,36 +4503,15 @@ public class IndexedLinkedList<E> implements Deque<E>,
                         int end) {
         Objects.requireNonNull(c);
         
-        if (c.isEmpty()) {
-            // Once here, there is nothing to remove. Return false:
+        if (complement && c.isEmpty()) {
+            // Once here, there is nothing to remove. Return false. (Retaining
+            // an empty collection, in turn, removes every element.)
             return false;
         }
         
-        boolean modified = false;
-        
-        // The number of nodes to process:
-        int numberOfNodesToIterate = end - from;
-        int i = 0;
-        int nodeIndex = from;
-        
-        for (Node<E> node = getNode(from); i < numberOfNodesToIterate; ++i) {
-            Node<E> nextNode = node.next;
-            
-            if (c.contains(node.item) == complement) {
-                // Once here, we have a match. Remove it and mark 'modified' as
-                // 'true':
-                modified = true;
-                removeObjectImpl(node, nodeIndex);
-            } else {
-                // Omit the element. We need this in order for 
-                // 'removeObjectImpl(node, nodeIndex)' to work properly:
-                nodeIndex++;
-            }
-            
-            node = nextNode;
-        }
-        
-        return modified;
+        return bulkRemove((E item) -> c.contains(item) == complement, 
+                          from,
+                          end);
     }
 
     /**
@@ -2874,13 +4682,11 @@ public class IndexedLinkedList<E> implements Deque<E>,
     }
     
     /**
-     * Moves the {@code finger} out of the element with index 
-     * {@code finger.index}.
+     * Moves the {@code fingerIndex}th finger out of the element it points to.
      * 
-     * @param finger      the finger to move. 
-     * @param fingerIndex the index of {@code finger}.
+     * @param fingerIndex the index of the finger to move.
      */
-    void moveFingerOutOfRemovalLocation(Finger<E> finger, int fingerIndex) {
+    void moveFingerOutOfRemovalLocation(int fingerIndex) {
         
         if (fingerList.size() == size()) {
             // Here, fingerList.size() is 1 or 2 and the size of the list is the
@@ -2893,17 +4699,15 @@ public class IndexedLinkedList<E> implements Deque<E>,
             if (fingerIndex == 0) {
                 // Shift 2nd and the sentinal fingers one position to the
                 // left:
-                fingerList.setFinger(0, fingerList.getFinger(1));
-                fingerList.getFinger(0).index = 0;
-                fingerList.setFinger(1, fingerList.getFinger(2));
-                fingerList.getFinger(1).index = 1;
-                fingerList.setFinger(2, null);
+                fingerList.setFinger(0, fingerList.fingerNodes[1], 0);
+                fingerList.setFinger(1, fingerList.fingerNodes[2], 1);
+                fingerList.fingerNodes[2] = null;
                 fingerList.size = 1;
             } else {
                 // Here, fingerIndex == 1:
                 // Just remove the (last) finger:
                 fingerList.removeFinger();
-                fingerList.getFinger(1).index = 1;
+                fingerList.fingerIndices[1] = 1;
             }   
             
             return;
@@ -2924,14 +4728,13 @@ public class IndexedLinkedList<E> implements Deque<E>,
         // Once here, the only free spots are at the very beginning of the
         // finger list:
         for (int i = 0; i <= fingerIndex; ++i) {
-            Finger<E> fngr = fingerList.getFinger(i);
-            // Move 'fngr' one spot to the left:
-            fngr.index--;
-            fngr.node = fngr.node.prev;
+            // Move the 'i'th finger one spot to the left:
+            fingerList.fingerIndices[i]--;
+            fingerList.fingerNodes[i] = fingerList.fingerNodes[i].prev;
         }
         
         // Fix the remaining indices:
-        fingerList.shiftFingerIndicesToLeftOnceAll(fingerIndex + 1);
+        fingerList.deferShiftFingerIndices(fingerIndex + 1, -1);
     }
     
     /**
@@ -2960,25 +4763,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
             return;
         }
         
-        // Compute the bounding finger indices:
-        int fromFingerIndex = fingerList.getFingerIndexImpl(fromIndex);
-        int toFingerIndex   = fingerList.getFingerIndexImpl(toIndex);
-        
-        // Compute the number of fingers to remove:
-        int fingersToRemove = getRecommendedNumberOfFingers() 
-                            - getRecommendedNumberOfFingers(
-                                    size - removalLength);
-        
-        // Load the end nodes of the actual range removal area:
-        loadRemoveRangeEndNodes(fromIndex, 
-                                toIndex);
-        
-        // Do the actual finger list magic:
-        removeRangeImpl(fromIndex, 
-                        toIndex,
-                        fromFingerIndex, 
-                        toFingerIndex, 
-                        fingersToRemove);
+        unshare();
+        removeRangeFromFingerList(fromIndex, toIndex);
 
         // Unlink the actual nodes:
         unlinkNodeRange(this.removeRangeStartNode,
@@ -2987,6 +4773,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         // Attempt to contract the finger array:
         fingerList.contractFingerArrayIfNeeded(size);
+        updateFingerMode();
     }
     
     /**
@@ -2998,6 +4785,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     void replaceAllRange(UnaryOperator<E> operator, int i, int end) {
         Objects.requireNonNull(operator); 
+        unshare();
         int expectedModCount = modCount;
         Node<E> node = getNode(i);
         
@@ -3050,10 +4838,11 @@ public class IndexedLinkedList<E> implements Deque<E>,
             int collectionSize) {
         
         int numberOfNewFingers = 
-                getRecommendedNumberOfFingers() - fingerList.size();
+                Math.max(0, 
+                         getRecommendedNumberOfFingers() - fingerList.size());
 
         if (numberOfNewFingers == 0) {
-            fingerList.getFinger(fingerList.size()).index += collectionSize;
+            fingerList.fingerIndices[fingerList.size()] += collectionSize;
             return;
         }
         
@@ -3086,7 +4875,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         // The number of new fingers to add:
         int numberOfNewFingers =
-                getRecommendedNumberOfFingers() - fingerList.size();
+                Math.max(0, 
+                         getRecommendedNumberOfFingers() - fingerList.size());
         
         int startFingerIndex =
                 fingerList.getFingerIndexImpl(indexOfInsertedRangeHead);
@@ -3127,7 +4917,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         // The number of new fingers to add:
         int numberOfNewFingers =
-                getRecommendedNumberOfFingers() - fingerList.size();
+                Math.max(0, 
+                         getRecommendedNumberOfFingers() - fingerList.size());
 
         if (numberOfNewFingers == 0) {
             // Updates all the indices of all the fingers by adding 
@@ -3186,7 +4977,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         Node<E> oldLast = tail;
 
         for (E item : c) {
-            Node<E> newNode = new Node<>(item);
+            Node<E> newNode = newNode(item);
             newNode.prev = prev;
             prev.next = newNode;
             prev = newNode;
@@ -3200,6 +4991,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
         addFingersAfterAppendAll(oldLast.next,
                                  size - sz,
                                  sz);
+        
+        updateFingerMode();
     }
     
     /**
@@ -3210,8 +5003,114 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @param index the index of {@code node}.
      */
     private void appendFinger(Node<E> node, int index) {
-        Finger<E> finger = new Finger<>(node, index);
-        fingerList.appendFingerImpl(finger);
+        fingerList.appendFingerImpl(node, index);
+    }
+    
+    /**
+     * Implements the bulk removal engine behind {@link #removeAll(Collection)},
+     * {@link #retainAll(Collection)} and {@link #removeIf(Predicate)}. First,
+     * marks all the matching nodes in the range {@code [fromIndex, toIndex)}
+     * so that an exception thrown by {@code filter} leaves this list intact.
+     * Then, unlinks all the marked nodes in a single sweep and, finally, 
+     * rebuilds the finger list once by distributing the fingers evenly over
+     * the surviving nodes. Runs in \(\mathcal{O}(n + fm)\) time, where 
+     * \(m = \) {@code toIndex - fromIndex} and \(\mathcal{O}(f)\) is the time
+     * of a single {@code filter} test.
+     * 
+     * @param filter    the predicate telling which elements to remove.
+     * @param fromIndex the starting, inclusive index of the range to crawl.
+     * @param toIndex   the ending, exclusive index of the range to crawl.
+     * 
+     * @return {@code true} if and only if this list was modified.
+     */
+    private boolean bulkRemove(Predicate<? super E> filter,
+                               int fromIndex,
+                               int toIndex) {
+        
+        int rangeLength = toIndex - fromIndex;
+        
+        if (rangeLength == 0) {
+            // Once here, there is nothing to crawl:
+            return false;
+        }
+        
+        int expectedModCount = modCount;
+        Node<E> firstNode = getNode(fromIndex);
+        Node<E> node = firstNode;
+        
+        // Mark the nodes to remove:
+        long[] removalBits = new long[((rangeLength - 1) >> 6) + 1];
+        int numberOfNodesToRemove = 0;
+        
+        for (int i = 0; i < rangeLength; i++, node = node.next) {
+            if (filter.test(node.item)) {
+                removalBits[i >> 6] |= 1L << i;
+                numberOfNodesToRemove++;
+            }
+        }
+        
+        checkForComodification(expectedModCount);
+        
+        if (numberOfNodesToRemove == 0) {
+            // Once here, there is no match. Return false:
+            return false;
+        }
+        
+        if (shared) {
+            // Once here, the marked nodes belong to a snapshot. Unlink their
+            // copies instead:
+            unshare();
+            firstNode = getNode(fromIndex);
+        }
+        
+        // Unlink all the marked nodes in a single sweep. 'lastSurvivor' is
+        // the rightmost node preceding 'node' that is not removed:
+        Node<E> lastSurvivor = firstNode.prev;
+        node = firstNode;
+        
+        for (int i = 0; i < rangeLength; i++) {
+            Node<E> nextNode = node.next;
+            
+            if ((removalBits[i >> 6] & (1L << i)) != 0) {
+                // Get rid of the removed node in order to help GC:
+                recycleNode(node);
+            } else {
+                // Link the survivor to its new predecessor:
+                node.prev = lastSurvivor;
+                
+                if (lastSurvivor == null) {
+                    head = node;
+                } else {
+                    lastSurvivor.next = node;
+                }
+                
+                lastSurvivor = node;
+            }
+            
+            node = nextNode;
+        }
+        
+        // Stitch the range with the list suffix. Here, 'node' is the first 
+        // node after the crawled range, or 'null' if the range is a suffix:
+        if (lastSurvivor == null) {
+            head = node;
+        } else {
+            lastSurvivor.next = node;
+        }
+        
+        if (node == null) {
+            tail = lastSurvivor;
+        } else {
+            node.prev = lastSurvivor;
+        }
+        
+        size -= numberOfNodesToRemove;
+        modCount++;
+        
+        // Finally, fix the fingers only once:
+        rebuildFingerList();
+        updateFingerMode();
+        return true;
     }
     
     /**
@@ -3242,6 +5141,25 @@ public class IndexedLinkedList<E> implements Deque<E>,
         }
     }
     
+    /**
+     * Clamps the number of fingers requested by the finger policy. The lists 
+     * of at most three elements always keep 
+     * \(\Bigg\lceil \sqrt{N} \Bigg\rceil\) fingers, and larger lists keep at 
+     * least two fingers and fewer fingers than elements, where \(N = \)
+     * {@code size}.
+     * 
+     * @param numberOfFingers the number of fingers requested by the policy.
+     * @param size            the size of the list.
+     * @return the clamped number of fingers.
+     */
+    private static int clampNumberOfFingers(int numberOfFingers, int size) {
+        if (size <= 3) {
+            return (int) Math.ceil(Math.sqrt(size));
+        }
+        
+        return Math.max(2, Math.min(numberOfFingers, size - 1));
+    }
+    
     /**
      * Decreases the size counter and increments the modification count.
      */
@@ -3298,6 +5216,32 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return "Index: " + index + ", Size: " + size;
     }
     
+    /**
+     * Computes the maximum number of fingers this list may hold for 
+     * {@code size} elements before it must remove a finger. Exceeds the 
+     * recommended number of fingers only if the finger policy has a positive
+     * hysteresis.
+     * 
+     * @param size the size for which we want to compute the maximum number of
+     *             fingers.
+     * 
+     * @return the maximum number of fingers.
+     */
+    private int getMaximumNumberOfFingers(int size) {
+        int hysteresis = fingerPolicy.getHysteresis();
+        
+        if (hysteresis == 0 || twoLevelFingers) {
+            return getRecommendedNumberOfFingers(size);
+        }
+        
+        int extendedSize = (int) Math.min(Integer.MAX_VALUE, 
+                                          (long) size + hysteresis);
+        
+        return clampNumberOfFingers(
+                fingerPolicy.getNumberOfFingers(extendedSize), 
+                size);
+    }
+    
     /**
      * Computes the recommended number of fingers.
      * 
@@ -3305,20 +5249,30 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * \(\Bigg\lceil\sqrt{N}\Bigg\rceil\), where \(N\) is {@code size}.
      */
     private int getRecommendedNumberOfFingers() {
-        return (int) Math.ceil(Math.sqrt(this.size));
+        return getRecommendedNumberOfFingers(this.size);
     }
     
     /**
      * Computes the recommended number of fingers for {@code size} elements. 
      * Equals \(\Bigg\lceil \sqrt{N} \Bigg\rceil\), where \(N = \) {@code size}.
+     * In the two-level finger mode, equals 
+     * \(\Bigg\lceil N^{2/3} \Bigg\rceil\) instead. Under a custom finger 
+     * policy, equals the clamped target of the policy. All the functions grow
+     * by at most one per element so that the fingers may be added and removed 
+     * one at a time.
      * 
      * @param size the size for which we want to compute the recommended number
      *             of fingers.
      * 
      * @return the recommended number of fingers.
      */
-    private static int getRecommendedNumberOfFingers(int size) {
-        return (int) Math.ceil(Math.sqrt(size));
+    private int getRecommendedNumberOfFingers(int size) {
+        if (twoLevelFingers) {
+            return (int) Math.ceil(Math.pow(size, 2.0 / 3.0));
+        }
+        
+        return clampNumberOfFingers(fingerPolicy.getNumberOfFingers(size), 
+                                    size);
     }
     
     /**
@@ -3364,6 +5318,11 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @return the leftmost occurrence index.
      */
     private int indexOfRange(Object o, int start, int end) {
+        if (start == end) {
+            // Once here, the range is empty and there is no node to start at:
+            return -1;
+        }
+        
         int index = start;
         
         if (o == null) {
@@ -3404,7 +5363,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
 
         for (E item : c) {
             // Keep inserting:
-            Node<E> newNode = new Node<>(item);
+            Node<E> newNode = newNode(item);
             newNode.prev = prev;
             prev.next = newNode;
             prev = newNode;
@@ -3422,6 +5381,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
         addFingersAfterInsertAll(pred.next, 
                                  succIndex,
                                  sz);
+        
+        updateFingerMode();
     }
     
     /**
@@ -3458,6 +5419,11 @@ public class IndexedLinkedList<E> implements Deque<E>,
      *         if there is no such.
      */
     private int lastIndexOfRange(Object o, int start, int end) {
+        if (start == end) {
+            // Once here, the range is empty and there is no node to start at:
+            return -1;
+        }
+        
         int index = end - 1;
         
         if (o == null) {
@@ -3506,6 +5472,12 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * detect the concurrent modifications as early as possible.
          */
         int expectedModCount = IndexedLinkedList.this.modCount;
+        
+        /**
+         * The expected number of node copies. Used to detect that the cached
+         * nodes belong to a snapshot.
+         */
+        private int expectedUnshareCount = unshareCount;
 
         /**
          * Returns {@code true} if and only if this iterator has more elements 
@@ -3555,6 +5527,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 throw new IllegalStateException();
             }
             
+            unshare();
             checkForComodification();
             
             int removalIndex = nextIndex - 1;
@@ -3574,6 +5547,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         @Override
         public void forEachRemaining(Consumer<? super E> action) {
             Objects.requireNonNull(action);
+            checkForComodification();
             
             while (modCount == expectedModCount && nextIndex < size) {
                 action.accept(next.item);
@@ -3586,12 +5560,22 @@ public class IndexedLinkedList<E> implements Deque<E>,
 
         /**
          * Makes sure that the list was not modified outside of the iterator API
-         * while iterating.
+         * while iterating, and relocates the cached nodes if the list copied
+         * its nodes away from a snapshot.
          */
         void checkForComodification() {
             if (modCount != expectedModCount) {
                 throw new ConcurrentModificationException();
             }
+            
+            if (unshareCount != expectedUnshareCount) {
+                expectedUnshareCount = unshareCount;
+                next = nextIndex == size ? null : nodeNoFingerFixing(nextIndex);
+                
+                if (lastReturned != null) {
+                    lastReturned = next == null ? tail : next.prev;
+                }
+            }
         }
     }
     
@@ -3621,6 +5605,12 @@ public class IndexedLinkedList<E> implements Deque<E>,
          */
         int expectedModCount = IndexedLinkedList.this.modCount;
         
+        /**
+         * The expected number of node copies. Used to detect that the cached
+         * nodes belong to a snapshot.
+         */
+        private int expectedUnshareCount = unshareCount;
+        
         /**
          * Returns {@code true} if and only if this iterator has more elements
          * to offer.
@@ -3670,6 +5660,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 throw new IllegalStateException();
             }
             
+            unshare();
             checkForComodification();
             
             removeObjectImpl(lastReturned, nextIndex + 1);
@@ -3686,6 +5677,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         @Override
         public void forEachRemaining(Consumer<? super E> action) {
             Objects.requireNonNull(action);
+            checkForComodification();
             
             while (modCount == expectedModCount && hasNext()) {
                 action.accept(nextToIterate.item);
@@ -3700,6 +5692,9 @@ public class IndexedLinkedList<E> implements Deque<E>,
          * Makes sure that the expected modification count equals the iterator's
          * modification count, and throws an exception if that is not the case.
          * 
+         * Also relocates the cached nodes if the list copied its nodes away 
+         * from a snapshot.
+         * 
          * @throws ConcurrentModificationException if the modification counts do
          *                                         not match.
          */
@@ -3707,6 +5702,18 @@ public class IndexedLinkedList<E> implements Deque<E>,
             if (modCount != expectedModCount) {
                 throw new ConcurrentModificationException();
             }
+            
+            if (unshareCount != expectedUnshareCount) {
+                expectedUnshareCount = unshareCount;
+                nextToIterate = 
+                        nextIndex < 0 ? null : nodeNoFingerFixing(nextIndex);
+                
+                if (lastReturned != null) {
+                    lastReturned = nextToIterate == null 
+                                 ? head 
+                                 : nextToIterate.next;
+                }
+            }
         }
     }
     
@@ -3741,6 +5748,12 @@ public class IndexedLinkedList<E> implements Deque<E>,
          */
         int expectedModCount = modCount;
         
+        /**
+         * The expected number of node copies. Used to detect that the cached
+         * nodes belong to a snapshot.
+         */
+        private int expectedUnshareCount = unshareCount;
+        
         /**
          * Constructs a new enhanced list iterator starting from the node with
          * index {@code index}.
@@ -3856,6 +5869,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
          */
         @Override
         public void remove() {
+            unshare();
             checkForComodification();
             
             if (lastReturned == null) {
@@ -3891,6 +5905,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 throw new IllegalStateException();
             }
             
+            unshare();
             checkForComodification();
             lastReturned.item = e;
         }
@@ -3903,6 +5918,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
          */
         @Override
         public void add(E e) {
+            unshare();
             checkForComodification();
             
             lastReturned = null;
@@ -3927,6 +5943,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         @Override
         public void forEachRemaining(Consumer<? super E> action) {
             Objects.requireNonNull(action);
+            checkForComodification();
             
             while (modCount == expectedModCount && nextIndex < size) {
                 action.accept(next.item);
@@ -3939,12 +5956,26 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         /**
          * Checks that the expected modification count matches the modification
-         * count of the underlying list.
+         * count of the underlying list. Also relocates the cached nodes if the
+         * list copied its nodes away from a snapshot.
          */
         private void checkForComodification() {
             if (modCount != expectedModCount) {
                 throw new ConcurrentModificationException();
             }
+            
+            if (unshareCount != expectedUnshareCount) {
+                expectedUnshareCount = unshareCount;
+                next = nextIndex == size ? null : nodeNoFingerFixing(nextIndex);
+                
+                if (lastReturned != null) {
+                    if (previousMoveToLeft) {
+                        lastReturned = next;
+                    } else {
+                        lastReturned = next == null ? tail : next.prev;
+                    }
+                }
+            }
         }
     }
     
@@ -3957,7 +5988,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     private void linkBefore(E e, int index, Node<E> succ) {
         Node<E> pred = succ.prev;   
-        Node<E> newNode = new Node<>(e);
+        Node<E> newNode = newNode(e);
         
         // Link:
         newNode.next = succ;
@@ -3965,19 +5996,21 @@ public class IndexedLinkedList<E> implements Deque<E>,
         succ.prev = newNode;
         pred.next = newNode;
 
+        moveCursorOnLink(index);
         increaseSize();
 
         if (mustAddFinger()) {
             // Insert the new finger pointing to 'newNode' to the finger list:
-            fingerList.insertFingerAndShiftOnceToRight(
-                    new Finger<>(newNode, index));
+            fingerList.insertFingerAndShiftOnceToRight(newNode, index);
         } else {
             // Get the closest, upper finger's index:
             int fingerIndex = fingerList.getFingerIndexImpl(index);
             // Use the above finger index to add one (1) to the index of each
             // finger residing starting from 'fingerIndex':
-            fingerList.shiftFingerIndicesToRightOnce(fingerIndex);
+            fingerList.deferShiftFingerIndices(fingerIndex, 1);
         }
+        
+        updateFingerMode();
     }
     
     /**
@@ -3986,9 +6019,11 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @param e the element to prepend.
      */
     private void linkFirst(E e) {
+        unshare();
+        
         // Link to the head:
         Node<E> oldFirst = head;
-        Node<E> newNode = new Node<>(e);
+        Node<E> newNode = newNode(e);
         newNode.next = oldFirst;
         head = newNode;
 
@@ -4001,6 +6036,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
             oldFirst.prev = newNode;
         }
 
+        moveCursorOnLink(0);
         increaseSize();
 
         if (mustAddFinger()) {
@@ -4008,8 +6044,10 @@ public class IndexedLinkedList<E> implements Deque<E>,
             fingerList.prependFingerForNode(newNode);
         } else {
             // Just update all the finger indices:
-            fingerList.shiftFingerIndicesToRightOnce(0);
+            fingerList.shiftAllFingerIndices(1);
         }
+        
+        updateFingerMode();
     }
     
     /**
@@ -4018,9 +6056,11 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @param e the element to append.
      */
     private void linkLast(E e) {
+        unshare();
+        
         // Link:
         Node<E> oldTail = tail;
-        Node<E> newNode = new Node<>(e);
+        Node<E> newNode = newNode(e);
         newNode.prev = oldTail;
         tail = newNode;
         
@@ -4033,6 +6073,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
             oldTail.next = newNode;
         }
         
+        moveCursorOnLink(size);
         increaseSize();
         
         if (mustAddFinger()) {
@@ -4041,8 +6082,65 @@ public class IndexedLinkedList<E> implements Deque<E>,
         } else {
             // Once here, just increment the index of the end-of-finger-list
             // sentinel fingers index:
-            fingerList.getFinger(fingerList.size()).index++;
+            fingerList.fingerIndices[fingerList.size()]++;
+        }
+        
+        updateFingerMode();
+    }
+    
+    /**
+     * Links the detached node range {@code [firstNode, ..., lastNode]} of 
+     * length {@code rangeLength} into this list such that {@code firstNode} 
+     * ends up at the index {@code index}, and adds the fingers just like the
+     * bulk insertions do.
+     * 
+     * @param firstNode   the first node of the range.
+     * @param lastNode    the last node of the range.
+     * @param rangeLength the number of nodes in the range.
+     * @param index       the index at which to link the range.
+     */
+    private void linkNodeRange(Node<E> firstNode,
+                               Node<E> lastNode,
+                               int rangeLength,
+                               int index) {
+        if (size == 0) {
+            firstNode.prev = null;
+            lastNode.next = null;
+            head = firstNode;
+            tail = lastNode;
+            size = rangeLength;
+            modCount++;
+            addFingersAfterSetAll(rangeLength);
+        } else if (index == size) {
+            firstNode.prev = tail;
+            lastNode.next = null;
+            tail.next = firstNode;
+            tail = lastNode;
+            size += rangeLength;
+            modCount++;
+            addFingersAfterAppendAll(firstNode, index, rangeLength);
+        } else if (index == 0) {
+            firstNode.prev = null;
+            lastNode.next = head;
+            head.prev = lastNode;
+            head = firstNode;
+            size += rangeLength;
+            modCount++;
+            addFingersAfterPrependAll(rangeLength);
+        } else {
+            Node<E> succ = getNode(index);
+            Node<E> pred = succ.prev;
+            
+            firstNode.prev = pred;
+            lastNode.next = succ;
+            pred.next = firstNode;
+            succ.prev = lastNode;
+            size += rangeLength;
+            modCount++;
+            addFingersAfterInsertAll(firstNode, index, rangeLength);
         }
+        
+        updateFingerMode();
     }
     
     /**
@@ -4070,15 +6168,61 @@ public class IndexedLinkedList<E> implements Deque<E>,
         this.removeRangeEndNode   = endNode;
     }
     
+    /**
+     * Keeps the cursor valid after linking a new node at index {@code index}.
+     * Must be called right before {@link #increaseSize()}.
+     * 
+     * @param index the index of the new node.
+     */
+    private void moveCursorOnLink(int index) {
+        if (cursorModCount != modCount) {
+            // Once here, the cursor is already invalid:
+            return;
+        }
+        
+        if (index <= cursorIndex) {
+            cursorIndex++;
+        }
+        
+        // Survive the modification count increment:
+        cursorModCount++;
+    }
+    
+    /**
+     * Keeps the cursor valid after unlinking the node at index {@code index},
+     * or invalidates the cursor if it points to the unlinked node. Must be 
+     * called right before {@link #decreaseSize()}.
+     * 
+     * @param index the index of the unlinked node.
+     */
+    private void moveCursorOnUnlink(int index) {
+        if (cursorModCount != modCount) {
+            // Once here, the cursor is already invalid:
+            return;
+        }
+        
+        if (index == cursorIndex) {
+            // Do not hold on to the unlinked node:
+            cursorNode = null;
+            return;
+        }
+        
+        if (index < cursorIndex) {
+            cursorIndex--;
+        }
+        
+        // Survive the modification count increment:
+        cursorModCount++;
+    }
+    
     /**
      * Returns {@code true} if and only if this list requires more fingers.
      * 
      * @return {@code true} if and only if this list requires more fingers.
      */
     private boolean mustAddFinger() {
-        // Here, fingerStack.size() == getRecommendedFingerCount(), or,
-        // fingerStack.size() == getRecommendedFingerCount() - 1
-        return fingerList.size() != getRecommendedNumberOfFingers();
+        // Here, fingerStack.size() >= getRecommendedFingerCount() - 1:
+        return fingerList.size() < getRecommendedNumberOfFingers();
     }
     
     /**
@@ -4087,19 +6231,69 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @return {@code true} if and only if this list requires less fingers.
      */
     private boolean mustRemoveFinger() {
-        // Here, fingerStack.size() == getRecommendedFingerCount(), or,
-        // fingerStack.size() == getRecommendedFingerCount() + 1
-        return fingerList.size() != getRecommendedNumberOfFingers();
+        // Here, fingerStack.size() <= getMaximumNumberOfFingers(size) + 1:
+        return fingerList.size() > getMaximumNumberOfFingers(size);
+    }
+    
+    /**
+     * Returns a node holding {@code item}. Reuses a pooled node, if available,
+     * and allocates a new one otherwise.
+     * 
+     * @param item the item of the node.
+     * @return a node holding {@code item}.
+     */
+    private Node<E> newNode(E item) {
+        Node<E> node = nodePool;
+        
+        if (node == null) {
+            return new Node<>(item);
+        }
+        
+        nodePool = node.next;
+        nodePoolSize--;
+        node.next = null;
+        node.item = item;
+        return node;
     }
     
     /**
-     * Returns the node at index {@code elementIndex}.
+     * Returns the node at index {@code elementIndex}. If the requested node is
+     * at most {@link #MAXIMUM_CURSOR_DISTANCE} positions away from the most
+     * recently accessed node, walks from the latter in constant time. This 
+     * makes the sequential and small-stride loops over {@code get} and 
+     * {@code set} run in amortized constant time per element.
      * 
      * @param elementIndex the index of the target element.
      * @return the node containing the target element.
      */
     private Node<E> getNode(int elementIndex) {
-         return fingerList.getNode(elementIndex);
+        if (shared) {
+            // Once here, keep off the shared fingers and do not let the cursor
+            // point at the nodes that are about to be copied. Just like
+            // FingerList.getNode, walk the small lists sequentially:
+            if (size < 3) {
+                return getNodeSequentially(elementIndex);
+            }
+            
+            return fingerList.getNodeNoFingersFix(elementIndex);
+        }
+        
+        if (cursorNode != null && cursorModCount == modCount) {
+            int distance = elementIndex - cursorIndex;
+            
+            if (-MAXIMUM_CURSOR_DISTANCE <= distance 
+                    && distance <= MAXIMUM_CURSOR_DISTANCE) {
+                // Once here, the requested node is close to the cursor:
+                cursorNode = rewindFinger(cursorNode, distance);
+                cursorIndex = elementIndex;
+                return cursorNode;
+            }
+        }
+        
+        cursorNode = fingerList.getNode(elementIndex);
+        cursorIndex = elementIndex;
+        cursorModCount = modCount;
+        return cursorNode;
     }
     
     /**
@@ -4122,14 +6316,14 @@ public class IndexedLinkedList<E> implements Deque<E>,
         // Special case: initialize the very first node:
         Iterator<? extends E> iterator = c.iterator();
         Node<E> oldHead = head;
-        Node<E> newNode = new Node<>(iterator.next());
+        Node<E> newNode = newNode(iterator.next());
         head = newNode;
 
         Node<E> prevNode = head;
 
         for (int i = 1, sz = c.size(); i < sz; i++) {
             // Keep prepending:
-            newNode = new Node<>(iterator.next());
+            newNode = newNode(iterator.next());
             newNode.prev = prevNode;
             prevNode.next = newNode;
             prevNode = newNode;
@@ -4146,6 +6340,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
 
         // Now, add the missing fingers:
         addFingersAfterPrependAll(sz);
+        updateFingerMode();
     }
     
     /**
@@ -4170,6 +6365,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
         int sz = s.readInt();
         this.size = sz;
         this.fingerList = new FingerList<>(this);
+        this.twoLevelFingerThreshold = DEFAULT_TWO_LEVEL_FINGER_THRESHOLD;
+        this.fingerPolicy = FingerPolicy.SQRT;
 
         switch (sz) {
             case 0:
@@ -4182,14 +6379,14 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 // Set the end-points:
                 head = tail = newNode;
                 // Add one finger:
-                fingerList.appendFingerImpl(new Finger<>(newNode, 0));
+                fingerList.appendFingerImpl(newNode, 0);
                 return;
         }
         
         Node<E> rightmostNode = new Node<>((E) s.readObject());
         head = rightmostNode;
         
-        fingerList.appendFingerImpl(new Finger<>(rightmostNode, 0));
+        fingerList.appendFingerImpl(rightmostNode, 0);
         
         // Get the total number of required fingers in order to accommodate 'sz'
         // elements:
@@ -4203,9 +6400,10 @@ public class IndexedLinkedList<E> implements Deque<E>,
             // Read the next node:
             Node<E> node = new Node<>((E) s.readObject());
             
-            if (i % distance == 0) {
+            if (i % distance == 0 
+                    && fingerList.size() < numberOfRequestedFingers) {
                 // Append a new finger:
-                fingerList.appendFingerImpl(new Finger<>(node, i));
+                fingerList.appendFingerImpl(node, i);
             }
             
             // Link in the next node:
@@ -4216,6 +6414,41 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         // Finally, set the tail reference:
         tail = rightmostNode;
+        
+        // Enter the two-level finger mode if the list is large enough:
+        updateFingerMode();
+    }
+    
+    /**
+     * Discards all the current fingers and distributes 
+     * \(\Bigg\lceil\sqrt{n}\Bigg\rceil\) fingers evenly over this list. Runs
+     * in \(\mathcal{O}(n)\) time.
+     */
+    private void rebuildFingerList() {
+        fingerList.clear();
+        
+        if (size > 0) {
+            addFingersAfterSetAll(size);
+        }
+    }
+    
+    /**
+     * Clears the unlinked node {@code node} in order to help GC, and pushes it
+     * to the node pool if the pool is not full.
+     * 
+     * @param node the unlinked node.
+     */
+    private void recycleNode(Node<E> node) {
+        node.item = null;
+        node.prev = null;
+        
+        if (nodePoolSize < nodePoolCapacity) {
+            node.next = nodePool;
+            nodePool = node;
+            nodePoolSize++;
+        } else {
+            node.next = null;
+        }
     }
     
     /**
@@ -4225,13 +6458,29 @@ public class IndexedLinkedList<E> implements Deque<E>,
         fingerList.removeFinger();
     }
     
+    /**
+     * Removes the last finger if this list holds too many fingers after a 
+     * single-element removal. Otherwise, contracts the finger array if it has
+     * become too large for the list.
+     */
+    private void removeFingerIfNeeded() {
+        if (mustRemoveFinger()) {
+            removeFinger();
+        } else {
+            fingerList.contractFingerArrayIfNeeded(size);
+        }
+    }
+    
     /**
      * Implements the actual removal of the first/head element.
      * 
      * @return the removed element.
      */
     private E removeFirstImpl() {
-        E returnValue = head.item;
+        unshare();
+        Node<E> oldHead = head;
+        E returnValue = oldHead.item;
+        moveCursorOnUnlink(0);
         decreaseSize();
         
         // Unlink the first node:
@@ -4247,12 +6496,14 @@ public class IndexedLinkedList<E> implements Deque<E>,
         
         fingerList.adjustOnRemoveFirst();
         
-        if (mustRemoveFinger()) {
-            removeFinger();
-        }
+        removeFingerIfNeeded();
 
         // Update the index of the end-of-finger-list sentinel finger:
-        fingerList.getFinger(fingerList.size()).index = size;
+        fingerList.setShiftedFingerIndex(fingerList.size(), size);
+        updateFingerMode();
+        
+        // The fingers are moved off the old head node. Recycle it:
+        recycleNode(oldHead);
         return returnValue;
     }
     
@@ -4269,32 +6520,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
                              int fromIndex, 
                              int toIndex) {
         subListRangeCheck(fromIndex, toIndex, size);
-        
-        boolean modified = false;
-        int numberOfNodesToIterate = toIndex - fromIndex;
-        int i = 0;
-        int nodeIndex = fromIndex;
-        
-        for (Node<E> node = getNode(fromIndex); 
-                i < numberOfNodesToIterate; 
-                i++) {
-            
-            Node<E> nextNode = node.next;
-            
-            if (filter.test(node.item)) {
-                // Filter test passed. Remove and set the modification state to
-                // 'true':
-                modified = true;
-                removeObjectImpl(node, nodeIndex);
-            } else {
-                // Omit the node.
-                nodeIndex++;
-            }
-            
-            node = nextNode;
-        }
-        
-        return modified;
+        Objects.requireNonNull(filter);
+        return bulkRemove(filter, fromIndex, toIndex);
     }
     
     /**
@@ -4303,7 +6530,10 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @return the removed element.
      */
     private E removeLastImpl() {
-        E returnValue = tail.item;
+        unshare();
+        Node<E> oldTail = tail;
+        E returnValue = oldTail.item;
+        moveCursorOnUnlink(size - 1);
         decreaseSize();
         
         // Unlink the tail node:
@@ -4317,12 +6547,15 @@ public class IndexedLinkedList<E> implements Deque<E>,
             tail.next = null;
         }
         
-        if (mustRemoveFinger()) {
-            removeFinger();
-        }
+        removeFingerIfNeeded();
+        
+        // Move the fingers off the removed tail node:
+        fingerList.adjustOnRemoveLast();
         
         // Update the index of the end-of-finger-list sentinel finger:
-        fingerList.getFinger(fingerList.size()).index = size;
+        fingerList.setShiftedFingerIndex(fingerList.size(), size);
+        updateFingerMode();
+        recycleNode(oldTail);
         return returnValue;
     }
     
@@ -4334,35 +6567,72 @@ public class IndexedLinkedList<E> implements Deque<E>,
      */
     private void removeObjectImpl(Node<E> node, int index) {
         int closestFingerIndex = fingerList.getClosestFingerIndex(index);
-        Finger<E> closestFinger = fingerList.getFinger(closestFingerIndex);
+        int closestFingerElementIndex = 
+                fingerList.getShiftedFingerIndex(closestFingerIndex);
         
-        if (closestFinger.index == index) {
+        if (closestFingerElementIndex == index) {
             // Make sure no finger is pointing to 'node':
-            moveFingerOutOfRemovalLocation(closestFinger,
-                                           closestFingerIndex);
+            moveFingerOutOfRemovalLocation(closestFingerIndex);
         } else {
             // Update the finger indices:
-            fingerList.shiftFingerIndicesToLeftOnceAll(closestFingerIndex + 1);
+            fingerList.deferShiftFingerIndices(closestFingerIndex + 1, -1);
             
             // The number of steps between 'closestFinger' and the 'index'th
             // element. If positive, the 'index'th element is on the left of
             // 'closestFinger':
-            int steps = closestFinger.index - index;
+            int steps = closestFingerElementIndex - index;
             
             if (steps > 0) {
                 // Once here, we must also decrement the index of the
                 // 'closestFingerIndex':
-                fingerList.getFinger(closestFingerIndex).index--;
+                fingerList.fingerIndices[closestFingerIndex]--;
             }
         }
         
         // Unlinking:
         unlink(node);
+        moveCursorOnUnlink(index);
         decreaseSize();
         
-        if (mustRemoveFinger()) {
-            removeFinger();
-        }
+        removeFingerIfNeeded();
+        
+        updateFingerMode();
+    }
+    
+    /**
+     * Repairs the finger list for removing the list range 
+     * {@code [fromIndex, ..., toIndex - 1]} and loads the end nodes of the 
+     * range to {@code removeRangeStartNode} and {@code removeRangeEndNode}. 
+     * Decreases the size of this list, but leaves the nodes linked. The range
+     * must be shorter than this list.
+     * 
+     * @param fromIndex the staring, inclusive range index.
+     * @param toIndex   the ending, exclusive range index.
+     */
+    private void removeRangeFromFingerList(int fromIndex, int toIndex) {
+        fingerList.applyPendingShifts();
+        
+        // Compute the bounding finger indices:
+        int fromFingerIndex = fingerList.getFingerIndexImpl(fromIndex);
+        int toFingerIndex   = fingerList.getFingerIndexImpl(toIndex);
+        
+        // Compute the number of fingers to remove:
+        int fingersToRemove = 
+                Math.max(0, 
+                         fingerList.size() 
+                                 - getMaximumNumberOfFingers(
+                                         size - (toIndex - fromIndex)));
+        
+        // Load the end nodes of the actual range removal area:
+        loadRemoveRangeEndNodes(fromIndex, 
+                                toIndex);
+        
+        // Do the actual finger list magic:
+        removeRangeImpl(fromIndex, 
+                        toIndex,
+                        fromFingerIndex, 
+                        toFingerIndex, 
+                        fingersToRemove);
     }
     
     /**
@@ -4440,18 +6710,28 @@ public class IndexedLinkedList<E> implements Deque<E>,
     private void unlinkNodeRange(Node<E> startNode, Node<E> endNode) {
         Node<E> currentNode = startNode;
         Node<E> nextNode;
+        Node<E> nextEndNode = endNode.next;
         
-        Node<E> prevStartNode = startNode.prev;
-        Node<E> nextEndNode   = endNode.next;
+        detachNodeRange(startNode, endNode);
         
         // Get rid of all the nodes in the removed range:
         do {
             nextNode = currentNode.next;
-            currentNode.item = null;
-            currentNode.prev = null;
-            currentNode.next = null;
+            recycleNode(currentNode);
             currentNode = nextNode;
         } while (currentNode != nextEndNode);
+    }
+    
+    /**
+     * Unlinks the node range {@code [startNode, ..., endNode]}, both inclusive,
+     * from this indexed list without touching the links within the range.
+     * 
+     * @param startNode the start node of the range.
+     * @param endNode   the end node of the range.
+     */
+    private void detachNodeRange(Node<E> startNode, Node<E> endNode) {
+        Node<E> prevStartNode = startNode.prev;
+        Node<E> nextEndNode   = endNode.next;
         
         // Stitch the list:
         if (prevStartNode == null) {
@@ -4465,6 +6745,87 @@ public class IndexedLinkedList<E> implements Deque<E>,
             nextEndNode.prev = prevStartNode;
         }
     }
+
+    /**
+     * Swaps the adjacent non-empty ranges {@code [fromIndex, splitIndex)} and
+     * {@code [splitIndex, toIndex)} by relinking the four boundary nodes, and
+     * remaps the fingers within {@code [fromIndex, toIndex)}. Runs in
+     * \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param fromIndex  the starting, inclusive index of the left range.
+     * @param splitIndex the starting, inclusive index of the right range.
+     * @param toIndex    the ending, exclusive index of the right range.
+     */
+    private void swapAdjacentRanges(int fromIndex,
+                                    int splitIndex,
+                                    int toIndex) {
+        fingerList.applyPendingShifts();
+
+        Node<E> leftFirst = fingerList.getNodeNoFingersFix(fromIndex);
+        Node<E> rightFirst = fingerList.getNodeNoFingersFix(splitIndex);
+        Node<E> rightLast = fingerList.getNodeNoFingersFix(toIndex - 1);
+        Node<E> leftLast = rightFirst.prev;
+        Node<E> before = leftFirst.prev;
+        Node<E> after = rightLast.next;
+
+        // Link 'before', the right range, the left range and 'after':
+        if (before == null) {
+            head = rightFirst;
+        } else {
+            before.next = rightFirst;
+        }
+
+        rightFirst.prev = before;
+        rightLast.next = leftFirst;
+        leftFirst.prev = rightLast;
+        leftLast.next = after;
+
+        if (after == null) {
+            tail = leftLast;
+        } else {
+            after.prev = leftLast;
+        }
+
+        fingerList.rotateFingers(fromIndex, splitIndex, toIndex);
+        modCount++;
+    }
+
+    /**
+     * Enters the two-level finger mode if this list has reached the two-level
+     * finger threshold, and leaves it if this list has shrunk below the half 
+     * of the threshold. Rebuilds the fingers in \(\mathcal{O}(n)\) time on 
+     * switching the mode and runs in constant time otherwise.
+     */
+    private void updateFingerMode() {
+        if (fingerPolicy != FingerPolicy.SQRT) {
+            // Custom finger policies decide the number of fingers alone:
+            return;
+        }
+        
+        if (twoLevelFingers) {
+            if (size >= twoLevelFingerThreshold 
+                      / TWO_LEVEL_FINGER_HYSTERESIS_FACTOR) {
+                // Once here, stay in the two-level finger mode:
+                return;
+            }
+            
+            twoLevelFingers = false;
+            
+            if (!lazyFingerShifting) {
+                fingerList.disableLazyShifting();
+            }
+        } else {
+            if (size < twoLevelFingerThreshold) {
+                // Once here, stay in the normal finger mode:
+                return;
+            }
+            
+            twoLevelFingers = true;
+            fingerList.enableLazyShifting();
+        }
+        
+        rebuildFingerList();
+    }
     
     /**
      * Handles a special case of range removal.
@@ -4496,14 +6857,20 @@ public class IndexedLinkedList<E> implements Deque<E>,
         int sourceIndex = targetIndex + fingersToRemove;
         
         // Do the actual copy:
-        System.arraycopy(fingerList.fingerArray,
+        System.arraycopy(fingerList.fingerIndices,
                          sourceIndex, 
-                         fingerList.fingerArray, 
+                         fingerList.fingerIndices, 
                          targetIndex,
                          copyLength);
         
-        // Set the old finger array slots to 'null' in order to get rid of junk:
-        Arrays.fill(fingerList.fingerArray,
+        System.arraycopy(fingerList.fingerNodes,
+                         sourceIndex, 
+                         fingerList.fingerNodes, 
+                         targetIndex,
+                         copyLength);
+        
+        // Set the old finger node slots to 'null' in order to get rid of junk:
+        Arrays.fill(fingerList.fingerNodes,
                     fingerList.size() + 1 - fingersToRemove,
                     fingerList.size() + 1,
                     null);
@@ -4535,6 +6902,93 @@ public class IndexedLinkedList<E> implements Deque<E>,
         return startNode;
     }
     
+    /**
+     * Replaces the fingers of this list with the first {@code count} fingers
+     * in the parallel arrays {@code indices} and {@code nodes}, which must 
+     * point to the distinct nodes of this list in ascending index order. If 
+     * the finger policy allows less fingers, keeps an evenly spread subset of
+     * them. If it requires more fingers, places the missing ones on the nodes
+     * right after the given fingers, and after the head node, in a single 
+     * pass. Falls back to rebuilding the fingers if the given fingers are too
+     * crowded for that. Except for the fallback, runs in 
+     * \(\mathcal{O}(f + \sqrt{n})\) time, where \(f = \) {@code count}.
+     * 
+     * @param indices the finger indices.
+     * @param nodes   the finger nodes.
+     * @param count   the number of the fingers.
+     */
+    private void resetFingers(int[] indices, Node<E>[] nodes, int count) {
+        int minimumNumberOfFingers = getRecommendedNumberOfFingers();
+        int maximumNumberOfFingers = getMaximumNumberOfFingers(size);
+        int numberOfFingers = Math.max(minimumNumberOfFingers, 
+                                       Math.min(count, 
+                                                maximumNumberOfFingers));
+        
+        int capacity = FingerList.getArrayCapacity(numberOfFingers + 1);
+        int[] newIndices = new int[capacity];
+        Node<E>[] newNodes = new Node[capacity];
+        
+        if (count >= numberOfFingers) {
+            // Keep an evenly spread subset of the fingers:
+            for (int i = 0; i < numberOfFingers; i++) {
+                int fingerIndex = (int)((long) i * count / numberOfFingers);
+                newIndices[i] = indices[fingerIndex];
+                newNodes[i] = nodes[fingerIndex];
+            }
+            
+            fingerList.setFingers(newIndices, newNodes, numberOfFingers);
+            return;
+        }
+        
+        int missingFingers = numberOfFingers - count;
+        int newCount = 0;
+        
+        // The head node anchors the new fingers before the first finger:
+        boolean anchorAtHead = count == 0 || indices[0] != 0;
+        
+        for (int i = anchorAtHead ? -1 : 0; i < count; i++) {
+            Node<E> node;
+            int index;
+            
+            if (i < 0) {
+                node = head;
+                index = 0;
+                missingFingers--;
+            } else {
+                node = nodes[i];
+                index = indices[i];
+            }
+            
+            newIndices[newCount] = index;
+            newNodes[newCount++] = node;
+            
+            // Spread the missing fingers evenly over the remaining anchors, 
+            // but do not reach the next finger:
+            int numberOfAnchors = count - i;
+            int nextIndex = i + 1 < count ? indices[i + 1] : size;
+            int fingersToAdd = 
+                    Math.min(nextIndex - index - 1,
+                             (missingFingers + numberOfAnchors - 1) 
+                                     / numberOfAnchors);
+            
+            for (int j = 0; j < fingersToAdd; j++) {
+                node = node.next;
+                newIndices[newCount] = ++index;
+                newNodes[newCount++] = node;
+            }
+            
+            missingFingers -= fingersToAdd;
+        }
+        
+        if (missingFingers > 0) {
+            // Once here, the given fingers are too crowded:
+            rebuildFingerList();
+            return;
+        }
+        
+        fingerList.setFingers(newIndices, newNodes, numberOfFingers);
+    }
+    
     /**
      * Sets the input collection as a list.
      * 
@@ -4543,11 +6997,11 @@ public class IndexedLinkedList<E> implements Deque<E>,
     private void setAll(Collection<? extends E> c) {
         Iterator<? extends E> iterator = c.iterator();
 
-        head = new Node<>(iterator.next());
+        head = newNode(iterator.next());
         Node<E> prevNode = head;
 
         for (int i = 1, sz = c.size(); i < sz; i++) {
-            Node<E> newNode = new Node<>(iterator.next());
+            Node<E> newNode = newNode(iterator.next());
             prevNode.next = newNode;
             newNode.prev = prevNode;
             prevNode = newNode;
@@ -4558,6 +7012,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
         modCount++;
 
         addFingersAfterSetAll(c.size());
+        updateFingerMode();
     }
     
     /**
@@ -4576,28 +7031,26 @@ public class IndexedLinkedList<E> implements Deque<E>,
                                int distance) {
         
         // Initializing:
-        fingerList.setFinger(fingerIndex++, new Finger<>(node, index));
+        fingerList.setFinger(fingerIndex++, node, index);
         
         for (int i = 1; i < numberOfNewFingers; i++) {
             // Keep spreading fingers:
             index += distance;
             node = scrollNodeToRight(node, distance);
-            fingerList.setFinger(fingerIndex++, new Finger<>(node, index));
+            fingerList.setFinger(fingerIndex++, node, index);
         }
     }
     
     /**
-     * If {@code steps} &gt; 0, rewinds the finger {@code finger} to the right. 
-     * Otherwise, rewinds to the right.
+     * If {@code steps} &gt; 0, rewinds the finger node {@code node} to the 
+     * right. Otherwise, rewinds to the left.
      * 
-     * @param finger the finger to rewind.
-     * @param steps  the number of steps to rewind the {@code finger}.
-     * @param <E>    the list element type.
+     * @param node  the finger node to rewind.
+     * @param steps the number of steps to rewind the {@code node}.
+     * @param <E>   the list element type.
      * @return the reached node.
      */
-    static <E> Node<E> rewindFinger(Finger<E> finger, int steps) {
-        Node<E> node = finger.node;
-        
+    static <E> Node<E> rewindFinger(Node<E> node, int steps) {
         if (steps < 0) {
             return FingerList.scrollToLeft(node, -steps);
         } else {
@@ -4613,33 +7066,31 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @return {@code true} if a free spot is found, {@code false} otherwise. 
      */
     private boolean tryPushFingersToLeft(int fingerIndex) {
+        int[] fingerIndices = fingerList.fingerIndices;
+        Node<E>[] fingerNodes = fingerList.fingerNodes;
+        
         if (fingerIndex == 0) {
-            Finger<E> finger = fingerList.getFinger(0);
-            
-            finger.index--;
-            finger.node = finger.node.prev;
-            fingerList.shiftFingerIndicesToLeftOnceAll(1);
+            fingerIndices[0]--;
+            fingerNodes[0] = fingerNodes[0].prev;
+            fingerList.deferShiftFingerIndices(1, -1);
             return true;
         }
         
         // Attempt to push to the left:
         for (int j = fingerIndex; j > 0; --j) {
-            Finger<E> fingerLeft  = fingerList.getFinger(j - 1);
-            Finger<E> fingerRight = fingerList.getFinger(j);
-            
-            if (fingerLeft.index + 1 < fingerRight.index) {
-                // We have a free spot between 'fingerLeft' and 'fingerRight' of
+            if (fingerList.getShiftedFingerIndex(j - 1) + 1 
+                    < fingerList.getShiftedFingerIndex(j)) {
+                // We have a free spot between the fingers 'j - 1' and 'j' of
                 // length at least one (1). Now push all the fingers from the 
                 // range [j, fingerIndex] one position to the left:
                 for (int k = j; k <= fingerIndex; k++) {
-                    Finger<E> fngr = fingerList.getFinger(k);
-                    fngr.node = fngr.node.prev;
-                    fngr.index--;
+                    fingerNodes[k] = fingerNodes[k].prev;
+                    fingerIndices[k]--;
                 }
                  
                 // Update all the finger indices residing after the target 
                 // finger with index 'fingerIndex':
-                fingerList.shiftFingerIndicesToLeftOnceAll(fingerIndex + 1);
+                fingerList.deferShiftFingerIndices(fingerIndex + 1, -1);
                 return true;
             }
         }
@@ -4657,20 +7108,19 @@ public class IndexedLinkedList<E> implements Deque<E>,
      * @return {@code true} if a free spot is found, {@code false} otherwise.
      */
     private boolean tryPushFingersToRight(int fingerIndex) {
+        Node<E>[] fingerNodes = fingerList.fingerNodes;
+        
         // Attempt to push to the right:
         for (int j = fingerIndex; j < fingerList.size(); ++j) {
-            Finger<E> fingerLeft  = fingerList.getFinger(j);
-            Finger<E> fingerRight = fingerList.getFinger(j + 1);
-
-            if (fingerLeft.index + 1 < fingerRight.index) {
+            if (fingerList.getShiftedFingerIndex(j) + 1 
+                    < fingerList.getShiftedFingerIndex(j + 1)) {
                 // Once here, we have an opportunity for pushing to the right.
                 // Move nodes one spot to the right:
                 for (int i = j; i >= fingerIndex; --i) {
-                    Finger<E> fngr = fingerList.getFinger(i);
-                    fngr.node = fngr.node.next;
+                    fingerNodes[i] = fingerNodes[i].next;
                 }
 
-                fingerList.shiftFingerIndicesToLeftOnceAll(j + 1);
+                fingerList.deferShiftFingerIndices(j + 1, -1);
                 return true;
             }
         }
@@ -4679,7 +7129,8 @@ public class IndexedLinkedList<E> implements Deque<E>,
     }
     
     /**
-     * Unlinks the input node from the actual doubly-linked list.
+     * Unlinks the input node from the actual doubly-linked list and recycles
+     * it. No finger may point to {@code x}.
      * 
      * @param x the node to unlink from the underlying linked list.
      */
@@ -4692,7 +7143,6 @@ public class IndexedLinkedList<E> implements Deque<E>,
             head = next;
         } else {
             prev.next = next;
-            x.prev = null;
         }
 
         // Unlink from the ancestor:
@@ -4700,8 +7150,74 @@ public class IndexedLinkedList<E> implements Deque<E>,
             tail = prev;
         } else {
             next.prev = prev;
-            x.next = null;
         }
+        
+        recycleNode(x);
+    }
+    
+    /**
+     * Copies the nodes and the fingers of this list if the nodes are shared 
+     * with a snapshot. Runs in \(\mathcal{O}(n)\) time once per snapshot, and in 
+     * constant time otherwise.
+     */
+    private void unshare() {
+        if (!shared) {
+            return;
+        }
+        
+        Node<E>[] fingerNodes = new Node[fingerList.fingerNodes.length];
+        int numberOfFingers = fingerList.size();
+        int fingerIndex = 0;
+        int index = 0;
+        Node<E> copyTail = null;
+        
+        for (Node<E> node = head; node != null; node = node.next, index++) {
+            Node<E> copy = newNode(node.item);
+            copy.prev = copyTail;
+            
+            if (copyTail == null) {
+                head = copy;
+            } else {
+                copyTail.next = copy;
+            }
+            
+            copyTail = copy;
+            
+            if (fingerIndex < numberOfFingers 
+                    && fingerList.getShiftedFingerIndex(fingerIndex) == index) {
+                // Redirect the finger to the copy:
+                fingerNodes[fingerIndex++] = copy;
+            }
+        }
+        
+        tail = copyTail;
+        fingerList.fingerNodes = fingerNodes;
+        
+        if (fingersShared) {
+            fingerList.fingerIndices = fingerList.fingerIndices.clone();
+            fingersShared = false;
+        }
+        
+        cursorNode = null;
+        shared = false;
+        unshareCount++;
+    }
+    
+    /**
+     * Copies the finger arrays of this list if they are shared with a 
+     * snapshot. The copied fingers keep pointing to the shared nodes, which is
+     * fine, since the snapshot never modifies them. Runs in 
+     * \(\mathcal{O}(\sqrt{n})\) time once per snapshot, and in constant time 
+     * otherwise.
+     */
+    private void unshareFingers() {
+        if (!fingersShared) {
+            return;
+        }
+        
+        fingerList.fingerIndices = fingerList.fingerIndices.clone();
+        fingerList.fingerNodes = fingerList.fingerNodes.clone();
+        fingersShared = false;
     }
     
     /**
@@ -5254,6 +7770,7 @@ public class IndexedLinkedList<E> implements Deque<E>,
                 return;
             }
             
+            unshare();
             int expectedModCount = modCount;
             Object[] array = toArray();
             Node<E> node = getNode(offset);
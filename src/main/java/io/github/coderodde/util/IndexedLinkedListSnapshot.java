@@ -0,0 +1,215 @@
+package io.github.coderodde.util;
+
+import io.github.coderodde.util.IndexedLinkedList.FingerList;
+import io.github.coderodde.util.IndexedLinkedList.Node;
+import java.util.AbstractSequentialList;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * This class implements an immutable snapshot of an {@link IndexedLinkedList},
+ * returned by {@link IndexedLinkedList#snapshot()}. The snapshot shares the
+ * nodes and the finger arrays with the list it was taken from; the list copies
+ * them before its next modification, so the shared structure never changes
+ * afterwards.
+ *
+ * <p>
+ * {@link #get(int)} locates the node via {@code getNodeNoFingersFix} in
+ * \(\mathcal{O}(\sqrt{n})\) time, and the iterators walk the nodes. Since
+ * neither writes anything, the snapshot may be read by any number of threads
+ * concurrently without locking. All the mutators throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ * @param <E> the element type.
+ */
+final class IndexedLinkedListSnapshot<E> extends AbstractSequentialList<E> {
+
+    /**
+     * The head node, or {@code null} if this snapshot is empty.
+     */
+    private final Node<E> head;
+
+    /**
+     * The tail node, or {@code null} if this snapshot is empty.
+     */
+    private final Node<E> tail;
+
+    /**
+     * The number of elements in this snapshot.
+     */
+    private final int size;
+
+    /**
+     * The view of the finger list sharing the finger arrays.
+     */
+    private final FingerList<E> fingerList;
+
+    /**
+     * Constructs a snapshot over the given structure.
+     *
+     * @param head       the head node.
+     * @param tail       the tail node.
+     * @param size       the number of elements.
+     * @param fingerList the view of the finger list.
+     */
+    IndexedLinkedListSnapshot(Node<E> head,
+                              Node<E> tail,
+                              int size,
+                              FingerList<E> fingerList) {
+        this.head = head;
+        this.tail = tail;
+        this.size = size;
+        this.fingerList = fingerList;
+    }
+
+    /**
+     * Applies {@code action} to each element in this snapshot.
+     *
+     * @param action the action to apply.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+
+        for (Node<E> node = head; node != null; node = node.next) {
+            action.accept(node.item);
+        }
+    }
+
+    /**
+     * Returns {@code index}th element. Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param index the index of the element to return.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + size);
+        }
+
+        return fingerList.getNodeNoFingersFix(index).item;
+    }
+
+    /**
+     * Returns the read-only list iterator starting from the index
+     * {@code index}.
+     *
+     * @param index the index of the element returned by the first
+     *              {@code next}.
+     * @return the list iterator.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + size);
+        }
+
+        return new SnapshotIterator(index);
+    }
+
+    /**
+     * Returns the number of elements in this snapshot.
+     *
+     * @return the number of elements in this snapshot.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * This inner class implements the read-only list iterator over this
+     * snapshot.
+     */
+    private final class SnapshotIterator implements ListIterator<E> {
+
+        /**
+         * The next node to iterate, or {@code null} at the end.
+         */
+        private Node<E> next;
+
+        /**
+         * The index of {@code next}.
+         */
+        private int nextIndex;
+
+        /**
+         * Constructs a new iterator starting from the index {@code index}.
+         *
+         * @param index the starting index.
+         */
+        SnapshotIterator(int index) {
+            next = index == size ? null : fingerList.getNodeNoFingersFix(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            E item = next.item;
+            next = next.next;
+            nextIndex++;
+            return item;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            next = next == null ? tail : next.prev;
+            nextIndex--;
+            return next.item;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(E e) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package io.github.coderodde.util;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class implements an indexed, heuristic doubly-linked list of unboxed
+ * {@code long} values. It runs the same finger algorithms as
+ * {@link IndexedLinkedList}, yet stores the values in the nodes directly so
+ * that no autoboxing takes place.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ */
+public class IndexedLongList
+        extends AbstractIndexedPrimitiveList<IndexedLongList.LongNode> {
+
+    /**
+     * The node type of this list.
+     */
+    static final class LongNode
+            extends AbstractIndexedPrimitiveList.PrimitiveNode<LongNode> {
+
+        /**
+         * The actual value.
+         */
+        long item;
+
+        /**
+         * Constructs a new node.
+         *
+         * @param item the value of the node.
+         */
+        LongNode(long item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * Constructs an empty list.
+     */
+    public IndexedLongList() {
+    }
+
+    /**
+     * Constructs a new list and copies the data in {@code values} to it.
+     *
+     * @param values the values to copy.
+     */
+    public IndexedLongList(long... values) {
+        addAllLongs(values);
+    }
+
+    /**
+     * Appends the specified value to the end of this list. Runs in constant
+     * time.
+     *
+     * @param value the value to append.
+     */
+    public void addLong(long value) {
+        linkLast(new LongNode(value));
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param index the index at which to insert.
+     * @param value the value to insert.
+     * @throws IndexOutOfBoundsException if the index is outside of the valid
+     *                                   range.
+     */
+    public void addLong(int index, long value) {
+        checkPositionIndex(index);
+        linkAt(index, new LongNode(value));
+    }
+
+    /**
+     * Appends all the values in {@code values} to the end of this list.
+     *
+     * @param values the values to append.
+     */
+    public void addAllLongs(long... values) {
+        for (long value : values) {
+            linkLast(new LongNode(value));
+        }
+    }
+
+    /**
+     * Adds the value {@code value} before the head of this list.
+     *
+     * @param value the value to add.
+     */
+    public void addFirstLong(long value) {
+        linkFirst(new LongNode(value));
+    }
+
+    /**
+     * Returns {@code true} only if {@code value} is present in this list.
+     * Runs in worst-case linear time.
+     *
+     * @param value the query value.
+     * @return {@code true} only if {@code value} is in this list.
+     */
+    public boolean containsLong(long value) {
+        return indexOfLong(value) >= 0;
+    }
+
+    /**
+     * Compares this list to the input object. Returns {@code true} only if
+     * {@code o} is an {@code IndexedLongList} with the same values in the same
+     * order.
+     *
+     * @param o the object to compare against.
+     * @return {@code true} only if the two lists are equal.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+
+        if (!(o instanceof IndexedLongList)) {
+            return false;
+        }
+
+        IndexedLongList other = (IndexedLongList) o;
+
+        if (size != other.size) {
+            return false;
+        }
+
+        for (LongNode node1 = head, node2 = other.head;
+                node1 != null;
+                node1 = node1.next, node2 = node2.next) {
+
+            if (node1.item != node2.item) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Applies {@code action} to each value in this list.
+     *
+     * @param action the action to apply.
+     */
+    public void forEachLong(LongConsumer action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+
+        for (LongNode node = head;
+                node != null && modCount == expectedModCount;
+                node = node.next) {
+            action.accept(node.item);
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns the {@code index}th value. Runs in \(\mathcal{O}(\sqrt{n})\)
+     * time.
+     *
+     * @param index the index of the value to return.
+     * @return the {@code index}th value.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public long getLong(int index) {
+        checkElementIndex(index);
+        return getNode(index).item;
+    }
+
+    /**
+     * Returns the first value of this list. Runs in constant time.
+     *
+     * @return the first value.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public long getFirstLong() {
+        return firstNode().item;
+    }
+
+    /**
+     * Returns the last value of this list. Runs in constant time.
+     *
+     * @return the last value.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public long getLastLong() {
+        return lastNode().item;
+    }
+
+    /**
+     * Returns the hash code of this list.
+     *
+     * @return the hash code of this list.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+
+        for (LongNode node = head; node != null; node = node.next) {
+            hashCode = 31 * hashCode + Long.hashCode(node.item);
+        }
+
+        return hashCode;
+    }
+
+    /**
+     * Returns the index of the leftmost {@code value}, or {@code -1} if
+     * {@code value} does not appear in this list. Runs in worst-case linear
+     * time.
+     *
+     * @param value the value to search.
+     * @return the index of the leftmost {@code value}, or {@code -1}.
+     */
+    public int indexOfLong(long value) {
+        int index = 0;
+
+        for (LongNode node = head; node != null; node = node.next, index++) {
+            if (node.item == value) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the primitive iterator over this list.
+     *
+     * @return the primitive iterator.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongIterator();
+    }
+
+    /**
+     * Returns the index of the rightmost {@code value}, or {@code -1} if
+     * {@code value} does not appear in this list. Runs in worst-case linear
+     * time.
+     *
+     * @param value the value to search.
+     * @return the index of the rightmost {@code value}, or {@code -1}.
+     */
+    public int lastIndexOfLong(long value) {
+        int index = size - 1;
+
+        for (LongNode node = tail; node != null; node = node.prev, index--) {
+            if (node.item == value) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Removes the {@code index}th value and returns it. Runs in
+     * \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param index the index of the value to remove.
+     * @return the removed value.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public long removeAtLong(int index) {
+        checkElementIndex(index);
+        return unlinkAt(index).item;
+    }
+
+    /**
+     * Removes the first value and returns it. Runs in
+     * \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @return the removed value.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public long removeFirstLong() {
+        return unlinkFirst().item;
+    }
+
+    /**
+     * Removes all the values satisfying {@code filter}. Runs in
+     * \(\mathcal{O}(n)\) time.
+     *
+     * @param filter the filtering predicate.
+     * @return {@code true} only if at least one value was removed.
+     */
+    public boolean removeIfLong(LongPredicate filter) {
+        Objects.requireNonNull(filter);
+        return removeNodesIf(node -> filter.test(node.item));
+    }
+
+    /**
+     * Removes the last value and returns it. Runs in constant time.
+     *
+     * @return the removed value.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public long removeLastLong() {
+        return unlinkLast().item;
+    }
+
+    /**
+     * Sets the {@code index}th value to {@code value} and returns the old
+     * value. Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param index the target index.
+     * @param value the value to set.
+     * @return the previous value at the given index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public long setLong(int index, long value) {
+        checkElementIndex(index);
+        LongNode node = getNode(index);
+        long oldValue = node.item;
+        node.item = value;
+        return oldValue;
+    }
+
+    /**
+     * Returns the sequential {@link LongStream} over this list.
+     *
+     * @return the stream of values.
+     */
+    public LongStream stream() {
+        return StreamSupport.longStream(
+                Spliterators.spliterator(iterator(),
+                                         size,
+                                         Spliterator.ORDERED),
+                false);
+    }
+
+    /**
+     * Returns the array containing all the values in this list in the same
+     * order.
+     *
+     * @return the array of values.
+     */
+    public long[] toLongArray() {
+        long[] array = new long[size];
+        int index = 0;
+
+        for (LongNode node = head; node != null; node = node.next) {
+            array[index++] = node.item;
+        }
+
+        return array;
+    }
+
+    /**
+     * Returns the textual representation of this list.
+     *
+     * @return the textual representation.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toLongArray());
+    }
+
+    /**
+     * This inner class implements the primitive iterator over this list.
+     */
+    final class LongIterator extends NodeIterator
+                            implements PrimitiveIterator.OfLong {
+
+        @Override
+        public long nextLong() {
+            return advance().item;
+        }
+    }
+}
@@ -0,0 +1,2067 @@
+package io.github.coderodde.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * This class implements an <i>off-heap</i> variant of
+ * {@link IndexedLinkedList} for fixed-width elements. The links and the
+ * payloads live in direct {@link ByteBuffer} <i>arenas</i> outside of the Java
+ * heap, so that the garbage collector never scans nor copies the list
+ * contents. Each element occupies one record of
+ * {@code 16 + codec.getRecordSize()} bytes: the {@code prev} link, the
+ * {@code next} link and the payload written by a user-supplied
+ * {@link RecordCodec}. The records are addressed by {@code long} record
+ * numbers; the record {@code r} resides in the arena
+ * {@code r / recordsPerArena}, so the total storage may grow far beyond
+ * 2 GB. The records of the removed elements are chained into a free-record
+ * list and reused by the subsequent insertions.
+ *
+ * <p>
+ * Just like in {@link IndexedLinkedList}, we maintain
+ * \(\bigg \lceil \sqrt{n} \bigg \rceil\) fingers sorted by their indices, plus
+ * the end-of-finger-list sentinel with {@code index = size} and
+ * {@code address = -1}. The fingers stay on the heap in a {@code long} array
+ * of record addresses and an {@code int} array of indices.
+ *
+ * <p>
+ * Since {@link java.util.List} is indexed by {@code int}, the list holds at
+ * most {@link Integer#MAX_VALUE} elements. Each {@link #get(int)} decodes a
+ * fresh element. The arenas are released when the list is cleared or becomes
+ * unreachable.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ * @param <E> the element type.
+ */
+public class OffHeapIndexedLinkedList<E> extends AbstractList<E>
+                                         implements Deque<E> {
+
+    /**
+     * The default number of records in each arena.
+     */
+    public static final int DEFAULT_RECORDS_PER_ARENA = 1 << 16;
+
+    /**
+     * The record address standing for the {@code null} link.
+     */
+    static final long NIL = -1L;
+
+    /**
+     * The offset of the {@code prev} link within a record.
+     */
+    static final int PREV_OFFSET = 0;
+
+    /**
+     * The offset of the {@code next} link within a record.
+     */
+    static final int NEXT_OFFSET = Long.BYTES;
+
+    /**
+     * The offset of the payload within a record.
+     */
+    static final int PAYLOAD_OFFSET = 2 * Long.BYTES;
+
+    /**
+     * The initial capacity of the finger arrays.
+     */
+    static final int INITIAL_FINGER_CAPACITY = 8;
+
+    /**
+     * The finger array capacity is contracted whenever the number of fingers
+     * drops below {@code capacity / THRESHOLD_FACTOR}.
+     */
+    static final int THRESHOLD_FACTOR = 4;
+
+    /**
+     * The codec translating the elements to records and back.
+     */
+    private final RecordCodec<E> codec;
+
+    /**
+     * The number of bytes in each record.
+     */
+    private final int recordStride;
+
+    /**
+     * The base-2 logarithm of the number of records in each arena.
+     */
+    private final int arenaShift;
+
+    /**
+     * Masks the index of a record within its arena.
+     */
+    private final long arenaMask;
+
+    /**
+     * The arenas. Only the first {@code numberOfArenas} entries are in use.
+     */
+    ByteBuffer[] arenas = new ByteBuffer[1];
+
+    /**
+     * The number of allocated arenas.
+     */
+    int numberOfArenas;
+
+    /**
+     * The address of the head record or {@link #NIL} if this list is empty.
+     */
+    long head = NIL;
+
+    /**
+     * The address of the tail record or {@link #NIL} if this list is empty.
+     */
+    long tail = NIL;
+
+    /**
+     * The cached number of elements in this list.
+     */
+    private int size;
+
+    /**
+     * The head of the free-record list or {@link #NIL} if it is empty.
+     */
+    long freeRecordListHead = NIL;
+
+    /**
+     * The records {@code recordLimit, recordLimit + 1, ...} have never been
+     * used since the last {@link #clear()}.
+     */
+    long recordLimit;
+
+    /**
+     * The finger addresses. {@code fingerAddresses[numberOfFingers]} is the
+     * end-of-finger-list sentinel and is always {@link #NIL}.
+     */
+    long[] fingerAddresses;
+
+    /**
+     * The finger indices. {@code fingerIndices[numberOfFingers]} is always
+     * {@code size}.
+     */
+    int[] fingerIndices;
+
+    /**
+     * The number of fingers not counting the end-of-finger-list sentinel.
+     */
+    int numberOfFingers;
+
+    /**
+     * Constructs an empty list with the default arena size.
+     *
+     * @param codec the record codec.
+     */
+    public OffHeapIndexedLinkedList(RecordCodec<E> codec) {
+        this(codec, DEFAULT_RECORDS_PER_ARENA);
+    }
+
+    /**
+     * Constructs an empty list whose arenas hold {@code recordsPerArena}
+     * records each.
+     *
+     * @param codec           the record codec.
+     * @param recordsPerArena the number of records in each arena. Must be a
+     *                        power of two.
+     * @throws NullPointerException     if {@code codec} is {@code null}.
+     * @throws IllegalArgumentException if {@code recordsPerArena} is not a
+     *                                  positive power of two, the record size
+     *                                  of {@code codec} is not positive, or an
+     *                                  arena would not fit in 2 GB.
+     */
+    public OffHeapIndexedLinkedList(RecordCodec<E> codec,
+                                    int recordsPerArena) {
+        this.codec = Objects.requireNonNull(codec, "The codec is null.");
+
+        if (recordsPerArena < 1 || Integer.bitCount(recordsPerArena) != 1) {
+            throw new IllegalArgumentException(
+                    "recordsPerArena(" + recordsPerArena
+                            + ") is not a positive power of two.");
+        }
+
+        if (codec.getRecordSize() < 1) {
+            throw new IllegalArgumentException(
+                    "The record size (" + codec.getRecordSize()
+                            + ") is not positive.");
+        }
+
+        this.recordStride = PAYLOAD_OFFSET + codec.getRecordSize();
+
+        if ((long) recordStride * recordsPerArena > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "The arena of " + recordsPerArena + " records of "
+                            + recordStride + " bytes does not fit in 2 GB.");
+        }
+
+        this.arenaShift = Integer.numberOfTrailingZeros(recordsPerArena);
+        this.arenaMask = recordsPerArena - 1;
+        initFingers();
+    }
+
+    /**
+     * Constructs a new list and copies the data in {@code c} to it.
+     *
+     * @param codec the record codec.
+     * @param c     the collection to copy.
+     */
+    public OffHeapIndexedLinkedList(RecordCodec<E> codec,
+                                    Collection<? extends E> c) {
+        this(codec);
+        addAll(c);
+    }
+
+    /**
+     * Appends the specified element to the end of this list. Runs in amortized
+     * constant time.
+     *
+     * @param e the element to append.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean add(E e) {
+        linkLast(e);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param index   the index at which to insert.
+     * @param element the element to insert.
+     * @throws IndexOutOfBoundsException if the index is outside of the valid
+     *                                   range.
+     */
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+
+        if (index == size) {
+            linkLast(element);
+        } else if (index == 0) {
+            linkFirst(element);
+        } else {
+            linkBefore(element, index, getAddress(index));
+        }
+    }
+
+    /**
+     * Appends all the elements of {@code c} to the tail of this list.
+     *
+     * @param c the collection to append.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c.isEmpty()) {
+            return false;
+        }
+
+        for (E e : c) {
+            linkLast(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Inserts all the elements of {@code c} starting from the position
+     * {@code index}.
+     *
+     * @param index the index of the first inserted element.
+     * @param c     the collection to insert.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        checkPositionIndex(index);
+
+        if (index == size) {
+            return addAll(c);
+        }
+
+        if (c.isEmpty()) {
+            return false;
+        }
+
+        for (E e : c) {
+            add(index++, e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds the element {@code e} before the head of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void addFirst(E e) {
+        linkFirst(e);
+    }
+
+    /**
+     * Adds the element {@code e} after the tail of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void addLast(E e) {
+        linkLast(e);
+    }
+
+    /**
+     * Checks the data structure invariant. Throws
+     * {@link java.lang.IllegalStateException} on invalid invariant. Runs in
+     * worst-case linear time.
+     */
+    public void checkInvariant() {
+        if (numberOfFingers != getRecommendedNumberOfFingers()) {
+            throw new IllegalStateException(
+                    "Number of fingers mismatch: required = "
+                            + getRecommendedNumberOfFingers()
+                            + ", actual = "
+                            + numberOfFingers);
+        }
+
+        if (fingerIndices[numberOfFingers] != size
+                || fingerAddresses[numberOfFingers] != NIL) {
+            throw new IllegalStateException("Broken sentinel finger.");
+        }
+
+        if (recordLimit > ((long) numberOfArenas << arenaShift)) {
+            throw new IllegalStateException(
+                    "recordLimit = " + recordLimit + " exceeds the arenas.");
+        }
+
+        int fingerIndex = 0;
+        int index = 0;
+        long prev = NIL;
+
+        for (long address = head;
+                address != NIL && index <= size;
+                address = next(address), index++) {
+
+            if (address < 0 || address >= recordLimit) {
+                throw new IllegalStateException(
+                        "Record " + address + " is out of range.");
+            }
+
+            if (prev(address) != prev) {
+                throw new IllegalStateException("Broken record links.");
+            }
+
+            if (fingerIndex < numberOfFingers
+                    && fingerIndices[fingerIndex] == index) {
+
+                if (fingerAddresses[fingerIndex] != address) {
+                    throw new IllegalStateException(
+                            "Finger " + fingerIndex
+                                    + " points to wrong record.");
+                }
+
+                fingerIndex++;
+            }
+
+            prev = address;
+        }
+
+        if (prev != tail) {
+            throw new IllegalStateException("Broken tail.");
+        }
+
+        if (index != size) {
+            throw new IllegalStateException(
+                    "size = " + size + ", tentativeSize = " + index);
+        }
+
+        if (fingerIndex != numberOfFingers) {
+            throw new IllegalStateException(
+                    "Only "
+                            + fingerIndex
+                            + " out of "
+                            + numberOfFingers
+                            + " fingers point to their records in order.");
+        }
+
+        long numberOfFreeRecords = 0;
+
+        for (long address = freeRecordListHead;
+                address != NIL && numberOfFreeRecords <= recordLimit;
+                address = next(address)) {
+
+            numberOfFreeRecords++;
+        }
+
+        if (numberOfFreeRecords != recordLimit - size) {
+            throw new IllegalStateException(
+                    "numberOfFreeRecords = "
+                            + numberOfFreeRecords
+                            + ", expected = "
+                            + (recordLimit - size));
+        }
+    }
+
+    /**
+     * Completely clears this list and drops all the arenas.
+     */
+    @Override
+    public void clear() {
+        arenas = new ByteBuffer[1];
+        numberOfArenas = 0;
+        head = tail = NIL;
+        size = 0;
+        freeRecordListHead = NIL;
+        recordLimit = 0;
+        initFingers();
+        modCount++;
+    }
+
+    /**
+     * Returns {@code true} only if {@code o} is present in this list. Runs in
+     * worst-case linear time.
+     *
+     * @param o the query object.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns the descending iterator.
+     *
+     * @return the descending iterator pointing to the tail of this list.
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new Iterator<E>() {
+
+            private final ListIterator<E> iterator = listIterator(size);
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    /**
+     * Applies {@code action} to each element in this list.
+     *
+     * @param action the action to apply.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+
+        for (long address = head;
+                address != NIL && modCount == expectedModCount;
+                address = next(address)) {
+
+            action.accept(item(address));
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns {@code index}th element. Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param index the index of the element to return.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E get(int index) {
+        checkElementIndex(index);
+        return item(getAddress(index));
+    }
+
+    /**
+     * Returns the record codec of this list.
+     *
+     * @return the record codec.
+     */
+    public RecordCodec<E> getCodec() {
+        return codec;
+    }
+
+    /**
+     * Returns the first element of this list. Runs in constant time.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Getting the head element from an empty list.");
+        }
+
+        return item(head);
+    }
+
+    /**
+     * Returns the last element of this list. Runs in constant time.
+     *
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Getting the tail element from an empty list.");
+        }
+
+        return item(tail);
+    }
+
+    /**
+     * Returns the number of off-heap bytes allocated by this list.
+     *
+     * @return the number of off-heap bytes.
+     */
+    public long getOffHeapBytes() {
+        return ((long) numberOfArenas << arenaShift) * recordStride;
+    }
+
+    /**
+     * Returns the index of the leftmost {@code o}, or {@code -1} if {@code o}
+     * does not appear in this list. Runs in worst-case linear time.
+     *
+     * @param o the object to search.
+     * @return the index of the leftmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+
+        for (long address = head;
+                address != NIL;
+                address = next(address), index++) {
+
+            if (Objects.equals(o, item(address))) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} only if this list is empty.
+     *
+     * @return {@code true} only if this list is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the iterator over this list.
+     *
+     * @return the iterator over this list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new RecordIterator(0);
+    }
+
+    /**
+     * Returns the index of the rightmost {@code o}, or {@code -1} if
+     * {@code o} does not appear in this list. Runs in worst-case linear time.
+     *
+     * @param o the object to search.
+     * @return the index of the rightmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = size - 1;
+
+        for (long address = tail;
+                address != NIL;
+                address = prev(address), index--) {
+
+            if (Objects.equals(o, item(address))) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the list iterator pointing to the head element of this list.
+     *
+     * @return the list iterator.
+     */
+    @Override
+    public ListIterator<E> listIterator() {
+        return new RecordIterator(0);
+    }
+
+    /**
+     * Returns the list iterator pointing between {@code list[index - 1]} and
+     * {@code list[index]}.
+     *
+     * @param index the gap index.
+     * @return the list iterator.
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        checkPositionIndex(index);
+        return new RecordIterator(index);
+    }
+
+    /**
+     * Adds {@code e} after the tail element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offer(E e) {
+        return add(e);
+    }
+
+    /**
+     * Adds {@code e} before the head element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    /**
+     * Adds {@code e} after the tail element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+
+    /**
+     * Moves all the fingers such that they are evenly distributed. Runs in
+     * linear time.
+     */
+    public void optimize() {
+        distributeAllFingers();
+    }
+
+    /**
+     * Takes a look at the first element in this list.
+     *
+     * @return the head element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Takes a look at the first element in this list.
+     *
+     * @return the head element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peekFirst() {
+        return size == 0 ? null : item(head);
+    }
+
+    /**
+     * Takes a look at the last element in this list.
+     *
+     * @return the tail element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peekLast() {
+        return size == 0 ? null : item(tail);
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the
+     * first element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the
+     * first element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E pollFirst() {
+        return size == 0 ? null : unlinkFirst();
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the last
+     * element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E pollLast() {
+        return size == 0 ? null : unlinkLast();
+    }
+
+    /**
+     * Removes the first element and returns it.
+     *
+     * @return the first element.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Adds {@code e} before the head of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    /**
+     * Removes and returns the first element.
+     *
+     * @return the head element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes the element residing at the given index. Runs in
+     * \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param index the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        return unlinkAt(index);
+    }
+
+    /**
+     * Removes the leftmost occurrence of {@code o} in this list.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if {@code o} was located and removed.
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Removes from this list all the elements mentioned in {@code c}. Runs in
+     * \(\mathcal{O}(n + fn)\) time, where \(\mathcal{O}(f)\) is the time of
+     * checking for element inclusion in {@code c}.
+     *
+     * @param c the collection holding all the elements to remove.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    /**
+     * Removes the first element from this list.
+     *
+     * @return the first element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "removeFirst from an empty OffHeapIndexedLinkedList");
+        }
+
+        return unlinkFirst();
+    }
+
+    /**
+     * Removes the leftmost occurrence of {@code o}.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if {@code o} was present in the list and was
+     *         successfully removed.
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int index = indexOf(o);
+
+        if (index < 0) {
+            return false;
+        }
+
+        unlinkAt(index);
+        return true;
+    }
+
+    /**
+     * Removes from this list all the elements that satisfy the given input
+     * predicate and redistributes the fingers. Runs in \(\mathcal{O}(n)\)
+     * time.
+     *
+     * @param filter the filtering predicate.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+
+        if (size == 0) {
+            return false;
+        }
+
+        int expectedModCount = modCount;
+        long[] deathRow = new long[((size - 1) >> 6) + 1];
+        int removed = 0;
+        int index = 0;
+
+        // First mark, so that the list stays intact if 'filter' throws:
+        for (long address = head;
+                address != NIL;
+                address = next(address), index++) {
+
+            if (filter.test(item(address))) {
+                deathRow[index >> 6] |= 1L << index;
+                removed++;
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        if (removed == 0) {
+            return false;
+        }
+
+        index = 0;
+
+        for (long address = head; address != NIL; index++) {
+            long next = next(address);
+
+            if ((deathRow[index >> 6] & (1L << index)) != 0) {
+                unlinkRecord(address);
+            }
+
+            address = next;
+        }
+
+        size -= removed;
+        modCount++;
+        distributeAllFingers();
+        return true;
+    }
+
+    /**
+     * Removes and returns the last element of this list. Runs in constant
+     * time.
+     *
+     * @return the removed tail element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "removeLast on empty OffHeapIndexedLinkedList");
+        }
+
+        return unlinkLast();
+    }
+
+    /**
+     * Removes the rightmost occurrence of {@code o}.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if an element was actually removed.
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+
+        if (index < 0) {
+            return false;
+        }
+
+        unlinkAt(index);
+        return true;
+    }
+
+    /**
+     * Remove all the elements that <strong>do not</strong> appear in
+     * {@code c}. Runs in \(\mathcal{O}(n + fn)\) time.
+     *
+     * @param c the collection of elements to retain.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Sets the element at index {@code index} to {@code element} and returns
+     * the old element. Runs in \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param index   the target index.
+     * @param element the element to set.
+     * @return the previous element at the given index.
+     */
+    @Override
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        long address = getAddress(index);
+        E oldElement = item(address);
+        setItem(address, element);
+        return oldElement;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the size of this list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the {@link Object} array containing all the elements in this
+     * list, in the same order as they appear in the list.
+     *
+     * @return the list contents in an {@link Object} array.
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+
+        for (long address = head; address != NIL; address = next(address)) {
+            array[index++] = item(address);
+        }
+
+        return array;
+    }
+
+    /**
+     * Removes the list range {@code [fromIndex, ..., toIndex - 1]}. Runs in
+     * \(\mathcal{O}(\sqrt{n} + (toIndex - fromIndex))\) time.
+     *
+     * @param fromIndex the staring, inclusive range index.
+     * @param toIndex   the ending, exclusive range index.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int removalLength = toIndex - fromIndex;
+
+        if (removalLength == 0) {
+            return;
+        }
+
+        if (removalLength == size) {
+            clear();
+            return;
+        }
+
+        long address = getAddressNoFingersFix(fromIndex);
+        long pred = prev(address);
+
+        for (int i = 0; i != removalLength; i++) {
+            long next = next(address);
+            releaseRecord(address);
+            address = next;
+        }
+
+        long succ = address;
+
+        // Link 'pred' and 'succ':
+        if (pred == NIL) {
+            head = succ;
+        } else {
+            setNext(pred, succ);
+        }
+
+        if (succ == NIL) {
+            tail = pred;
+        } else {
+            setPrev(succ, pred);
+        }
+
+        size -= removalLength;
+        modCount++;
+        removeFingersOnDeleteRange(fromIndex, toIndex, pred, succ);
+    }
+
+    /**
+     * Takes a free record and stores {@code e} in it. Allocates a new arena if
+     * there are no free records.
+     *
+     * @param e the element to store.
+     * @return the address of the record holding {@code e}.
+     */
+    private long allocateRecord(E e) {
+        long address;
+
+        if (freeRecordListHead != NIL) {
+            address = freeRecordListHead;
+            freeRecordListHead = next(address);
+        } else {
+            if (recordLimit == ((long) numberOfArenas << arenaShift)) {
+                allocateArena();
+            }
+
+            address = recordLimit++;
+        }
+
+        setItem(address, e);
+        return address;
+    }
+
+    /**
+     * Appends a new arena to the arena array.
+     */
+    private void allocateArena() {
+        if (numberOfArenas == arenas.length) {
+            arenas = Arrays.copyOf(arenas, 2 * arenas.length);
+        }
+
+        arenas[numberOfArenas++] =
+                ByteBuffer.allocateDirect(recordStride << arenaShift)
+                          .order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns the arena holding the record {@code address}.
+     *
+     * @param address the record address.
+     * @return the arena of the record.
+     */
+    private ByteBuffer arena(long address) {
+        return arenas[(int) (address >>> arenaShift)];
+    }
+
+    /**
+     * Checks the element index.
+     *
+     * @param index the index to validate.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+
+    /**
+     * Checks the position index.
+     *
+     * @param index the index to validate.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+
+    /**
+     * Distributes the fingers evenly over this list. Runs in linear time.
+     */
+    private void distributeAllFingers() {
+        int fingers = getRecommendedNumberOfFingers();
+        fingerAddresses =
+                new long[Math.max(INITIAL_FINGER_CAPACITY, fingers + 1)];
+
+        fingerIndices = new int[fingerAddresses.length];
+        numberOfFingers = 0;
+
+        if (fingers > 0) {
+            int distance = size / fingers;
+            int index = 0;
+
+            for (long address = head;
+                    numberOfFingers < fingers;
+                    address = next(address)) {
+
+                if (index % distance == 0) {
+                    fingerAddresses[numberOfFingers] = address;
+                    fingerIndices[numberOfFingers++] = index;
+                }
+
+                index++;
+            }
+        }
+
+        fingerAddresses[numberOfFingers] = NIL;
+        fingerIndices[numberOfFingers] = size;
+    }
+
+    /**
+     * Returns the address of the {@code elementIndex}th element. The finger
+     * preceding the element is moved half-way between its neighbouring
+     * fingers.
+     *
+     * @param elementIndex the index of the target element.
+     * @return the address of the record holding the target element.
+     */
+    private long getAddress(int elementIndex) {
+        if (numberOfFingers < 3) {
+            // We need at least 3 fingers to do the actual trick:
+            return getAddressNoFingersFix(elementIndex);
+        }
+
+        int fingerIndex = getFingerIndexImpl(elementIndex);
+
+        if (fingerIndex == 0 || fingerIndex >= numberOfFingers - 1) {
+            return getAddressNoFingersFix(elementIndex);
+        }
+
+        int aIndex = fingerIndices[fingerIndex - 1];
+        int cIndex = fingerIndices[fingerIndex + 1];
+        int saveBIndex = fingerIndices[fingerIndex];
+        int nextBIndex = aIndex + (cIndex - aIndex) / 2;
+
+        // Rewind the finger b record:
+        long b = rewind(fingerAddresses[fingerIndex], nextBIndex - saveBIndex);
+        fingerAddresses[fingerIndex] = b;
+        fingerIndices[fingerIndex] = nextBIndex;
+
+        // Go fetch the correct record:
+        if (elementIndex < nextBIndex) {
+            // Here, the desired element is between a and b:
+            int leftDistance = elementIndex - aIndex;
+            int rightDistance = nextBIndex - elementIndex;
+
+            return leftDistance < rightDistance ?
+                    rewind(fingerAddresses[fingerIndex - 1], leftDistance) :
+                    rewind(b, -rightDistance);
+        } else {
+            // Here, the desired element is between b and c:
+            int leftDistance = elementIndex - nextBIndex;
+            int rightDistance = cIndex - elementIndex;
+
+            return leftDistance < rightDistance ?
+                    rewind(b, leftDistance) :
+                    rewind(fingerAddresses[fingerIndex + 1], -rightDistance);
+        }
+    }
+
+    /**
+     * Returns the address of the {@code elementIndex}th element without
+     * modifying the fingers.
+     *
+     * @param elementIndex the index of the target element.
+     * @return the address of the record holding the target element.
+     */
+    private long getAddressNoFingersFix(int elementIndex) {
+        int fingerIndex = getClosestFingerIndex(elementIndex);
+        return rewind(fingerAddresses[fingerIndex],
+                      elementIndex - fingerIndices[fingerIndex]);
+    }
+
+    /**
+     * Returns the index of the closest finger to the {@code elementIndex}th
+     * element.
+     *
+     * @param elementIndex the target element index.
+     * @return the index of the closest finger.
+     */
+    private int getClosestFingerIndex(int elementIndex) {
+        return normalize(getFingerIndexImpl(elementIndex), elementIndex);
+    }
+
+    /**
+     * Returns the finger index {@code i}, such that {@code fingerIndices[i]}
+     * is no less than {@code elementIndex}, and {@code fingerIndices[i]} is
+     * closest to {@code elementIndex}. Translated from the C++
+     * {@code lower_bound} algorithm.
+     *
+     * @param elementIndex the target element index.
+     * @return the index of the leftmost finger {@code f} for which
+     *         {@code elementIndex <= f.index}.
+     */
+    private int getFingerIndexImpl(int elementIndex) {
+        int count = numberOfFingers + 1; // + 1 for the end sentinel.
+        int idx = 0;
+
+        while (count > 0) {
+            int it = idx;
+            int step = count / 2;
+            it += step;
+
+            if (fingerIndices[it] < elementIndex) {
+                idx = ++it;
+                count -= step + 1;
+            } else {
+                count = step;
+            }
+        }
+
+        return idx;
+    }
+
+    /**
+     * Constructs an IndexOutOfBoundsException detail message.
+     *
+     * @param index the target index.
+     * @return the detail message.
+     */
+    private String getOutOfBoundsMessage(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * Returns the recommended number of fingers.
+     *
+     * @return the recommended number of fingers.
+     */
+    private int getRecommendedNumberOfFingers() {
+        return (int) Math.ceil(Math.sqrt(size));
+    }
+
+    /**
+     * Resets the finger arrays to the empty list state.
+     */
+    private void initFingers() {
+        fingerAddresses = new long[INITIAL_FINGER_CAPACITY];
+        fingerIndices = new int[INITIAL_FINGER_CAPACITY];
+        fingerAddresses[0] = NIL;
+        numberOfFingers = 0;
+    }
+
+    /**
+     * Inserts a new finger at the finger index {@code fingerIndex}.
+     *
+     * @param fingerIndex the finger index of the new finger.
+     * @param address     the finger record address.
+     * @param index       the element index of {@code address}.
+     */
+    private void insertFinger(int fingerIndex, long address, int index) {
+        if (numberOfFingers + 2 > fingerAddresses.length) {
+            int nextCapacity = 2 * fingerAddresses.length;
+            fingerAddresses = Arrays.copyOf(fingerAddresses, nextCapacity);
+            fingerIndices = Arrays.copyOf(fingerIndices, nextCapacity);
+        }
+
+        int numberOfFingersToShift = numberOfFingers + 1 - fingerIndex;
+
+        System.arraycopy(fingerAddresses,
+                         fingerIndex,
+                         fingerAddresses,
+                         fingerIndex + 1,
+                         numberOfFingersToShift);
+
+        System.arraycopy(fingerIndices,
+                         fingerIndex,
+                         fingerIndices,
+                         fingerIndex + 1,
+                         numberOfFingersToShift);
+
+        fingerAddresses[fingerIndex] = address;
+        fingerIndices[fingerIndex] = index;
+        numberOfFingers++;
+    }
+
+    /**
+     * Decodes the element stored in the record {@code address}.
+     *
+     * @param address the record address.
+     * @return the decoded element.
+     */
+    private E item(long address) {
+        return codec.decode(arena(address),
+                            recordOffset(address) + PAYLOAD_OFFSET);
+    }
+
+    /**
+     * Inserts {@code e} right before the element in the record {@code succ}.
+     *
+     * @param e     the element to insert.
+     * @param index the index of {@code succ}.
+     * @param succ  the successor record address.
+     */
+    private void linkBefore(E e, int index, long succ) {
+        long address = allocateRecord(e);
+        long pred = prev(succ);
+
+        // Link:
+        setNext(address, succ);
+        setPrev(address, pred);
+        setPrev(succ, address);
+        setNext(pred, address);
+
+        size++;
+        modCount++;
+
+        // Get the closest, upper finger's index:
+        int fingerIndex = getFingerIndexImpl(index);
+        shiftFingerIndices(fingerIndex, 1);
+
+        if (mustAddFinger()) {
+            // Insert the new finger pointing to 'address':
+            insertFinger(fingerIndex, address, index);
+        }
+    }
+
+    /**
+     * Prepends {@code e} to the head of this list.
+     *
+     * @param e the element to prepend.
+     */
+    private void linkFirst(E e) {
+        long address = allocateRecord(e);
+        long oldHead = head;
+        setPrev(address, NIL);
+        setNext(address, oldHead);
+        head = address;
+
+        if (oldHead == NIL) {
+            // Once here, the list was empty before calling this method. Update
+            // the empty tail:
+            tail = address;
+        } else {
+            // Otherwise, just link the old head to the new record:
+            setPrev(oldHead, address);
+        }
+
+        size++;
+        modCount++;
+        shiftFingerIndices(0, 1);
+
+        if (mustAddFinger()) {
+            insertFinger(0, address, 0);
+        }
+    }
+
+    /**
+     * Appends {@code e} to the tail of this list.
+     *
+     * @param e the element to append.
+     */
+    private void linkLast(E e) {
+        long address = allocateRecord(e);
+        long oldTail = tail;
+        setPrev(address, oldTail);
+        setNext(address, NIL);
+        tail = address;
+
+        if (oldTail == NIL) {
+            // Once here, the list was empty prior to calling this method.
+            // Update the empty head:
+            head = address;
+        } else {
+            // Otherwise, just link the old tail to the new record:
+            setNext(oldTail, address);
+        }
+
+        size++;
+        modCount++;
+        fingerIndices[numberOfFingers] = size;
+
+        if (mustAddFinger()) {
+            insertFinger(numberOfFingers, address, size - 1);
+        }
+    }
+
+    /**
+     * Moves the finger {@code fingerIndex} out of the record it points to,
+     * shifting the fingers on the right one position to the left.
+     *
+     * @param fingerIndex the index of the finger to move.
+     */
+    private void moveFingerOutOfRemovalLocation(int fingerIndex) {
+        // Try push the fingers to the right:
+        for (int j = fingerIndex; j < numberOfFingers; ++j) {
+            if (fingerIndices[j] + 1 < fingerIndices[j + 1]) {
+                // Once here, we have an opportunity for pushing to the right:
+                for (int i = j; i >= fingerIndex; --i) {
+                    fingerAddresses[i] = next(fingerAddresses[i]);
+                }
+
+                shiftFingerIndices(j + 1, -1);
+                return;
+            }
+        }
+
+        // Could not push the fingers to the right. Push to the left:
+        int j = fingerIndex;
+
+        while (j > 0 && fingerIndices[j - 1] + 1 == fingerIndices[j]) {
+            j--;
+        }
+
+        for (int k = j; k <= fingerIndex; k++) {
+            fingerAddresses[k] = prev(fingerAddresses[k]);
+            fingerIndices[k]--;
+        }
+
+        shiftFingerIndices(fingerIndex + 1, -1);
+    }
+
+    /**
+     * Returns {@code true} if and only if this list requires more fingers.
+     *
+     * @return {@code true} if and only if this list requires more fingers.
+     */
+    private boolean mustAddFinger() {
+        return numberOfFingers < getRecommendedNumberOfFingers();
+    }
+
+    /**
+     * Returns {@code true} if and only if this list requires less fingers.
+     *
+     * @return {@code true} if and only if this list requires less fingers.
+     */
+    private boolean mustRemoveFinger() {
+        return numberOfFingers > getRecommendedNumberOfFingers();
+    }
+
+    /**
+     * Returns the address of the record following the record
+     * {@code address}.
+     *
+     * @param address the record address.
+     * @return the next record address or {@link #NIL}.
+     */
+    private long next(long address) {
+        return arena(address).getLong(recordOffset(address) + NEXT_OFFSET);
+    }
+
+    /**
+     * Returns the index of the closest finger among
+     * {@code fingerIndex - 1} and {@code fingerIndex}.
+     *
+     * @param fingerIndex  the lower bound finger index.
+     * @param elementIndex the target element index.
+     * @return the closest finger index.
+     */
+    private int normalize(int fingerIndex, int elementIndex) {
+        if (fingerIndex == 0) {
+            // Since we cannot point to '-1'th finger, return 0:
+            return 0;
+        }
+
+        if (fingerIndex == numberOfFingers) {
+            // Don't go outside of 'numberOfFingers - 1':
+            return numberOfFingers - 1;
+        }
+
+        int distance1 = elementIndex - fingerIndices[fingerIndex - 1];
+        int distance2 = fingerIndices[fingerIndex] - elementIndex;
+
+        // Return the closest finger index:
+        return distance1 < distance2 ? fingerIndex - 1 : fingerIndex;
+    }
+
+    /**
+     * Returns the address of the record preceding the record
+     * {@code address}.
+     *
+     * @param address the record address.
+     * @return the previous record address or {@link #NIL}.
+     */
+    private long prev(long address) {
+        return arena(address).getLong(recordOffset(address) + PREV_OFFSET);
+    }
+
+    /**
+     * Returns the byte offset of the record {@code address} within its arena.
+     *
+     * @param address the record address.
+     * @return the byte offset of the record.
+     */
+    private int recordOffset(long address) {
+        return (int) (address & arenaMask) * recordStride;
+    }
+
+    /**
+     * Pushes the record {@code address} to the free-record list. The payload
+     * is left as is.
+     *
+     * @param address the record address.
+     */
+    private void releaseRecord(long address) {
+        setPrev(address, NIL);
+        setNext(address, freeRecordListHead);
+        freeRecordListHead = address;
+    }
+
+    /**
+     * Removes the fingers covered by the removed range
+     * {@code [fromIndex, toIndex)}, shifts the fingers after the range, and
+     * pushes the missing fingers to the records adjacent to the removed range.
+     *
+     * @param fromIndex the starting, inclusive index of the removed range.
+     * @param toIndex   the ending, exclusive index of the removed range.
+     * @param pred      the record preceding the removed range.
+     * @param succ      the record following the removed range.
+     */
+    private void removeFingersOnDeleteRange(int fromIndex,
+                                            int toIndex,
+                                            long pred,
+                                            long succ) {
+        int removalLength = toIndex - fromIndex;
+        int fromFingerIndex = getFingerIndexImpl(fromIndex);
+        int toFingerIndex = getFingerIndexImpl(toIndex);
+        int coveredFingers = toFingerIndex - fromFingerIndex;
+
+        // Remove the covered fingers and shift the fingers after the range:
+        for (int i = toFingerIndex; i <= numberOfFingers; i++) {
+            fingerAddresses[i - coveredFingers] = fingerAddresses[i];
+            fingerIndices[i - coveredFingers] = fingerIndices[i]
+                                              - removalLength;
+        }
+
+        numberOfFingers -= coveredFingers;
+
+        while (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        int missingFingers = getRecommendedNumberOfFingers() - numberOfFingers;
+
+        if (missingFingers == 0) {
+            return;
+        }
+
+        // Collect the free records on the suffix side of the removed range:
+        long[] suffixAddresses = new long[missingFingers];
+        int[] suffixIndices = new int[missingFingers];
+        int numberOfSuffixFingers = 0;
+        int fingerIndex = fromFingerIndex;
+        int index = fromIndex;
+
+        for (long address = succ;
+                address != NIL && numberOfSuffixFingers < missingFingers;
+                address = next(address), index++) {
+
+            if (fingerIndex < numberOfFingers
+                    && fingerIndices[fingerIndex] == index) {
+                fingerIndex++;
+            } else {
+                suffixAddresses[numberOfSuffixFingers] = address;
+                suffixIndices[numberOfSuffixFingers++] = index;
+            }
+        }
+
+        // Collect the free records on the prefix side of the removed range.
+        // They are collected in descending index order, so we fill the new
+        // finger arrays from right to left:
+        long[] newAddresses = new long[missingFingers];
+        int[] newIndices = new int[missingFingers];
+        int numberOfPrefixFingers = missingFingers - numberOfSuffixFingers;
+        fingerIndex = fromFingerIndex - 1;
+        index = fromIndex - 1;
+        int position = numberOfPrefixFingers;
+
+        for (long address = pred;
+                position > 0;
+                address = prev(address), index--) {
+
+            if (fingerIndex >= 0 && fingerIndices[fingerIndex] == index) {
+                fingerIndex--;
+            } else {
+                newAddresses[--position] = address;
+                newIndices[position] = index;
+            }
+        }
+
+        System.arraycopy(suffixAddresses,
+                         0,
+                         newAddresses,
+                         numberOfPrefixFingers,
+                         numberOfSuffixFingers);
+
+        System.arraycopy(suffixIndices,
+                         0,
+                         newIndices,
+                         numberOfPrefixFingers,
+                         numberOfSuffixFingers);
+
+        // Merge the new fingers with the existing ones:
+        int capacity = Math.max(fingerAddresses.length,
+                                numberOfFingers + missingFingers + 1);
+
+        long[] mergedAddresses = new long[capacity];
+        int[] mergedIndices = new int[capacity];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+
+        while (i < numberOfFingers || j < missingFingers) {
+            if (j == missingFingers
+                    || (i < numberOfFingers
+                        && fingerIndices[i] < newIndices[j])) {
+                mergedAddresses[k] = fingerAddresses[i];
+                mergedIndices[k++] = fingerIndices[i++];
+            } else {
+                mergedAddresses[k] = newAddresses[j];
+                mergedIndices[k++] = newIndices[j++];
+            }
+        }
+
+        mergedAddresses[k] = NIL;
+        mergedIndices[k] = size;
+        fingerAddresses = mergedAddresses;
+        fingerIndices = mergedIndices;
+        numberOfFingers = k;
+    }
+
+    /**
+     * Removes the last finger and contracts the finger arrays if they are too
+     * sparse.
+     */
+    private void removeLastFinger() {
+        fingerAddresses[--numberOfFingers] = NIL;
+        fingerIndices[numberOfFingers] = size;
+
+        if (fingerAddresses.length > INITIAL_FINGER_CAPACITY
+                && numberOfFingers + 1 < fingerAddresses.length
+                                       / THRESHOLD_FACTOR) {
+
+            int nextCapacity = Math.max(INITIAL_FINGER_CAPACITY,
+                                        fingerAddresses.length / 2);
+
+            fingerAddresses = Arrays.copyOf(fingerAddresses, nextCapacity);
+            fingerIndices = Arrays.copyOf(fingerIndices, nextCapacity);
+        }
+    }
+
+    /**
+     * Returns a record address that is {@code steps} hops away from
+     * {@code address}. If {@code steps} is negative, moves to the left.
+     *
+     * @param address the starting record address.
+     * @param steps   the number of hops to make.
+     * @return the requested record address.
+     */
+    private long rewind(long address, int steps) {
+        if (steps < 0) {
+            for (int i = 0; i != -steps; ++i) {
+                address = prev(address);
+            }
+        } else {
+            for (int i = 0; i != steps; ++i) {
+                address = next(address);
+            }
+        }
+
+        return address;
+    }
+
+    /**
+     * Encodes {@code e} into the record {@code address}.
+     *
+     * @param address the record address.
+     * @param e       the element to encode.
+     */
+    private void setItem(long address, E e) {
+        codec.encode(e, arena(address), recordOffset(address) + PAYLOAD_OFFSET);
+    }
+
+    /**
+     * Sets the {@code next} link of the record {@code address}.
+     *
+     * @param address the record address.
+     * @param next    the new next record address.
+     */
+    private void setNext(long address, long next) {
+        arena(address).putLong(recordOffset(address) + NEXT_OFFSET, next);
+    }
+
+    /**
+     * Sets the {@code prev} link of the record {@code address}.
+     *
+     * @param address the record address.
+     * @param prev    the new previous record address.
+     */
+    private void setPrev(long address, long prev) {
+        arena(address).putLong(recordOffset(address) + PREV_OFFSET, prev);
+    }
+
+    /**
+     * Adds {@code shiftLength} to the indices of the fingers in the range
+     * {@code [startFingerIndex, numberOfFingers]}.
+     *
+     * @param startFingerIndex the index of the leftmost finger to shift.
+     * @param shiftLength      the length of the shift operation.
+     */
+    private void shiftFingerIndices(int startFingerIndex, int shiftLength) {
+        for (int i = startFingerIndex; i <= numberOfFingers; ++i) {
+            fingerIndices[i] += shiftLength;
+        }
+    }
+
+    /**
+     * Unlinks the {@code index}th element.
+     *
+     * @param index the index of the element to remove.
+     * @return the removed element.
+     */
+    private E unlinkAt(int index) {
+        if (index == 0) {
+            return unlinkFirst();
+        }
+
+        if (index == size - 1) {
+            return unlinkLast();
+        }
+
+        int closestFingerIndex = getClosestFingerIndex(index);
+        long addressToRemove;
+
+        if (fingerIndices[closestFingerIndex] == index) {
+            // Once here, the element with index 'index' is pointed by a
+            // finger:
+            addressToRemove = fingerAddresses[closestFingerIndex];
+            moveFingerOutOfRemovalLocation(closestFingerIndex);
+        } else {
+            int steps = index - fingerIndices[closestFingerIndex];
+            addressToRemove = rewind(fingerAddresses[closestFingerIndex],
+                                     steps);
+
+            shiftFingerIndices(closestFingerIndex + 1, -1);
+
+            if (steps < 0) {
+                // Once here, we need to fix the index also of the
+                // 'closestFingerIndex'th finger:
+                fingerIndices[closestFingerIndex]--;
+            }
+        }
+
+        E item = unlinkRecord(addressToRemove);
+        size--;
+        modCount++;
+
+        if (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        return item;
+    }
+
+    /**
+     * Unlinks the head element.
+     *
+     * @return the removed element.
+     */
+    private E unlinkFirst() {
+        // Move the prefix fingers packed at the beginning of the list one
+        // record to the right:
+        int lastPrefixIndex = numberOfFingers;
+
+        for (int i = 0; i < numberOfFingers; ++i) {
+            if (fingerIndices[i] != i) {
+                lastPrefixIndex = i;
+                break;
+            }
+
+            fingerAddresses[i] = next(fingerAddresses[i]);
+        }
+
+        shiftFingerIndices(lastPrefixIndex, -1);
+        E item = unlinkRecord(head);
+        size--;
+        modCount++;
+
+        if (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        fingerIndices[numberOfFingers] = size;
+        return item;
+    }
+
+    /**
+     * Unlinks the tail element.
+     *
+     * @return the removed element.
+     */
+    private E unlinkLast() {
+        long address = tail;
+        size--;
+        modCount++;
+
+        if (fingerAddresses[numberOfFingers - 1] == address) {
+            // Once here, the last finger points to the tail. Since there are
+            // no more fingers than elements, we may simply remove it when not
+            // needed, and otherwise push it along with its packed
+            // predecessors to the left:
+            if (mustRemoveFinger()) {
+                removeLastFinger();
+            } else {
+                for (int i = numberOfFingers - 1; i >= 0; --i) {
+                    fingerAddresses[i] = prev(fingerAddresses[i]);
+                    fingerIndices[i]--;
+
+                    if (i == 0 || fingerIndices[i - 1] != fingerIndices[i]) {
+                        break;
+                    }
+                }
+            }
+        } else if (mustRemoveFinger()) {
+            removeLastFinger();
+        }
+
+        fingerIndices[numberOfFingers] = size;
+        return unlinkRecord(address);
+    }
+
+    /**
+     * Unlinks the record {@code address} from the list and releases it. Does
+     * not update the size or the fingers.
+     *
+     * @param address the record address.
+     * @return the unlinked element.
+     */
+    private E unlinkRecord(long address) {
+        E item = item(address);
+        long prev = prev(address);
+        long next = next(address);
+
+        if (prev == NIL) {
+            head = next;
+        } else {
+            setNext(prev, next);
+        }
+
+        if (next == NIL) {
+            tail = prev;
+        } else {
+            setPrev(next, prev);
+        }
+
+        releaseRecord(address);
+        return item;
+    }
+
+    /**
+     * This inner class implements the list iterator over the records.
+     */
+    final class RecordIterator implements ListIterator<E> {
+
+        /**
+         * The address of the next record, or {@link #NIL} if the iterator is
+         * at the end of the list.
+         */
+        private long nextAddress;
+
+        /**
+         * The index of the next element.
+         */
+        private int nextIndex;
+
+        /**
+         * The index of the most recently returned element, or {@code -1} if
+         * there is no such.
+         */
+        private int lastReturnedIndex = -1;
+
+        /**
+         * The address of the most recently returned record.
+         */
+        private long lastReturnedAddress = NIL;
+
+        /**
+         * The expected modification count.
+         */
+        private int expectedModCount = modCount;
+
+        /**
+         * Constructs a new iterator pointing before the {@code index}th
+         * element.
+         *
+         * @param index the index of the next element.
+         */
+        RecordIterator(int index) {
+            nextIndex = index;
+            nextAddress = index == size ? NIL : getAddressNoFingersFix(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturnedAddress = nextAddress;
+            lastReturnedIndex = nextIndex++;
+            nextAddress = OffHeapIndexedLinkedList.this.next(nextAddress);
+            return item(lastReturnedAddress);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            nextAddress = nextAddress == NIL ? tail : prev(nextAddress);
+            lastReturnedAddress = nextAddress;
+            lastReturnedIndex = --nextIndex;
+            return item(nextAddress);
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            long succ = OffHeapIndexedLinkedList.this.next(lastReturnedAddress);
+            unlinkAt(lastReturnedIndex);
+
+            if (nextAddress == lastReturnedAddress) {
+                // Once here, the removed element was returned by previous():
+                nextAddress = succ;
+            } else {
+                nextIndex--;
+            }
+
+            lastReturnedIndex = -1;
+            lastReturnedAddress = NIL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            setItem(lastReturnedAddress, e);
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+            OffHeapIndexedLinkedList.this.add(nextIndex++, e);
+            lastReturnedIndex = -1;
+            lastReturnedAddress = NIL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+
+            while (modCount == expectedModCount && nextIndex < size) {
+                action.accept(item(nextAddress));
+                lastReturnedAddress = nextAddress;
+                lastReturnedIndex = nextIndex++;
+                nextAddress = OffHeapIndexedLinkedList.this.next(nextAddress);
+            }
+
+            checkForComodification();
+        }
+
+        /**
+         * Checks that the list was not modified outside of this iterator.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,765 @@
+package io.github.coderodde.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * This class implements a <i>persistent</i>, that is, immutable and versioned,
+ * indexed list. Instead of modifying the list, {@link #with(int, Object)},
+ * {@link #insert(int, Object)} and {@link #removeAt(int)} return a new version
+ * of it, and the old version stays intact and usable.
+ *
+ * <p>
+ * Just like in {@link UnrolledIndexedLinkedList}, the elements are stored in
+ * <i>chunks</i>, each holding up to {@value #LEAF_CAPACITY} elements in a small
+ * array. The chunks are the leaves of a B-tree, whose each internal node holds
+ * up to {@value #BRANCH_CAPACITY} children and the cumulative element counts of
+ * the children. All the leaves reside at the same depth, and each node except
+ * the root is at least half full. A new version copies only the nodes on the
+ * path from the root to the affected leaf and shares the rest with the old
+ * version. Thus, {@link #get(int)} runs in \(\mathcal{O}(\log n)\) time, and
+ * each of {@code with}, {@code insert} and {@code removeAt} runs in
+ * \(\mathcal{O}(\log n)\) time and allocates \(\mathcal{O}(\log n)\) memory.
+ *
+ * <p>
+ * Converting from a collection, such as {@link IndexedLinkedList}, builds the
+ * tree bottom-up in \(\mathcal{O}(n)\) time, and
+ * {@link #toIndexedLinkedList()} runs in \(\mathcal{O}(n)\) time. Since the
+ * versions never change, they may be read by any number of threads without
+ * locking. The mutators of {@link java.util.List} throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ * @param <E> the element type.
+ */
+public final class PersistentIndexedList<E> extends AbstractList<E> {
+
+    /**
+     * The static inner class implements an immutable tree node. A leaf holds
+     * the elements, and a branch holds the child nodes.
+     */
+    static final class Node {
+
+        /**
+         * The elements of a leaf, or the child nodes of a branch.
+         */
+        final Object[] items;
+
+        /**
+         * The number of elements in the children {@code [0, i]} is stored at
+         * {@code offsets[i]}. Is {@code null} for a leaf.
+         */
+        final int[] offsets;
+
+        /**
+         * The number of elements in the subtree rooted at this node.
+         */
+        final int size;
+
+        /**
+         * Constructs a new node.
+         *
+         * @param items   the elements or the child nodes.
+         * @param offsets the cumulative element counts of the children, or
+         *                {@code null} for a leaf.
+         * @param size    the number of elements in the subtree.
+         */
+        Node(Object[] items, int[] offsets, int size) {
+            this.items = items;
+            this.offsets = offsets;
+            this.size = size;
+        }
+
+        /**
+         * Returns {@code true} only if this node is a leaf.
+         *
+         * @return {@code true} only if this node is a leaf.
+         */
+        boolean isLeaf() {
+            return offsets == null;
+        }
+
+        /**
+         * Returns the maximum number of items in this node.
+         *
+         * @return the capacity of this node.
+         */
+        int capacity() {
+            return isLeaf() ? LEAF_CAPACITY : BRANCH_CAPACITY;
+        }
+
+        /**
+         * Returns the index of the child containing the {@code index}th element
+         * of this branch.
+         *
+         * @param index the element index.
+         * @return the index of the child.
+         */
+        int childIndex(int index) {
+            int low = 0;
+            int high = offsets.length - 1;
+
+            // Find the leftmost child whose cumulative count exceeds 'index':
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+
+                if (offsets[mid] <= index) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+
+        /**
+         * Returns the number of elements in the children preceding the
+         * {@code childIndex}th child.
+         *
+         * @param childIndex the index of the child.
+         * @return the index of the first element of the child.
+         */
+        int childStart(int childIndex) {
+            return childIndex == 0 ? 0 : offsets[childIndex - 1];
+        }
+
+        /**
+         * Returns a node of the same kind as this node holding {@code items}.
+         *
+         * @param items the elements or the child nodes.
+         * @return a new node.
+         */
+        Node withItems(Object[] items) {
+            return isLeaf() ? leaf(items) : branch(items);
+        }
+    }
+
+    /**
+     * The maximum number of elements in a leaf.
+     */
+    static final int LEAF_CAPACITY = 64;
+
+    /**
+     * The maximum number of children of a branch.
+     */
+    static final int BRANCH_CAPACITY = 32;
+
+    /**
+     * The root of the empty list.
+     */
+    private static final Node EMPTY_ROOT = leaf(new Object[0]);
+
+    /**
+     * The root node of this version.
+     */
+    private final Node root;
+
+    /**
+     * Constructs an empty list.
+     */
+    public PersistentIndexedList() {
+        this(EMPTY_ROOT);
+    }
+
+    /**
+     * Constructs a new list holding the data in {@code c}. Runs in
+     * \(\mathcal{O}(n)\) time.
+     *
+     * @param c the collection to copy.
+     */
+    public PersistentIndexedList(Collection<? extends E> c) {
+        this(build(c.toArray()));
+    }
+
+    /**
+     * Constructs a new version rooted at {@code root}.
+     *
+     * @param root the root node.
+     */
+    private PersistentIndexedList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Applies {@code action} to each element in this list.
+     *
+     * @param action the action to apply.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        forEach(root, action);
+    }
+
+    /**
+     * Returns {@code index}th element. Runs in \(\mathcal{O}(\log n)\) time.
+     *
+     * @param index the index of the element to return.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkElementIndex(index);
+        Node node = root;
+
+        while (!node.isLeaf()) {
+            int childIndex = node.childIndex(index);
+            index -= node.childStart(childIndex);
+            node = (Node) node.items[childIndex];
+        }
+
+        return (E) node.items[index];
+    }
+
+    /**
+     * Returns a new version of this list with {@code element} inserted at
+     * {@code index}. Runs in \(\mathcal{O}(\log n)\) time.
+     *
+     * @param index   the insertion index.
+     * @param element the element to insert.
+     * @return the new version.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public PersistentIndexedList<E> insert(int index, E element) {
+        checkPositionIndex(index);
+        Node[] nodes = insert(root, index, element);
+
+        if (nodes.length == 1) {
+            return new PersistentIndexedList<>(nodes[0]);
+        }
+
+        // Once here, the root was split. Grow the tree by one level:
+        return new PersistentIndexedList<>(branch(nodes));
+    }
+
+    /**
+     * Returns the iterator over this list.
+     *
+     * @return the iterator over this list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new LeafIterator();
+    }
+
+    /**
+     * Returns a new version of this list without its {@code index}th element.
+     * Runs in \(\mathcal{O}(\log n)\) time.
+     *
+     * @param index the index of the element to remove.
+     * @return the new version.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public PersistentIndexedList<E> removeAt(int index) {
+        checkElementIndex(index);
+        Node node = removeAt(root, index);
+
+        // Shrink the tree while the root has only one child:
+        while (!node.isLeaf() && node.items.length == 1) {
+            node = (Node) node.items[0];
+        }
+
+        return new PersistentIndexedList<>(node);
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    /**
+     * Returns the array holding the elements of this list. Runs in
+     * \(\mathcal{O}(n)\) time.
+     *
+     * @return the array of the elements.
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[root.size];
+        copyTo(root, array, 0);
+        return array;
+    }
+
+    /**
+     * Returns a new {@link IndexedLinkedList} holding the elements of this
+     * list. Runs in \(\mathcal{O}(n)\) time.
+     *
+     * @return the new {@link IndexedLinkedList}.
+     */
+    public IndexedLinkedList<E> toIndexedLinkedList() {
+        return new IndexedLinkedList<>(this);
+    }
+
+    /**
+     * Returns a new version of this list with the {@code index}th element
+     * replaced by {@code element}. Runs in \(\mathcal{O}(\log n)\) time.
+     *
+     * @param index   the index of the element to replace.
+     * @param element the new element.
+     * @return the new version.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public PersistentIndexedList<E> with(int index, E element) {
+        checkElementIndex(index);
+        return new PersistentIndexedList<>(with(root, index, element));
+    }
+
+    /**
+     * Checks the data structure invariant. Throws
+     * {@link IllegalStateException} on invalid invariant.
+     */
+    void checkInvariant() {
+        checkInvariant(root, true);
+    }
+
+    /**
+     * Returns a branch holding the given children.
+     *
+     * @param children the child nodes.
+     * @return a new branch.
+     */
+    static Node branch(Object[] children) {
+        int[] offsets = new int[children.length];
+        int size = 0;
+
+        for (int i = 0; i < children.length; i++) {
+            size += ((Node) children[i]).size;
+            offsets[i] = size;
+        }
+
+        return new Node(children, offsets, size);
+    }
+
+    /**
+     * Returns a leaf holding the given elements.
+     *
+     * @param items the elements.
+     * @return a new leaf.
+     */
+    static Node leaf(Object[] items) {
+        return new Node(items, null, items.length);
+    }
+
+    /**
+     * Builds a tree holding the given elements bottom-up.
+     *
+     * @param array the elements.
+     * @return the root of the tree.
+     */
+    private static Node build(Object[] array) {
+        if (array.length == 0) {
+            return EMPTY_ROOT;
+        }
+
+        Object[] level = chunk(array, LEAF_CAPACITY, true);
+
+        while (level.length > 1) {
+            level = chunk(level, BRANCH_CAPACITY, false);
+        }
+
+        return (Node) level[0];
+    }
+
+    /**
+     * Splits {@code items} evenly into the fewest nodes of capacity
+     * {@code capacity}. Each resulting node is at least half full unless there
+     * is only one.
+     *
+     * @param items    the elements or the child nodes to split.
+     * @param capacity the node capacity.
+     * @param leaves   whether to create leaves.
+     * @return the new nodes.
+     */
+    private static Object[] chunk(Object[] items, int capacity, boolean leaves) {
+        int count = (items.length + capacity - 1) / capacity;
+        Object[] nodes = new Object[count];
+        int from = 0;
+
+        for (int i = 0; i < count; i++) {
+            int to = (int)((long) items.length * (i + 1) / count);
+            Object[] range = Arrays.copyOfRange(items, from, to);
+            nodes[i] = leaves ? leaf(range) : branch(range);
+            from = to;
+        }
+
+        return nodes;
+    }
+
+    /**
+     * Checks the invariant of the subtree rooted at {@code node} and returns
+     * its height.
+     *
+     * @param node   the root of the subtree.
+     * @param isRoot whether {@code node} is the root of the entire tree.
+     * @return the height of the subtree.
+     */
+    private static int checkInvariant(Node node, boolean isRoot) {
+        int length = node.items.length;
+
+        if (length > node.capacity()) {
+            throw new IllegalStateException(
+                    "The node holds " + length + " items, capacity is "
+                            + node.capacity() + ".");
+        }
+
+        if (!isRoot && length < node.capacity() / 2) {
+            throw new IllegalStateException(
+                    "The node holds " + length + " items, less than half of "
+                            + node.capacity() + ".");
+        }
+
+        if (node.isLeaf()) {
+            if (node.size != length) {
+                throw new IllegalStateException(
+                        "The leaf size " + node.size + " does not match "
+                                + length + ".");
+            }
+
+            return 0;
+        }
+
+        if (isRoot && length < 2) {
+            throw new IllegalStateException(
+                    "The root branch has " + length + " children.");
+        }
+
+        int height = -1;
+        int size = 0;
+
+        for (int i = 0; i < length; i++) {
+            Node child = (Node) node.items[i];
+            int childHeight = checkInvariant(child, false);
+
+            if (height != -1 && height != childHeight) {
+                throw new IllegalStateException(
+                        "The leaves are at different depths.");
+            }
+
+            height = childHeight;
+            size += child.size;
+
+            if (node.offsets[i] != size) {
+                throw new IllegalStateException(
+                        "The offset " + node.offsets[i] + " at child " + i
+                                + " should be " + size + ".");
+            }
+        }
+
+        if (node.size != size) {
+            throw new IllegalStateException(
+                    "The branch size " + node.size + " should be " + size
+                            + ".");
+        }
+
+        return height + 1;
+    }
+
+    /**
+     * Copies the elements in the subtree rooted at {@code node} to
+     * {@code array} starting from {@code position}.
+     *
+     * @param node     the root of the subtree.
+     * @param array    the target array.
+     * @param position the position of the first copied element.
+     */
+    private static void copyTo(Node node, Object[] array, int position) {
+        if (node.isLeaf()) {
+            System.arraycopy(node.items, 0, array, position, node.size);
+            return;
+        }
+
+        for (Object child : node.items) {
+            copyTo((Node) child, array, position);
+            position += ((Node) child).size;
+        }
+    }
+
+    /**
+     * Applies {@code action} to each element in the subtree rooted at
+     * {@code node}.
+     *
+     * @param <E>    the element type.
+     * @param node   the root of the subtree.
+     * @param action the action to apply.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> void forEach(Node node, Consumer<? super E> action) {
+        for (Object item : node.items) {
+            if (node.isLeaf()) {
+                action.accept((E) item);
+            } else {
+                forEach((Node) item, action);
+            }
+        }
+    }
+
+    /**
+     * Inserts {@code element} at {@code index} in the subtree rooted at
+     * {@code node}.
+     *
+     * @param node    the root of the subtree.
+     * @param index   the insertion index within the subtree.
+     * @param element the element to insert.
+     * @return the new root of the subtree, or two new nodes if the root was
+     *         split.
+     */
+    private static Node[] insert(Node node, int index, Object element) {
+        Object[] items;
+
+        if (node.isLeaf()) {
+            items = insertItem(node.items, index, element);
+        } else {
+            // Insert past the last element via the last child:
+            int childIndex = index == node.size
+                           ? node.items.length - 1
+                           : node.childIndex(index);
+
+            Node[] children = insert((Node) node.items[childIndex],
+                                     index - node.childStart(childIndex),
+                                     element);
+
+            items = replaceItems(node.items, childIndex, 1, children);
+        }
+
+        if (items.length <= node.capacity()) {
+            return new Node[]{ node.withItems(items) };
+        }
+
+        // Once here, the node overflows. Split it in halves:
+        int half = items.length / 2;
+
+        return new Node[]{
+            node.withItems(Arrays.copyOfRange(items, 0, half)),
+            node.withItems(Arrays.copyOfRange(items, half, items.length)),
+        };
+    }
+
+    /**
+     * Returns a copy of {@code items} with {@code item} inserted at
+     * {@code index}.
+     *
+     * @param items the source array.
+     * @param index the insertion index.
+     * @param item  the item to insert.
+     * @return the new array.
+     */
+    private static Object[] insertItem(Object[] items, int index, Object item) {
+        Object[] result = new Object[items.length + 1];
+        System.arraycopy(items, 0, result, 0, index);
+        result[index] = item;
+        System.arraycopy(items, index, result, index + 1, items.length - index);
+        return result;
+    }
+
+    /**
+     * Removes the {@code index}th element from the subtree rooted at
+     * {@code node}. The returned node may be less than half full.
+     *
+     * @param node  the root of the subtree.
+     * @param index the index of the element to remove within the subtree.
+     * @return the new root of the subtree.
+     */
+    private static Node removeAt(Node node, int index) {
+        if (node.isLeaf()) {
+            return leaf(replaceItems(node.items, index, 1, new Object[0]));
+        }
+
+        int childIndex = node.childIndex(index);
+        Node child = removeAt((Node) node.items[childIndex],
+                              index - node.childStart(childIndex));
+
+        Object[] children = node.items.clone();
+        children[childIndex] = child;
+
+        if (child.items.length >= child.capacity() / 2
+                || children.length == 1) {
+            return branch(children);
+        }
+
+        // Once here, the child underflows. Merge it with its neighbour:
+        int left = childIndex > 0 ? childIndex - 1 : childIndex;
+        Node leftNode = (Node) children[left];
+        Node rightNode = (Node) children[left + 1];
+        Object[] merged = replaceItems(leftNode.items,
+                                       leftNode.items.length,
+                                       0,
+                                       rightNode.items);
+
+        Node[] replacement;
+
+        if (merged.length <= child.capacity()) {
+            replacement = new Node[]{ child.withItems(merged) };
+        } else {
+            // Once here, the neighbour has enough items. Split them evenly:
+            int half = merged.length / 2;
+
+            replacement = new Node[]{
+                child.withItems(Arrays.copyOfRange(merged, 0, half)),
+                child.withItems(
+                        Arrays.copyOfRange(merged, half, merged.length)),
+            };
+        }
+
+        return branch(replaceItems(children, left, 2, replacement));
+    }
+
+    /**
+     * Returns a copy of {@code items} with the range
+     * {@code [index, index + length)} replaced by {@code replacement}.
+     *
+     * @param items       the source array.
+     * @param index       the starting index of the range to replace.
+     * @param length      the length of the range to replace.
+     * @param replacement the replacement items.
+     * @return the new array.
+     */
+    private static Object[] replaceItems(Object[] items,
+                                         int index,
+                                         int length,
+                                         Object[] replacement) {
+        Object[] result =
+                new Object[items.length - length + replacement.length];
+
+        System.arraycopy(items, 0, result, 0, index);
+        System.arraycopy(replacement,
+                         0,
+                         result,
+                         index,
+                         replacement.length);
+
+        System.arraycopy(items,
+                         index + length,
+                         result,
+                         index + replacement.length,
+                         items.length - index - length);
+
+        return result;
+    }
+
+    /**
+     * Replaces the {@code index}th element in the subtree rooted at
+     * {@code node} with {@code element}.
+     *
+     * @param node    the root of the subtree.
+     * @param index   the element index within the subtree.
+     * @param element the new element.
+     * @return the new root of the subtree.
+     */
+    private static Node with(Node node, int index, Object element) {
+        Object[] items = node.items.clone();
+
+        if (node.isLeaf()) {
+            items[index] = element;
+            return leaf(items);
+        }
+
+        int childIndex = node.childIndex(index);
+        items[childIndex] = with((Node) items[childIndex],
+                                 index - node.childStart(childIndex),
+                                 element);
+
+        // The element counts do not change, so share the offsets:
+        return new Node(items, node.offsets, node.size);
+    }
+
+    /**
+     * Checks that {@code index} is a valid element index.
+     *
+     * @param index the index to check.
+     */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= root.size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+
+    /**
+     * Checks that {@code index} is a valid position index.
+     *
+     * @param index the index to check.
+     */
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > root.size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+
+    /**
+     * Returns the out-of-bounds message.
+     *
+     * @param index the offending index.
+     * @return the message.
+     */
+    private String getOutOfBoundsMessage(int index) {
+        return "Index: " + index + ", Size: " + root.size;
+    }
+
+    /**
+     * This inner class implements the iterator over this list. It walks the
+     * current leaf and descends from the root only to locate the next one.
+     */
+    private final class LeafIterator implements Iterator<E> {
+
+        /**
+         * The current leaf.
+         */
+        private Node leaf = EMPTY_ROOT;
+
+        /**
+         * The offset of the next element within {@code leaf}.
+         */
+        private int offset;
+
+        /**
+         * The index of the next element in the list.
+         */
+        private int nextIndex;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < root.size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (offset == leaf.size) {
+                // Locate the leaf holding the next element:
+                Node node = root;
+                int index = nextIndex;
+
+                while (!node.isLeaf()) {
+                    int childIndex = node.childIndex(index);
+                    index -= node.childStart(childIndex);
+                    node = (Node) node.items[childIndex];
+                }
+
+                leaf = node;
+                offset = index;
+            }
+
+            nextIndex++;
+            return (E) leaf.items[offset++];
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.coderodde.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface defines the API for the codecs translating the elements of an
+ * {@link OffHeapIndexedLinkedList} to fixed-width records and back. Both
+ * methods must use the absolute {@link ByteBuffer} accessors and touch only
+ * the {@code getRecordSize()} bytes starting at {@code offset}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ * @param <E> the element type.
+ */
+public interface RecordCodec<E> {
+
+    /**
+     * The codec storing {@link Integer} elements in 4 bytes.
+     */
+    RecordCodec<Integer> INT = new IntCodec();
+
+    /**
+     * The codec storing {@link Long} elements in 8 bytes.
+     */
+    RecordCodec<Long> LONG = new LongCodec();
+
+    /**
+     * The codec storing {@link Double} elements in 8 bytes.
+     */
+    RecordCodec<Double> DOUBLE = new DoubleCodec();
+
+    /**
+     * Returns the number of bytes in each record.
+     *
+     * @return the positive record size in bytes.
+     */
+    int getRecordSize();
+
+    /**
+     * Writes {@code element} to the record starting at {@code offset}.
+     *
+     * @param element the element to encode.
+     * @param buffer  the target buffer.
+     * @param offset  the offset of the record in {@code buffer}.
+     */
+    void encode(E element, ByteBuffer buffer, int offset);
+
+    /**
+     * Reads the element from the record starting at {@code offset}.
+     *
+     * @param buffer the source buffer.
+     * @param offset the offset of the record in {@code buffer}.
+     * @return the decoded element.
+     */
+    E decode(ByteBuffer buffer, int offset);
+
+    /**
+     * Implements the {@link Integer} codec.
+     */
+    final class IntCodec implements RecordCodec<Integer> {
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public int getRecordSize() {
+            return Integer.BYTES;
+        }
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public void encode(Integer element, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, element);
+        }
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public Integer decode(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        public String toString() {
+            return "INT";
+        }
+    }
+
+    /**
+     * Implements the {@link Long} codec.
+     */
+    final class LongCodec implements RecordCodec<Long> {
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public int getRecordSize() {
+            return Long.BYTES;
+        }
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public void encode(Long element, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, element);
+        }
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public Long decode(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        public String toString() {
+            return "LONG";
+        }
+    }
+
+    /**
+     * Implements the {@link Double} codec.
+     */
+    final class DoubleCodec implements RecordCodec<Double> {
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public int getRecordSize() {
+            return Double.BYTES;
+        }
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public void encode(Double element, ByteBuffer buffer, int offset) {
+            buffer.putDouble(offset, element);
+        }
+
+        /**
+         * {@inheritDoc }
+         */
+        @Override
+        public Double decode(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+
+        @Override
+        public String toString() {
+            return "DOUBLE";
+        }
+    }
+}
@@ -0,0 +1,1764 @@
+package io.github.coderodde.util;
+
+import io.github.coderodde.util.IndexedLinkedList.Node;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ * This class implements a thread-safe indexed list that partitions its
+ * elements into a fixed number of <i>segments</i>. Each segment is an
+ * {@link IndexedLinkedList} with its own fingers, guarded by its own
+ * {@link ReentrantReadWriteLock}. The writers touching different segments,
+ * such as a producer appending at the tail and an editor working in the middle
+ * of the list, do not wait for each other.
+ *
+ * <p>
+ * A positional operation routes the index by walking the segment sizes from
+ * the head segment onward, read-locking each segment it passes and keeping
+ * those read locks until it holds the lock of its target segment. A positional
+ * write takes the write lock only on its target segment: it trades the read
+ * lock of the target segment for the write lock and rechecks the local index,
+ * since only that segment may have changed in between. If the segment shrank
+ * past the index, the write goes on to the next segment. Once the target lock
+ * is held, the read locks of the preceding segments are released, and the
+ * operation runs holding only the target lock. The operation takes effect at
+ * the moment it holds all the locks: the local index agrees with the sizes of
+ * the preceding segments at that moment, and the later changes to those
+ * segments only shift the global indices of the target segment, whose lock
+ * every other thread must acquire before observing the operation. This makes
+ * every operation atomic, and since all the threads acquire the segment locks
+ * in ascending order, there are no deadlocks. The writers routing to
+ * different segments share the read locks on the way, and wait for each other
+ * only if one of them writes to a segment the other one passes. The walk costs
+ * \(\mathcal{O}(s)\) lock acquisitions, where \(s\) is the number of
+ * segments, after which the operation runs in \(\mathcal{O}(\sqrt{n / s})\)
+ * time within the target segment. {@link #addFirst(Object)} and
+ * {@link #addLast(Object)} lock only the head and the tail segment,
+ * respectively.
+ *
+ * <p>
+ * As soon as a segment grows beyond twice the average segment size (but no
+ * less than {@link #MINIMUM_SEGMENT_CAPACITY} elements), all the segments are
+ * locked and the elements are redistributed evenly among them. The
+ * redistribution runs in \(\mathcal{O}(n)\) time, and its amortized cost is
+ * \(\mathcal{O}(s)\) per insertion.
+ *
+ * <p>
+ * The operations on the whole list, such as {@link #size()},
+ * {@link #indexOf(Object)} and {@link #clear()}, lock all the segments.
+ * {@link #forEach(Consumer)} traverses the list segment by segment, holding
+ * only the read lock of the current segment, so the action must not modify
+ * this list. The iterators (including the ones of
+ * {@link #descendingIterator()} and {@link #stream()}) copy one segment at a
+ * time, under its read lock, as they reach it, and are therefore weakly
+ * consistent: a segment is traversed as it was when reached. They never
+ * allocate more than \(\mathcal{O}(n / s)\) memory at a time. Their
+ * {@code remove} and {@code set} write-lock only the segment of the last
+ * returned element, and throw {@link ConcurrentModificationException} if
+ * another thread has structurally modified that segment since the iterator
+ * copied it; {@code add} is not supported. Each operation of a
+ * {@link #subList(int, int)} view is atomic, but the view is not synchronized
+ * with the concurrent structural modifications of the backing list. The
+ * functions passed to {@link #removeIf(Predicate)},
+ * {@link #replaceAll(UnaryOperator)} and {@link #sort(Comparator)} run while
+ * all the segments are locked and must not access this list.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ * @param <E> the element type.
+ */
+public class SegmentedIndexedLinkedList<E> extends AbstractList<E>
+                                           implements Deque<E>,
+                                                      java.io.Serializable {
+
+    /**
+     * The default number of segments.
+     */
+    public static final int DEFAULT_NUMBER_OF_SEGMENTS = 16;
+
+    /**
+     * The minimum segment size that triggers the redistribution of the
+     * elements.
+     */
+    public static final int MINIMUM_SEGMENT_CAPACITY = 1024;
+
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 6610743587229301842L;
+
+    /**
+     * The segments. The elements of {@code segments[i]} precede the elements
+     * of {@code segments[i + 1]}.
+     */
+    final IndexedLinkedList<E>[] segments;
+
+    /**
+     * {@code locks[i]} guards {@code segments[i]}.
+     */
+    private final ReentrantReadWriteLock[] locks;
+
+    /**
+     * The segment size above which the elements are redistributed.
+     */
+    private volatile int segmentCapacity = MINIMUM_SEGMENT_CAPACITY;
+
+    /**
+     * Constructs an empty list with {@link #DEFAULT_NUMBER_OF_SEGMENTS}
+     * segments.
+     */
+    public SegmentedIndexedLinkedList() {
+        this(DEFAULT_NUMBER_OF_SEGMENTS);
+    }
+
+    /**
+     * Constructs an empty list with {@code numberOfSegments} segments.
+     *
+     * @param numberOfSegments the number of segments.
+     * @throws IllegalArgumentException if {@code numberOfSegments} is not
+     *                                  positive.
+     */
+    @SuppressWarnings("unchecked")
+    public SegmentedIndexedLinkedList(int numberOfSegments) {
+        if (numberOfSegments < 1) {
+            throw new IllegalArgumentException(
+                    "numberOfSegments(" + numberOfSegments + ") < 1");
+        }
+
+        segments = new IndexedLinkedList[numberOfSegments];
+        locks = new ReentrantReadWriteLock[numberOfSegments];
+
+        for (int i = 0; i < numberOfSegments; ++i) {
+            segments[i] = new IndexedLinkedList<>();
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * Constructs a new list with {@link #DEFAULT_NUMBER_OF_SEGMENTS} segments
+     * and copies the data in {@code c} to it.
+     *
+     * @param c the collection to copy.
+     */
+    public SegmentedIndexedLinkedList(Collection<? extends E> c) {
+        this(DEFAULT_NUMBER_OF_SEGMENTS);
+        distribute(c.toArray());
+    }
+
+    /**
+     * Appends the specified element to the end of this list. Locks only the
+     * tail segment.
+     *
+     * @param e the element to append.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index   the index at which to insert.
+     * @param element the element to insert.
+     * @throws IndexOutOfBoundsException if the index is outside of the valid
+     *                                   range.
+     */
+    @Override
+    public void add(int index, E element) {
+        long location = lockSegmentOf(index, true, true);
+        checkLocation(index, location);
+        int segment = getSegment(location);
+        boolean overflow;
+
+        try {
+            segments[segment].add(getLocalIndex(location), element);
+            overflow = segments[segment].size() > segmentCapacity;
+        } finally {
+            locks[segment].writeLock().unlock();
+        }
+
+        if (overflow) {
+            redistribute();
+        }
+    }
+
+    /**
+     * Appends all the elements of {@code c} to the tail of this list. The
+     * elements of {@code c} are copied before locking this list.
+     *
+     * @param c the collection to append.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        List<E> elements = snapshotOf(c);
+        int segment = segments.length - 1;
+        boolean overflow;
+
+        locks[segment].writeLock().lock();
+
+        try {
+            segments[segment].addAll(elements);
+            overflow = segments[segment].size() > segmentCapacity;
+        } finally {
+            locks[segment].writeLock().unlock();
+        }
+
+        if (overflow) {
+            redistribute();
+        }
+
+        return !elements.isEmpty();
+    }
+
+    /**
+     * Inserts all the elements of {@code c} starting from the position
+     * {@code index}. The elements of {@code c} are copied before locking this
+     * list.
+     *
+     * @param index the index of the first inserted element.
+     * @param c     the collection to insert.
+     * @return {@code true} if this list changed as a result of the call.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        List<E> elements = snapshotOf(c);
+        long location = lockSegmentOf(index, true, true);
+        checkLocation(index, location);
+        int segment = getSegment(location);
+        boolean overflow;
+
+        try {
+            segments[segment].addAll(getLocalIndex(location), elements);
+            overflow = segments[segment].size() > segmentCapacity;
+        } finally {
+            locks[segment].writeLock().unlock();
+        }
+
+        if (overflow) {
+            redistribute();
+        }
+
+        return !elements.isEmpty();
+    }
+
+    /**
+     * Adds the element {@code e} before the head of this list. Locks only the
+     * head segment.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void addFirst(E e) {
+        boolean overflow;
+
+        locks[0].writeLock().lock();
+
+        try {
+            segments[0].addFirst(e);
+            overflow = segments[0].size() > segmentCapacity;
+        } finally {
+            locks[0].writeLock().unlock();
+        }
+
+        if (overflow) {
+            redistribute();
+        }
+    }
+
+    /**
+     * Adds the element {@code e} after the tail of this list. Locks only the
+     * tail segment.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void addLast(E e) {
+        int segment = segments.length - 1;
+        boolean overflow;
+
+        locks[segment].writeLock().lock();
+
+        try {
+            segments[segment].addLast(e);
+            overflow = segments[segment].size() > segmentCapacity;
+        } finally {
+            locks[segment].writeLock().unlock();
+        }
+
+        if (overflow) {
+            redistribute();
+        }
+    }
+
+    /**
+     * Checks the data structure invariant of each segment. Throws
+     * {@link java.lang.IllegalStateException} on invalid invariant.
+     */
+    public void checkInvariant() {
+        lockAll(true);
+
+        try {
+            for (IndexedLinkedList<E> segment : segments) {
+                segment.checkInvarant();
+            }
+        } finally {
+            unlockAll(true);
+        }
+    }
+
+    /**
+     * Completely clears this list.
+     */
+    @Override
+    public void clear() {
+        lockAll(true);
+
+        try {
+            for (IndexedLinkedList<E> segment : segments) {
+                segment.clear();
+            }
+
+            segmentCapacity = MINIMUM_SEGMENT_CAPACITY;
+        } finally {
+            unlockAll(true);
+        }
+    }
+
+    /**
+     * Returns {@code true} only if {@code o} is present in this list.
+     *
+     * @param o the query object.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns {@code true} only if this list contains all the elements
+     * mentioned in {@code c}.
+     *
+     * @param c the query object collection.
+     * @return {@code true} only if this list contains all the elements in
+     *         {@code c}.
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        List<?> elements = snapshotOf(c);
+        lockAll(false);
+
+        try {
+            outer:
+            for (Object element : elements) {
+                for (IndexedLinkedList<E> segment : segments) {
+                    if (segment.contains(element)) {
+                        continue outer;
+                    }
+                }
+
+                return false;
+            }
+
+            return true;
+        } finally {
+            unlockAll(false);
+        }
+    }
+
+    /**
+     * Returns the descending iterator over this list, which copies one segment
+     * at a time starting from the tail segment.
+     *
+     * @return the descending iterator.
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        // The descending iterator does not expose the indices, so the offset
+        // of the tail window does not matter:
+        Window<E> window = loadWindow(segments.length - 1);
+        ListIterator<E> iterator =
+                new SegmentIterator(window, window.elements.size());
+
+        return new Iterator<E>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    /**
+     * Applies {@code action} to each element in this list segment by segment.
+     * Holds only the read lock of the current segment, so {@code action} must
+     * not modify this list.
+     *
+     * @param action the action to apply.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+
+        for (int i = 0; i < segments.length; ++i) {
+            locks[i].readLock().lock();
+
+            try {
+                for (Node<E> node = segments[i].head;
+                        node != null;
+                        node = node.next) {
+                    action.accept(node.item);
+                }
+            } finally {
+                locks[i].readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns {@code index}th element. Takes only the read locks and does not
+     * relocate the fingers of the target segment.
+     *
+     * @param index the index of the element to return.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E get(int index) {
+        long location = lockSegmentOf(index, false, false);
+        checkLocation(index, location);
+        int segment = getSegment(location);
+
+        try {
+            return segments[segment].fingerList
+                                    .getNodeNoFingersFix(
+                                            getLocalIndex(location)).item;
+        } finally {
+            locks[segment].readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getFirst() {
+        long location = lockSegmentOf(0, false, false);
+
+        if (location < 0L) {
+            throw new NoSuchElementException("getFirst() on empty list.");
+        }
+
+        int segment = getSegment(location);
+
+        try {
+            return segments[segment].getFirst();
+        } finally {
+            locks[segment].readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the last element of this list.
+     *
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getLast() {
+        int segment = segments.length - 1;
+
+        locks[segment].readLock().lock();
+
+        try {
+            if (!segments[segment].isEmpty()) {
+                return segments[segment].getLast();
+            }
+        } finally {
+            locks[segment].readLock().unlock();
+        }
+
+        // Once here, the tail segment is empty:
+        lockAll(false);
+
+        try {
+            segment = getLastNonEmptySegment();
+
+            if (segment < 0) {
+                throw new NoSuchElementException("getLast() on empty list.");
+            }
+
+            return segments[segment].getLast();
+        } finally {
+            unlockAll(false);
+        }
+    }
+
+    /**
+     * Returns the number of segments of this list.
+     *
+     * @return the number of segments.
+     */
+    public int getNumberOfSegments() {
+        return segments.length;
+    }
+
+    /**
+     * Returns the index of the leftmost {@code o}, or {@code -1} if {@code o}
+     * does not appear in this list.
+     *
+     * @param o the object to search.
+     * @return the index of the leftmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int indexOf(Object o) {
+        lockAll(false);
+
+        try {
+            int offset = 0;
+
+            for (IndexedLinkedList<E> segment : segments) {
+                int index = segment.indexOf(o);
+
+                if (index >= 0) {
+                    return offset + index;
+                }
+
+                offset += segment.size();
+            }
+
+            return -1;
+        } finally {
+            unlockAll(false);
+        }
+    }
+
+    /**
+     * Returns {@code true} only if this list is empty.
+     *
+     * @return {@code true} only if this list is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the iterator over this list, which copies one segment at a time.
+     *
+     * @return the iterator over this list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator();
+    }
+
+    /**
+     * Returns the index of the rightmost {@code o}, or {@code -1} if
+     * {@code o} does not appear in this list.
+     *
+     * @param o the object to search.
+     * @return the index of the rightmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        lockAll(false);
+
+        try {
+            int offset = sizeImpl();
+
+            for (int i = segments.length - 1; i >= 0; --i) {
+                offset -= segments[i].size();
+                int index = segments[i].lastIndexOf(o);
+
+                if (index >= 0) {
+                    return offset + index;
+                }
+            }
+
+            return -1;
+        } finally {
+            unlockAll(false);
+        }
+    }
+
+    /**
+     * Returns the list iterator over this list, which copies one segment at a
+     * time.
+     *
+     * @return the list iterator.
+     */
+    @Override
+    public ListIterator<E> listIterator() {
+        Window<E> window = loadWindow(0);
+        return new SegmentIterator(window, 0);
+    }
+
+    /**
+     * Returns the list iterator over this list pointing between
+     * {@code list[index - 1]} and {@code list[index]}. The iterator copies one
+     * segment at a time, starting from the segment containing the gap.
+     *
+     * @param index the gap index.
+     * @return the list iterator.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        long location = lockSegmentOf(index, false, true);
+        checkLocation(index, location);
+        int segment = getSegment(location);
+        int localIndex = getLocalIndex(location);
+
+        try {
+            Window<E> window = copySegment(segment);
+            window.offset = index - localIndex;
+            return new SegmentIterator(window, localIndex);
+        } finally {
+            locks[segment].readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds {@code e} after the tail element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offer(E e) {
+        return add(e);
+    }
+
+    /**
+     * Adds {@code e} before the head element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    /**
+     * Adds {@code e} after the tail element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerLast(E e) {
+        return add(e);
+    }
+
+    /**
+     * Takes a look at the first element in this list.
+     *
+     * @return the head element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Takes a look at the first element in this list.
+     *
+     * @return the head element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peekFirst() {
+        long location = lockSegmentOf(0, false, false);
+
+        if (location < 0L) {
+            return null;
+        }
+
+        int segment = getSegment(location);
+
+        try {
+            return segments[segment].getFirst();
+        } finally {
+            locks[segment].readLock().unlock();
+        }
+    }
+
+    /**
+     * Takes a look at the last element in this list. Locks only the tail
+     * segment unless it is empty.
+     *
+     * @return the tail element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peekLast() {
+        int segment = segments.length - 1;
+
+        locks[segment].readLock().lock();
+
+        try {
+            if (!segments[segment].isEmpty()) {
+                return segments[segment].getLast();
+            }
+        } finally {
+            locks[segment].readLock().unlock();
+        }
+
+        // Once here, the tail segment is empty:
+        lockAll(false);
+
+        try {
+            segment = getLastNonEmptySegment();
+            return segment < 0 ? null : segments[segment].getLast();
+        } finally {
+            unlockAll(false);
+        }
+    }
+
+    /**
+     * If this list is empty, does nothing else but return {@code null}.
+     * Otherwise, removes the first element and returns it.
+     *
+     * @return the first element (which was removed due to the call to this
+     *         method), or {@code null} if the list is empty.
+     */
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the
+     * first element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E pollFirst() {
+        long location = lockSegmentOf(0, true, false);
+
+        if (location < 0L) {
+            return null;
+        }
+
+        int segment = getSegment(location);
+
+        try {
+            return segments[segment].removeFirst();
+        } finally {
+            locks[segment].writeLock().unlock();
+        }
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the last
+     * element and returns it. Locks only the tail segment unless it is empty.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E pollLast() {
+        int segment = segments.length - 1;
+
+        locks[segment].writeLock().lock();
+
+        try {
+            if (!segments[segment].isEmpty()) {
+                return segments[segment].removeLast();
+            }
+        } finally {
+            locks[segment].writeLock().unlock();
+        }
+
+        // Once here, the tail segment is empty:
+        lockAll(true);
+
+        try {
+            segment = getLastNonEmptySegment();
+            return segment < 0 ? null : segments[segment].removeLast();
+        } finally {
+            unlockAll(true);
+        }
+    }
+
+    /**
+     * Removes the first element and returns it.
+     *
+     * @return the first element.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Adds {@code e} before the head of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    /**
+     * Removes and returns the first element.
+     *
+     * @return the head element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes the element residing at the given index.
+     *
+     * @param index the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E remove(int index) {
+        long location = lockSegmentOf(index, true, false);
+        checkLocation(index, location);
+        int segment = getSegment(location);
+
+        try {
+            return segments[segment].remove(getLocalIndex(location));
+        } finally {
+            locks[segment].writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the leftmost occurrence of {@code o} in this list.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if {@code o} was located and removed.
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Removes from this list all the elements mentioned in {@code c}.
+     *
+     * @param c the collection holding all the elements to remove.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        Collection<?> elements = c == this ? snapshotOf(c) : c;
+        return removeIf(elements::contains);
+    }
+
+    /**
+     * Removes the first element from this list.
+     *
+     * @return the first element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeFirst() {
+        long location = lockSegmentOf(0, true, false);
+
+        if (location < 0L) {
+            throw new NoSuchElementException("removeFirst() on empty list.");
+        }
+
+        int segment = getSegment(location);
+
+        try {
+            return segments[segment].removeFirst();
+        } finally {
+            locks[segment].writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the leftmost occurrence of {@code o}. Read-locks the segments
+     * from the head segment onward, and write-locks only the segment
+     * containing {@code o}.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if {@code o} was present in the list and was
+     *         successfully removed.
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int i = 0;
+        boolean removed = false;
+
+        for (; i < segments.length && !removed; ++i) {
+            locks[i].readLock().lock();
+
+            if (segments[i].contains(o)) {
+                // The preceding segments stay read-locked, so only this
+                // segment may change before the write lock is held:
+                locks[i].readLock().unlock();
+                locks[i].writeLock().lock();
+                removed = segments[i].removeFirstOccurrence(o);
+
+                if (removed) {
+                    locks[i].writeLock().unlock();
+                } else {
+                    locks[i].readLock().lock();
+                    locks[i].writeLock().unlock();
+                }
+            }
+        }
+
+        // Once here, the segments preceding the 'i'th one are read-locked:
+        unlockReadLocks(removed ? i - 1 : i);
+        return removed;
+    }
+
+    /**
+     * Removes from this list all the elements that satisfy the given input
+     * predicate. The predicate runs while all the segments are locked.
+     *
+     * @param filter the filtering predicate.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        lockAll(true);
+
+        try {
+            boolean modified = false;
+
+            for (IndexedLinkedList<E> segment : segments) {
+                modified |= segment.removeIf(filter);
+            }
+
+            return modified;
+        } finally {
+            unlockAll(true);
+        }
+    }
+
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @return the removed tail element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeLast() {
+        int segment = segments.length - 1;
+
+        locks[segment].writeLock().lock();
+
+        try {
+            if (!segments[segment].isEmpty()) {
+                return segments[segment].removeLast();
+            }
+        } finally {
+            locks[segment].writeLock().unlock();
+        }
+
+        // Once here, the tail segment is empty:
+        lockAll(true);
+
+        try {
+            segment = getLastNonEmptySegment();
+
+            if (segment < 0) {
+                throw new NoSuchElementException(
+                        "removeLast() on empty list.");
+            }
+
+            return segments[segment].removeLast();
+        } finally {
+            unlockAll(true);
+        }
+    }
+
+    /**
+     * Removes the rightmost occurrence of {@code o}.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if an element was actually removed.
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        lockAll(true);
+
+        try {
+            for (int i = segments.length - 1; i >= 0; --i) {
+                if (segments[i].removeLastOccurrence(o)) {
+                    return true;
+                }
+            }
+
+            return false;
+        } finally {
+            unlockAll(true);
+        }
+    }
+
+    /**
+     * Replaces each element with the result of applying {@code operator} to
+     * it. The operator runs while all the segments are locked.
+     *
+     * @param operator the operator to apply.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        lockAll(true);
+
+        try {
+            for (IndexedLinkedList<E> segment : segments) {
+                segment.replaceAll(operator);
+            }
+        } finally {
+            unlockAll(true);
+        }
+    }
+
+    /**
+     * Remove all the elements that <strong>do not</strong> appear in
+     * {@code c}.
+     *
+     * @param c the collection of elements to retain.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        Collection<?> elements = c == this ? snapshotOf(c) : c;
+        return removeIf(e -> !elements.contains(e));
+    }
+
+    /**
+     * Sets the element at index {@code index} to {@code element} and returns
+     * the old element.
+     *
+     * @param index   the target index.
+     * @param element the element to set.
+     * @return the previous element at the given index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E set(int index, E element) {
+        long location = lockSegmentOf(index, true, false);
+        checkLocation(index, location);
+        int segment = getSegment(location);
+
+        try {
+            return segments[segment].set(getLocalIndex(location), element);
+        } finally {
+            locks[segment].writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list. Read-locks all the
+     * segments.
+     *
+     * @return the size of this list.
+     */
+    @Override
+    public int size() {
+        lockAll(false);
+
+        try {
+            return sizeImpl();
+        } finally {
+            unlockAll(false);
+        }
+    }
+
+    /**
+     * Sorts this list and redistributes its elements evenly among the
+     * segments. The comparator runs while all the segments are locked.
+     *
+     * @param c the element comparator, or {@code null} for the natural
+     *          ordering.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c) {
+        lockAll(true);
+
+        try {
+            Object[] elements = toArrayImpl();
+            Arrays.sort((E[]) elements, c);
+            distribute(elements);
+        } finally {
+            unlockAll(true);
+        }
+    }
+
+    /**
+     * Returns the spliterator over this list, which copies one segment at a
+     * time. Since the segments may change during the traversal, the size is
+     * not known in advance.
+     *
+     * @return the spliterator over this list.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(),
+                                                   Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns the {@link Object} array containing all the elements in this
+     * list, in the same order as they appear in the list.
+     *
+     * @return the list contents in an {@link Object} array.
+     */
+    @Override
+    public Object[] toArray() {
+        lockAll(false);
+
+        try {
+            return toArrayImpl();
+        } finally {
+            unlockAll(false);
+        }
+    }
+
+    /**
+     * Returns an array containing all the elements in this list, in the same
+     * order as they appear in the list.
+     *
+     * @param <T> the array component type.
+     * @param a   the array to fill, if large enough.
+     * @return the list contents in an array.
+     */
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return Arrays.asList(toArray()).toArray(a);
+    }
+
+    /**
+     * Removes the list range {@code [fromIndex, ..., toIndex - 1]}.
+     *
+     * @param fromIndex the staring, inclusive range index.
+     * @param toIndex   the ending, exclusive range index.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        lockAll(true);
+
+        try {
+            int offset = 0;
+
+            for (IndexedLinkedList<E> segment : segments) {
+                int size = segment.size();
+                int from = Math.max(fromIndex - offset, 0);
+                int to = Math.min(toIndex - offset, size);
+
+                if (from < to) {
+                    segment.subList(from, to).clear();
+                }
+
+                offset += size;
+            }
+        } finally {
+            unlockAll(true);
+        }
+    }
+
+    /**
+     * Throws an {@link IndexOutOfBoundsException} if {@code location} denotes
+     * an invalid index.
+     *
+     * @param index    the index passed to {@link #lockSegmentOf}.
+     * @param location the value returned by {@link #lockSegmentOf}.
+     * @throws IndexOutOfBoundsException if {@code location} is negative.
+     */
+    private static void checkLocation(int index, long location) {
+        if (location < 0L) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + ~location);
+        }
+    }
+
+    /**
+     * Copies the elements of the {@code segment}th segment to a new window.
+     * Must be called while the segment is locked.
+     *
+     * @param segment the segment index.
+     * @return the window holding the elements of the segment.
+     */
+    private Window<E> copySegment(int segment) {
+        IndexedLinkedList<E> list = segments[segment];
+        return new Window<>(segment, new ArrayList<>(list), list.modCount);
+    }
+
+    /**
+     * Copies the elements to the segments such that their sizes differ by at
+     * most one. Must be called while all the segments are write-locked.
+     *
+     * @param elements the new contents of this list.
+     */
+    @SuppressWarnings("unchecked")
+    private void distribute(Object[] elements) {
+        List<E> list = Arrays.asList((E[]) elements);
+        int size = elements.length;
+        int numberOfSegments = segments.length;
+
+        for (int i = 0; i < numberOfSegments; ++i) {
+            int from = (int)((long) size * i / numberOfSegments);
+            int to = (int)((long) size * (i + 1) / numberOfSegments);
+
+            segments[i].clear();
+            segments[i].addAll(list.subList(from, to));
+        }
+
+        int averageSize = (size + numberOfSegments - 1) / numberOfSegments;
+
+        segmentCapacity = Math.max(MINIMUM_SEGMENT_CAPACITY,
+                                   2 * averageSize);
+    }
+
+    /**
+     * Returns the index of the rightmost non-empty segment, or {@code -1} if
+     * all the segments are empty.
+     *
+     * @return the index of the rightmost non-empty segment.
+     */
+    private int getLastNonEmptySegment() {
+        for (int i = segments.length - 1; i >= 0; --i) {
+            if (!segments[i].isEmpty()) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Extracts the local index from a location.
+     *
+     * @param location the value returned by {@link #lockSegmentOf}.
+     * @return the index within the segment.
+     */
+    private static int getLocalIndex(long location) {
+        return (int) location;
+    }
+
+    /**
+     * Extracts the segment index from a location.
+     *
+     * @param location the value returned by {@link #lockSegmentOf}.
+     * @return the segment index.
+     */
+    private static int getSegment(long location) {
+        return (int)(location >>> 32);
+    }
+
+    /**
+     * Copies the elements of the {@code segment}th segment to a new window
+     * under the read lock of the segment.
+     *
+     * @param segment the segment index.
+     * @return the window holding the elements of the segment.
+     */
+    private Window<E> loadWindow(int segment) {
+        locks[segment].readLock().lock();
+
+        try {
+            return copySegment(segment);
+        } finally {
+            locks[segment].readLock().unlock();
+        }
+    }
+
+    /**
+     * Locks all the segments in ascending order.
+     *
+     * @param write whether to take the write locks.
+     */
+    private void lockAll(boolean write) {
+        for (ReentrantReadWriteLock lock : locks) {
+            if (write) {
+                lock.writeLock().lock();
+            } else {
+                lock.readLock().lock();
+            }
+        }
+    }
+
+    /**
+     * Read-locks the segments from the head segment onward until reaching the
+     * segment that contains the {@code index}th element. If {@code write} is
+     * set, trades the read lock of that segment for the write lock, and
+     * rechecks the local index while the preceding segments are still
+     * read-locked. Releases the read locks of the preceding segments once the
+     * target lock is held, so that only the lock of the target segment remains
+     * held on return.
+     *
+     * @param index     the global index.
+     * @param write     whether to take the write locks.
+     * @param insertion whether {@code index} is an insertion position, in
+     *                  which case it may point right past the last element of
+     *                  a segment.
+     * @return the segment index in the upper 32 bits and the index within the
+     *         segment in the lower 32 bits, or {@code ~size} if the index is
+     *         out of range, in which case no lock is held.
+     */
+    private long lockSegmentOf(int index, boolean write, boolean insertion) {
+        if (index < 0) {
+            return ~(long) size();
+        }
+
+        int localIndex = index;
+        int i = 0;
+
+        for (; i < segments.length; ++i) {
+            locks[i].readLock().lock();
+            int size = segments[i].size();
+
+            if (localIndex < size || (insertion && localIndex == size)) {
+                if (!write) {
+                    break;
+                }
+
+                // The preceding segments stay read-locked, so only this
+                // segment may change before the write lock is held:
+                locks[i].readLock().unlock();
+                locks[i].writeLock().lock();
+                size = segments[i].size();
+
+                if (localIndex < size || (insertion && localIndex == size)) {
+                    break;
+                }
+
+                // Once here, the segment shrank past the index:
+                locks[i].readLock().lock();
+                locks[i].writeLock().unlock();
+            }
+
+            localIndex -= size;
+        }
+
+        unlockReadLocks(i);
+
+        if (i == segments.length) {
+            return ~(long)(index - localIndex);
+        }
+
+        return ((long) i << 32) | localIndex;
+    }
+
+    /**
+     * Redistributes the elements evenly among the segments if a segment has
+     * outgrown {@code segmentCapacity}.
+     */
+    private void redistribute() {
+        lockAll(true);
+
+        try {
+            for (IndexedLinkedList<E> segment : segments) {
+                if (segment.size() > segmentCapacity) {
+                    distribute(toArrayImpl());
+                    return;
+                }
+            }
+        } finally {
+            unlockAll(true);
+        }
+    }
+
+    /**
+     * Returns the total number of elements. Must be called while all the
+     * segments are locked.
+     *
+     * @return the size of this list.
+     */
+    private int sizeImpl() {
+        int size = 0;
+
+        for (IndexedLinkedList<E> segment : segments) {
+            size += segment.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Copies the elements of {@code c}, so that the copy may be accessed
+     * while this list is locked even if {@code c} is this list.
+     *
+     * @param <T> the element type.
+     * @param c   the collection to copy.
+     * @return the copy of {@code c}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> snapshotOf(Collection<? extends T> c) {
+        return Arrays.asList((T[]) c.toArray());
+    }
+
+    /**
+     * Copies all the elements to an array. Must be called while all the
+     * segments are locked.
+     *
+     * @return the list contents in an {@link Object} array.
+     */
+    private Object[] toArrayImpl() {
+        Object[] array = new Object[sizeImpl()];
+        int index = 0;
+
+        for (IndexedLinkedList<E> segment : segments) {
+            for (E element : segment) {
+                array[index++] = element;
+            }
+        }
+
+        return array;
+    }
+
+    /**
+     * Releases all the segment locks.
+     *
+     * @param write whether the write locks are held.
+     */
+    private void unlockAll(boolean write) {
+        for (int i = locks.length - 1; i >= 0; --i) {
+            unlock(i, write);
+        }
+    }
+
+    /**
+     * Releases the read locks of the first {@code count} segments.
+     *
+     * @param count the number of read-locked segments.
+     */
+    private void unlockReadLocks(int count) {
+        for (int i = count - 1; i >= 0; --i) {
+            locks[i].readLock().unlock();
+        }
+    }
+
+    /**
+     * Releases the lock of the {@code segment}th segment.
+     *
+     * @param segment the segment index.
+     * @param write   whether the write lock is held.
+     */
+    private void unlock(int segment, boolean write) {
+        if (write) {
+            locks[segment].writeLock().unlock();
+        } else {
+            locks[segment].readLock().unlock();
+        }
+    }
+
+    /**
+     * Saves the state of this list to a stream while all the segments are
+     * read-locked.
+     *
+     * @param s the object output stream.
+     *
+     * @throws java.io.IOException if the I/O fails.
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+        throws java.io.IOException {
+        lockAll(false);
+
+        try {
+            s.defaultWriteObject();
+        } finally {
+            unlockAll(false);
+        }
+    }
+
+    /**
+     * The elements of a single segment, copied by an iterator while the
+     * segment was read-locked.
+     *
+     * @param <E> the element type.
+     */
+    private static final class Window<E> {
+
+        /**
+         * The index of the segment.
+         */
+        final int segment;
+
+        /**
+         * The copy of the elements of the segment.
+         */
+        final List<E> elements;
+
+        /**
+         * The modification count of the segment this window agrees with.
+         */
+        int expectedModCount;
+
+        /**
+         * The global index of the first element in this window, as seen by
+         * the iterator.
+         */
+        int offset;
+
+        /**
+         * Constructs a new window.
+         *
+         * @param segment          the segment index.
+         * @param elements         the copy of the elements of the segment.
+         * @param expectedModCount the modification count of the segment.
+         */
+        Window(int segment, List<E> elements, int expectedModCount) {
+            this.segment = segment;
+            this.elements = elements;
+            this.expectedModCount = expectedModCount;
+        }
+    }
+
+    /**
+     * The list iterator traversing this list one segment at a time. Moving
+     * past the current window copies the next (or the previous) segment under
+     * its read lock. {@code remove} and {@code set} write-lock the segment of
+     * the last returned element.
+     */
+    private final class SegmentIterator implements ListIterator<E> {
+
+        /**
+         * The window containing the cursor.
+         */
+        private Window<E> window;
+
+        /**
+         * The gap index within {@code window}.
+         */
+        private int cursor;
+
+        /**
+         * The window of the last returned element, or {@code null} if there
+         * is no such.
+         */
+        private Window<E> lastWindow;
+
+        /**
+         * The index of the last returned element within {@code lastWindow}.
+         */
+        private int lastIndex = -1;
+
+        /**
+         * Constructs a new iterator.
+         *
+         * @param window the initial window.
+         * @param cursor the initial gap index within {@code window}.
+         */
+        SegmentIterator(Window<E> window, int cursor) {
+            this.window = window;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (cursor == window.elements.size()) {
+                if (window.segment == segments.length - 1) {
+                    return false;
+                }
+
+                Window<E> next = getWindow(window.segment + 1);
+                next.offset = window.offset + window.elements.size();
+                window = next;
+                cursor = 0;
+            }
+
+            return true;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastWindow = window;
+            lastIndex = cursor;
+            return window.elements.get(cursor++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            while (cursor == 0) {
+                if (window.segment == 0) {
+                    return false;
+                }
+
+                Window<E> previous = getWindow(window.segment - 1);
+                previous.offset = window.offset - previous.elements.size();
+                window = previous;
+                cursor = previous.elements.size();
+            }
+
+            return true;
+        }
+
+        @Override
+        public E previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            lastWindow = window;
+            lastIndex = --cursor;
+            return window.elements.get(cursor);
+        }
+
+        @Override
+        public int nextIndex() {
+            return window.offset + cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex() - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkLastElement();
+            int segment = lastWindow.segment;
+
+            locks[segment].writeLock().lock();
+
+            try {
+                checkForComodification(lastWindow);
+                segments[segment].remove(lastIndex);
+                lastWindow.expectedModCount = segments[segment].modCount;
+            } finally {
+                locks[segment].writeLock().unlock();
+            }
+
+            lastWindow.elements.remove(lastIndex);
+
+            if (lastWindow == window) {
+                if (lastIndex < cursor) {
+                    cursor--;
+                }
+            } else if (segment < window.segment) {
+                window.offset--;
+            }
+
+            lastWindow = null;
+            lastIndex = -1;
+        }
+
+        @Override
+        public void set(E e) {
+            checkLastElement();
+            int segment = lastWindow.segment;
+
+            locks[segment].writeLock().lock();
+
+            try {
+                checkForComodification(lastWindow);
+                segments[segment].set(lastIndex, e);
+            } finally {
+                locks[segment].writeLock().unlock();
+            }
+
+            lastWindow.elements.set(lastIndex, e);
+        }
+
+        @Override
+        public void add(E e) {
+            throw new UnsupportedOperationException(
+                    "add() is not supported by the iterators of " +
+                    "SegmentedIndexedLinkedList.");
+        }
+
+        /**
+         * Throws {@link ConcurrentModificationException} if the segment of
+         * {@code window} has been structurally modified since it was copied.
+         * Must be called while the segment is locked.
+         *
+         * @param window the window to check.
+         */
+        private void checkForComodification(Window<E> window) {
+            if (segments[window.segment].modCount != window.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * Throws {@link IllegalStateException} if there is no last returned
+         * element.
+         */
+        private void checkLastElement() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException(
+                        "No element to remove or set.");
+            }
+        }
+
+        /**
+         * Returns the window of the {@code segment}th segment. Reuses the
+         * window of the last returned element, so that {@code remove} and
+         * {@code set} keep both windows in agreement.
+         *
+         * @param segment the segment index.
+         * @return the window of the segment.
+         */
+        private Window<E> getWindow(int segment) {
+            if (lastWindow != null && lastWindow.segment == segment) {
+                return lastWindow;
+            }
+
+            return loadWindow(segment);
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package io.github.coderodde.util;
+
+import io.github.coderodde.util.IndexedLinkedList.FingerList;
+import io.github.coderodde.util.IndexedLinkedList.Node;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * This class implements an append-only {@link IndexedLinkedList} that one
+ * writer thread may grow while any number of reader threads access it without
+ * locking. Only the appending operations ({@link #add(Object)},
+ * {@link #addLast(Object)} and {@link #addAll(Collection)}) modify the list;
+ * the other mutators throw {@link UnsupportedOperationException}. The appending
+ * operations must be called by a single thread at a time.
+ *
+ * <p>
+ * The writer appends to an underlying {@link IndexedLinkedList}, which adds a
+ * finger at the tail whenever the list requires one and never moves the
+ * existing fingers. After each append, the writer <i>publishes</i> the finger
+ * list, the tail node and the size, in this order, via release stores. A reader
+ * loads the size first and the finger list after it, both with acquire
+ * semantics, so it sees all the nodes and fingers of the <i>published
+ * prefix</i> {@code [0, size)}. It locates the nodes via
+ * {@code getNodeNoFingersFix}, which writes nothing to shared memory. A
+ * published finger list shares its finger arrays with the writer; the writer
+ * only ever writes to the array slots past the published fingers, or to fresh
+ * arrays when the finger list grows.
+ *
+ * <p>
+ * {@link #get(int)} runs in \(\mathcal{O}(\sqrt{n})\) time, and
+ * {@link #getFirst()}, {@link #getLast()} and {@link #size()} run in constant
+ * time. The iterators traverse the prefix published at the moment of their
+ * creation and never throw
+ * {@link java.util.ConcurrentModificationException}. The fingers of this list
+ * are placed by the appends alone: the two-level finger mode is disabled, and
+ * the fingers are never re-centered.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ * @param <E> the element type.
+ */
+public class SingleWriterIndexedLinkedList<E> extends AbstractList<E> {
+
+    /**
+     * Publishes {@code size} with the release semantics.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<SingleWriterIndexedLinkedList>
+            SIZE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(
+                    SingleWriterIndexedLinkedList.class,
+                    "size");
+
+    /**
+     * Publishes {@code tail} with the release semantics.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<
+            SingleWriterIndexedLinkedList, Node> TAIL_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(
+                    SingleWriterIndexedLinkedList.class,
+                    Node.class,
+                    "tail");
+
+    /**
+     * Publishes {@code fingerList} with the release semantics.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<
+            SingleWriterIndexedLinkedList, FingerList> FINGER_LIST_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(
+                    SingleWriterIndexedLinkedList.class,
+                    FingerList.class,
+                    "fingerList");
+
+    /**
+     * The actual list. Accessed only by the writer.
+     */
+    final IndexedLinkedList<E> list = new IndexedLinkedList<>();
+
+    /**
+     * The published size.
+     */
+    private volatile int size;
+
+    /**
+     * The published tail node, or {@code null} if nothing is published yet.
+     */
+    private volatile Node<E> tail;
+
+    /**
+     * The published view of the finger list of {@code list}.
+     */
+    private volatile FingerList<E> fingerList;
+
+    /**
+     * The head node. Written once before the first publication of a
+     * non-zero size.
+     */
+    private Node<E> head;
+
+    /**
+     * Constructs an empty list.
+     */
+    public SingleWriterIndexedLinkedList() {
+        list.setTwoLevelFingerThreshold(Integer.MAX_VALUE);
+        fingerList = list.fingerList.sharedView();
+    }
+
+    /**
+     * Constructs a new list and copies the data in {@code c} to it.
+     *
+     * @param c the collection to copy.
+     */
+    public SingleWriterIndexedLinkedList(Collection<? extends E> c) {
+        this();
+        addAll(c);
+    }
+
+    /**
+     * Appends the specified element to the end of this list and publishes it.
+     * Must be called only by the writer thread.
+     *
+     * @param e the element to append.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean add(E e) {
+        list.add(e);
+        publish();
+        return true;
+    }
+
+    /**
+     * Appends all the elements of {@code c} to the tail of this list and
+     * publishes them at once. Must be called only by the writer thread.
+     *
+     * @param c the collection to append.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(Collection<? extends E> c) {
+        // Copy 'c' first, since it may be this very list:
+        if (!list.addAll(Arrays.asList((E[]) c.toArray()))) {
+            return false;
+        }
+
+        publish();
+        return true;
+    }
+
+    /**
+     * Appends the specified element to the end of this list and publishes it.
+     * Must be called only by the writer thread.
+     *
+     * @param e the element to append.
+     */
+    public void addLast(E e) {
+        add(e);
+    }
+
+    /**
+     * Checks the data structure invariant of the underlying list. Must be
+     * called only by the writer thread.
+     */
+    public void checkInvariant() {
+        list.checkInvarant();
+    }
+
+    /**
+     * Applies {@code action} to each element in the published prefix of this
+     * list.
+     *
+     * @param action the action to apply.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int sz = size;
+        Node<E> node = head;
+
+        for (int i = 0; i < sz; i++, node = node.next) {
+            action.accept(node.item);
+        }
+    }
+
+    /**
+     * Returns {@code index}th element. Does not relocate the fingers and runs
+     * without locking.
+     *
+     * @param index the index of the element to return.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if the index is outside of the
+     *                                   published prefix.
+     */
+    @Override
+    public E get(int index) {
+        int sz = size;
+
+        if (index < 0 || index >= sz) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + sz);
+        }
+
+        return fingerList.getNodeNoFingersFix(index).item;
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "getFirst from an empty SingleWriterIndexedLinkedList");
+        }
+
+        return head.item;
+    }
+
+    /**
+     * Returns the last published element of this list.
+     *
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E getLast() {
+        Node<E> node = tail;
+
+        if (node == null) {
+            throw new NoSuchElementException(
+                    "getLast from an empty SingleWriterIndexedLinkedList");
+        }
+
+        return node.item;
+    }
+
+    /**
+     * Returns the index of the leftmost {@code o} in the published prefix, or
+     * {@code -1} if there is no such.
+     *
+     * @param o the object to search.
+     * @return the index of the leftmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int indexOf(Object o) {
+        int sz = size;
+        Node<E> node = head;
+
+        for (int i = 0; i < sz; i++, node = node.next) {
+            if (Objects.equals(o, node.item)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} only if nothing is published yet.
+     *
+     * @return {@code true} only if this list is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the iterator over the prefix of this list published at the
+     * moment of the call.
+     *
+     * @return the iterator.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        int sz = size;
+        Node<E> first = head;
+
+        return new Iterator<E>() {
+
+            private Node<E> node = first;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < sz;
+            }
+
+            @Override
+            public E next() {
+                if (index >= sz) {
+                    throw new NoSuchElementException();
+                }
+
+                E item = node.item;
+                index++;
+
+                if (index < sz) {
+                    // Do not read past the published prefix:
+                    node = node.next;
+                }
+
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Returns the index of the rightmost {@code o} in the published prefix,
+     * or {@code -1} if there is no such.
+     *
+     * @param o the object to search.
+     * @return the index of the rightmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int sz = size;
+
+        if (sz == 0) {
+            return -1;
+        }
+
+        Node<E> node = fingerList.getNodeNoFingersFix(sz - 1);
+
+        for (int i = sz - 1; i >= 0; i--, node = node.prev) {
+            if (Objects.equals(o, node.item)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Takes a look at the first element in this list.
+     *
+     * @return the head element or {@code null} if this list is empty.
+     */
+    public E peekFirst() {
+        return size == 0 ? null : head.item;
+    }
+
+    /**
+     * Takes a look at the last published element in this list.
+     *
+     * @return the tail element or {@code null} if this list is empty.
+     */
+    public E peekLast() {
+        Node<E> node = tail;
+        return node == null ? null : node.item;
+    }
+
+    /**
+     * Returns the size of the published prefix.
+     *
+     * @return the number of the published elements.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Publishes the current state of {@code list}. Creates a new finger list
+     * view only if the fingers were added since the previous publication.
+     */
+    private void publish() {
+        FingerList<E> fingers = list.fingerList;
+        FingerList<E> view = fingerList;
+
+        if (view.size != fingers.size
+                || view.fingerIndices != fingers.fingerIndices) {
+            FINGER_LIST_UPDATER.lazySet(this, fingers.sharedView());
+        }
+
+        if (head == null) {
+            head = list.head;
+        }
+
+        TAIL_UPDATER.lazySet(this, list.tail);
+        SIZE_UPDATER.lazySet(this, list.size);
+    }
+}
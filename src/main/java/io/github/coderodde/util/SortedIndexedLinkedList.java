@@ -0,0 +1,385 @@
+package io.github.coderodde.util;
+
+import io.github.coderodde.util.IndexedLinkedList.FingerList;
+import io.github.coderodde.util.IndexedLinkedList.Node;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * This class implements an {@link IndexedLinkedList} that keeps its elements
+ * sorted by a {@link Comparator}. The equal elements are kept in their
+ * insertion order.
+ *
+ * <p>
+ * Since the fingers of the underlying list are sorted by their indices, the
+ * elements they point to are sorted as well. A search runs the binary search
+ * over the finger nodes first, which narrows the key down to the segment
+ * between two adjacent fingers in \(\mathcal{O}(\log n)\) comparisons, and
+ * then scans that single segment in \(\mathcal{O}(\sqrt{n})\) time. Thus,
+ * {@link #insert(Object)}, {@link #remove(Object)}, {@link #contains(Object)}
+ * and the rank query {@link #indexOf(Object)} run in
+ * \(\mathcal{O}(\log n + \sqrt{n})\) time, and the select query
+ * {@link #get(int)} runs in \(\mathcal{O}(\sqrt{n})\) time. The searches
+ * write nothing, so any number of threads may run {@code contains},
+ * {@code indexOf} and {@code lastIndexOf} concurrently as long as no thread
+ * modifies the list.
+ *
+ * <p>
+ * Just like in {@link java.util.TreeSet}, the comparator, not
+ * {@link Object#equals(Object)}, decides whether two elements are equal in
+ * {@code contains}, {@code indexOf}, {@link #lastIndexOf(Object)} and
+ * {@code remove(Object)}. The positional insertions and
+ * {@link #set(int, Object)} would break the order, and throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ * @param <E> the element type.
+ */
+public class SortedIndexedLinkedList<E> extends AbstractList<E> {
+
+    /**
+     * The actual list holding the elements in sorted order.
+     */
+    final IndexedLinkedList<E> list = new IndexedLinkedList<>();
+
+    /**
+     * The comparator defining the order of the elements.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Constructs an empty list sorted by {@code comparator}.
+     *
+     * @param comparator the comparator defining the order.
+     */
+    public SortedIndexedLinkedList(Comparator<? super E> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    /**
+     * Constructs a new list sorted by {@code comparator} and copies the data
+     * in {@code c} to it. Runs in \(\mathcal{O}(m \log m)\) time, where
+     * \(m = |c|\).
+     *
+     * @param comparator the comparator defining the order.
+     * @param c          the collection to copy.
+     */
+    public SortedIndexedLinkedList(Comparator<? super E> comparator,
+                                   Collection<? extends E> c) {
+        this(comparator);
+        addAll(c);
+    }
+
+    /**
+     * Inserts {@code e} after all the elements no greater than it. Runs in
+     * \(\mathcal{O}(\log n + \sqrt{n})\) time.
+     *
+     * @param e the element to insert.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean add(E e) {
+        insert(e);
+        return true;
+    }
+
+    /**
+     * Inserts all the elements of {@code c} into this list. If this list is
+     * empty, sorts the elements of {@code c} and appends them at once in
+     * \(\mathcal{O}(m \log m)\) time, and inserts them one by one otherwise.
+     *
+     * @param c the collection of elements to insert.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(Collection<? extends E> c) {
+        // Copy 'c' first, since it may be this very list:
+        E[] elements = (E[]) c.toArray();
+
+        if (elements.length == 0) {
+            return false;
+        }
+
+        if (list.isEmpty()) {
+            // Stable, so the equal elements keep their order in 'c':
+            Arrays.sort(elements, comparator);
+            list.addAll(Arrays.asList(elements));
+        } else {
+            for (E element : elements) {
+                insert(element);
+            }
+        }
+
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Checks the data structure invariant of the underlying list and that
+     * the elements are sorted. Throws {@link IllegalStateException} on
+     * invalid invariant.
+     */
+    public void checkInvariant() {
+        list.checkInvarant();
+        Node<E> node = list.head;
+
+        while (node != null && node.next != null) {
+            if (comparator.compare(node.item, node.next.item) > 0) {
+                throw new IllegalStateException(
+                        "The elements are not sorted: " + node.item + " > " +
+                        node.next.item);
+            }
+
+            node = node.next;
+        }
+    }
+
+    /**
+     * Removes all the elements from this list.
+     */
+    @Override
+    public void clear() {
+        list.clear();
+        modCount++;
+    }
+
+    /**
+     * Returns the comparator defining the order of this list.
+     *
+     * @return the comparator.
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns {@code true} only if this list contains an element equal to
+     * {@code o} by the comparator. Runs in \(\mathcal{O}(\log n + \sqrt{n})\)
+     * time.
+     *
+     * @param o the query object.
+     * @return {@code true} only if {@code o} is in this list.
+     * @throws ClassCastException if {@code o} may not be compared with the
+     *                            elements of this list.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Applies {@code action} to each element in this list in sorted order.
+     *
+     * @param action the action to apply.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        list.forEach(action);
+    }
+
+    /**
+     * Returns the {@code index}th smallest element. Runs in
+     * \(\mathcal{O}(\sqrt{n})\) time.
+     *
+     * @param index the rank of the element to return.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E get(int index) {
+        return list.get(index);
+    }
+
+    /**
+     * Returns the index of the leftmost element equal to {@code o} by the
+     * comparator, or {@code -1} if there is no such. Runs in
+     * \(\mathcal{O}(\log n + \sqrt{n})\) time.
+     *
+     * @param o the object to search.
+     * @return the index of the leftmost {@code o}, or {@code -1}.
+     * @throws ClassCastException if {@code o} may not be compared with the
+     *                            elements of this list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int indexOf(Object o) {
+        int index = search((E) o, false);
+        return index < 0 ? -1 : index;
+    }
+
+    /**
+     * Inserts {@code e} after all the elements no greater than it. Runs in
+     * \(\mathcal{O}(\log n + \sqrt{n})\) time.
+     *
+     * @param e the element to insert.
+     * @return the index of {@code e} in this list.
+     */
+    public int insert(E e) {
+        int index = search(e, true);
+
+        // Insert right after the rightmost equal element, if any:
+        index = index < 0 ? -(index + 1) : index + 1;
+        list.add(index, e);
+        modCount++;
+        return index;
+    }
+
+    /**
+     * Returns the iterator over this list in sorted order. The iterator
+     * supports the removal.
+     *
+     * @return the iterator.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return list.iterator();
+    }
+
+    /**
+     * Returns the index of the rightmost element equal to {@code o} by the
+     * comparator, or {@code -1} if there is no such. Runs in
+     * \(\mathcal{O}(\log n + \sqrt{n})\) time.
+     *
+     * @param o the object to search.
+     * @return the index of the rightmost {@code o}, or {@code -1}.
+     * @throws ClassCastException if {@code o} may not be compared with the
+     *                            elements of this list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int lastIndexOf(Object o) {
+        int index = search((E) o, true);
+        return index < 0 ? -1 : index;
+    }
+
+    /**
+     * Removes the {@code index}th element. Runs in \(\mathcal{O}(\sqrt{n})\)
+     * time.
+     *
+     * @param index the index of the element to remove.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E remove(int index) {
+        E element = list.remove(index);
+        modCount++;
+        return element;
+    }
+
+    /**
+     * Removes the leftmost element equal to {@code o} by the comparator. Runs
+     * in \(\mathcal{O}(\log n + \sqrt{n})\) time.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if an element was removed.
+     * @throws ClassCastException if {@code o} may not be compared with the
+     *                            elements of this list.
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list.
+     */
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Searches for the rightmost element equal to {@code key} if
+     * {@code upper} is {@code true}, and for the leftmost one otherwise.
+     * Binary-searches the finger nodes for the finger segment containing the
+     * bound, that is, the index of the leftmost element greater than
+     * {@code key} (or no less than {@code key}, respectively), and scans that
+     * segment. Writes nothing, so the concurrent queries do not interfere.
+     *
+     * @param key   the search key.
+     * @param upper selects the rightmost or the leftmost equal element.
+     * @return the index of the equal element, if there is one, and
+     *         {@code (-(bound) - 1)} otherwise, just like in
+     *         {@link java.util.Collections#binarySearch(java.util.List,
+     *         Object, Comparator)}.
+     */
+    private int search(E key, boolean upper) {
+        FingerList<E> fingerList = list.fingerList;
+        Node<E>[] fingerNodes = fingerList.fingerNodes;
+        int low = 0;
+        int high = fingerList.size();
+
+        // Find the leftmost finger pointing at or past the bound:
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparator.compare(fingerNodes[mid].item, key);
+
+            if (cmp < 0 || (upper && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        // Once here, the bound is after the finger 'low - 1', and no further
+        // than the finger 'low', which may be the end-of-finger-list
+        // sentinel:
+        Node<E> node;
+        int index;
+
+        if (low == 0) {
+            node = list.head;
+            index = 0;
+        } else {
+            node = fingerNodes[low - 1].next;
+            index = fingerList.getShiftedFingerIndex(low - 1) + 1;
+        }
+
+        int endIndex = fingerList.getShiftedFingerIndex(low);
+
+        while (index < endIndex) {
+            int cmp = comparator.compare(node.item, key);
+
+            if (cmp > 0 || (!upper && cmp == 0)) {
+                break;
+            }
+
+            node = node.next;
+            index++;
+        }
+
+        // Once here, 'node' is the node at 'index', or 'null' if 'index' is
+        // the list size. The equal element, if any, is next to the bound:
+        if (upper) {
+            Node<E> previous = node == null ? list.tail : node.prev;
+
+            if (previous != null
+                    && comparator.compare(previous.item, key) == 0) {
+                return index - 1;
+            }
+        } else if (node != null && comparator.compare(node.item, key) == 0) {
+            return index;
+        }
+
+        return -(index + 1);
+    }
+}
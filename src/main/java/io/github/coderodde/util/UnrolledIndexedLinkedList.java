@@ -0,0 +1,2001 @@
+package io.github.coderodde.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * This class implements an <i>unrolled</i> variant of
+ * {@link IndexedLinkedList}. Instead of storing one element per node, the
+ * elements are stored in a doubly-linked list of <i>chunks</i>, each chunk
+ * holding up to {@code chunkCapacity} elements in a small array. That cuts the
+ * per-element memory overhead several-fold (no per-element node header and
+ * {@code prev}/{@code next} references) and makes traversals cache-friendly.
+ *
+ * <p>
+ * Just like in {@link IndexedLinkedList}, we maintain a list of fingers.
+ * Here, each finger {@code F} is a (chunk, start index) pair: {@code F.chunk}
+ * is a chunk in the chunk list, and {@code F.start} is the appearance index of
+ * the first element of {@code F.chunk} in the entire list. For the chunk list
+ * with \(m\) chunks, we maintain \(\bigg \lceil \sqrt{m} \bigg \rceil\) fingers
+ * plus an end-of-finger-list sentinel {@code F} with {@code F.chunk = null}
+ * and {@code F.start = size}. The first finger always points to the head
+ * chunk. A finger rewind skips entire chunks, so accessing an element runs in
+ * \(\mathcal{O}(\log m + \sqrt{m})\) chunk hops, and inserting/removing an
+ * element runs additionally in \(\mathcal{O}(c)\) time, where \(c\) is the
+ * chunk capacity.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.7.3 (Dec 7, 2025)
+ * @since 1.7.3 (Dec 7, 2025)
+ * @param <E> the element type.
+ */
+public class UnrolledIndexedLinkedList<E> extends AbstractList<E>
+                                          implements Deque<E>,
+                                                     Cloneable,
+                                                     java.io.Serializable {
+
+    /**
+     * The static inner class implements a chunk of elements.
+     *
+     * @param <E> the element type.
+     */
+    static final class Chunk<E> {
+
+        /**
+         * The element storage array.
+         */
+        final Object[] items;
+
+        /**
+         * The number of elements stored in {@code items}.
+         */
+        int size;
+
+        /**
+         * The previous chunk or {@code null} if this chunk is the head chunk.
+         */
+        Chunk<E> prev;
+
+        /**
+         * The next chunk or {@code null} if this chunk is the tail chunk.
+         */
+        Chunk<E> next;
+
+        /**
+         * Constructs a new, empty chunk.
+         *
+         * @param capacity the maximum number of elements in this chunk.
+         */
+        Chunk(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        /**
+         * Returns the {@code offset}th element of this chunk.
+         *
+         * @param offset the offset of the element within this chunk.
+         * @return the {@code offset}th element.
+         */
+        @SuppressWarnings("unchecked")
+        E get(int offset) {
+            return (E) items[offset];
+        }
+
+        /**
+         * Inserts {@code e} at {@code offset}, shifting the subsequent elements
+         * one position to the right. The chunk must not be full.
+         *
+         * @param offset the insertion offset.
+         * @param e      the element to insert.
+         */
+        void insert(int offset, E e) {
+            System.arraycopy(items, offset, items, offset + 1, size - offset);
+            items[offset] = e;
+            size++;
+        }
+
+        /**
+         * Removes the {@code offset}th element of this chunk.
+         *
+         * @param offset the offset of the element to remove.
+         * @return the removed element.
+         */
+        E remove(int offset) {
+            E element = get(offset);
+            System.arraycopy(items,
+                             offset + 1,
+                             items,
+                             offset,
+                             size - offset - 1);
+
+            items[--size] = null;
+            return element;
+        }
+    }
+
+    /**
+     * The default chunk capacity.
+     */
+    public static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    /**
+     * The minimum chunk capacity.
+     */
+    static final int MINIMUM_CHUNK_CAPACITY = 4;
+
+    /**
+     * The initial capacity of the finger arrays.
+     */
+    static final int INITIAL_FINGER_CAPACITY = 8;
+
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 2740331052094717281L;
+
+    /**
+     * The maximum number of elements in each chunk.
+     */
+    private final int chunkCapacity;
+
+    /**
+     * The cached number of elements in this list.
+     */
+    private transient int size;
+
+    /**
+     * The number of chunks in this list.
+     */
+    transient int numberOfChunks;
+
+    /**
+     * The head chunk.
+     */
+    transient Chunk<E> head;
+
+    /**
+     * The tail chunk.
+     */
+    transient Chunk<E> tail;
+
+    /**
+     * The finger chunks. {@code fingerChunks[numberOfFingers]} is the
+     * end-of-finger-list sentinel and is always {@code null}.
+     */
+    transient Chunk<E>[] fingerChunks;
+
+    /**
+     * {@code fingerStarts[i]} is the index of the first element in
+     * {@code fingerChunks[i]}. {@code fingerStarts[numberOfFingers]} is always
+     * {@code size}.
+     */
+    transient int[] fingerStarts;
+
+    /**
+     * The number of fingers not counting the end-of-finger-list sentinel.
+     */
+    transient int numberOfFingers;
+
+    /**
+     * Caches the chunk found by the most recent call to {@link #locate(int)}.
+     */
+    private transient Chunk<E> locatedChunk;
+
+    /**
+     * Caches the start index of {@link #locatedChunk}.
+     */
+    private transient int locatedChunkStart;
+
+    /**
+     * Constructs an empty list with default chunk capacity.
+     */
+    public UnrolledIndexedLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the given chunk capacity.
+     *
+     * @param chunkCapacity the maximum number of elements in each chunk.
+     * @throws IllegalArgumentException if {@code chunkCapacity} is too small.
+     */
+    public UnrolledIndexedLinkedList(int chunkCapacity) {
+        if (chunkCapacity < MINIMUM_CHUNK_CAPACITY) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "chunkCapacity(%d) < %d",
+                            chunkCapacity,
+                            MINIMUM_CHUNK_CAPACITY));
+        }
+
+        this.chunkCapacity = chunkCapacity;
+        initFingers();
+    }
+
+    /**
+     * Constructs a new list and copies the data in {@code c} to it.
+     *
+     * @param c the collection to copy.
+     */
+    public UnrolledIndexedLinkedList(Collection<? extends E> c) {
+        this();
+        addAll(c);
+    }
+
+    /**
+     * Appends the specified element to the end of this list. Runs in amortized
+     * constant time.
+     *
+     * @param e the element to append.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean add(E e) {
+        linkLast(e);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Runs in \(\mathcal{O}(\sqrt{m} + c)\) time.
+     *
+     * @param index   the index at which to insert.
+     * @param element the element to insert.
+     * @throws IndexOutOfBoundsException if the index is outside of the valid
+     *                                   range.
+     */
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+
+        if (index == size) {
+            linkLast(element);
+        } else if (index == 0) {
+            linkFirst(element);
+        } else {
+            linkBefore(index, element);
+        }
+    }
+
+    /**
+     * Appends all the elements of {@code c} to the tail of this list.
+     *
+     * @param c the collection to append.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c.isEmpty()) {
+            return false;
+        }
+
+        for (E e : c) {
+            linkLast(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Inserts all the elements of {@code c} starting from the position
+     * {@code index}.
+     *
+     * @param index the index of the first inserted element.
+     * @param c     the collection to insert.
+     * @return {@code true} if this list changed as a result of the call.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        checkPositionIndex(index);
+
+        if (index == size) {
+            return addAll(c);
+        }
+
+        if (c.isEmpty()) {
+            return false;
+        }
+
+        for (E e : c) {
+            add(index++, e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds the element {@code e} before the head of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void addFirst(E e) {
+        linkFirst(e);
+    }
+
+    /**
+     * Adds the element {@code e} after the tail of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void addLast(E e) {
+        linkLast(e);
+    }
+
+    /**
+     * Checks the data structure invariant. Throws
+     * {@link java.lang.IllegalStateException} on invalid invariant. Runs in
+     * worst-case linear time.
+     */
+    public void checkInvariant() {
+        int tentativeSize = 0;
+        int tentativeNumberOfChunks = 0;
+        int fingerIndex = 0;
+        Chunk<E> prev = null;
+
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            if (chunk.prev != prev) {
+                throw new IllegalStateException("Broken chunk links.");
+            }
+
+            if (chunk.size == 0) {
+                throw new IllegalStateException("Empty chunk.");
+            }
+
+            if (fingerIndex < numberOfFingers
+                    && fingerChunks[fingerIndex] == chunk) {
+
+                if (fingerStarts[fingerIndex] != tentativeSize) {
+                    throw new IllegalStateException(
+                            "fingerStarts["
+                                    + fingerIndex
+                                    + "] = "
+                                    + fingerStarts[fingerIndex]
+                                    + " != "
+                                    + tentativeSize);
+                }
+
+                fingerIndex++;
+            }
+
+            tentativeSize += chunk.size;
+            tentativeNumberOfChunks++;
+            prev = chunk;
+        }
+
+        if (prev != tail) {
+            throw new IllegalStateException("Broken tail.");
+        }
+
+        if (tentativeSize != size) {
+            throw new IllegalStateException(
+                    "size = " + size + ", tentativeSize = " + tentativeSize);
+        }
+
+        if (tentativeNumberOfChunks != numberOfChunks) {
+            throw new IllegalStateException(
+                    "numberOfChunks = "
+                            + numberOfChunks
+                            + ", tentativeNumberOfChunks = "
+                            + tentativeNumberOfChunks);
+        }
+
+        if (fingerIndex != numberOfFingers) {
+            throw new IllegalStateException(
+                    "Only "
+                            + fingerIndex
+                            + " out of "
+                            + numberOfFingers
+                            + " fingers are reachable.");
+        }
+
+        if (numberOfFingers != getRecommendedNumberOfFingers()) {
+            throw new IllegalStateException(
+                    "Number of fingers mismatch: required = "
+                            + getRecommendedNumberOfFingers()
+                            + ", actual = "
+                            + numberOfFingers);
+        }
+
+        if (numberOfFingers > 0 && fingerChunks[0] != head) {
+            throw new IllegalStateException(
+                    "The first finger does not point to the head chunk.");
+        }
+
+        if (fingerStarts[numberOfFingers] != size
+                || fingerChunks[numberOfFingers] != null) {
+            throw new IllegalStateException("Broken sentinel finger.");
+        }
+    }
+
+    /**
+     * Completely clears this list.
+     */
+    @Override
+    public void clear() {
+        // Help GC:
+        for (Chunk<E> chunk = head; chunk != null;) {
+            Chunk<E> next = chunk.next;
+            Arrays.fill(chunk.items, 0, chunk.size, null);
+            chunk.prev = null;
+            chunk.next = null;
+            chunk = next;
+        }
+
+        head = tail = null;
+        size = 0;
+        numberOfChunks = 0;
+        initFingers();
+        modCount++;
+    }
+
+    /**
+     * Returns a clone list with same content as this list.
+     *
+     * @return the clone list.
+     */
+    @Override
+    public Object clone() {
+        UnrolledIndexedLinkedList<E> other =
+                new UnrolledIndexedLinkedList<>(chunkCapacity);
+
+        other.addAll(this);
+        return other;
+    }
+
+    /**
+     * Returns {@code true} only if {@code o} is present in this list. Runs in
+     * worst-case linear time.
+     *
+     * @param o the query object.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns the descending iterator.
+     *
+     * @return the descending iterator pointing to the tail of this list.
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new Iterator<E>() {
+
+            private final ListIterator<E> iterator = listIterator(size);
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    /**
+     * Returns the first element of this list.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    /**
+     * Applies {@code action} to each element in this list.
+     *
+     * @param action the action to apply.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+
+        for (Chunk<E> chunk = head;
+                chunk != null && modCount == expectedModCount;
+                chunk = chunk.next) {
+
+            for (int i = 0; i < chunk.size; i++) {
+                action.accept(chunk.get(i));
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns {@code index}th element. Runs in
+     * \(\mathcal{O}(\log m + \sqrt{m})\) time.
+     *
+     * @param index the index of the element to return.
+     * @return {@code index}th element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public E get(int index) {
+        checkElementIndex(index);
+        locateAndRecenter(index);
+        return locatedChunk.get(index - locatedChunkStart);
+    }
+
+    /**
+     * Returns the chunk capacity of this list.
+     *
+     * @return the chunk capacity.
+     */
+    public int getChunkCapacity() {
+        return chunkCapacity;
+    }
+
+    /**
+     * Returns the first element of this list. Runs in constant time.
+     *
+     * @return the first element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Getting the head element from an empty list.");
+        }
+
+        return head.get(0);
+    }
+
+    /**
+     * Returns the last element of this list. Runs in constant time.
+     *
+     * @return the last element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "Getting the tail element from an empty list.");
+        }
+
+        return tail.get(tail.size - 1);
+    }
+
+    /**
+     * Returns the index of the leftmost {@code o}, or {@code -1} if {@code o}
+     * does not appear in this list. Runs in worst-case linear time.
+     *
+     * @param o the object to search.
+     * @return the index of the leftmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.size; i++, index++) {
+                if (Objects.equals(o, chunk.items[i])) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} only if this list is empty.
+     *
+     * @return {@code true} only if this list is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the iterator over this list.
+     *
+     * @return the iterator over this list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ChunkIterator(0);
+    }
+
+    /**
+     * Returns the index of the rightmost {@code o}, or {@code -1} if
+     * {@code o} does not appear in this list. Runs in worst-case linear time.
+     *
+     * @param o the object to search.
+     * @return the index of the rightmost {@code o}, or {@code -1}.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = size - 1;
+
+        for (Chunk<E> chunk = tail; chunk != null; chunk = chunk.prev) {
+            for (int i = chunk.size - 1; i >= 0; i--, index--) {
+                if (Objects.equals(o, chunk.items[i])) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the list iterator pointing to the head element of this list.
+     *
+     * @return the list iterator.
+     */
+    @Override
+    public ListIterator<E> listIterator() {
+        return new ChunkIterator(0);
+    }
+
+    /**
+     * Returns the list iterator pointing between {@code list[index - 1]} and
+     * {@code list[index]}.
+     *
+     * @param index the gap index.
+     * @return the list iterator.
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        checkPositionIndex(index);
+        return new ChunkIterator(index);
+    }
+
+    /**
+     * Adds {@code e} after the tail element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offer(E e) {
+        return add(e);
+    }
+
+    /**
+     * Adds {@code e} before the head element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    /**
+     * Adds {@code e} after the tail element of this list.
+     *
+     * @param e the element to add.
+     * @return always {@code true}.
+     */
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+
+    /**
+     * Moves all the fingers such that they are evenly distributed over the
+     * chunks. Runs in \(\mathcal{O}(m)\) time.
+     */
+    public void optimize() {
+        rebuildFingers();
+    }
+
+    /**
+     * Takes a look at the first element in this list.
+     *
+     * @return the head element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Takes a look at the first element in this list.
+     *
+     * @return the head element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peekFirst() {
+        return size == 0 ? null : head.get(0);
+    }
+
+    /**
+     * Takes a look at the last element in this list.
+     *
+     * @return the tail element or {@code null} if this list is empty.
+     */
+    @Override
+    public E peekLast() {
+        return size == 0 ? null : tail.get(tail.size - 1);
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the
+     * first element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the
+     * first element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E pollFirst() {
+        return size == 0 ? null : removeFirst();
+    }
+
+    /**
+     * If this list is empty, returns {@code null}. Otherwise, removes the last
+     * element and returns it.
+     *
+     * @return the removed element or {@code null} if the list is empty.
+     */
+    @Override
+    public E pollLast() {
+        return size == 0 ? null : removeLast();
+    }
+
+    /**
+     * Removes the first element and returns it.
+     *
+     * @return the first element.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Adds {@code e} before the head of this list.
+     *
+     * @param e the element to add.
+     */
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    /**
+     * Removes and returns the first element.
+     *
+     * @return the head element of this list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes the element residing at the given index. Runs in
+     * \(\mathcal{O}(\sqrt{m} + c)\) time.
+     *
+     * @param index the index of the element to remove.
+     * @return the removed element.
+     */
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        locate(index);
+        return removeImpl(locatedChunk,
+                          locatedChunkStart,
+                          index - locatedChunkStart);
+    }
+
+    /**
+     * Removes the leftmost occurrence of {@code o} in this list.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if {@code o} was located and removed.
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Removes from this list all the elements mentioned in {@code c}. Runs in
+     * \(\mathcal{O}(n + fn)\) time, where \(\mathcal{O}(f)\) is the time of
+     * checking for element inclusion in {@code c}.
+     *
+     * @param c the collection holding all the elements to remove.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    /**
+     * Removes the first element from this list.
+     *
+     * @return the first element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "removeFirst from an empty UnrolledIndexedLinkedList");
+        }
+
+        return removeImpl(head, 0, 0);
+    }
+
+    /**
+     * Removes the leftmost occurrence of {@code o}.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if {@code o} was present in the list and was
+     *         successfully removed.
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int chunkStart = 0;
+
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.size; i++) {
+                if (Objects.equals(o, chunk.items[i])) {
+                    removeImpl(chunk, chunkStart, i);
+                    return true;
+                }
+            }
+
+            chunkStart += chunk.size;
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes from this list all the elements that satisfy the given input
+     * predicate. Compacts the chunks in a single sweep and rebuilds the
+     * fingers once. Runs in \(\mathcal{O}(n)\) time.
+     *
+     * @param filter the filtering predicate.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        int numberOfRemovedElements = 0;
+
+        // Compact within each chunk:
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            int target = 0;
+
+            for (int i = 0; i < chunk.size; i++) {
+                E item = chunk.get(i);
+
+                if (!filter.test(item)) {
+                    chunk.items[target++] = item;
+                }
+            }
+
+            numberOfRemovedElements += chunk.size - target;
+            Arrays.fill(chunk.items, target, chunk.size, null);
+            chunk.size = target;
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        if (numberOfRemovedElements == 0) {
+            return false;
+        }
+
+        size -= numberOfRemovedElements;
+        compactChunks();
+        rebuildFingers();
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes and returns the last element of this list. Runs in constant
+     * time.
+     *
+     * @return the removed tail element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    @Override
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+                    "removeLast on empty UnrolledIndexedLinkedList");
+        }
+
+        return removeImpl(tail, size - tail.size, tail.size - 1);
+    }
+
+    /**
+     * Removes the rightmost occurrence of {@code o}.
+     *
+     * @param o the object to remove.
+     * @return {@code true} only if an element was actually removed.
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int chunkStart = size;
+
+        for (Chunk<E> chunk = tail; chunk != null; chunk = chunk.prev) {
+            chunkStart -= chunk.size;
+
+            for (int i = chunk.size - 1; i >= 0; i--) {
+                if (Objects.equals(o, chunk.items[i])) {
+                    removeImpl(chunk, chunkStart, i);
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Remove all the elements that <strong>do not</strong> appear in
+     * {@code c}. Runs in \(\mathcal{O}(n + fn)\) time.
+     *
+     * @param c the collection of elements to retain.
+     * @return {@code true} only if at least one element was removed.
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Sets the element at index {@code index} to {@code element} and returns
+     * the old element. Runs in \(\mathcal{O}(\log m + \sqrt{m})\) time.
+     *
+     * @param index   the target index.
+     * @param element the element to set.
+     * @return the previous element at the given index.
+     */
+    @Override
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        locateAndRecenter(index);
+        int offset = index - locatedChunkStart;
+        E oldElement = locatedChunk.get(offset);
+        locatedChunk.items[offset] = element;
+        return oldElement;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the size of this list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the {@link Object} array containing all the elements in this
+     * list, in the same order as they appear in the list.
+     *
+     * @return the list contents in an {@link Object} array.
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.items, 0, array, index, chunk.size);
+            index += chunk.size;
+        }
+
+        return array;
+    }
+
+    /**
+     * Removes the list range {@code [fromIndex, ..., toIndex - 1]}. Runs in
+     * \(\mathcal{O}(\sqrt{m} + (toIndex - fromIndex) + m)\) time.
+     *
+     * @param fromIndex the staring, inclusive range index.
+     * @param toIndex   the ending, exclusive range index.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int removalLength = toIndex - fromIndex;
+
+        if (removalLength == 0) {
+            return;
+        }
+
+        if (removalLength == size) {
+            clear();
+            return;
+        }
+
+        locate(fromIndex);
+        Chunk<E> chunk = locatedChunk;
+        int offset = fromIndex - locatedChunkStart;
+        int remaining = removalLength;
+
+        while (remaining > 0) {
+            int numberOfElementsToRemove = Math.min(remaining,
+                                                    chunk.size - offset);
+
+            System.arraycopy(chunk.items,
+                             offset + numberOfElementsToRemove,
+                             chunk.items,
+                             offset,
+                             chunk.size - offset - numberOfElementsToRemove);
+
+            Arrays.fill(chunk.items,
+                        chunk.size - numberOfElementsToRemove,
+                        chunk.size,
+                        null);
+
+            chunk.size -= numberOfElementsToRemove;
+            remaining -= numberOfElementsToRemove;
+            chunk = chunk.next;
+            offset = 0;
+        }
+
+        size -= removalLength;
+        compactChunks();
+        rebuildFingers();
+        modCount++;
+    }
+
+    /**
+     * Makes sure that there is a finger pointing to the head chunk.
+     */
+    private void anchorFirstFinger() {
+        if (fingerChunks[0] == head) {
+            return;
+        }
+
+        if (numberOfFingers < getRecommendedNumberOfFingers()) {
+            insertFinger(0, head, 0);
+        } else {
+            fingerChunks[0] = head;
+            fingerStarts[0] = 0;
+        }
+    }
+
+    /**
+     * Appends a finger to the finger list.
+     *
+     * @param chunk the chunk of the new finger.
+     * @param start the start index of {@code chunk}.
+     */
+    private void appendFinger(Chunk<E> chunk, int start) {
+        insertFinger(numberOfFingers, chunk, start);
+    }
+
+    /**
+     * Checks the element index.
+     *
+     * @param index the index to validate.
+     */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+
+    /**
+     * Checks the position index.
+     *
+     * @param index the index to validate.
+     */
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(getOutOfBoundsMessage(index));
+        }
+    }
+
+    /**
+     * Unlinks all the empty chunks and merges the sparse neighbouring chunks.
+     * Does not update the fingers.
+     */
+    private void compactChunks() {
+        Chunk<E> chunk = head;
+
+        while (chunk != null) {
+            Chunk<E> next = chunk.next;
+
+            if (chunk.size == 0) {
+                unlinkChunk(chunk);
+            } else if (next != null
+                    && chunk.size + next.size <= chunkCapacity / 2) {
+
+                mergeNextChunkInto(chunk);
+                continue;
+            }
+
+            chunk = next;
+        }
+    }
+
+    /**
+     * Returns the finger index {@code f} such that
+     * {@code fingerStarts[f] <= index < fingerStarts[f + 1]}. Requires at least
+     * one finger.
+     *
+     * @param index the target element index.
+     * @return the index of the finger preceding the {@code index}th element.
+     */
+    private int getFingerIndex(int index) {
+        int count = numberOfFingers + 1;
+        int idx = 0;
+
+        // Upper bound:
+        while (count > 0) {
+            int step = count / 2;
+            int it = idx + step;
+
+            if (fingerStarts[it] <= index) {
+                idx = it + 1;
+                count -= step + 1;
+            } else {
+                count = step;
+            }
+        }
+
+        return idx - 1;
+    }
+
+    /**
+     * Constructs an IndexOutOfBoundsException detail message.
+     *
+     * @param index the target index.
+     * @return the detail message.
+     */
+    private String getOutOfBoundsMessage(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * Computes the recommended number of fingers.
+     *
+     * @return the recommended number of fingers.
+     */
+    private int getRecommendedNumberOfFingers() {
+        return (int) Math.ceil(Math.sqrt(numberOfChunks));
+    }
+
+    /**
+     * Resets the finger list to the empty state.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void initFingers() {
+        fingerChunks = new Chunk[INITIAL_FINGER_CAPACITY];
+        fingerStarts = new int[INITIAL_FINGER_CAPACITY];
+        numberOfFingers = 0;
+    }
+
+    /**
+     * Inserts a new finger at the finger index {@code fingerIndex}.
+     *
+     * @param fingerIndex the finger index of the new finger.
+     * @param chunk       the chunk of the new finger.
+     * @param start       the start index of {@code chunk}.
+     */
+    private void insertFinger(int fingerIndex, Chunk<E> chunk, int start) {
+        if (numberOfFingers + 2 > fingerChunks.length) {
+            int nextCapacity = 2 * fingerChunks.length;
+            fingerChunks = Arrays.copyOf(fingerChunks, nextCapacity);
+            fingerStarts = Arrays.copyOf(fingerStarts, nextCapacity);
+        }
+
+        int numberOfFingersToShift = numberOfFingers + 1 - fingerIndex;
+
+        System.arraycopy(fingerChunks,
+                         fingerIndex,
+                         fingerChunks,
+                         fingerIndex + 1,
+                         numberOfFingersToShift);
+
+        System.arraycopy(fingerStarts,
+                         fingerIndex,
+                         fingerStarts,
+                         fingerIndex + 1,
+                         numberOfFingersToShift);
+
+        fingerChunks[fingerIndex] = chunk;
+        fingerStarts[fingerIndex] = start;
+        numberOfFingers++;
+    }
+
+    /**
+     * Inserts {@code e} right before the {@code index}th element.
+     *
+     * @param index the insertion index.
+     * @param e     the element to insert.
+     */
+    private void linkBefore(int index, E e) {
+        locate(index);
+        Chunk<E> chunk = locatedChunk;
+        int chunkStart = locatedChunkStart;
+        int offset = index - chunkStart;
+
+        if (chunk.size < chunkCapacity) {
+            chunk.insert(offset, e);
+            shiftFingerStartsAfter(chunkStart, 1);
+        } else if (offset == 0
+                && chunk.prev != null
+                && chunk.prev.size < chunkCapacity) {
+            // Append to the previous chunk:
+            Chunk<E> prev = chunk.prev;
+            int prevStart = chunkStart - prev.size;
+            prev.insert(prev.size, e);
+            shiftFingerStartsAfter(prevStart, 1);
+        } else {
+            // Split the full chunk:
+            Chunk<E> newChunk = splitChunk(chunk);
+            shiftFingerStartsAfter(chunkStart, 1);
+
+            if (offset <= chunk.size) {
+                chunk.insert(offset, e);
+            } else {
+                newChunk.insert(offset - chunk.size, e);
+            }
+
+            int newChunkStart = chunkStart + chunk.size;
+
+            if (numberOfFingers < getRecommendedNumberOfFingers()) {
+                insertFinger(getFingerIndex(chunkStart) + 1,
+                             newChunk,
+                             newChunkStart);
+            }
+        }
+
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Prepends the input element to the head of this list.
+     *
+     * @param e the element to prepend.
+     */
+    private void linkFirst(E e) {
+        if (size == 0) {
+            linkLast(e);
+            return;
+        }
+
+        if (head.size < chunkCapacity) {
+            head.insert(0, e);
+            shiftFingerStartsAfter(0, 1);
+        } else {
+            Chunk<E> newChunk = new Chunk<>(chunkCapacity);
+            newChunk.insert(0, e);
+            newChunk.next = head;
+            head.prev = newChunk;
+            head = newChunk;
+            numberOfChunks++;
+            shiftFingerStartsAfter(-1, 1);
+            anchorFirstFinger();
+        }
+
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Appends the input element to the tail of this list.
+     *
+     * @param e the element to append.
+     */
+    private void linkLast(E e) {
+        if (tail != null && tail.size < chunkCapacity) {
+            tail.insert(tail.size, e);
+            size++;
+            fingerStarts[numberOfFingers] = size;
+        } else {
+            Chunk<E> newChunk = new Chunk<>(chunkCapacity);
+            newChunk.insert(0, e);
+            newChunk.prev = tail;
+
+            if (tail == null) {
+                head = newChunk;
+            } else {
+                tail.next = newChunk;
+            }
+
+            tail = newChunk;
+            numberOfChunks++;
+            size++;
+            fingerStarts[numberOfFingers] = size;
+
+            if (numberOfFingers < getRecommendedNumberOfFingers()) {
+                appendFinger(newChunk, size - 1);
+            }
+        }
+
+        modCount++;
+    }
+
+    /**
+     * Locates the chunk containing the {@code index}th element and caches it
+     * in {@link #locatedChunk} and its start index in
+     * {@link #locatedChunkStart}. Does not modify the fingers.
+     *
+     * @param index the target element index.
+     */
+    private void locate(int index) {
+        int fingerIndex = getFingerIndex(index);
+        locateFromFinger(fingerIndex, index);
+    }
+
+    /**
+     * Moves the finger closest to the {@code index}th element half-way
+     * between its neighbours, and locates the {@code index}th element.
+     *
+     * @param index the target element index.
+     */
+    private void locateAndRecenter(int index) {
+        int fingerIndex = getFingerIndex(index);
+
+        if (fingerIndex > 0) {
+            recenterFinger(fingerIndex);
+
+            if (fingerStarts[fingerIndex] > index) {
+                fingerIndex--;
+            } else if (fingerStarts[fingerIndex + 1] <= index) {
+                fingerIndex++;
+            }
+        }
+
+        locateFromFinger(fingerIndex, index);
+    }
+
+    /**
+     * Locates the chunk containing the {@code index}th element starting from
+     * the finger {@code fingerIndex} or its right neighbour, whichever is
+     * closer.
+     *
+     * @param fingerIndex the finger preceding the target element.
+     * @param index       the target element index.
+     */
+    private void locateFromFinger(int fingerIndex, int index) {
+        int leftDistance  = index - fingerStarts[fingerIndex];
+        int rightDistance = fingerStarts[fingerIndex + 1] - index;
+        Chunk<E> chunk;
+        int chunkStart;
+
+        if (leftDistance <= rightDistance) {
+            chunk = fingerChunks[fingerIndex];
+            chunkStart = fingerStarts[fingerIndex];
+
+            while (index >= chunkStart + chunk.size) {
+                chunkStart += chunk.size;
+                chunk = chunk.next;
+            }
+        } else {
+            Chunk<E> rightChunk = fingerChunks[fingerIndex + 1];
+            chunk = rightChunk == null ? tail : rightChunk.prev;
+            chunkStart = fingerStarts[fingerIndex + 1] - chunk.size;
+
+            while (chunkStart > index) {
+                chunk = chunk.prev;
+                chunkStart -= chunk.size;
+            }
+        }
+
+        locatedChunk = chunk;
+        locatedChunkStart = chunkStart;
+    }
+
+    /**
+     * Moves all the elements of {@code chunk.next} to {@code chunk} and
+     * unlinks {@code chunk.next}. Does not shift any finger start indices
+     * since the element indices are not affected.
+     *
+     * @param chunk the target chunk.
+     */
+    private void mergeNextChunkInto(Chunk<E> chunk) {
+        Chunk<E> next = chunk.next;
+        System.arraycopy(next.items, 0, chunk.items, chunk.size, next.size);
+        chunk.size += next.size;
+        Arrays.fill(next.items, 0, next.size, null);
+        next.size = 0;
+        unlinkChunk(next);
+    }
+
+    /**
+     * Rebuilds the finger list by distributing the fingers evenly over the
+     * chunks. Runs in \(\mathcal{O}(m)\) time.
+     */
+    private void rebuildFingers() {
+        initFingers();
+
+        int fingers = getRecommendedNumberOfFingers();
+
+        if (fingers == 0) {
+            return;
+        }
+
+        int distance = numberOfChunks / fingers;
+        int chunkIndex = 0;
+        int chunkStart = 0;
+
+        for (Chunk<E> chunk = head;
+                chunk != null && numberOfFingers < fingers;
+                chunk = chunk.next, chunkIndex++) {
+
+            if (chunkIndex % distance == 0) {
+                appendFinger(chunk, chunkStart);
+            }
+
+            chunkStart += chunk.size;
+        }
+
+        fingerStarts[numberOfFingers] = size;
+    }
+
+    /**
+     * Moves the finger {@code fingerIndex} half-way between its neighbouring
+     * fingers. The finger {@code 0} is never moved since it always points to
+     * the head chunk.
+     *
+     * @param fingerIndex the index of the finger to move.
+     */
+    private void recenterFinger(int fingerIndex) {
+        int target = (fingerStarts[fingerIndex - 1]
+                    + fingerStarts[fingerIndex + 1]) / 2;
+
+        Chunk<E> chunk = fingerChunks[fingerIndex];
+        Chunk<E> leftBound = fingerChunks[fingerIndex - 1];
+        Chunk<E> rightBound = fingerChunks[fingerIndex + 1];
+        int chunkStart = fingerStarts[fingerIndex];
+
+        if (chunkStart < target) {
+            while (chunk.next != rightBound
+                    && chunkStart + chunk.size <= target) {
+                chunkStart += chunk.size;
+                chunk = chunk.next;
+            }
+        } else {
+            while (chunk.prev != leftBound && chunkStart > target) {
+                chunk = chunk.prev;
+                chunkStart -= chunk.size;
+            }
+        }
+
+        fingerChunks[fingerIndex] = chunk;
+        fingerStarts[fingerIndex] = chunkStart;
+    }
+
+    /**
+     * Removes the finger {@code fingerIndex}.
+     *
+     * @param fingerIndex the index of the finger to remove.
+     */
+    private void removeFinger(int fingerIndex) {
+        int numberOfFingersToShift = numberOfFingers - fingerIndex;
+
+        System.arraycopy(fingerChunks,
+                         fingerIndex + 1,
+                         fingerChunks,
+                         fingerIndex,
+                         numberOfFingersToShift);
+
+        System.arraycopy(fingerStarts,
+                         fingerIndex + 1,
+                         fingerStarts,
+                         fingerIndex,
+                         numberOfFingersToShift);
+
+        fingerChunks[numberOfFingers] = null;
+        numberOfFingers--;
+    }
+
+    /**
+     * Removes the {@code offset}th element from the {@code chunk}.
+     *
+     * @param chunk      the chunk holding the element to remove.
+     * @param chunkStart the start index of {@code chunk}.
+     * @param offset     the offset of the element within {@code chunk}.
+     * @return the removed element.
+     */
+    private E removeImpl(Chunk<E> chunk, int chunkStart, int offset) {
+        E element = chunk.remove(offset);
+        size--;
+        modCount++;
+        shiftFingerStartsAfter(chunkStart, -1);
+
+        // The chunk surviving the removal and its start index:
+        Chunk<E> survivor = chunk;
+        int survivorStart = chunkStart;
+
+        if (chunk.size == 0) {
+            removeFingerOfChunk(chunk, chunkStart);
+
+            if (chunk.next != null) {
+                survivor = chunk.next;
+            } else if (chunk.prev != null) {
+                survivor = chunk.prev;
+                survivorStart = chunkStart - chunk.prev.size;
+            }
+
+            unlinkChunk(chunk);
+        } else if (chunk.size <= chunkCapacity / 4) {
+            // Try merge the sparse chunk with a neighbour:
+            if (chunk.next != null
+                    && chunk.size + chunk.next.size <= chunkCapacity / 2) {
+
+                removeFingerOfChunk(chunk.next, chunkStart + chunk.size);
+                mergeNextChunkInto(chunk);
+            } else if (chunk.prev != null
+                    && chunk.size + chunk.prev.size <= chunkCapacity / 2) {
+
+                survivor = chunk.prev;
+                survivorStart = chunkStart - chunk.prev.size;
+                removeFingerOfChunk(chunk, chunkStart);
+                mergeNextChunkInto(chunk.prev);
+            }
+        }
+
+        // Fix the finger list:
+        while (numberOfFingers > getRecommendedNumberOfFingers()) {
+            removeFinger(numberOfFingers - 1);
+        }
+
+        fingerStarts[numberOfFingers] = size;
+
+        if (size > 0) {
+            anchorFirstFinger();
+
+            if (numberOfFingers < getRecommendedNumberOfFingers()) {
+                addFingerNear(survivor, survivorStart);
+            }
+        }
+
+        return element;
+    }
+
+    /**
+     * Adds a finger to {@code chunk} or to one of its neighbours that does not
+     * have a finger yet. If all three chunks have fingers, rebuilds the entire
+     * finger list.
+     *
+     * @param chunk      the chunk near which to add a finger.
+     * @param chunkStart the start index of {@code chunk}.
+     */
+    private void addFingerNear(Chunk<E> chunk, int chunkStart) {
+        if (tryAddFinger(chunk, chunkStart)) {
+            return;
+        }
+
+        if (chunk.next != null
+                && tryAddFinger(chunk.next, chunkStart + chunk.size)) {
+            return;
+        }
+
+        if (chunk.prev != null
+                && tryAddFinger(chunk.prev, chunkStart - chunk.prev.size)) {
+            return;
+        }
+
+        rebuildFingers();
+    }
+
+    /**
+     * Adds a finger pointing to {@code chunk} unless there is already one.
+     *
+     * @param chunk      the chunk of the new finger.
+     * @param chunkStart the start index of {@code chunk}.
+     * @return {@code true} only if a new finger was added.
+     */
+    private boolean tryAddFinger(Chunk<E> chunk, int chunkStart) {
+        int fingerIndex = getFingerIndex(chunkStart);
+
+        if (fingerChunks[fingerIndex] == chunk) {
+            return false;
+        }
+
+        insertFinger(fingerIndex + 1, chunk, chunkStart);
+        return true;
+    }
+
+    /**
+     * Returns the index of the finger pointing to {@code chunk}, or {@code -1}
+     * if there is no such finger.
+     *
+     * @param chunk      the target chunk.
+     * @param chunkStart the start index of {@code chunk}.
+     * @return the finger index or {@code -1}.
+     */
+    private int getFingerIndexOfChunk(Chunk<E> chunk, int chunkStart) {
+        if (numberOfFingers == 0) {
+            return -1;
+        }
+
+        // Since an empty chunk shares its start index with the next chunk, we
+        // need to scan all the fingers with the same start index:
+        int fingerIndex = getFingerIndex(chunkStart);
+
+        for (int i = fingerIndex;
+                i >= 0 && fingerStarts[i] == chunkStart;
+                i--) {
+
+            if (fingerChunks[i] == chunk) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Removes the finger pointing to {@code chunk}, if there is one.
+     *
+     * @param chunk      the target chunk.
+     * @param chunkStart the start index of {@code chunk}.
+     */
+    private void removeFingerOfChunk(Chunk<E> chunk, int chunkStart) {
+        int fingerIndex = getFingerIndexOfChunk(chunk, chunkStart);
+
+        if (fingerIndex >= 0) {
+            removeFinger(fingerIndex);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the start index of each finger whose start index
+     * is larger than {@code chunkStart}. The sentinel is updated as well.
+     *
+     * @param chunkStart the start index of the modified chunk.
+     * @param delta      the shift length.
+     */
+    private void shiftFingerStartsAfter(int chunkStart, int delta) {
+        int fingerIndex = numberOfFingers == 0 || chunkStart < 0 ?
+                0 :
+                getFingerIndex(chunkStart) + 1;
+
+        for (int i = fingerIndex; i <= numberOfFingers; i++) {
+            fingerStarts[i] += delta;
+        }
+    }
+
+    /**
+     * Splits the full chunk {@code chunk} into two halves and returns the new,
+     * right half chunk.
+     *
+     * @param chunk the chunk to split.
+     * @return the new chunk.
+     */
+    private Chunk<E> splitChunk(Chunk<E> chunk) {
+        Chunk<E> newChunk = new Chunk<>(chunkCapacity);
+        int half = chunk.size / 2;
+        int numberOfElementsToMove = chunk.size - half;
+
+        System.arraycopy(chunk.items,
+                         half,
+                         newChunk.items,
+                         0,
+                         numberOfElementsToMove);
+
+        Arrays.fill(chunk.items, half, chunk.size, null);
+        chunk.size = half;
+        newChunk.size = numberOfElementsToMove;
+
+        // Link the new chunk:
+        newChunk.prev = chunk;
+        newChunk.next = chunk.next;
+
+        if (chunk.next == null) {
+            tail = newChunk;
+        } else {
+            chunk.next.prev = newChunk;
+        }
+
+        chunk.next = newChunk;
+        numberOfChunks++;
+        return newChunk;
+    }
+
+    /**
+     * Unlinks the input chunk from the chunk list.
+     *
+     * @param chunk the chunk to unlink.
+     */
+    private void unlinkChunk(Chunk<E> chunk) {
+        Chunk<E> prev = chunk.prev;
+        Chunk<E> next = chunk.next;
+
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.next = next;
+        }
+
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.prev = prev;
+        }
+
+        chunk.prev = null;
+        chunk.next = null;
+        numberOfChunks--;
+    }
+
+    /**
+     * Saves the state of this list to a stream.
+     *
+     * @param s the object output stream.
+     *
+     * @serialData The size of the list is emitted (int), followed by all of
+     *             its elements (each an Object) in the proper order.
+     *
+     * @throws java.io.IOException if the I/O fails.
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+        throws java.io.IOException {
+        s.defaultWriteObject();
+        s.writeInt(size);
+
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.size; i++) {
+                s.writeObject(chunk.items[i]);
+            }
+        }
+    }
+
+    /**
+     * Reconstitutes this list from a stream.
+     *
+     * @param s the object input stream.
+     *
+     * @throws java.io.IOException if I/O fails.
+     * @throws ClassNotFoundException if the class is not found.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        initFingers();
+        int sz = s.readInt();
+
+        for (int i = 0; i < sz; i++) {
+            linkLast((E) s.readObject());
+        }
+    }
+
+    /**
+     * This inner class implements the list iterator over the chunks.
+     */
+    final class ChunkIterator implements ListIterator<E> {
+
+        /**
+         * The chunk containing the next element, or {@code null} if the
+         * iterator is at the end of the list.
+         */
+        private Chunk<E> nextChunk;
+
+        /**
+         * The offset of the next element in {@code nextChunk}.
+         */
+        private int nextOffset;
+
+        /**
+         * The index of the next element.
+         */
+        private int nextIndex;
+
+        /**
+         * The index of the most recently returned element, or {@code -1} if
+         * there is no such.
+         */
+        private int lastReturnedIndex = -1;
+
+        /**
+         * The chunk of the most recently returned element.
+         */
+        private Chunk<E> lastReturnedChunk;
+
+        /**
+         * The offset of the most recently returned element.
+         */
+        private int lastReturnedOffset;
+
+        /**
+         * The expected modification count.
+         */
+        private int expectedModCount = modCount;
+
+        /**
+         * Constructs a new iterator pointing before the {@code index}th
+         * element.
+         *
+         * @param index the index of the next element.
+         */
+        ChunkIterator(int index) {
+            seek(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturnedChunk = nextChunk;
+            lastReturnedOffset = nextOffset;
+            lastReturnedIndex = nextIndex++;
+
+            if (++nextOffset == nextChunk.size) {
+                nextChunk = nextChunk.next;
+                nextOffset = 0;
+            }
+
+            return lastReturnedChunk.get(lastReturnedOffset);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            if (nextOffset == 0) {
+                nextChunk = nextChunk == null ? tail : nextChunk.prev;
+                nextOffset = nextChunk.size;
+            }
+
+            nextOffset--;
+            nextIndex--;
+            lastReturnedChunk = nextChunk;
+            lastReturnedOffset = nextOffset;
+            lastReturnedIndex = nextIndex;
+            return nextChunk.get(nextOffset);
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            UnrolledIndexedLinkedList.this.remove(lastReturnedIndex);
+            seek(lastReturnedIndex);
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            lastReturnedChunk.items[lastReturnedOffset] = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+            UnrolledIndexedLinkedList.this.add(nextIndex, e);
+            seek(nextIndex + 1);
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+
+            while (modCount == expectedModCount && nextIndex < size) {
+                action.accept(nextChunk.get(nextOffset));
+                nextIndex++;
+
+                if (++nextOffset == nextChunk.size) {
+                    nextChunk = nextChunk.next;
+                    nextOffset = 0;
+                }
+            }
+
+            checkForComodification();
+        }
+
+        /**
+         * Positions this iterator right before the {@code index}th element.
+         *
+         * @param index the index of the next element.
+         */
+        private void seek(int index) {
+            nextIndex = index;
+
+            if (index == size) {
+                nextChunk = null;
+                nextOffset = 0;
+            } else {
+                locate(index);
+                nextChunk = locatedChunk;
+                nextOffset = index - locatedChunkStart;
+            }
+        }
+
+        /**
+         * Checks that the list was not modified outside of this iterator.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -8,12 +8,17 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 import io.github.coderodde.util.IndexedLinkedList;
+import io.github.coderodde.util.ArrayIndexedLinkedList;
 import io.github.coderodde.util.ExtendedTreeList;
+import io.github.coderodde.util.SegmentedIndexedLinkedList;
+import io.github.coderodde.util.UnrolledIndexedLinkedList;
 
 /**
  * JMH benchmark comparing IndexedLinkedList vs ExtendedTreeList.
@@ -30,6 +35,17 @@ import io.github.coderodde.util.ExtendedTreeList;
  *  - pop back
  *  - pop at random location
  *  - remove range via subList(a, b).clear()
+ *  - random access and random insert/remove on 10M and 100M element lists
+ *    with and without the two-level finger mode (needs a large heap, for
+ *    example -Xmx8g)
+ *  - Zipf-distributed random access and update with and without the adaptive
+ *    finger placement
+ *  - append and pop front (FIFO queue), prepend and pop front (LIFO stack)
+ *  - sliding window churn with and without the node pool (run with
+ *    -prof gc to see the allocation rate)
+ *  - head churn, middle edits and random reads on a list shared by all the
+ *    benchmark threads: a synchronized IndexedLinkedList vs
+ *    SegmentedIndexedLinkedList (run with -t 1, 2, 4, 8, 16 and 32)
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -45,7 +61,12 @@ public class JMHBenchmark {
          * Which implementation to benchmark.
          * JMH will run every @Benchmark method once for each value.
          */
-        @Param({"IndexedLinkedList", "ExtendedTreeList"})
+        @Param({"IndexedLinkedList",
+                "IndexedLinkedListBuckets",
+                "IndexedLinkedListLazyShifts",
+                "UnrolledIndexedLinkedList",
+                "ArrayIndexedLinkedList",
+                "ExtendedTreeList"})
         public String impl;
 
         /**
@@ -110,6 +131,22 @@ public class JMHBenchmark {
             switch (impl) {
                 case "IndexedLinkedList":
                     return new IndexedLinkedList<>();
+                case "IndexedLinkedListBuckets":
+                    IndexedLinkedList<Integer> bucketedList =
+                            new IndexedLinkedList<>();
+
+                    bucketedList.setBucketedFingerLookup(true);
+                    return bucketedList;
+                case "IndexedLinkedListLazyShifts":
+                    IndexedLinkedList<Integer> lazyList =
+                            new IndexedLinkedList<>();
+
+                    lazyList.setLazyFingerShifting(true);
+                    return lazyList;
+                case "UnrolledIndexedLinkedList":
+                    return new UnrolledIndexedLinkedList<>();
+                case "ArrayIndexedLinkedList":
+                    return new ArrayIndexedLinkedList<>();
                 case "ExtendedTreeList":
                     return new ExtendedTreeList<>();
                 default:
@@ -118,6 +155,210 @@ public class JMHBenchmark {
         }
     }
 
+    @State(Scope.Thread)
+    public static class LargeListState {
+
+        /**
+         * "IndexedLinkedList" switches to the two-level finger mode at the
+         * default threshold, "IndexedLinkedListSqrt" keeps sqrt(n) fingers.
+         */
+        @Param({"IndexedLinkedList",
+                "IndexedLinkedListSqrt"})
+        public String impl;
+
+        /**
+         * Size of the list. Kept constant by the benchmarks.
+         */
+        @Param({"10000000", "100000000"})
+        public int size;
+
+        public IndexedLinkedList<Integer> list;
+
+        public Random random;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            random = new Random(42);
+            list = new IndexedLinkedList<>();
+
+            if (impl.equals("IndexedLinkedListSqrt")) {
+                list.setTwoLevelFingerThreshold(Integer.MAX_VALUE);
+            } else if (!impl.equals("IndexedLinkedList")) {
+                throw new IllegalStateException("Unknown impl: " + impl);
+            }
+
+            // Share a single boxed value in order to save the heap:
+            Integer value = 0;
+
+            for (int i = 0; i < size; i++) {
+                list.add(value);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ZipfState {
+
+        /**
+         * Number of precomputed Zipf-distributed indices. Must be a power of
+         * two.
+         */
+        static final int NUMBER_OF_INDICES = 1 << 20;
+
+        /**
+         * "IndexedLinkedListAdaptive" enables the adaptive finger placement.
+         */
+        @Param({"IndexedLinkedList",
+                "IndexedLinkedListAdaptive"})
+        public String impl;
+
+        @Param({"100000", "1000000"})
+        public int size;
+
+        /**
+         * The Zipf exponent. With 1.2, about 94% of the accesses hit the
+         * first 5% of the list.
+         */
+        @Param({"1.0", "1.2"})
+        public double exponent;
+
+        public IndexedLinkedList<Integer> list;
+
+        public int[] indices;
+
+        public int cursor;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            list = new IndexedLinkedList<>();
+
+            if (impl.equals("IndexedLinkedListAdaptive")) {
+                list.setAdaptiveFingerPlacement(true);
+            } else if (!impl.equals("IndexedLinkedList")) {
+                throw new IllegalStateException("Unknown impl: " + impl);
+            }
+
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+
+            indices = createZipfIndices(size,
+                                        exponent,
+                                        NUMBER_OF_INDICES,
+                                        new Random(42));
+        }
+
+        int nextIndex() {
+            return indices[cursor++ & (NUMBER_OF_INDICES - 1)];
+        }
+
+        /**
+         * Draws {@code count} indices from {@code [0, size)} such that the
+         * probability of the index {@code i} is roughly proportional to
+         * {@code (i + 1)^(-exponent)}. Inverts the CDF of the continuous
+         * power law over {@code [1, size + 1)}.
+         */
+        static int[] createZipfIndices(int size,
+                                       double exponent,
+                                       int count,
+                                       Random random) {
+            int[] indices = new int[count];
+
+            for (int i = 0; i < count; i++) {
+                double u = random.nextDouble();
+                double x;
+
+                if (exponent == 1.0) {
+                    x = Math.pow(size + 1.0, u);
+                } else {
+                    double oneMinusExponent = 1.0 - exponent;
+
+                    x = Math.pow(
+                            (Math.pow(size + 1.0, oneMinusExponent) - 1.0) 
+                                    * u + 1.0,
+                            1.0 / oneMinusExponent);
+                }
+
+                indices[i] = Math.min(size - 1, (int) x - 1);
+            }
+
+            return indices;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SlidingWindowState {
+
+        /**
+         * "IndexedLinkedListNodePool" recycles the removed nodes.
+         */
+        @Param({"IndexedLinkedList",
+                "IndexedLinkedListNodePool"})
+        public String impl;
+
+        @Param({"1000", "100000"})
+        public int size;
+
+        public IndexedLinkedList<Integer> list;
+
+        /**
+         * The only element value. Sharing it keeps the boxing out of the
+         * allocation rate.
+         */
+        public Integer value = -1;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            list = new IndexedLinkedList<>();
+
+            if (impl.equals("IndexedLinkedListNodePool")) {
+                list.setNodePoolCapacity(64);
+            } else if (!impl.equals("IndexedLinkedList")) {
+                throw new IllegalStateException("Unknown impl: " + impl);
+            }
+
+            for (int i = 0; i < size; i++) {
+                list.add(value);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedListState {
+
+        /**
+         * "SynchronizedIndexedLinkedList" guards an IndexedLinkedList with
+         * Collections.synchronizedList.
+         */
+        @Param({"SynchronizedIndexedLinkedList",
+                "SegmentedIndexedLinkedList"})
+        public String impl;
+
+        @Param({"100000"})
+        public int size;
+
+        public List<Integer> list;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            switch (impl) {
+                case "SynchronizedIndexedLinkedList":
+                    list = Collections.synchronizedList(
+                            new IndexedLinkedList<>());
+                    break;
+                case "SegmentedIndexedLinkedList":
+                    list = new SegmentedIndexedLinkedList<>();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown impl: " + impl);
+            }
+
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+        }
+    }
+
     // ------------------------------------------------------------------
     // Single-element operations
     // ------------------------------------------------------------------
@@ -207,6 +448,102 @@ public class JMHBenchmark {
         bh.consume(state.list.size());
     }
 
+    // ------------------------------------------------------------------
+    // Queue operations
+    // ------------------------------------------------------------------
+
+    /** append and pop front (FIFO queue) */
+    @Benchmark
+    public void queueAppendPopFront(BenchmarkState state, Blackhole bh) {
+        state.list.add(-1);
+        bh.consume(state.list.remove(0));
+    }
+
+    /** prepend and pop front (LIFO stack at the head) */
+    @Benchmark
+    public void stackPrependPopFront(BenchmarkState state, Blackhole bh) {
+        state.list.add(0, -1);
+        bh.consume(state.list.remove(0));
+    }
+
+    /**
+     * slide a window by one element. With -prof gc, the node pool brings
+     * gc.alloc.rate.norm from 24 B/op down to 0 B/op.
+     */
+    @Benchmark
+    public void slidingWindow(SlidingWindowState state, Blackhole bh) {
+        state.list.addLast(state.value);
+        bh.consume(state.list.removeFirst());
+    }
+
+    // ------------------------------------------------------------------
+    // Large lists
+    // ------------------------------------------------------------------
+
+    /** access random element of a large list */
+    @Benchmark
+    public void largeRandomAccess(LargeListState state, Blackhole bh) {
+        int idx = state.random.nextInt(state.size);
+        bh.consume(state.list.get(idx));
+    }
+
+    /**
+     * remove and insert at random locations of a large list. Removing first
+     * keeps the size within [size - 1, size] so that the number of fingers
+     * does not flip on every call when size is a perfect square.
+     */
+    @Benchmark
+    public void largeRemoveInsertRandom(LargeListState state, Blackhole bh) {
+        bh.consume(state.list.remove(state.random.nextInt(state.size)));
+        state.list.add(state.random.nextInt(state.size), -1);
+    }
+
+    // ------------------------------------------------------------------
+    // Skewed accesses
+    // ------------------------------------------------------------------
+
+    /** access Zipf-distributed element */
+    @Benchmark
+    public void zipfRandomAccess(ZipfState state, Blackhole bh) {
+        bh.consume(state.list.get(state.nextIndex()));
+    }
+
+    /** update Zipf-distributed element */
+    @Benchmark
+    public void zipfRandomSet(ZipfState state, Blackhole bh) {
+        bh.consume(state.list.set(state.nextIndex(), -1));
+    }
+
+    // ------------------------------------------------------------------
+    // Shared lists
+    // ------------------------------------------------------------------
+
+    /**
+     * a quarter of the calls prepend and pop the head, another quarter insert
+     * and remove in the middle, and the rest read a random element. Keeps the
+     * size within [size - 1, size + 1] per thread.
+     */
+    @Benchmark
+    public void sharedMixed(SharedListState state, Blackhole bh) {
+        List<Integer> list = state.list;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        switch (random.nextInt(4)) {
+            case 0:
+                list.add(0, -1);
+                bh.consume(list.remove(0));
+                break;
+            case 1:
+                int mid = state.size / 2;
+                list.add(mid, -1);
+                bh.consume(list.remove(mid));
+                break;
+            default:
+                bh.consume(list.get(random.nextInt(state.size / 2)));
+                break;
+        }
+    }
+
     // ------------------------------------------------------------------
     // Main method for running from IDE (optional)
     // ------------------------------------------------------------------
@@ -0,0 +1,415 @@
+package io.github.coderodde.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayIndexedLinkedListTest {
+
+    private final ArrayIndexedLinkedList<Integer> list =
+            new ArrayIndexedLinkedList<>(4);
+
+    private final List<Integer> referenceList = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.clear();
+        referenceList.clear();
+    }
+
+    @Test
+    public void appendAndGet() {
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+            referenceList.add(i);
+            list.checkInvariant();
+        }
+
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(referenceList.get(i), list.get(i));
+        }
+
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+    }
+
+    @Test
+    public void prependAndPop() {
+        for (int i = 0; i < 500; ++i) {
+            list.addFirst(i);
+            referenceList.add(0, i);
+            list.checkInvariant();
+        }
+
+        assertEquals(referenceList, list);
+
+        while (!list.isEmpty()) {
+            assertEquals(referenceList.remove(0), list.removeFirst());
+            list.checkInvariant();
+
+            if (!list.isEmpty()) {
+                assertEquals(referenceList.remove(referenceList.size() - 1),
+                             list.removeLast());
+                list.checkInvariant();
+            }
+        }
+
+        assertNull(list.pollFirst());
+        assertNull(list.pollLast());
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+    }
+
+    @Test
+    public void randomOperationsReuseSlots() {
+        Random random = new Random(14L);
+
+        for (int iteration = 0; iteration < 20_000; ++iteration) {
+            int coin = random.nextInt(10);
+            int capacity = list.getCapacity();
+
+            if (coin < 4 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.add(index, iteration);
+                referenceList.add(index, iteration);
+
+                if (referenceList.size() <= capacity) {
+                    // A freed slot is reused before the arrays grow:
+                    assertEquals(capacity, list.getCapacity());
+                }
+            } else if (coin < 6) {
+                int index = random.nextInt(referenceList.size() + 1);
+                List<Integer> elements = new ArrayList<>();
+
+                for (int i = random.nextInt(10); i > 0; --i) {
+                    elements.add(-i);
+                }
+
+                list.addAll(index, elements);
+                referenceList.addAll(index, elements);
+
+                if (referenceList.size() <= capacity) {
+                    assertEquals(capacity, list.getCapacity());
+                }
+            } else if (coin < 8) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.remove(index), list.remove(index));
+                assertEquals(capacity, list.getCapacity());
+            } else if (coin == 8) {
+                // Clearing a range frees a run of slots at once:
+                int fromIndex = random.nextInt(referenceList.size());
+                int toIndex = fromIndex + random.nextInt(
+                        Math.min(10, referenceList.size() - fromIndex) + 1);
+
+                list.subList(fromIndex, toIndex).clear();
+                referenceList.subList(fromIndex, toIndex).clear();
+                assertEquals(capacity, list.getCapacity());
+            } else {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.set(index, iteration),
+                             list.set(index, iteration));
+            }
+
+            list.checkInvariant();
+        }
+
+        assertEquals(referenceList, list);
+    }
+
+    @Test
+    public void removeRangeViaSubList() {
+        Random random = new Random(26L);
+
+        for (int i = 0; i < 500; ++i) {
+            list.add(i);
+            referenceList.add(i);
+        }
+
+        while (!referenceList.isEmpty()) {
+            int fromIndex = random.nextInt(referenceList.size());
+            int toIndex = fromIndex + random.nextInt(
+                    Math.min(40, referenceList.size() - fromIndex) + 1);
+
+            list.subList(fromIndex, toIndex).clear();
+            referenceList.subList(fromIndex, toIndex).clear();
+            list.checkInvariant();
+            assertEquals(referenceList, list);
+
+            if (toIndex == fromIndex) {
+                list.remove(fromIndex);
+                referenceList.remove(fromIndex);
+            }
+        }
+    }
+
+    @Test
+    public void removeIfAndRetainAll() {
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+            referenceList.add(i);
+        }
+
+        assertTrue(list.removeIf(x -> x % 3 == 0));
+        referenceList.removeIf(x -> x % 3 == 0);
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+
+        assertFalse(list.removeIf(x -> x < 0));
+
+        List<Integer> retained = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i += 7) {
+            retained.add(i);
+        }
+
+        assertTrue(list.retainAll(retained));
+        referenceList.retainAll(retained);
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+
+        assertTrue(list.removeAll(retained));
+        list.checkInvariant();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void listIterator() {
+        Random random = new Random(39L);
+
+        for (int i = 0; i < 300; ++i) {
+            list.add(i);
+            referenceList.add(i);
+        }
+
+        ListIterator<Integer> iterator = list.listIterator(150);
+        ListIterator<Integer> referenceIterator =
+                referenceList.listIterator(150);
+
+        for (int i = 0; i < 5000; ++i) {
+            int coin = random.nextInt(6);
+
+            if (coin == 0 && referenceIterator.hasNext()) {
+                assertEquals(referenceIterator.next(), iterator.next());
+            } else if (coin == 1 && referenceIterator.hasPrevious()) {
+                assertEquals(referenceIterator.previous(),
+                             iterator.previous());
+            } else if (coin == 2) {
+                iterator.add(-i);
+                referenceIterator.add(-i);
+            } else if (coin == 3) {
+                if (referenceIterator.hasNext()) {
+                    referenceIterator.next();
+                    iterator.next();
+                    iterator.remove();
+                    referenceIterator.remove();
+                }
+            } else if (coin == 4 && referenceIterator.hasPrevious()) {
+                referenceIterator.previous();
+                iterator.previous();
+                iterator.set(i);
+                referenceIterator.set(i);
+            }
+
+            assertEquals(referenceIterator.nextIndex(), iterator.nextIndex());
+            list.checkInvariant();
+        }
+
+        assertEquals(referenceList, list);
+    }
+
+    @Test
+    public void descendingIterator() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        Iterator<Integer> iterator = list.descendingIterator();
+
+        for (int i = 99; i >= 0; --i) {
+            assertEquals(Integer.valueOf(i), iterator.next());
+        }
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void iteratorFailsFast() {
+        list.add(1);
+        list.add(2);
+
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(3);
+
+        assertThrows(ConcurrentModificationException.class,
+                     () -> iterator.next());
+    }
+
+    @Test
+    public void occurrences() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i % 10);
+        }
+
+        assertEquals(3, list.indexOf(3));
+        assertEquals(93, list.lastIndexOf(3));
+        assertTrue(list.removeFirstOccurrence(3));
+        assertTrue(list.removeLastOccurrence(3));
+        list.checkInvariant();
+        assertEquals(98, list.size());
+        assertEquals(12, list.indexOf(3));
+        assertEquals(82, list.lastIndexOf(3));
+        assertFalse(list.contains(100));
+    }
+
+    @Test
+    public void serializeAndClone() throws IOException, ClassNotFoundException {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(list);
+        }
+
+        ObjectInputStream ois =
+                new ObjectInputStream(
+                        new ByteArrayInputStream(bos.toByteArray()));
+
+        @SuppressWarnings("unchecked")
+        ArrayIndexedLinkedList<Integer> other =
+                (ArrayIndexedLinkedList<Integer>) ois.readObject();
+
+        other.checkInvariant();
+        assertEquals(list, other);
+        assertTrue(other.inListOrder);
+        assertEquals(list, list.clone());
+    }
+
+    @Test
+    public void randomOperationsWithCompaction() {
+        Random random = new Random(52L);
+
+        for (int iteration = 0; iteration < 20_000; ++iteration) {
+            int coin = random.nextInt(20);
+
+            if (coin < 8 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.add(index, iteration);
+                referenceList.add(index, iteration);
+            } else if (coin < 11) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.remove(index), list.remove(index));
+            } else if (coin < 13) {
+                assertEquals(referenceList.remove(0), list.removeFirst());
+            } else if (coin < 15) {
+                assertEquals(referenceList.remove(referenceList.size() - 1),
+                             list.removeLast());
+            } else if (coin < 16) {
+                list.add(iteration);
+                referenceList.add(iteration);
+            } else if (coin < 17) {
+                list.compact();
+                assertTrue(list.inListOrder);
+            } else {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            }
+
+            list.checkInvariant();
+        }
+
+        assertEquals(referenceList, list);
+        assertArrayEquals(referenceList.toArray(), list.toArray());
+    }
+
+    @Test
+    public void compact() {
+        Random random = new Random(65L);
+
+        for (int i = 0; i < 1000; ++i) {
+            int index = random.nextInt(referenceList.size() + 1);
+            list.add(index, i);
+            referenceList.add(index, i);
+        }
+
+        for (int i = 0; i < 500; ++i) {
+            int index = random.nextInt(referenceList.size());
+            list.remove(index);
+            referenceList.remove(index);
+        }
+
+        assertFalse(list.inListOrder);
+        assertEquals(1024, list.getCapacity());
+
+        list.compact();
+        list.checkInvariant();
+        assertTrue(list.inListOrder);
+        assertEquals(500, list.getCapacity());
+        assertEquals(referenceList, list);
+
+        for (int i = 0; i < referenceList.size(); ++i) {
+            assertEquals(referenceList.get(i), list.items[i]);
+        }
+
+        // Appending and removing at the tail keeps the slots in list order:
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+            referenceList.add(i);
+        }
+
+        list.removeLast();
+        referenceList.remove(referenceList.size() - 1);
+        list.add(-1);
+        referenceList.add(-1);
+        list.checkInvariant();
+        assertTrue(list.inListOrder);
+        assertEquals(referenceList, list);
+
+        list.add(1, -2);
+        referenceList.add(1, -2);
+        list.checkInvariant();
+        assertFalse(list.inListOrder);
+        assertEquals(referenceList, list);
+
+        list.clear();
+        list.compact();
+        list.checkInvariant();
+        assertEquals(ArrayIndexedLinkedList.DEFAULT_CAPACITY,
+                     list.getCapacity());
+    }
+
+    @Test
+    public void iteratorFailsFastOnCompaction() {
+        list.add(1);
+        list.add(2);
+
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.compact();
+
+        assertThrows(ConcurrentModificationException.class,
+                     () -> iterator.next());
+    }
+
+    @Test
+    public void throwsOnNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new ArrayIndexedLinkedList<>(-1));
+    }
+}
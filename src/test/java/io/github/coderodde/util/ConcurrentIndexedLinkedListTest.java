@@ -0,0 +1,341 @@
+package io.github.coderodde.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentIndexedLinkedListTest {
+
+    private final ConcurrentIndexedLinkedList<Integer> list =
+            new ConcurrentIndexedLinkedList<>();
+
+    private final List<Integer> referenceList = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.clear();
+        referenceList.clear();
+    }
+
+    @Test
+    public void randomOperations() {
+        Random random = new Random(104L);
+
+        for (int iteration = 0; iteration < 20_000; ++iteration) {
+            int coin = random.nextInt(20);
+
+            if (coin < 7 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.add(index, iteration);
+                referenceList.add(index, iteration);
+            } else if (coin < 10) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.remove(index), list.remove(index));
+            } else if (coin < 11) {
+                assertEquals(referenceList.remove(0), list.pollFirst());
+            } else if (coin < 12) {
+                assertEquals(referenceList.remove(referenceList.size() - 1),
+                             list.pollLast());
+            } else if (coin < 13) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.set(index, -iteration),
+                             list.set(index, -iteration));
+            } else {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            }
+        }
+
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+        assertEquals(referenceList.get(0), list.getFirst());
+        assertEquals(referenceList.get(referenceList.size() - 1),
+                     list.peekLast());
+    }
+
+    @Test
+    public void readsDoNotMoveFingers() {
+        for (int i = 0; i < 10_000; ++i) {
+            list.add(i);
+        }
+
+        int[] fingerIndices = list.list.fingerList.fingerIndices.clone();
+        Random random = new Random(117L);
+
+        for (int i = 0; i < 10_000; ++i) {
+            int index = random.nextInt(list.size());
+            assertEquals(Integer.valueOf(index), list.get(index));
+        }
+
+        assertArrayEquals(fingerIndices, list.list.fingerList.fingerIndices);
+    }
+
+    @Test
+    public void bulkOperations() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i % 10);
+            referenceList.add(i % 10);
+        }
+
+        list.addAll(list);
+        referenceList.addAll(new ArrayList<>(referenceList));
+        list.addAll(5, Arrays.asList(-1, -2));
+        referenceList.addAll(5, Arrays.asList(-1, -2));
+        assertEquals(referenceList, list);
+
+        assertTrue(list.containsAll(list));
+        assertEquals(referenceList.lastIndexOf(3), list.lastIndexOf(3));
+        assertTrue(list.removeFirstOccurrence(3));
+        referenceList.remove(Integer.valueOf(3));
+        assertTrue(list.removeIf(x -> x == 4));
+        referenceList.removeIf(x -> x == 4);
+        list.replaceAll(x -> x + 1);
+        referenceList.replaceAll(x -> x + 1);
+        list.sort(null);
+        referenceList.sort(null);
+        assertEquals(referenceList, list);
+
+        list.subList(10, 20).clear();
+        referenceList.subList(10, 20).clear();
+        assertEquals(referenceList, list);
+        list.checkInvariant();
+
+        assertTrue(list.retainAll(Arrays.asList(1, 2)));
+        referenceList.retainAll(Arrays.asList(1, 2));
+        assertEquals(referenceList, list);
+        assertFalse(list.retainAll(list));
+        assertTrue(list.removeAll(list));
+        assertTrue(list.isEmpty());
+        assertNull(list.peekFirst());
+        assertThrows(NoSuchElementException.class, () -> list.getFirst());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    public void iteratorsTraverseSnapshot() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        Iterator<Integer> iterator = list.iterator();
+        Iterator<Integer> descendingIterator = list.descendingIterator();
+        list.clear();
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(Integer.valueOf(i), iterator.next());
+            assertEquals(Integer.valueOf(99 - i), descendingIterator.next());
+        }
+
+        assertFalse(iterator.hasNext());
+        assertFalse(descendingIterator.hasNext());
+        assertThrows(UnsupportedOperationException.class,
+                     () -> iterator.remove());
+    }
+
+    @Test
+    public void traversalsShareSnapshot() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        Iterator<Integer> iterator1 = list.iterator();
+        Iterator<Integer> iterator2 = list.listIterator(50);
+
+        // No write in between, so the list still shares its nodes:
+        assertTrue(list.list.shared);
+        assertEquals(100, list.stream().count());
+        list.set(0, -1);
+        assertFalse(list.list.shared);
+        list.add(100);
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(Integer.valueOf(i), iterator1.next());
+        }
+
+        for (int i = 50; i < 100; ++i) {
+            assertEquals(Integer.valueOf(i), iterator2.next());
+        }
+
+        assertFalse(iterator1.hasNext());
+        assertFalse(iterator2.hasNext());
+
+        Iterator<Integer> iterator3 = list.iterator();
+        assertEquals(Integer.valueOf(-1), iterator3.next());
+        assertEquals(101, list.stream().count());
+        assertEquals(101, list.spliterator().getExactSizeIfKnown());
+        list.checkInvariant();
+    }
+
+    @Test
+    public void searchesAfterTraversingSmallLists() {
+        // Traversing shares the nodes of the underlying list with a snapshot:
+        for (Integer value : list) {
+            fail("The list is not empty: " + value);
+        }
+
+        assertEquals(-1, list.lastIndexOf(1));
+        assertEquals(-1, list.indexOf(1));
+
+        for (int i = 0; i < 4; ++i) {
+            list.add(i);
+            list.forEach(value -> assertTrue(value >= 0));
+
+            for (int j = 0; j <= i; ++j) {
+                assertEquals(j, list.indexOf(j));
+                assertEquals(j, list.lastIndexOf(j));
+            }
+
+            assertEquals(-1, list.lastIndexOf(-1));
+        }
+
+        while (!list.isEmpty()) {
+            list.iterator();
+            list.pollFirst();
+            assertEquals(-1, list.lastIndexOf(0));
+        }
+
+        list.checkInvariant();
+    }
+
+    @Test
+    public void serialize() throws IOException, ClassNotFoundException {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(list);
+        }
+
+        ObjectInputStream ois =
+                new ObjectInputStream(
+                        new ByteArrayInputStream(bos.toByteArray()));
+
+        @SuppressWarnings("unchecked")
+        ConcurrentIndexedLinkedList<Integer> other =
+                (ConcurrentIndexedLinkedList<Integer>) ois.readObject();
+
+        other.checkInvariant();
+        other.add(100);
+        list.add(100);
+        assertEquals(list, other);
+    }
+
+    @Test
+    public void concurrentReadersAndWriters() throws InterruptedException {
+        // Every element holds a non-negative value. The writers keep the list
+        // size within [500, 1500]:
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+        }
+
+        int numberOfReaders = 4;
+        int numberOfWriters = 2;
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch latch =
+                new CountDownLatch(numberOfReaders + numberOfWriters);
+
+        for (int t = 0; t < numberOfReaders; ++t) {
+            long seed = t;
+
+            new Thread(() -> {
+                Random random = new Random(seed);
+
+                try {
+                    while (!done.get()) {
+                        int index = random.nextInt(1600);
+
+                        try {
+                            Integer value = list.get(index);
+                            assertNotNull(value);
+                            assertTrue(value >= 0);
+                        } catch (IndexOutOfBoundsException ex) {
+                            assertTrue(index >= 500);
+                        }
+
+                        assertNotNull(list.peekFirst());
+                        int size = list.size();
+                        assertTrue(500 <= size && size <= 1500, "" + size);
+
+                        if (index % 100 == 0) {
+                            // A traversal sees a consistent state:
+                            int[] count = new int[1];
+
+                            list.forEach(value -> {
+                                assertTrue(value >= 0);
+                                count[0]++;
+                            });
+
+                            assertTrue(500 <= count[0] && count[0] <= 1500,
+                                       "" + count[0]);
+                            assertEquals(-1, list.lastIndexOf(-1));
+                        }
+                    }
+                } catch (Throwable t1) {
+                    failure.compareAndSet(null, t1);
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+
+        for (int t = 0; t < numberOfWriters; ++t) {
+            long seed = 100 + t;
+
+            new Thread(() -> {
+                Random random = new Random(seed);
+
+                try {
+                    for (int i = 0; i < 20_000; ++i) {
+                        if (random.nextBoolean()) {
+                            int index = random.nextInt(500);
+                            list.add(index, i);
+
+                            if (list.size() > 1400) {
+                                list.removeLast();
+                            }
+                        } else {
+                            list.remove(random.nextInt(500));
+
+                            if (list.size() < 600) {
+                                list.addFirst(i);
+                            }
+                        }
+                    }
+                } catch (Throwable t1) {
+                    failure.compareAndSet(null, t1);
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+
+        Thread.sleep(1000);
+        done.set(true);
+        latch.await();
+
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+
+        list.checkInvariant();
+    }
+}
@@ -5,6 +5,7 @@ import io.github.coderodde.util.IndexedLinkedList.Finger;
 import io.github.coderodde.util.IndexedLinkedList.FingerList;
 import io.github.coderodde.util.IndexedLinkedList.Node;
 import java.util.Arrays;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,25 +27,25 @@ public class FingerListTest {
         list.fingerList.enlargeFingerArrayWithEmptyRange(8, 1, 2, 2);
         
         assertEquals(new Finger<>(new Node<>(0), 0), 
-                     list.fingerList.fingerArray[0]);
+                     list.fingerList.getFinger(0));
         
         assertEquals(new Finger<>(new Node<>(1), 3), 
-                     list.fingerList.fingerArray[1]);
+                     list.fingerList.getFinger(1));
         
         assertEquals(new Finger<>(new Node<>(2), 4), 
-                     list.fingerList.fingerArray[2]);
+                     list.fingerList.getFinger(2));
         
         assertEquals(new Finger<>(new Node<>(1), 3), 
-                     list.fingerList.fingerArray[3]);
+                     list.fingerList.getFinger(3));
         
         assertEquals(new Finger<>(new Node<>(2), 4), 
-                     list.fingerList.fingerArray[4]);
+                     list.fingerList.getFinger(4));
         
         assertEquals(new Finger<>(new Node<>(3), 5), 
-                     list.fingerList.fingerArray[5]);
+                     list.fingerList.getFinger(5));
         
         assertEquals(new Finger<>(null, 14),
-                     list.fingerList.fingerArray[6]);
+                     list.fingerList.getFinger(6));
     }
     
     @Test
@@ -60,12 +61,12 @@ public class FingerListTest {
 
     @Test
     public void appendGetFinger() {
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(0)), 0));
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(1)), 1));
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(3)), 3));
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(6)), 6));
-        fl.fingerArray[4].index = 8;
-        fl.fingerArray[4].node = new Node<>(Integer.valueOf(1000));
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(0)), 0);
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(1)), 1);
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(3)), 3);
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(6)), 6);
+        fl.fingerIndices[4] = 8;
+        fl.fingerNodes[4] = new Node<>(Integer.valueOf(1000));
         
         Finger<Integer> finger = fl.getFinger(fl.getClosestFingerIndex(0));
         assertEquals(0, finger.index);
@@ -98,14 +99,15 @@ public class FingerListTest {
     
     @Test
     public void insertFingerAtFront() {
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(0)), 0));
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(1)), 1));
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(3)), 3));
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(6)), 6));
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(0)), 0);
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(1)), 1);
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(3)), 3);
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(6)), 6);
         
         Finger<Integer> insertionFinger = new Finger<>(new Node<>(null), 0);
         
-        fl.insertFingerAndShiftOnceToRight(insertionFinger);
+        fl.insertFingerAndShiftOnceToRight(insertionFinger.node,
+                                           insertionFinger.index);
         
         Finger<Integer> finger = fl.getFinger(fl.getClosestFingerIndex(0));
         assertEquals(insertionFinger.index, finger.index);
@@ -116,45 +118,48 @@ public class FingerListTest {
     @Test
     public void insertFingerAtTail() {
         fl.list.size = 1;
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(2)), 0));
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(2)), 0);
         fl.list.size = 2;
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(4)), 1));
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(4)), 1);
         fl.list.size = 3;
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(5)), 2));
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(5)), 2);
         
         // Add end of finger list sentinel:
-        fl.fingerArray[3] = new Finger<>(new Node<>(null), 10);
+        fl.setFinger(3, new Node<>(null), 10);
         
         fl.list.size = 4;
         Finger<Integer> insertionFinger = new Finger<>(new Node<>(13), 1);
         
-        fl.insertFingerAndShiftOnceToRight(insertionFinger);
+        fl.insertFingerAndShiftOnceToRight(insertionFinger.node,
+                                           insertionFinger.index);
 
         assertEquals(4, fl.size());
     }
     
     @Test
     public void insertFingerInBetween1() {
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(2)), 2));
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(4)), 4));
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(5)), 5));
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(2)), 2);
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(4)), 4);
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(5)), 5);
         
         Finger<Integer> insertionFinger = new Finger<>(new Node<>(null), 4);
         
-        fl.insertFingerAndShiftOnceToRight(insertionFinger);
+        fl.insertFingerAndShiftOnceToRight(insertionFinger.node,
+                                           insertionFinger.index);
         
         assertEquals(insertionFinger, fl.getFinger(1));
     }
     
     @Test
     public void insertFingerInBetween2() {
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(2)), 2));
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(4)), 4));
-        fl.appendFingerImpl(new Finger<>(new Node<>(Integer.valueOf(5)), 5));
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(2)), 2);
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(4)), 4);
+        fl.appendFingerImpl(new Node<>(Integer.valueOf(5)), 5);
         
         Finger<Integer> insertionFinger = new Finger<>(new Node<>(null), 3);
         
-        fl.insertFingerAndShiftOnceToRight(insertionFinger);
+        fl.insertFingerAndShiftOnceToRight(insertionFinger.node,
+                                           insertionFinger.index);
         
         assertEquals(insertionFinger, fl.getFinger(1));
     }
@@ -170,9 +175,9 @@ public class FingerListTest {
         list.fingerList.makeRoomAtPrefix(5, 0, 3);
         list.fingerList.pushCoveredFingersToPrefix(6, 0, 3);
         
-        Finger<Integer> finger0 = list.fingerList.fingerArray[0];
-        Finger<Integer> finger1 = list.fingerList.fingerArray[1];
-        Finger<Integer> finger2 = list.fingerList.fingerArray[2];
+        Finger<Integer> finger0 = list.fingerList.getFinger(0);
+        Finger<Integer> finger1 = list.fingerList.getFinger(1);
+        Finger<Integer> finger2 = list.fingerList.getFinger(2);
         
         assertEquals(3, finger0.index);
         assertEquals(4, finger1.index);
@@ -428,13 +433,13 @@ public class FingerListTest {
         
         expectedFingerList.size = 6;
         
-        expectedFingerList.fingerArray[0] = new Finger<>(new Node<>(0),  0  );
-        expectedFingerList.fingerArray[1] = new Finger<>(new Node<>(1),  1  );
-        expectedFingerList.fingerArray[2] = new Finger<>(new Node<>(4),  4  );
-        expectedFingerList.fingerArray[3] = new Finger<>(new Node<>(49), 29 );
-        expectedFingerList.fingerArray[4] = new Finger<>(new Node<>(64), 44 );
-        expectedFingerList.fingerArray[5] = new Finger<>(new Node<>(81), 61 );
-        expectedFingerList.fingerArray[6] = new Finger<>(new Node<>(null), 80);
+        expectedFingerList.setFinger(0, new Node<>(0), 0);
+        expectedFingerList.setFinger(1, new Node<>(1), 1);
+        expectedFingerList.setFinger(2, new Node<>(4), 4);
+        expectedFingerList.setFinger(3, new Node<>(49), 29);
+        expectedFingerList.setFinger(4, new Node<>(64), 44);
+        expectedFingerList.setFinger(5, new Node<>(81), 61);
+        expectedFingerList.setFinger(6, new Node<>(null), 80);
             
         assertEquals(expectedFingerList, list.fingerList);
     }
@@ -455,24 +460,67 @@ public class FingerListTest {
         assertFalse(fingerList1.equals(new Object()));
         
         fingerList1.size = 0;
-        fingerList1.appendFingerImpl(new Finger<>(new Node(1), 0));
-        fingerList1.appendFingerImpl(new Finger<>(new Node(2), 1));
+        fingerList1.appendFingerImpl(new Node(1), 0);
+        fingerList1.appendFingerImpl(new Node(2), 1);
         
         fingerList2.size = 0;
-        fingerList2.appendFingerImpl(new Finger<>(new Node(1), 0));
+        fingerList2.appendFingerImpl(new Node(1), 0);
         
         assertFalse(fingerList1.equals(fingerList2));
         
-        fingerList2.appendFingerImpl(new Finger<>(new Node(2), 1));
+        fingerList2.appendFingerImpl(new Node(2), 1);
         
         assertTrue(fingerList1.equals(fingerList2));
         
-        fingerList2.fingerArray[1] = null;
+        fingerList2.fingerNodes[1] = null;
         
         assertFalse(fingerList1.equals(fingerList2));
         assertFalse(fingerList2.equals(fingerList1));
     }
     
+    @Test
+    public void bucketedLookupMatchesBinarySearch() {
+        loadList(1000);
+        list.randomizeFingers(new Random(7L));
+        fl.enableBucketTable();
+        
+        for (int elementIndex = 0; elementIndex <= list.size(); elementIndex++) {
+            int expectedFingerIndex = getFingerIndexViaBinarySearch(elementIndex);
+            
+            assertEquals(expectedFingerIndex, 
+                         fl.getFingerIndexImpl(elementIndex));
+        }
+    }
+    
+    @Test
+    public void bucketedLookupOnStaleTable() {
+        loadList(100);
+        fl.enableBucketTable();
+        
+        // Make the bucket table stale:
+        for (int i = 0; i < 900; i++) {
+            list.add(i);
+        }
+        
+        for (int elementIndex = 0; elementIndex <= list.size(); elementIndex++) {
+            int expectedFingerIndex = getFingerIndexViaBinarySearch(elementIndex);
+            
+            assertEquals(expectedFingerIndex, 
+                         fl.getFingerIndexImpl(elementIndex));
+        }
+        
+        fl.disableBucketTable();
+        assertNull(fl.bucketTable);
+    }
+    
+    private int getFingerIndexViaBinarySearch(int elementIndex) {
+        int[] bucketTable = fl.bucketTable;
+        fl.bucketTable = null;
+        int fingerIndex = fl.getFingerIndexImpl(elementIndex);
+        fl.bucketTable = bucketTable;
+        return fingerIndex;
+    }
+    
     private void loadList(int size) {
         for (int i = 0; i < size; i++) {
             list.add(i);
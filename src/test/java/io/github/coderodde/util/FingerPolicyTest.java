@@ -0,0 +1,218 @@
+package io.github.coderodde.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FingerPolicyTest {
+
+    private static final FingerPolicy[] POLICIES = {
+        FingerPolicy.SQRT,
+        FingerPolicy.scaledSqrt(4.0, 0),
+        FingerPolicy.scaledSqrt(0.25, 0),
+        FingerPolicy.scaledSqrt(1.0, 30),
+        FingerPolicy.logarithmic(1.0, 0),
+        FingerPolicy.logarithmic(0.5, 10),
+        FingerPolicy.fixed(1),
+        FingerPolicy.fixed(5),
+    };
+
+    @Test
+    public void randomOperationsWithEachPolicy() {
+        for (FingerPolicy policy : POLICIES) {
+            IndexedLinkedList<Integer> list = new IndexedLinkedList<>(policy);
+            List<Integer> referenceList = new ArrayList<>();
+            Random random = new Random(1009L);
+
+            assertSame(policy, list.getFingerPolicy());
+
+            for (int iteration = 0; iteration < 3_000; iteration++) {
+                int coin = random.nextInt(20);
+
+                if (coin < 7 || referenceList.isEmpty()) {
+                    int index = random.nextInt(referenceList.size() + 1);
+                    list.add(index, iteration);
+                    referenceList.add(index, iteration);
+                } else if (coin < 11) {
+                    int index = random.nextInt(referenceList.size());
+                    assertEquals(referenceList.remove(index),
+                                 list.remove(index));
+                } else if (coin < 13) {
+                    assertEquals(referenceList.remove(0), list.removeFirst());
+                } else if (coin < 15) {
+                    assertEquals(referenceList.remove(referenceList.size() - 1),
+                                 list.removeLast());
+                } else if (coin < 16) {
+                    int fromIndex = random.nextInt(referenceList.size());
+                    int toIndex =
+                            Math.min(referenceList.size(),
+                                     fromIndex + random.nextInt(20));
+
+                    list.subList(fromIndex, toIndex).clear();
+                    referenceList.subList(fromIndex, toIndex).clear();
+                } else if (coin < 17) {
+                    List<Integer> collection = new ArrayList<>();
+                    int collectionSize = random.nextInt(10);
+
+                    for (int i = 0; i < collectionSize; i++) {
+                        collection.add(-i);
+                    }
+
+                    int index = random.nextInt(referenceList.size() + 1);
+                    list.addAll(index, collection);
+                    referenceList.addAll(index, collection);
+                } else {
+                    int index = random.nextInt(referenceList.size());
+                    assertEquals(referenceList.get(index), list.get(index));
+                }
+
+                list.checkInvarant();
+            }
+
+            assertEquals(referenceList, list);
+            list.removeIf(i -> i % 3 == 0);
+            referenceList.removeIf(i -> i % 3 == 0);
+            list.checkInvarant();
+            assertEquals(referenceList, list);
+
+            IndexedLinkedList<Integer> copy = list.deepCopy();
+            copy.checkInvarant();
+            assertSame(policy, copy.getFingerPolicy());
+            assertEquals(list, copy);
+
+            @SuppressWarnings("unchecked")
+            IndexedLinkedList<Integer> clone =
+                    (IndexedLinkedList<Integer>) list.clone();
+
+            clone.checkInvarant();
+            assertSame(policy, clone.getFingerPolicy());
+            assertEquals(list, clone);
+        }
+    }
+
+    @Test
+    public void numberOfFingers() {
+        IndexedLinkedList<Integer> list =
+                new IndexedLinkedList<>(FingerPolicy.scaledSqrt(4.0, 0));
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(40, list.fingerList.size());
+
+        list = new IndexedLinkedList<>(FingerPolicy.logarithmic(1.0, 0));
+
+        for (int i = 0; i < 1023; i++) {
+            list.add(i);
+        }
+
+        assertEquals(10, list.fingerList.size());
+
+        list = new IndexedLinkedList<>(FingerPolicy.fixed(5));
+
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        assertEquals(5, list.fingerList.size());
+
+        // Lists of more than three elements hold at least two fingers:
+        list = new IndexedLinkedList<>(FingerPolicy.fixed(1));
+
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        assertEquals(2, list.fingerList.size());
+        list.checkInvarant();
+    }
+
+    @Test
+    public void hysteresis() {
+        IndexedLinkedList<Integer> list =
+                new IndexedLinkedList<>(FingerPolicy.scaledSqrt(1.0, 50));
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(10, list.fingerList.size());
+
+        // ceil(sqrt(49 + 50)) = 10 fingers are still allowed:
+        while (list.size() > 49) {
+            list.removeLast();
+        }
+
+        assertEquals(10, list.fingerList.size());
+        list.checkInvarant();
+
+        // ceil(sqrt(30 + 50)) = 9:
+        while (list.size() > 30) {
+            list.removeLast();
+        }
+
+        assertEquals(9, list.fingerList.size());
+        list.checkInvarant();
+
+        // No fingers are added while the list size stays within the band:
+        list.add(0, -1);
+        list.removeFirst();
+        list.add(0, -1);
+        assertEquals(9, list.fingerList.size());
+        list.checkInvarant();
+    }
+
+    @Test
+    public void serializationUsesRequiredNumberOfFingers()
+            throws IOException, ClassNotFoundException {
+
+        for (int size = 0; size < 200; size++) {
+            IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(list);
+            }
+
+            ObjectInputStream ois =
+                    new ObjectInputStream(
+                            new ByteArrayInputStream(bos.toByteArray()));
+
+            @SuppressWarnings("unchecked")
+            IndexedLinkedList<Integer> readList =
+                    (IndexedLinkedList<Integer>) ois.readObject();
+
+            readList.checkInvarant();
+            assertEquals(list, readList);
+            assertEquals(list.fingerList.size(), readList.fingerList.size());
+        }
+    }
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> FingerPolicy.scaledSqrt(0.0, 0));
+        assertThrows(IllegalArgumentException.class,
+                     () -> FingerPolicy.scaledSqrt(1.0, -1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> FingerPolicy.logarithmic(2.0, 0));
+        assertThrows(IllegalArgumentException.class,
+                     () -> FingerPolicy.fixed(0));
+        assertThrows(NullPointerException.class,
+                     () -> new IndexedLinkedList<>((FingerPolicy) null));
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FingerSearchStrategyTest {
+
+    private static final FingerSearchStrategy[] STRATEGIES = {
+        FingerSearchStrategy.BINARY,
+        FingerSearchStrategy.INTERPOLATION,
+        FingerSearchStrategy.INTERPOLATION_GALLOPING,
+    };
+
+    @Test
+    public void searchOnTinyFingerArrays() {
+        int[] fingerIndices = { 0, 5 };
+
+        for (FingerSearchStrategy strategy : STRATEGIES) {
+            assertEquals(0, strategy.search(new int[]{ 0 }, 0, 0));
+            assertEquals(0, strategy.search(fingerIndices, 1, 0));
+            assertEquals(1, strategy.search(fingerIndices, 1, 1));
+            assertEquals(1, strategy.search(fingerIndices, 1, 5));
+            assertEquals(2, strategy.search(fingerIndices, 1, 6));
+        }
+    }
+
+    @Test
+    public void searchOnRandomFingerArrays() {
+        Random random = new Random(1006L);
+
+        for (int iteration = 0; iteration < 500; iteration++) {
+            int numberOfFingers = random.nextInt(100);
+            int[] fingerIndices =
+                    createFingerIndices(random,
+                                        numberOfFingers,
+                                        iteration % 2 == 0);
+
+            int listSize = fingerIndices[numberOfFingers];
+
+            for (int elementIndex = 0;
+                    elementIndex <= listSize + 1;
+                    elementIndex++) {
+
+                int expected = lowerBound(fingerIndices,
+                                          numberOfFingers,
+                                          elementIndex);
+
+                for (FingerSearchStrategy strategy : STRATEGIES) {
+                    assertEquals(expected,
+                                 strategy.search(fingerIndices,
+                                                 numberOfFingers,
+                                                 elementIndex),
+                                 strategy.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void randomOperationsWithEachStrategy() {
+        for (FingerSearchStrategy strategy : STRATEGIES) {
+            IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+            List<Integer> referenceList = new ArrayList<>();
+            Random random = new Random(1007L);
+
+            list.setFingerSearchStrategy(strategy);
+            assertSame(strategy, list.getFingerSearchStrategy());
+
+            for (int iteration = 0; iteration < 5_000; iteration++) {
+                int coin = random.nextInt(10);
+
+                if (coin < 4 || referenceList.isEmpty()) {
+                    int index = random.nextInt(referenceList.size() + 1);
+                    list.add(index, iteration);
+                    referenceList.add(index, iteration);
+                } else if (coin < 6) {
+                    int index = random.nextInt(referenceList.size());
+                    assertEquals(referenceList.remove(index),
+                                 list.remove(index));
+                } else {
+                    int index = random.nextInt(referenceList.size());
+                    assertEquals(referenceList.get(index), list.get(index));
+                }
+            }
+
+            list.checkInvarant();
+            assertEquals(referenceList, list);
+        }
+    }
+
+    @Test
+    public void automaticSelection() {
+        IndexedLinkedList<Integer> list = new IndexedLinkedList<>();
+        list.setFingerSearchStrategy(null);
+        assertSame(FingerSearchStrategy.BINARY,
+                   list.getFingerSearchStrategy());
+
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+
+        list.optimize();
+        list.setFingerSearchStrategy(null);
+        assertSame(FingerSearchStrategy.INTERPOLATION,
+                   list.getFingerSearchStrategy());
+
+        list.deoptimize();
+        list.setFingerSearchStrategy(null);
+        assertSame(FingerSearchStrategy.BINARY,
+                   list.getFingerSearchStrategy());
+
+        // The automatic mode must reselect the strategy after the list gets
+        // balanced again. Stride over the cursor so that each access consults
+        // the fingers:
+        list.optimize();
+
+        int stride = IndexedLinkedList.MAXIMUM_CURSOR_DISTANCE + 1;
+
+        for (int i = 0; i < IndexedLinkedList.FingerList
+                                              .STRATEGY_RESELECTION_PERIOD;
+                i++) {
+            int index = i * stride % list.size();
+            assertEquals(Integer.valueOf(index), list.get(index));
+        }
+
+        assertNotSame(FingerSearchStrategy.BINARY,
+                      list.getFingerSearchStrategy());
+    }
+
+    private static int[] createFingerIndices(Random random,
+                                             int numberOfFingers,
+                                             boolean evenlyDistributed) {
+        int[] fingerIndices = new int[numberOfFingers + 1];
+        int index = 0;
+
+        for (int i = 0; i <= numberOfFingers; i++) {
+            fingerIndices[i] = index;
+            index += evenlyDistributed ?
+                     10 + random.nextInt(3) :
+                     1 + random.nextInt(random.nextBoolean() ? 2 : 500);
+        }
+
+        return fingerIndices;
+    }
+
+    private static int lowerBound(int[] fingerIndices,
+                                  int numberOfFingers,
+                                  int elementIndex) {
+        for (int i = 0; i <= numberOfFingers; i++) {
+            if (fingerIndices[i] >= elementIndex) {
+                return i;
+            }
+        }
+
+        return numberOfFingers + 1;
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedDoubleListTest {
+
+    @Test
+    public void randomOperations() {
+        IndexedDoubleList list = new IndexedDoubleList();
+        List<Double> referenceList = new ArrayList<>();
+        Random random = new Random(300L);
+
+        for (int iteration = 0; iteration < 5_000; ++iteration) {
+            double value = random.nextDouble();
+            int coin = random.nextInt(3);
+
+            if (coin < 2 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.addDouble(index, value);
+                referenceList.add(index, value);
+            } else {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.remove(index),
+                             list.removeAtDouble(index));
+            }
+
+            list.checkInvariant();
+        }
+
+        for (int i = 0; i < referenceList.size(); ++i) {
+            assertEquals(referenceList.get(i), list.getDouble(i));
+        }
+
+        assertEquals(referenceList.size(), list.stream().count());
+    }
+
+    @Test
+    public void nanEquality() {
+        IndexedDoubleList list = new IndexedDoubleList(1.0, Double.NaN);
+
+        assertEquals(1, list.indexOfDouble(Double.NaN));
+        assertEquals(new IndexedDoubleList(1.0, Double.NaN), list);
+    }
+}
@@ -0,0 +1,190 @@
+package io.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedIntListTest {
+
+    private final IndexedIntList list = new IndexedIntList();
+    private final List<Integer> referenceList = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.clear();
+        referenceList.clear();
+    }
+
+    @Test
+    public void randomOperations() {
+        Random random = new Random(100L);
+
+        for (int iteration = 0; iteration < 20_000; ++iteration) {
+            int coin = random.nextInt(12);
+
+            if (coin < 4 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.addInt(index, iteration);
+                referenceList.add(index, iteration);
+            } else if (coin == 4) {
+                list.addFirstInt(iteration);
+                referenceList.add(0, iteration);
+            } else if (coin == 5) {
+                list.addInt(iteration);
+                referenceList.add(iteration);
+            } else if (coin < 8) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals((int) referenceList.remove(index),
+                             list.removeAtInt(index));
+            } else if (coin == 8) {
+                assertEquals((int) referenceList.remove(0),
+                             list.removeFirstInt());
+            } else if (coin == 9) {
+                assertEquals(
+                        (int) referenceList.remove(referenceList.size() - 1),
+                        list.removeLastInt());
+            } else if (coin == 10) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals((int) referenceList.get(index),
+                             list.getInt(index));
+            } else {
+                int index = random.nextInt(referenceList.size());
+                assertEquals((int) referenceList.set(index, -iteration),
+                             list.setInt(index, -iteration));
+            }
+
+            list.checkInvariant();
+            assertEquals(referenceList.size(), list.size());
+        }
+
+        assertListsEqual();
+    }
+
+    @Test
+    public void removeRange() {
+        Random random = new Random(101L);
+
+        for (int i = 0; i < 2000; ++i) {
+            list.addInt(i);
+            referenceList.add(i);
+        }
+
+        while (!referenceList.isEmpty()) {
+            int fromIndex = random.nextInt(referenceList.size());
+            int toIndex = fromIndex + 1 + random.nextInt(
+                    Math.min(100, referenceList.size() - fromIndex));
+
+            list.removeRange(fromIndex, toIndex);
+            referenceList.subList(fromIndex, toIndex).clear();
+            list.checkInvariant();
+            assertListsEqual();
+        }
+    }
+
+    @Test
+    public void removeRangeThrowsOnBadRange() {
+        list.addAllInts(1, 2, 3);
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> list.removeRange(2, 1));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> list.removeRange(0, 4));
+    }
+
+    @Test
+    public void removeIf() {
+        for (int i = 0; i < 1000; ++i) {
+            list.addInt(i);
+            referenceList.add(i);
+        }
+
+        assertTrue(list.removeIfInt(x -> x % 3 != 1));
+        referenceList.removeIf(x -> x % 3 != 1);
+        list.checkInvariant();
+        assertListsEqual();
+
+        assertFalse(list.removeIfInt(x -> x < 0));
+        assertThrows(IllegalStateException.class, () -> list.removeIfInt(x -> {
+            throw new IllegalStateException();
+        }));
+
+        // The list must stay intact after the filter throws:
+        list.checkInvariant();
+        assertListsEqual();
+    }
+
+    @Test
+    public void iteratorAndStream() {
+        for (int i = 0; i < 100; ++i) {
+            list.addInt(i);
+        }
+
+        assertEquals(4950, list.stream().sum());
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(i, iterator.nextInt());
+
+            if (i % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, () -> iterator.nextInt());
+        list.checkInvariant();
+        assertEquals(50, list.size());
+        assertEquals(1, list.getFirstInt());
+        assertEquals(99, list.getLastInt());
+
+        PrimitiveIterator.OfInt iterator2 = list.iterator();
+        list.addInt(1000);
+        assertThrows(ConcurrentModificationException.class,
+                     () -> iterator2.nextInt());
+    }
+
+    @Test
+    public void searchAndEquality() {
+        list.addAllInts(1, 2, 3, 2, 1);
+
+        assertEquals(1, list.indexOfInt(2));
+        assertEquals(3, list.lastIndexOfInt(2));
+        assertEquals(-1, list.indexOfInt(4));
+        assertTrue(list.containsInt(3));
+        assertEquals(new IndexedIntList(1, 2, 3, 2, 1), list);
+        assertEquals(new IndexedIntList(1, 2, 3, 2, 1).hashCode(),
+                     list.hashCode());
+        assertNotEquals(new IndexedIntList(1, 2, 3), list);
+        assertEquals("[1, 2, 3, 2, 1]", list.toString());
+    }
+
+    @Test
+    public void emptyListThrows() {
+        assertThrows(NoSuchElementException.class,
+                     () -> list.removeFirstInt());
+        assertThrows(NoSuchElementException.class,
+                     () -> list.removeLastInt());
+        assertThrows(NoSuchElementException.class,
+                     () -> list.getFirstInt());
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> list.getInt(0));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> list.addInt(1, 1));
+    }
+
+    private void assertListsEqual() {
+        assertEquals(referenceList.size(), list.size());
+        int[] array = list.toIntArray();
+
+        for (int i = 0; i < array.length; ++i) {
+            assertEquals((int) referenceList.get(i), array[i]);
+        }
+    }
+}
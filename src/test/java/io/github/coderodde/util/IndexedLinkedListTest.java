@@ -31,6 +31,8 @@ import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -96,7 +98,7 @@ public class IndexedLinkedListTest {
     @Test
     public void onNegativeFirstFingerNodeIndex() {
         list.addAll(getIntegerList(13));
-        list.fingerList.getFinger(0).index = -1;
+        list.fingerList.fingerIndices[0] = -1;
         assertThrows(IllegalStateException.class, () -> list.checkInvarant());
     }
     
@@ -104,7 +106,7 @@ public class IndexedLinkedListTest {
     public void onTooMissingSecondFinger() {
         list.addAll(getIntegerList(5));
         list.fingerList.setFingerIndices(0, 1, 2);
-        list.fingerList.fingerArray[1] = null;
+        list.fingerList.fingerNodes[1] = null;
         assertThrows(IllegalStateException.class, () -> list.checkInvarant());
     }
     
@@ -112,7 +114,7 @@ public class IndexedLinkedListTest {
     public void onTooMissingFirstFinger() {
         list.addAll(getIntegerList(5));
         list.fingerList.setFingerIndices(0, 1, 2);
-        list.fingerList.fingerArray[0] = null;
+        list.fingerList.fingerNodes[0] = null;
         assertThrows(IllegalStateException.class, () -> list.checkInvarant());
     }
     
@@ -120,7 +122,7 @@ public class IndexedLinkedListTest {
     public void onInvalidListsize() {
         list.addAll(getIntegerList(5));
         list.size = 6;
-        list.fingerList.getFinger(3).index = 6;
+        list.fingerList.fingerIndices[3] = 6;
         assertThrows(IllegalStateException.class, () -> list.checkInvarant());
     }
     
@@ -134,7 +136,7 @@ public class IndexedLinkedListTest {
     @Test
     public void onNullSentinel() {
         list.addAll(getIntegerList(16));
-        list.fingerList.setFinger(4, null);
+        list.fingerList.setFinger(4, null, 0);
         assertThrows(IllegalStateException.class, () -> list.checkInvarant());
     }
     
@@ -155,15 +157,18 @@ public class IndexedLinkedListTest {
     @Test
     public void onJunkFingers() {
         list.addAll(getIntegerList(16));
-        list.fingerList.fingerArray[6] = new Finger<>(new Node<>(666), -13);
+        list.fingerList.setFinger(6, new Node<>(666), -13);
         assertThrows(IllegalStateException.class, () -> list.checkInvarant());
     }
     
     @Test
     public void onNonContractedFingerArray() {
         list.addAll(getIntegerList(16));
-        list.fingerList.fingerArray = 
-                Arrays.copyOf(list.fingerList.fingerArray, 100);
+        list.fingerList.fingerIndices = 
+                Arrays.copyOf(list.fingerList.fingerIndices, 100);
+        
+        list.fingerList.fingerNodes = 
+                Arrays.copyOf(list.fingerList.fingerNodes, 100);
         
         assertThrows(IllegalStateException.class, () -> list.checkInvarant());
     }
@@ -514,8 +519,8 @@ public class IndexedLinkedListTest {
         list.add(12);
         list.add(13);
         
-        list.fingerList.fingerArray[0].index = 1;
-        list.fingerList.fingerArray[1].index = 0;
+        list.fingerList.fingerIndices[0] = 1;
+        list.fingerList.fingerIndices[1] = 0;
         
         assertThrows(IllegalStateException.class, () -> list.checkInvarant());
     }
@@ -526,7 +531,7 @@ public class IndexedLinkedListTest {
         list.add(12);
         list.add(13);
         
-        list.fingerList.fingerArray[list.fingerList.size()].index = 
+        list.fingerList.fingerIndices[list.fingerList.size()] = 
                 list.fingerList.size() + 10;
         
         assertThrows(IllegalStateException.class, () -> list.checkInvarant());
@@ -538,7 +543,7 @@ public class IndexedLinkedListTest {
         list.add(12);
         list.add(13);
         
-        list.fingerList.fingerArray[list.fingerList.size()].node = 
+        list.fingerList.fingerNodes[list.fingerList.size()] = 
                 new Node<>(null);
         
         assertThrows(IllegalStateException.class, () -> list.checkInvarant());
@@ -559,8 +564,8 @@ public class IndexedLinkedListTest {
         list.add(12);
         list.add(13);
         
-        list.fingerList.fingerArray[2] = new Finger<>(new Node<>(100), 2);
-        list.fingerList.fingerArray[3] = new Finger<>(null, 3);
+        list.fingerList.setFinger(2, new Node<>(100), 2);
+        list.fingerList.setFinger(3, null, 3);
         list.fingerList.size = 3;
         
         assertThrows(IllegalStateException.class, () -> list.checkInvarant());
@@ -575,14 +580,14 @@ public class IndexedLinkedListTest {
     @Test 
     public void debugAdjustOnRemoveFirst() {
         list.addAll(Arrays.asList(0, 1, 2, 3, 4));
-        list.fingerList.fingerArray[0].index = 0;
-        list.fingerList.fingerArray[1].index = 1;
-        list.fingerList.fingerArray[2].index = 3;
-        list.fingerList.fingerArray[3].index = 5;
+        list.fingerList.fingerIndices[0] = 0;
+        list.fingerList.fingerIndices[1] = 1;
+        list.fingerList.fingerIndices[2] = 3;
+        list.fingerList.fingerIndices[3] = 5;
         
-        list.fingerList.fingerArray[0].node = list.head;
-        list.fingerList.fingerArray[1].node = list.head.next;
-        list.fingerList.fingerArray[2].node = list.head.next.next.next;
+        list.fingerList.fingerNodes[0] = list.head;
+        list.fingerList.fingerNodes[1] = list.head.next;
+        list.fingerList.fingerNodes[2] = list.head.next.next.next;
         
         list.removeFirst();
         list.checkInvarant();
@@ -742,18 +747,16 @@ public class IndexedLinkedListTest {
     @Test 
     public void moveFingerOutOfRemovalLocation() {
         list.addAll(getIntegerList(16));
-        list.fingerList.fingerArray[0] =
-                new Finger<>(list.tail.prev.prev.prev, 12);
-        
-        list.fingerList.fingerArray[1] = new Finger<>(list.tail.prev.prev, 13);
-        list.fingerList.fingerArray[2] = new Finger<>(list.tail.prev, 14);
-        list.fingerList.fingerArray[3] = new Finger<>(list.tail, 15);
+        list.fingerList.setFinger(0, list.tail.prev.prev.prev, 12);
+        list.fingerList.setFinger(1, list.tail.prev.prev, 13);
+        list.fingerList.setFinger(2, list.tail.prev, 14);
+        list.fingerList.setFinger(3, list.tail, 15);
         
         list.checkInvarant();
         list.remove(12);
         list.checkInvarant();
         
-        Finger<Integer> finger = list.fingerList.fingerArray[0];
+        Finger<Integer> finger = list.fingerList.getFinger(0);
         
         assertEquals(Integer.valueOf(11), finger.node.item);
         assertEquals(11, finger.index);
@@ -1639,6 +1642,73 @@ public class IndexedLinkedListTest {
         assertEquals(Arrays.asList(4, 9, 2, 3), list);
     }
     
+    @Test
+    public void bulkRemoveRandomRanges() {
+        Random random = new Random(1001L);
+        
+        for (int iteration = 0; iteration < 200; iteration++) {
+            int sz = random.nextInt(120);
+            
+            list.clear();
+            referenceList.clear();
+            
+            for (int i = 0; i < sz; i++) {
+                int value = random.nextInt(10);
+                list.add(value);
+                referenceList.add(value);
+            }
+            
+            int fromIndex = sz == 0 ? 0 : random.nextInt(sz + 1);
+            int toIndex = fromIndex + random.nextInt(sz - fromIndex + 1);
+            int threshold = random.nextInt(10);
+            Predicate<Integer> predicate = (i) -> i < threshold;
+            
+            boolean expected = referenceList.subList(fromIndex, toIndex)
+                                            .removeIf(predicate);
+            
+            boolean actual = list.subList(fromIndex, toIndex)
+                                 .removeIf(predicate);
+            
+            assertEquals(expected, actual);
+            assertEquals(referenceList, list);
+            list.checkInvarant();
+            
+            Collection<Integer> filter = Arrays.asList(2, 3, 7);
+            
+            assertEquals(referenceList.removeAll(filter),
+                         list.removeAll(filter));
+            
+            assertEquals(referenceList, list);
+            list.checkInvarant();
+            
+            filter = Arrays.asList(0, 1, 4, 5, 8);
+            
+            assertEquals(referenceList.retainAll(filter),
+                         list.retainAll(filter));
+            
+            assertEquals(referenceList, list);
+            list.checkInvarant();
+        }
+    }
+    
+    @Test
+    public void bulkRemoveKeepsListIntactOnFilterException() {
+        list.addAll(getIntegerList(50));
+        
+        assertThrows(IllegalStateException.class, () -> {
+            list.removeIf((i) -> {
+                if (i == 40) {
+                    throw new IllegalStateException();
+                }
+                
+                return i % 2 == 0;
+            });
+        });
+        
+        assertEquals(getIntegerList(50), list);
+        list.checkInvarant();
+    }
+    
     @Test 
     public void replaceAll() {
         list.addAll(Arrays.asList(3, 2, 1));
@@ -1719,6 +1789,15 @@ public class IndexedLinkedListTest {
         list.checkInvarant();
         
         assertTrue(list.isEmpty());
+        
+        list.addAll(getIntegerList(100));
+        assertTrue(list.subList(10, 20).retainAll(Collections.emptyList()));
+        list.checkInvarant();
+        assertEquals(90, list.size());
+        assertTrue(list.retainAll(Collections.emptyList()));
+        list.checkInvarant();
+        assertTrue(list.isEmpty());
+        assertFalse(list.retainAll(Collections.emptyList()));
     }
     
     @Test
@@ -4703,6 +4782,59 @@ public class IndexedLinkedListTest {
         }
     }
     
+    /**
+     * Runs {@code test} once for each combination of the list sizes 
+     * {@code 1, 2, 3, 10, 100, 1_000, 10_000} and the finger modes: the 
+     * default mode, the fingers crowded at the list ends, the lazy finger
+     * shifting with pending shifts, the bucketed finger lookup and the 
+     * adaptive finger placement. Before each run, {@code list} and 
+     * {@code referenceList} hold the same elements.
+     * 
+     * @param seed the seed of the random number generator passed to 
+     *             {@code test}.
+     * @param test the test to run.
+     */
+    private void forEachSizeAndFingerMode(long seed, Consumer<Random> test) {
+        Random random = new Random(seed);
+        
+        for (int size : new int[]{ 1, 2, 3, 10, 100, 1_000, 10_000 }) {
+            for (int mode = 0; mode < 5; mode++) {
+                list.clear();
+                list.setLazyFingerShifting(false);
+                list.setBucketedFingerLookup(false);
+                list.setAdaptiveFingerPlacement(false);
+                list.addAll(getIntegerList(size));
+                referenceList.clear();
+                referenceList.addAll(list);
+                
+                switch (mode) {
+                    case 1:
+                        // Crowd the fingers at the both ends of the list:
+                        list.deoptimize();
+                        break;
+                        
+                    case 2:
+                        // Leave pending shifts in the finger list:
+                        list.setLazyFingerShifting(true);
+                        int index = random.nextInt(size + 1);
+                        list.add(index, -1);
+                        referenceList.add(index, -1);
+                        break;
+                        
+                    case 3:
+                        list.setBucketedFingerLookup(true);
+                        break;
+                        
+                    case 4:
+                        list.setAdaptiveFingerPlacement(true);
+                        break;
+                }
+                
+                test.accept(random);
+            }
+        }
+    }
+    
     private static List<Integer> getIntegerList(int length) {
         List<Integer> list = new ArrayList<>(length);
 
@@ -4979,6 +5111,1013 @@ public class IndexedLinkedListTest {
         assertEquals(referenceList, list);
         list.checkInvarant();
     }
+    
+    @Test
+    public void bucketedFingerLookup() {
+        Random random = new Random(1005L);
+        list.setBucketedFingerLookup(true);
+        assertTrue(list.isBucketedFingerLookup());
+        
+        for (int iteration = 0; iteration < 10_000; iteration++) {
+            int coin = random.nextInt(10);
+            
+            if (coin < 4 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.add(index, iteration);
+                referenceList.add(index, iteration);
+            } else if (coin < 6) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.remove(index), list.remove(index));
+            } else if (coin < 9) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            } else {
+                int fromIndex = random.nextInt(referenceList.size());
+                int toIndex = Math.min(referenceList.size(), 
+                                       fromIndex + random.nextInt(20));
+                
+                list.subList(fromIndex, toIndex).clear();
+                referenceList.subList(fromIndex, toIndex).clear();
+            }
+        }
+        
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+        
+        list.clear();
+        assertTrue(list.isBucketedFingerLookup());
+        list.setBucketedFingerLookup(false);
+        assertFalse(list.isBucketedFingerLookup());
+    }
+    
+    @Test
+    public void removeLastMovesFingersOffTail() {
+        list.addAll(getIntegerList(10));
+        referenceList.addAll(list);
+        list.fingerList.setFingerIndices(3, 8, 9);
+        
+        list.removeLast();
+        referenceList.remove(9);
+        
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+        assertEquals(7, list.fingerList.getFinger(1).index);
+        assertEquals(Integer.valueOf(7), 
+                     list.fingerList.getFinger(1).node.item);
+        assertEquals(Integer.valueOf(8), 
+                     list.fingerList.getFinger(2).node.item);
+    }
+    
+    @Test
+    public void twoLevelFingerMode() {
+        Random random = new Random(1008L);
+        list.setTwoLevelFingerThreshold(256);
+        assertEquals(256, list.getTwoLevelFingerThreshold());
+        
+        for (int iteration = 0; iteration < 20_000; iteration++) {
+            int coin = random.nextInt(20);
+            
+            if (coin < 9 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.add(index, iteration);
+                referenceList.add(index, iteration);
+            } else if (coin < 14) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.remove(index), list.remove(index));
+            } else if (coin < 16) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            } else if (coin < 17) {
+                assertEquals(referenceList.remove(0), list.removeFirst());
+            } else if (coin < 18) {
+                assertEquals(referenceList.remove(referenceList.size() - 1), 
+                             list.removeLast());
+            } else if (coin < 19) {
+                int fromIndex = random.nextInt(referenceList.size());
+                int toIndex = Math.min(referenceList.size(), 
+                                       fromIndex + random.nextInt(40));
+                
+                list.subList(fromIndex, toIndex).clear();
+                referenceList.subList(fromIndex, toIndex).clear();
+            } else {
+                int index = random.nextInt(referenceList.size() + 1);
+                List<Integer> collection = getIntegerList(random.nextInt(60));
+                list.addAll(index, collection);
+                referenceList.addAll(index, collection);
+            }
+            
+            if (iteration % 100 == 0) {
+                list.checkInvarant();
+                assertEquals(referenceList, list);
+            }
+            
+            if (list.size() >= 256) {
+                assertTrue(list.isTwoLevelFingerMode());
+            } else if (list.size() < 128) {
+                assertFalse(list.isTwoLevelFingerMode());
+            }
+        }
+        
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+    }
+    
+    @Test
+    public void twoLevelFingerModeHysteresis() {
+        list.setTwoLevelFingerThreshold(100);
+        list.addAll(getIntegerList(99));
+        assertFalse(list.isTwoLevelFingerMode());
+        
+        list.add(99);
+        assertTrue(list.isTwoLevelFingerMode());
+        assertEquals(22, list.getFingerListSize());
+        list.checkInvarant();
+        
+        list.subList(50, 100).clear();
+        assertTrue(list.isTwoLevelFingerMode());
+        list.checkInvarant();
+        
+        list.removeLast();
+        assertFalse(list.isTwoLevelFingerMode());
+        assertEquals(7, list.getFingerListSize());
+        list.checkInvarant();
+        
+        list.setLazyFingerShifting(false);
+        list.addAll(getIntegerList(200));
+        assertTrue(list.isTwoLevelFingerMode());
+        assertFalse(list.isLazyFingerShifting());
+        assertNotNull(list.fingerList.shiftTree);
+        
+        list.clear();
+        assertFalse(list.isTwoLevelFingerMode());
+        assertNull(list.fingerList.shiftTree);
+        
+        list.setTwoLevelFingerThreshold(Integer.MAX_VALUE);
+        list.addAll(getIntegerList(200));
+        assertFalse(list.isTwoLevelFingerMode());
+        
+        list.setTwoLevelFingerThreshold(200);
+        assertTrue(list.isTwoLevelFingerMode());
+        list.checkInvarant();
+        
+        assertThrows(IllegalArgumentException.class, 
+                     () -> list.setTwoLevelFingerThreshold(7));
+    }
+    
+    @Test
+    public void lazyFingerShifting() {
+        Random random = new Random(1007L);
+        list.setLazyFingerShifting(true);
+        assertTrue(list.isLazyFingerShifting());
+        
+        for (int iteration = 0; iteration < 10_000; iteration++) {
+            int coin = random.nextInt(10);
+            
+            if (coin < 6 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.add(index, iteration);
+                referenceList.add(index, iteration);
+            } else if (coin < 7) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.remove(index), list.remove(index));
+            } else if (coin < 9) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            } else {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.set(index, -iteration), 
+                             list.set(index, -iteration));
+            }
+            
+            if (iteration % 1_000 == 0) {
+                list.checkInvarant();
+            }
+        }
+        
+        list.checkInvarant();
+        assertFalse(list.fingerList.hasPendingShifts);
+        assertEquals(referenceList, list);
+        
+        // Leave some shifts pending and disable:
+        list.add(list.size() / 2, -1);
+        referenceList.add(referenceList.size() / 2, -1);
+        list.setLazyFingerShifting(false);
+        assertFalse(list.isLazyFingerShifting());
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+    }
+    
+    @Test
+    public void adaptiveFingerPlacement() {
+        Random random = new Random(1010L);
+        
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+            referenceList.add(i);
+        }
+        
+        list.setAdaptiveFingerPlacement(true);
+        assertTrue(list.isAdaptiveFingerPlacement());
+        list.setBucketedFingerLookup(true);
+        
+        for (int iteration = 0; iteration < 50_000; iteration++) {
+            int coin = random.nextInt(20);
+            int size = referenceList.size();
+            
+            // 90% of the accesses hit the first 5% of the list:
+            int index = random.nextInt(10) < 9 ? 
+                        random.nextInt(size / 20) :
+                        random.nextInt(size);
+            
+            if (coin < 1) {
+                list.add(index, -iteration);
+                referenceList.add(index, -iteration);
+            } else if (coin < 2) {
+                assertEquals(referenceList.remove(index), list.remove(index));
+            } else if (coin < 15) {
+                assertEquals(referenceList.get(index), list.get(index));
+            } else {
+                assertEquals(referenceList.set(index, iteration), 
+                             list.set(index, iteration));
+            }
+            
+            if (iteration % 1_000 == 0) {
+                list.checkInvarant();
+            }
+        }
+        
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+        
+        // Place the fingers by the recent accesses once more:
+        list.fingerList.placeFingersByAccessFrequency();
+        list.checkInvarant();
+        
+        int numberOfHotFingers = 0;
+        
+        for (int i = 0; i < list.fingerList.size(); i++) {
+            if (list.fingerList.fingerIndices[i] < list.size() / 20) {
+                numberOfHotFingers++;
+            }
+        }
+        
+        // Evenly spread fingers would give 5% of the fingers:
+        assertTrue(numberOfHotFingers > list.fingerList.size() / 4);
+        
+        list.setAdaptiveFingerPlacement(false);
+        assertFalse(list.isAdaptiveFingerPlacement());
+        
+        for (int i = 0; i < referenceList.size(); i++) {
+            assertEquals(referenceList.get(i), list.get(i));
+        }
+        
+        list.checkInvarant();
+        
+        list.setAdaptiveFingerPlacement(true);
+        list.clear();
+        referenceList.clear();
+        
+        for (int i = 0; i < 3_000; i++) {
+            list.add(i);
+            referenceList.add(i);
+            assertEquals(referenceList.get(i / 2), list.get(i / 2));
+        }
+        
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+    }
+    
+    @Test
+    public void cursorCache() {
+        for (int i = 0; i < 1_000; i++) {
+            list.add(i);
+            referenceList.add(i);
+        }
+        
+        assertEquals(Integer.valueOf(500), list.get(500));
+        assertEquals(500, list.cursorIndex);
+        
+        // Insertions before the cursor shift it to the right:
+        list.add(10, -1);
+        list.addFirst(-2);
+        referenceList.add(10, -1);
+        referenceList.add(0, -2);
+        assertEquals(502, list.cursorIndex);
+        assertSame(list.cursorNode, list.fingerList.getNodeNoFingersFix(502));
+        assertEquals(referenceList.get(503), list.get(503));
+        
+        // Removals before the cursor shift it to the left:
+        list.remove(0);
+        list.removeFirst();
+        referenceList.remove(0);
+        referenceList.remove(0);
+        assertEquals(501, list.cursorIndex);
+        assertEquals(referenceList.get(500), list.get(500));
+        
+        // Removing the cursor node invalidates the cursor:
+        list.remove(500);
+        referenceList.remove(500);
+        assertNull(list.cursorNode);
+        
+        // Range operations invalidate the cursor:
+        assertEquals(referenceList.get(300), list.get(300));
+        list.subList(100, 200).clear();
+        referenceList.subList(100, 200).clear();
+        assertEquals(referenceList.get(299), list.get(299));
+        
+        // Small-stride loops in both directions:
+        for (int i = 0; i < referenceList.size(); i++) {
+            assertEquals(referenceList.get(i), list.get(i));
+        }
+        
+        for (int i = referenceList.size() - 1; i >= 0; i -= 3) {
+            assertEquals(referenceList.set(i, -i), list.set(i, -i));
+        }
+        
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+        
+        list.clear();
+        assertNull(list.cursorNode);
+    }
+    
+    @Test
+    public void headQueueOperations() {
+        Random random = new Random(1012L);
+        
+        for (int i = 0; i < 10_050; i++) {
+            list.add(i);
+            referenceList.add(i);
+        }
+        
+        list.setBucketedFingerLookup(true);
+        
+        for (int iteration = 0; iteration < 50_000; iteration++) {
+            int coin = random.nextInt(10);
+            
+            if (coin < 3) {
+                list.addLast(iteration);
+                referenceList.add(iteration);
+            } else if (coin < 5) {
+                list.addFirst(iteration);
+                referenceList.add(0, iteration);
+            } else if (coin < 8) {
+                assertEquals(referenceList.remove(0), list.removeFirst());
+            } else if (coin < 9) {
+                assertEquals(referenceList.remove(0), list.remove(0));
+            } else {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            }
+            
+            if (iteration % 1_000 == 0) {
+                list.checkInvarant();
+            }
+        }
+        
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+        
+        // The fingers reaching the head are moved towards the tail instead of 
+        // getting packed at the beginning of the list:
+        for (int i = 0; i < 100_000; i++) {
+            list.addLast(i);
+            list.removeFirst();
+        }
+        
+        list.checkInvarant();
+        
+        int numberOfFingers = list.fingerList.size();
+        int numberOfPackedFingers = 0;
+        
+        for (int i = 0; i < numberOfFingers; i++) {
+            if (list.fingerList.getShiftedFingerIndex(i) < numberOfFingers) {
+                numberOfPackedFingers++;
+            }
+        }
+        
+        assertTrue(numberOfPackedFingers <= 1);
+    }
+    
+    @Test
+    public void nodePool() {
+        assertEquals(0, list.getNodePoolCapacity());
+        assertThrows(IllegalArgumentException.class, 
+                     () -> list.setNodePoolCapacity(-1));
+        
+        list.setNodePoolCapacity(10);
+        
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            referenceList.add(i);
+        }
+        
+        // Removing recycles the removed node:
+        Node<Integer> head = list.head;
+        assertEquals(Integer.valueOf(0), list.removeFirst());
+        referenceList.remove(0);
+        assertSame(head, list.nodePool);
+        assertNull(head.item);
+        assertNull(head.prev);
+        
+        // Adding reuses the most recently recycled node:
+        list.addLast(100);
+        referenceList.add(100);
+        assertSame(head, list.tail);
+        assertEquals(0, list.nodePoolSize);
+        
+        // The pool does not exceed its capacity:
+        list.subList(10, 60).clear();
+        referenceList.subList(10, 60).clear();
+        assertEquals(10, list.nodePoolSize);
+        
+        list.removeIf(i -> i % 2 == 0);
+        referenceList.removeIf(i -> i % 2 == 0);
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+        
+        Random random = new Random(1013L);
+        
+        for (int iteration = 0; iteration < 10_000; iteration++) {
+            int coin = random.nextInt(10);
+            
+            if (coin < 4 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.add(index, iteration);
+                referenceList.add(index, iteration);
+            } else if (coin < 6) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.remove(index), list.remove(index));
+            } else if (coin < 7) {
+                assertEquals(referenceList.remove(referenceList.size() - 1), 
+                             list.removeLast());
+            } else if (coin < 8) {
+                Integer value = 
+                        referenceList.get(
+                                random.nextInt(referenceList.size()));
+                
+                assertEquals(referenceList.remove(value), list.remove(value));
+            } else {
+                list.add(iteration);
+                referenceList.add(iteration);
+                assertEquals(referenceList.remove(0), list.removeFirst());
+            }
+            
+            assertTrue(list.nodePoolSize <= 10);
+        }
+        
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+        
+        list.clear();
+        assertEquals(10, list.nodePoolSize);
+        
+        // Shrinking the capacity releases the excess nodes:
+        list.setNodePoolCapacity(3);
+        assertEquals(3, list.nodePoolSize);
+        list.setNodePoolCapacity(0);
+        assertNull(list.nodePool);
+        
+        list.addAll(referenceList);
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+    }
+    
+    @Test
+    public void snapshot() {
+        List<Integer> empty = list.snapshot();
+        assertTrue(empty.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+        
+        list.setNodePoolCapacity(10);
+        list.setLazyFingerShifting(true);
+        
+        List<List<Integer>> snapshots = new ArrayList<>();
+        List<List<Integer>> expectedSnapshots = new ArrayList<>();
+        Random random = new Random(1019L);
+        
+        for (int iteration = 0; iteration < 5_000; iteration++) {
+            int coin = random.nextInt(20);
+            
+            if (coin == 0) {
+                snapshots.add(list.snapshot());
+                expectedSnapshots.add(new ArrayList<>(referenceList));
+            } else if (coin < 8 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.add(index, iteration);
+                referenceList.add(index, iteration);
+            } else if (coin < 10) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.remove(index), list.remove(index));
+            } else if (coin < 12) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.set(index, -iteration), 
+                             list.set(index, -iteration));
+            } else if (coin < 14) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            } else if (coin < 15) {
+                list.addFirst(iteration);
+                referenceList.add(0, iteration);
+            } else if (coin < 16) {
+                assertEquals(referenceList.remove(0), list.removeFirst());
+            } else if (coin < 17) {
+                int from = random.nextInt(referenceList.size());
+                int to = Math.min(referenceList.size(), from + 10);
+                list.subList(from, to).clear();
+                referenceList.subList(from, to).clear();
+            } else {
+                list.add(iteration);
+                referenceList.add(iteration);
+            }
+        }
+        
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+        
+        for (int i = 0; i < snapshots.size(); i++) {
+            List<Integer> snapshot = snapshots.get(i);
+            List<Integer> expected = expectedSnapshots.get(i);
+            
+            assertEquals(expected, snapshot);
+            assertEquals(expected.size(), snapshot.size());
+            
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(expected.get(j), snapshot.get(j));
+            }
+            
+            List<Integer> reversed = new ArrayList<>();
+            ListIterator<Integer> iterator = 
+                    snapshot.listIterator(snapshot.size());
+            
+            while (iterator.hasPrevious()) {
+                reversed.add(iterator.previous());
+            }
+            
+            Collections.reverse(reversed);
+            assertEquals(expected, reversed);
+        }
+        
+        List<Integer> snapshot = list.snapshot();
+        assertThrows(UnsupportedOperationException.class, 
+                     () -> snapshot.add(1));
+        assertThrows(UnsupportedOperationException.class, 
+                     () -> snapshot.set(0, 1));
+        assertThrows(UnsupportedOperationException.class, 
+                     () -> snapshot.remove(0));
+        
+        list.clear();
+        assertEquals(referenceList, snapshot);
+        list.checkInvarant();
+        assertTrue(list.isEmpty());
+    }
+    
+    @Test
+    public void snapshotReadsOnSmallLists() {
+        list.snapshot();
+        assertEquals(-1, list.lastIndexOf(1));
+        assertEquals(-1, list.indexOf(1));
+        assertEquals(-1, list.lastIndexOf(null));
+
+        for (int size = 1; size <= 4; size++) {
+            list.clear();
+            referenceList.clear();
+            list.snapshot();
+            assertEquals(-1, list.lastIndexOf(1));
+            assertEquals(-1, list.indexOf(1));
+            
+            list.addAll(getIntegerList(size));
+            referenceList.addAll(list);
+            list.snapshot();
+
+            for (int i = 0; i < size; i++) {
+                assertEquals(referenceList.get(i), list.get(i));
+                assertEquals(i, list.indexOf(i));
+                assertEquals(i, list.lastIndexOf(i));
+            }
+
+            assertEquals(-1, list.subList(1, 1).lastIndexOf(0));
+            assertEquals(-1, list.subList(size, size).indexOf(0));
+            list.checkInvarant();
+        }
+    }
+    
+    @Test
+    public void snapshotReadsCopyNothing() {
+        list.addAll(getIntegerList(10_000));
+        referenceList.addAll(list);
+
+        Node<Integer> head = list.head;
+        int[] fingerIndices = list.fingerList.fingerIndices;
+        int unshareCount = list.unshareCount;
+        List<Integer> snapshot = list.snapshot();
+        Random random = new Random(1069L);
+
+        // Reading neither copies the nodes nor moves the fingers:
+        for (int i = 0; i < 1_000; i++) {
+            int index = random.nextInt(referenceList.size());
+            assertEquals(referenceList.get(index), list.get(index));
+        }
+
+        assertEquals(referenceList, list);
+        assertEquals(referenceList.indexOf(5_000), list.indexOf(5_000));
+        assertSame(head, list.head);
+        assertSame(fingerIndices, list.fingerList.fingerIndices);
+        assertEquals(unshareCount, list.unshareCount);
+
+        // Moving the fingers copies only the finger arrays:
+        list.randomizeFingers(1071L);
+        list.checkInvarant();
+        assertSame(head, list.head);
+        assertNotSame(fingerIndices, list.fingerList.fingerIndices);
+        assertEquals(unshareCount, list.unshareCount);
+
+        for (int i = 0; i < 1_000; i++) {
+            int index = random.nextInt(referenceList.size());
+            assertEquals(referenceList.get(index), list.get(index));
+            assertEquals(referenceList.get(index), snapshot.get(index));
+        }
+
+        // Writing copies the nodes:
+        list.set(10, -1);
+        list.removeIf(x -> x % 3 == 0);
+        referenceList.set(10, -1);
+        referenceList.removeIf(x -> x % 3 == 0);
+
+        list.checkInvarant();
+        assertNotSame(head, list.head);
+        assertEquals(unshareCount + 1, list.unshareCount);
+        assertEquals(referenceList, list);
+        assertEquals(getIntegerList(10_000), snapshot);
+    }
+
+    @Test
+    public void snapshotKeepsIteratorsValid() {
+        list.addAll(getIntegerList(100));
+        referenceList.addAll(list);
+        
+        ListIterator<Integer> iterator = list.listIterator(10);
+        ListIterator<Integer> referenceIterator = 
+                referenceList.listIterator(10);
+        
+        List<Integer> snapshot = list.snapshot();
+        List<Integer> expectedSnapshot = new ArrayList<>(referenceList);
+        
+        // 'get' copies the nodes away from the snapshot:
+        assertEquals(referenceList.get(50), list.get(50));
+        
+        for (int i = 0; i < 20; i++) {
+            assertEquals(referenceIterator.next(), iterator.next());
+            
+            if (i % 3 == 0) {
+                iterator.set(-i);
+                referenceIterator.set(-i);
+            } else if (i % 3 == 1) {
+                iterator.remove();
+                referenceIterator.remove();
+            } else {
+                iterator.add(1000 + i);
+                referenceIterator.add(1000 + i);
+            }
+            
+            snapshot = list.snapshot();
+            expectedSnapshot = new ArrayList<>(referenceList);
+        }
+        
+        assertEquals(referenceIterator.previous(), iterator.previous());
+        iterator.remove();
+        referenceIterator.remove();
+        
+        Iterator<Integer> descendingIterator = list.descendingIterator();
+        descendingIterator.next();
+        list.snapshot();
+        descendingIterator.next();
+        descendingIterator.remove();
+        referenceList.remove(referenceList.size() - 2);
+        
+        Iterator<Integer> basicIterator = list.iterator();
+        basicIterator.next();
+        list.snapshot();
+        basicIterator.remove();
+        referenceList.remove(0);
+        
+        list.checkInvarant();
+        assertEquals(referenceList, list);
+        assertEquals(expectedSnapshot, snapshot);
+        
+        Iterator<Integer> staleIterator = list.iterator();
+        list.snapshot();
+        list.add(1);
+        assertThrows(ConcurrentModificationException.class, 
+                     () -> staleIterator.next());
+    }
+    
+    @Test
+    public void concurrentSnapshotReaders() throws InterruptedException {
+        list.addAll(getIntegerList(10_000));
+        List<Integer> snapshot = list.snapshot();
+        int numberOfReaders = 4;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(numberOfReaders);
+        
+        for (int t = 0; t < numberOfReaders; ++t) {
+            long seed = t;
+            
+            new Thread(() -> {
+                Random random = new Random(seed);
+                
+                try {
+                    for (int i = 0; i < 20_000; i++) {
+                        int index = random.nextInt(snapshot.size());
+                        assertEquals(Integer.valueOf(index), 
+                                     snapshot.get(index));
+                    }
+                    
+                    int expected = 0;
+                    
+                    for (Integer value : snapshot) {
+                        assertEquals(Integer.valueOf(expected++), value);
+                    }
+                } catch (Throwable t1) {
+                    failure.compareAndSet(null, t1);
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+        
+        // Modify the list while the readers are running:
+        Random random = new Random(1021L);
+        
+        for (int i = 0; i < 20_000; i++) {
+            list.add(random.nextInt(list.size() + 1), -1);
+            list.remove(random.nextInt(list.size()));
+        }
+        
+        latch.await();
+        
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+        
+        list.checkInvarant();
+        assertEquals(10_000, snapshot.size());
+    }
+    
+    @Test
+    public void transferRange() {
+        IndexedLinkedList<Integer> target = new IndexedLinkedList<>();
+        List<Integer> referenceTarget = new ArrayList<>();
+        
+        list.addAll(getIntegerList(100));
+        referenceList.addAll(list);
+        
+        assertThrows(IllegalArgumentException.class, 
+                     () -> list.transferRange(0, 1, list, 0));
+        assertThrows(IndexOutOfBoundsException.class, 
+                     () -> list.transferRange(0, 1, target, 1));
+        assertThrows(IndexOutOfBoundsException.class, 
+                     () -> list.transferRange(0, 101, target, 0));
+        
+        // Moving everything to an empty list relinks the very same nodes:
+        Node<Integer> head = list.head;
+        Node<Integer> tail = list.tail;
+        list.transferRange(0, 100, target, 0);
+        
+        assertSame(head, target.head);
+        assertSame(tail, target.tail);
+        assertTrue(list.isEmpty());
+        assertEquals(referenceList, target);
+        list.checkInvarant();
+        target.checkInvarant();
+        
+        referenceTarget.addAll(referenceList);
+        referenceList.clear();
+        
+        Random random = new Random(1033L);
+        
+        for (int iteration = 0; iteration < 2_000; iteration++) {
+            boolean forward = random.nextBoolean();
+            IndexedLinkedList<Integer> from = forward ? list : target;
+            IndexedLinkedList<Integer> to = forward ? target : list;
+            List<Integer> referenceFrom = forward ? referenceList 
+                                                  : referenceTarget;
+            List<Integer> referenceTo = forward ? referenceTarget 
+                                                : referenceList;
+            
+            if (random.nextInt(5) == 0) {
+                int index = random.nextInt(referenceFrom.size() + 1);
+                from.add(index, iteration);
+                referenceFrom.add(index, iteration);
+            }
+            
+            int fromIndex = random.nextInt(referenceFrom.size() + 1);
+            int length = 
+                    random.nextInt(
+                            Math.min(referenceFrom.size() - fromIndex, 
+                                     random.nextBoolean() ? 3 : 200) + 1);
+            
+            int toIndex = fromIndex + length;
+            int targetIndex = random.nextInt(referenceTo.size() + 1);
+            
+            from.transferRange(fromIndex, toIndex, to, targetIndex);
+            
+            List<Integer> range = referenceFrom.subList(fromIndex, toIndex);
+            referenceTo.addAll(targetIndex, range);
+            range.clear();
+            
+            from.checkInvarant();
+            to.checkInvarant();
+            assertEquals(referenceFrom, from);
+            assertEquals(referenceTo, to);
+            
+            if (!referenceTo.isEmpty()) {
+                int index = random.nextInt(referenceTo.size());
+                assertEquals(referenceTo.get(index), to.get(index));
+            }
+        }
+    }
+    
+    @Test
+    public void splitAtAndConcat() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.splitAt(1));
+        assertThrows(IllegalArgumentException.class, () -> list.concat(list));
+        assertTrue(list.splitAt(0).isEmpty());
+        
+        forEachSizeAndFingerMode(1039L, random -> {
+            for (int iteration = 0; iteration < 4; iteration++) {
+                int index = random.nextInt(referenceList.size() + 1);
+                IndexedLinkedList<Integer> suffix = list.splitAt(index);
+                List<Integer> referenceSuffix = 
+                        new ArrayList<>(
+                                referenceList.subList(
+                                        index, 
+                                        referenceList.size()));
+                
+                referenceList.subList(index, referenceList.size()).clear();
+                
+                list.checkInvarant();
+                suffix.checkInvarant();
+                assertEquals(referenceList, list);
+                assertEquals(referenceSuffix, suffix);
+                
+                // Both parts remain fully functional:
+                list.add(-2);
+                referenceList.add(-2);
+                suffix.add(0, -3);
+                referenceSuffix.add(0, -3);
+                
+                for (int i = 0; i < 10; i++) {
+                    int j = random.nextInt(referenceSuffix.size());
+                    assertEquals(referenceSuffix.get(j), suffix.get(j));
+                    j = random.nextInt(referenceList.size());
+                    assertEquals(referenceList.get(j), list.get(j));
+                }
+                
+                list.concat(suffix);
+                referenceList.addAll(referenceSuffix);
+                
+                assertTrue(suffix.isEmpty());
+                suffix.checkInvarant();
+                list.checkInvarant();
+                assertEquals(referenceList, list);
+                
+                suffix.add(1);
+                list.concat(suffix);
+                referenceList.add(1);
+                list.checkInvarant();
+                assertEquals(referenceList, list);
+            }
+        });
+        
+        // Concatenating into an empty list steals all the nodes:
+        IndexedLinkedList<Integer> empty = new IndexedLinkedList<>();
+        Node<Integer> head = list.head;
+        empty.concat(list);
+        
+        assertSame(head, empty.head);
+        assertTrue(list.isEmpty());
+        list.checkInvarant();
+        empty.checkInvarant();
+        assertEquals(referenceList, empty);
+    }
+
+    @Test
+    public void moveAndMoveRange() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.move(0, 0));
+        list.addAll(getIntegerList(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.move(0, 10));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> list.moveRange(2, 5, 8));
+        assertThrows(IllegalArgumentException.class,
+                     () -> list.moveRange(5, 2, 0));
+
+        forEachSizeAndFingerMode(1051L, random -> {
+            int size = referenceList.size();
+
+            for (int iteration = 0; iteration < 200; iteration++) {
+                if (random.nextBoolean()) {
+                    int fromIndex = random.nextInt(size);
+                    int toIndex = random.nextInt(size);
+                    list.move(fromIndex, toIndex);
+                    referenceList.add(toIndex,
+                                      referenceList.remove(fromIndex));
+                } else {
+                    int fromIndex = random.nextInt(size + 1);
+                    int toIndex =
+                            fromIndex + random.nextInt(size - fromIndex + 1);
+                    int destinationIndex =
+                            random.nextInt(size - (toIndex - fromIndex) + 1);
+
+                    list.moveRange(fromIndex, toIndex, destinationIndex);
+
+                    List<Integer> range = referenceList.subList(fromIndex,
+                                                                toIndex);
+                    List<Integer> copy = new ArrayList<>(range);
+                    range.clear();
+                    referenceList.addAll(destinationIndex, copy);
+                }
+
+                list.checkInvarant();
+                assertEquals(referenceList.get(0), list.getFirst());
+                assertEquals(referenceList.get(size - 1), list.getLast());
+
+                for (int i = 0; i < 5; i++) {
+                    int index = random.nextInt(size);
+                    assertEquals(referenceList.get(index), list.get(index));
+                }
+            }
+
+            assertEquals(referenceList, list);
+
+            List<Integer> descending = new ArrayList<>();
+            list.descendingIterator().forEachRemaining(descending::add);
+            Collections.reverse(descending);
+            assertEquals(referenceList, descending);
+        });
+
+        // Bumping to the front keeps the node:
+        Node<Integer> node = list.fingerList.getNodeNoFingersFix(5_000);
+        list.move(5_000, 0);
+        assertSame(node, list.head);
+    }
+
+    @Test
+    public void rotateAndReverse() {
+        list.rotate(3);
+        list.reverse();
+        assertTrue(list.isEmpty());
+
+        forEachSizeAndFingerMode(1049L, random -> {
+            int size = referenceList.size();
+
+            for (int iteration = 0; iteration < 100; iteration++) {
+                if (random.nextBoolean()) {
+                    int distance = random.nextInt(4 * size + 1) - 2 * size;
+                    list.rotate(distance);
+                    Collections.rotate(referenceList, distance);
+                } else {
+                    list.reverse();
+                    Collections.reverse(referenceList);
+                }
+
+                list.checkInvarant();
+                assertEquals(referenceList.get(0), list.getFirst());
+                assertEquals(referenceList.get(size - 1), list.getLast());
+
+                for (int i = 0; i < 5; i++) {
+                    int index = random.nextInt(size);
+                    assertEquals(referenceList.get(index), list.get(index));
+                }
+
+                // Shift the fingers lazily between the rotations:
+                int index = random.nextInt(size);
+                list.add(index, -1);
+                list.remove(index);
+            }
+
+            assertEquals(referenceList, list);
+
+            List<Integer> descending = new ArrayList<>();
+            list.descendingIterator().forEachRemaining(descending::add);
+            Collections.reverse(descending);
+            assertEquals(referenceList, descending);
+        });
+
+        // A rotation keeps the nodes:
+        Node<Integer> head = list.head;
+        list.rotate(1);
+        assertSame(head, list.head.next);
+
+        // A snapshot taken before the rotation keeps the old order:
+        List<Integer> snapshot = list.snapshot();
+        List<Integer> expected = new ArrayList<>(referenceList);
+        expected.add(0, expected.remove(expected.size() - 1));
+        list.reverse();
+        assertEquals(expected, snapshot);
+        Collections.reverse(expected);
+        assertEquals(expected, list);
+    }
 }
 
 class IndexListGenerator {
@@ -0,0 +1,45 @@
+package io.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedLongListTest {
+
+    @Test
+    public void randomOperations() {
+        IndexedLongList list = new IndexedLongList();
+        List<Long> referenceList = new ArrayList<>();
+        Random random = new Random(200L);
+
+        for (int iteration = 0; iteration < 5_000; ++iteration) {
+            long value = random.nextLong();
+            int coin = random.nextInt(3);
+
+            if (coin < 2 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.addLong(index, value);
+                referenceList.add(index, value);
+            } else {
+                int index = random.nextInt(referenceList.size());
+                assertEquals((long) referenceList.remove(index),
+                             list.removeAtLong(index));
+            }
+
+            list.checkInvariant();
+        }
+
+        long sum = 0L;
+
+        for (int i = 0; i < referenceList.size(); ++i) {
+            assertEquals((long) referenceList.get(i), list.getLong(i));
+            sum += referenceList.get(i);
+        }
+
+        assertEquals(sum, list.stream().sum());
+        assertEquals(list, new IndexedLongList(list.toLongArray()));
+    }
+}
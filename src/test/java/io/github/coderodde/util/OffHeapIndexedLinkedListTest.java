@@ -0,0 +1,425 @@
+package io.github.coderodde.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapIndexedLinkedListTest {
+
+    private final OffHeapIndexedLinkedList<Integer> list =
+            new OffHeapIndexedLinkedList<>(RecordCodec.INT, 8);
+
+    private final List<Integer> referenceList = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.clear();
+        referenceList.clear();
+    }
+
+    @Test
+    public void appendAndGet() {
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+            referenceList.add(i);
+            list.checkInvariant();
+        }
+
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(referenceList.get(i), list.get(i));
+        }
+
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+    }
+
+    @Test
+    public void prependAndPop() {
+        for (int i = 0; i < 500; ++i) {
+            list.addFirst(i);
+            referenceList.add(0, i);
+            list.checkInvariant();
+        }
+
+        assertEquals(referenceList, list);
+
+        while (!list.isEmpty()) {
+            assertEquals(referenceList.remove(0), list.removeFirst());
+            list.checkInvariant();
+
+            if (!list.isEmpty()) {
+                assertEquals(referenceList.remove(referenceList.size() - 1),
+                             list.removeLast());
+                list.checkInvariant();
+            }
+        }
+
+        assertNull(list.pollFirst());
+        assertNull(list.pollLast());
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+    }
+
+    @Test
+    public void randomOperationsGrowArenas() {
+        // The longs span the whole range, so that each record round-trips all
+        // the 8 bytes of its payload:
+        OffHeapIndexedLinkedList<Long> longList =
+                new OffHeapIndexedLinkedList<>(RecordCodec.LONG, 8);
+
+        List<Long> referenceLongList = new ArrayList<>();
+        long arenaBytes = 8 * (16 + Long.BYTES);
+        int maximumSize = 0;
+        Random random = new Random(79L);
+
+        for (int iteration = 0; iteration < 20_000; ++iteration) {
+            int coin = random.nextInt(10);
+            long value = coin % 2 == 0 ? random.nextLong() :
+                    (random.nextBoolean() ? Long.MIN_VALUE : Long.MAX_VALUE)
+                            - random.nextInt(3);
+
+            if (coin < 4 || referenceLongList.isEmpty()) {
+                int index = random.nextInt(referenceLongList.size() + 1);
+                longList.add(index, value);
+                referenceLongList.add(index, value);
+            } else if (coin < 6) {
+                // Bulk insertions may allocate several arenas at once:
+                int index = random.nextInt(referenceLongList.size() + 1);
+                List<Long> values = new ArrayList<>();
+
+                for (int i = random.nextInt(20); i > 0; --i) {
+                    values.add(value - i);
+                }
+
+                longList.addAll(index, values);
+                referenceLongList.addAll(index, values);
+            } else if (coin < 9) {
+                int index = random.nextInt(referenceLongList.size());
+                assertEquals(referenceLongList.remove(index),
+                             longList.remove(index));
+            } else {
+                int index = random.nextInt(referenceLongList.size());
+                assertEquals(referenceLongList.set(index, value),
+                             longList.set(index, value));
+                assertEquals(Long.valueOf(value), longList.get(index));
+            }
+
+            maximumSize = Math.max(maximumSize, referenceLongList.size());
+
+            // The arenas are allocated only once the freed records run out:
+            long offHeapBytes = longList.getOffHeapBytes();
+            assertEquals(0, offHeapBytes % arenaBytes);
+            assertTrue(offHeapBytes / arenaBytes * 8 >= longList.size());
+            assertTrue(offHeapBytes / arenaBytes * 8 < maximumSize + 8);
+
+            if (iteration % 100 == 0) {
+                longList.checkInvariant();
+            }
+        }
+
+        longList.checkInvariant();
+        assertEquals(referenceLongList, longList);
+        assertArrayEquals(referenceLongList.toArray(), longList.toArray());
+    }
+
+    @Test
+    public void removeRangeViaSubList() {
+        Random random = new Random(26L);
+
+        for (int i = 0; i < 500; ++i) {
+            list.add(i);
+            referenceList.add(i);
+        }
+
+        while (!referenceList.isEmpty()) {
+            int fromIndex = random.nextInt(referenceList.size());
+            int toIndex = fromIndex + random.nextInt(
+                    Math.min(40, referenceList.size() - fromIndex) + 1);
+
+            list.subList(fromIndex, toIndex).clear();
+            referenceList.subList(fromIndex, toIndex).clear();
+            list.checkInvariant();
+            assertEquals(referenceList, list);
+
+            if (toIndex == fromIndex) {
+                list.remove(fromIndex);
+                referenceList.remove(fromIndex);
+            }
+        }
+    }
+
+    @Test
+    public void removeIfAndRetainAll() {
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+            referenceList.add(i);
+        }
+
+        assertTrue(list.removeIf(x -> x % 3 == 0));
+        referenceList.removeIf(x -> x % 3 == 0);
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+
+        assertFalse(list.removeIf(x -> x < 0));
+
+        List<Integer> retained = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i += 7) {
+            retained.add(i);
+        }
+
+        assertTrue(list.retainAll(retained));
+        referenceList.retainAll(retained);
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+
+        assertTrue(list.removeAll(retained));
+        list.checkInvariant();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void listIterator() {
+        Random random = new Random(39L);
+
+        for (int i = 0; i < 300; ++i) {
+            list.add(i);
+            referenceList.add(i);
+        }
+
+        ListIterator<Integer> iterator = list.listIterator(150);
+        ListIterator<Integer> referenceIterator =
+                referenceList.listIterator(150);
+
+        for (int i = 0; i < 5000; ++i) {
+            int coin = random.nextInt(6);
+
+            if (coin == 0 && referenceIterator.hasNext()) {
+                assertEquals(referenceIterator.next(), iterator.next());
+            } else if (coin == 1 && referenceIterator.hasPrevious()) {
+                assertEquals(referenceIterator.previous(),
+                             iterator.previous());
+            } else if (coin == 2) {
+                iterator.add(-i);
+                referenceIterator.add(-i);
+            } else if (coin == 3) {
+                if (referenceIterator.hasNext()) {
+                    referenceIterator.next();
+                    iterator.next();
+                    iterator.remove();
+                    referenceIterator.remove();
+                }
+            } else if (coin == 4 && referenceIterator.hasPrevious()) {
+                referenceIterator.previous();
+                iterator.previous();
+                iterator.set(i);
+                referenceIterator.set(i);
+            }
+
+            assertEquals(referenceIterator.nextIndex(), iterator.nextIndex());
+            list.checkInvariant();
+        }
+
+        assertEquals(referenceList, list);
+    }
+
+    @Test
+    public void descendingIterator() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        Iterator<Integer> iterator = list.descendingIterator();
+
+        for (int i = 99; i >= 0; --i) {
+            assertEquals(Integer.valueOf(i), iterator.next());
+        }
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void iteratorFailsFast() {
+        list.add(1);
+        list.add(2);
+
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(3);
+
+        assertThrows(ConcurrentModificationException.class,
+                     () -> iterator.next());
+    }
+
+    @Test
+    public void occurrences() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i % 10);
+        }
+
+        assertEquals(3, list.indexOf(3));
+        assertEquals(93, list.lastIndexOf(3));
+        assertTrue(list.removeFirstOccurrence(3));
+        assertTrue(list.removeLastOccurrence(3));
+        list.checkInvariant();
+        assertEquals(98, list.size());
+        assertEquals(12, list.indexOf(3));
+        assertEquals(82, list.lastIndexOf(3));
+        assertFalse(list.contains(100));
+    }
+
+    @Test
+    public void randomDequeOperations() {
+        Random random = new Random(78L);
+
+        for (int iteration = 0; iteration < 20_000; ++iteration) {
+            int coin = random.nextInt(10);
+
+            if (coin < 3 || referenceList.isEmpty()) {
+                list.addLast(iteration);
+                referenceList.add(iteration);
+            } else if (coin < 5) {
+                list.addFirst(iteration);
+                referenceList.add(0, iteration);
+            } else if (coin < 7) {
+                assertEquals(referenceList.remove(0), list.pollFirst());
+            } else if (coin < 9) {
+                assertEquals(referenceList.remove(referenceList.size() - 1),
+                             list.pollLast());
+            } else {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            }
+
+            list.checkInvariant();
+        }
+
+        assertEquals(referenceList, list);
+        assertArrayEquals(referenceList.toArray(), list.toArray());
+    }
+
+    @Test
+    public void reusesFreedRecords() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        long offHeapBytes = list.getOffHeapBytes();
+        assertEquals(13 * 8 * (16 + Integer.BYTES), offHeapBytes);
+
+        for (int i = 0; i < 10_000; ++i) {
+            list.add(50, i);
+            list.remove(0);
+            list.addLast(list.removeFirst());
+        }
+
+        list.checkInvariant();
+        assertEquals(100, list.size());
+        assertEquals(offHeapBytes, list.getOffHeapBytes());
+
+        list.clear();
+        list.checkInvariant();
+        assertEquals(0, list.getOffHeapBytes());
+    }
+
+    @Test
+    public void customCodec() {
+        RecordCodec<String> codec = new RecordCodec<String>() {
+
+            @Override
+            public int getRecordSize() {
+                return 4 * Character.BYTES;
+            }
+
+            @Override
+            public void encode(String element, ByteBuffer buffer, int offset) {
+                for (int i = 0; i < 4; ++i) {
+                    buffer.putChar(offset + i * Character.BYTES,
+                                   i < element.length() ?
+                                           element.charAt(i) : '\0');
+                }
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer, int offset) {
+                StringBuilder sb = new StringBuilder(4);
+
+                for (int i = 0; i < 4; ++i) {
+                    char c = buffer.getChar(offset + i * Character.BYTES);
+
+                    if (c == '\0') {
+                        break;
+                    }
+
+                    sb.append(c);
+                }
+
+                return sb.toString();
+            }
+        };
+
+        OffHeapIndexedLinkedList<String> stringList =
+                new OffHeapIndexedLinkedList<>(codec, 4);
+
+        List<String> referenceStringList = new ArrayList<>();
+        Random random = new Random(91L);
+
+        for (int i = 0; i < 1000; ++i) {
+            String s = Integer.toString(random.nextInt(10_000));
+            int index = random.nextInt(referenceStringList.size() + 1);
+            stringList.add(index, s);
+            referenceStringList.add(index, s);
+        }
+
+        stringList.checkInvariant();
+        assertSame(codec, stringList.getCodec());
+        assertEquals(referenceStringList, stringList);
+        assertEquals(referenceStringList.indexOf("42"),
+                     stringList.indexOf("42"));
+    }
+
+    @Test
+    public void longAndDoubleCodecs() {
+        OffHeapIndexedLinkedList<Long> longList =
+                new OffHeapIndexedLinkedList<>(RecordCodec.LONG);
+
+        OffHeapIndexedLinkedList<Double> doubleList =
+                new OffHeapIndexedLinkedList<>(RecordCodec.DOUBLE);
+
+        for (int i = 0; i < 1000; ++i) {
+            longList.add(0, Long.MAX_VALUE - i);
+            doubleList.add(0, i / 3.0);
+        }
+
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(Long.valueOf(Long.MAX_VALUE - 999 + i),
+                         longList.get(i));
+            assertEquals(Double.valueOf((999 - i) / 3.0), doubleList.get(i));
+        }
+
+        longList.checkInvariant();
+        doubleList.checkInvariant();
+    }
+
+    @Test
+    public void throwsOnInvalidArguments() {
+        assertThrows(NullPointerException.class,
+                     () -> new OffHeapIndexedLinkedList<>(null));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new OffHeapIndexedLinkedList<>(RecordCodec.INT, 0));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new OffHeapIndexedLinkedList<>(RecordCodec.INT, 3));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new OffHeapIndexedLinkedList<>(RecordCodec.LONG,
+                                                          1 << 30));
+    }
+}
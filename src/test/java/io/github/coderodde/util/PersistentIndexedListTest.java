@@ -0,0 +1,139 @@
+package io.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentIndexedListTest {
+
+    @Test
+    public void emptyList() {
+        PersistentIndexedList<Integer> list = new PersistentIndexedList<>();
+
+        assertTrue(list.isEmpty());
+        assertEquals(Collections.emptyList(), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> list.removeAt(0));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> list.with(0, 1));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> list.insert(1, 1));
+
+        PersistentIndexedList<Integer> one = list.insert(0, 1);
+        assertEquals(Arrays.asList(1), one);
+        assertTrue(list.isEmpty());
+        assertTrue(one.removeAt(0).isEmpty());
+        one.removeAt(0).checkInvariant();
+    }
+
+    @Test
+    public void versionsAreIndependent() {
+        Random random = new Random(1031L);
+        List<PersistentIndexedList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        PersistentIndexedList<Integer> list = new PersistentIndexedList<>();
+        List<Integer> referenceList = new ArrayList<>();
+
+        for (int iteration = 0; iteration < 20_000; iteration++) {
+            int coin = random.nextInt(10);
+
+            if (coin < 5 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list = list.insert(index, iteration);
+                referenceList.add(index, iteration);
+            } else if (coin < 8) {
+                int index = random.nextInt(referenceList.size());
+                list = list.removeAt(index);
+                referenceList.remove(index);
+            } else {
+                int index = random.nextInt(referenceList.size());
+                list = list.with(index, -iteration);
+                referenceList.set(index, -iteration);
+            }
+
+            if (!referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            }
+
+            if (iteration % 500 == 0) {
+                list.checkInvariant();
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(referenceList));
+            }
+        }
+
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+
+        for (int i = 0; i < versions.size(); i++) {
+            PersistentIndexedList<Integer> version = versions.get(i);
+            List<Integer> expected = expectedVersions.get(i);
+
+            version.checkInvariant();
+            assertEquals(expected, version);
+            assertEquals(expected.hashCode(), version.hashCode());
+            assertArrayEquals(expected.toArray(), version.toArray());
+
+            List<Integer> visited = new ArrayList<>();
+            version.forEach(visited::add);
+            assertEquals(expected, visited);
+        }
+
+        // Shrink to empty and grow back:
+        while (!list.isEmpty()) {
+            list = list.removeAt(random.nextInt(list.size()));
+        }
+
+        list.checkInvariant();
+
+        for (int i = 0; i < 1000; i++) {
+            list = list.insert(list.size(), i);
+        }
+
+        list.checkInvariant();
+        assertEquals(1000, list.size());
+        assertEquals(Integer.valueOf(999), list.get(999));
+    }
+
+    @Test
+    public void conversions() {
+        for (int size : new int[]{ 0, 1, 63, 64, 65, 2048, 2049, 100_000 }) {
+            IndexedLinkedList<Integer> indexedLinkedList =
+                    new IndexedLinkedList<>();
+
+            for (int i = 0; i < size; i++) {
+                indexedLinkedList.add(i);
+            }
+
+            PersistentIndexedList<Integer> list =
+                    new PersistentIndexedList<>(indexedLinkedList);
+
+            list.checkInvariant();
+            assertEquals(indexedLinkedList, list);
+
+            IndexedLinkedList<Integer> back = list.toIndexedLinkedList();
+            back.checkInvarant();
+            assertEquals(indexedLinkedList, back);
+        }
+    }
+
+    @Test
+    public void mutatorsAreUnsupported() {
+        PersistentIndexedList<Integer> list =
+                new PersistentIndexedList<>(Arrays.asList(1, 2, 3));
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(4));
+        assertThrows(UnsupportedOperationException.class,
+                     () -> list.set(0, 4));
+        assertThrows(UnsupportedOperationException.class,
+                     () -> list.remove(0));
+        assertEquals(Arrays.asList(1, 2, 3), list);
+    }
+}
@@ -0,0 +1,462 @@
+package io.github.coderodde.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SegmentedIndexedLinkedListTest {
+
+    private final SegmentedIndexedLinkedList<Integer> list =
+            new SegmentedIndexedLinkedList<>(4);
+
+    private final List<Integer> referenceList = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.clear();
+        referenceList.clear();
+    }
+
+    @Test
+    public void randomOperations() {
+        Random random = new Random(104L);
+
+        for (int iteration = 0; iteration < 20_000; ++iteration) {
+            int coin = random.nextInt(20);
+
+            if (coin < 7 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.add(index, iteration);
+                referenceList.add(index, iteration);
+            } else if (coin < 10) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.remove(index), list.remove(index));
+            } else if (coin < 11) {
+                assertEquals(referenceList.remove(0), list.pollFirst());
+            } else if (coin < 12) {
+                assertEquals(referenceList.remove(referenceList.size() - 1),
+                             list.pollLast());
+            } else if (coin < 13) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.set(index, -iteration),
+                             list.set(index, -iteration));
+            } else {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            }
+        }
+
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+        assertEquals(referenceList.get(0), list.getFirst());
+        assertEquals(referenceList.get(referenceList.size() - 1),
+                     list.peekLast());
+    }
+
+    @Test
+    public void redistributesOnSegmentOverflow() {
+        int size = 10 * SegmentedIndexedLinkedList.MINIMUM_SEGMENT_CAPACITY;
+
+        for (int i = 0; i < size; ++i) {
+            list.addFirst(i);
+            referenceList.add(0, i);
+        }
+
+        assertEquals(referenceList, list);
+        list.checkInvariant();
+
+        for (IndexedLinkedList<Integer> segment : list.segments) {
+            assertTrue(segment.size() >= size / 8);
+            assertTrue(segment.size() <= size / 2);
+        }
+    }
+
+    @Test
+    public void emptySegments() {
+        for (int i = 0; i < 10; ++i) {
+            list.add(i);
+        }
+
+        // All the elements reside in the tail segment, so the head operations
+        // must skip the empty segments:
+        assertEquals(Integer.valueOf(0), list.getFirst());
+        assertEquals(Integer.valueOf(9), list.getLast());
+        list.add(0, -1);
+        assertEquals(Integer.valueOf(-1), list.removeFirst());
+        assertEquals(Integer.valueOf(0), list.pollFirst());
+        list.clear();
+        list.addFirst(1);
+        list.addFirst(0);
+
+        // ...and here, the tail operations:
+        assertEquals(Integer.valueOf(1), list.getLast());
+        assertEquals(Integer.valueOf(1), list.removeLast());
+        assertEquals(Integer.valueOf(0), list.pollLast());
+        assertNull(list.pollLast());
+        assertNull(list.peekLast());
+        assertThrows(NoSuchElementException.class, () -> list.removeLast());
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 1));
+    }
+
+    @Test
+    public void constructors() {
+        List<Integer> data = new ArrayList<>();
+
+        for (int i = 0; i < 100; ++i) {
+            data.add(i);
+        }
+
+        SegmentedIndexedLinkedList<Integer> other =
+                new SegmentedIndexedLinkedList<>(data);
+
+        assertEquals(data, other);
+        assertEquals(SegmentedIndexedLinkedList.DEFAULT_NUMBER_OF_SEGMENTS,
+                     other.getNumberOfSegments());
+        other.checkInvariant();
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> new SegmentedIndexedLinkedList<>(0));
+    }
+
+    @Test
+    public void bulkOperations() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i % 10);
+            referenceList.add(i % 10);
+        }
+
+        list.addAll(list);
+        referenceList.addAll(new ArrayList<>(referenceList));
+        list.addAll(5, Arrays.asList(-1, -2));
+        referenceList.addAll(5, Arrays.asList(-1, -2));
+        assertEquals(referenceList, list);
+
+        assertTrue(list.containsAll(list));
+        assertEquals(referenceList.lastIndexOf(3), list.lastIndexOf(3));
+        assertTrue(list.removeFirstOccurrence(3));
+        referenceList.remove(Integer.valueOf(3));
+        assertTrue(list.removeIf(x -> x == 4));
+        referenceList.removeIf(x -> x == 4);
+        list.replaceAll(x -> x + 1);
+        referenceList.replaceAll(x -> x + 1);
+        list.sort(null);
+        referenceList.sort(null);
+        assertEquals(referenceList, list);
+
+        list.subList(10, 20).clear();
+        referenceList.subList(10, 20).clear();
+        assertEquals(referenceList, list);
+        list.checkInvariant();
+
+        assertTrue(list.retainAll(Arrays.asList(1, 2)));
+        referenceList.retainAll(Arrays.asList(1, 2));
+        assertEquals(referenceList, list);
+        assertFalse(list.retainAll(list));
+        assertTrue(list.removeAll(list));
+        assertTrue(list.isEmpty());
+        assertNull(list.peekFirst());
+        assertThrows(NoSuchElementException.class, () -> list.getFirst());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    public void iteratorsTraverseSegments() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        // Spread the elements evenly, 25 per segment:
+        list.sort(null);
+
+        Iterator<Integer> iterator = list.iterator();
+        assertEquals(Integer.valueOf(0), iterator.next());
+        list.clear();
+
+        // The iterator has copied only the head segment:
+        for (int i = 1; i < 25; ++i) {
+            assertEquals(Integer.valueOf(i), iterator.next());
+        }
+
+        assertFalse(iterator.hasNext());
+        assertThrows(ConcurrentModificationException.class,
+                     () -> iterator.remove());
+
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+            referenceList.add(i);
+        }
+
+        list.sort(null);
+        assertEquals(100, list.stream().count());
+
+        ListIterator<Integer> listIterator = list.listIterator(50);
+        ListIterator<Integer> referenceIterator =
+                referenceList.listIterator(50);
+
+        assertEquals(50, listIterator.nextIndex());
+        assertEquals(Integer.valueOf(49), listIterator.previous());
+        referenceIterator.previous();
+
+        while (listIterator.hasPrevious()) {
+            assertEquals(referenceIterator.previous(),
+                         listIterator.previous());
+            assertEquals(referenceIterator.nextIndex(),
+                         listIterator.nextIndex());
+        }
+
+        referenceIterator = referenceList.listIterator();
+
+        while (listIterator.hasNext()) {
+            Integer value = listIterator.next();
+            assertEquals(referenceIterator.next(), value);
+
+            if (value % 3 == 0) {
+                listIterator.remove();
+                referenceIterator.remove();
+            } else if (value % 3 == 1) {
+                listIterator.set(-value);
+                referenceIterator.set(-value);
+            }
+
+            assertEquals(referenceIterator.nextIndex(),
+                         listIterator.nextIndex());
+        }
+
+        assertEquals(referenceList, list);
+        list.checkInvariant();
+
+        Iterator<Integer> descendingIterator = list.descendingIterator();
+
+        for (int i = referenceList.size() - 1; i >= 0; --i) {
+            Integer value = descendingIterator.next();
+            assertEquals(referenceList.get(i), value);
+
+            if (value < 0) {
+                descendingIterator.remove();
+                referenceList.remove(i);
+            }
+        }
+
+        assertFalse(descendingIterator.hasNext());
+        assertEquals(referenceList, list);
+        list.checkInvariant();
+
+        ListIterator<Integer> addingIterator = list.listIterator();
+        assertThrows(UnsupportedOperationException.class,
+                     () -> addingIterator.add(1));
+        assertThrows(IllegalStateException.class,
+                     () -> addingIterator.remove());
+
+        int[] sum = new int[1];
+        list.forEach(value -> sum[0] += value);
+        assertEquals(referenceList.stream().mapToInt(i -> i).sum(), sum[0]);
+    }
+
+    @Test
+    public void serialize() throws IOException, ClassNotFoundException {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(list);
+        }
+
+        ObjectInputStream ois =
+                new ObjectInputStream(
+                        new ByteArrayInputStream(bos.toByteArray()));
+
+        @SuppressWarnings("unchecked")
+        SegmentedIndexedLinkedList<Integer> other =
+                (SegmentedIndexedLinkedList<Integer>) ois.readObject();
+
+        other.checkInvariant();
+        other.add(100);
+        list.add(100);
+        assertEquals(list, other);
+    }
+
+    @Test
+    public void concurrentReadersAndWriters() throws InterruptedException {
+        // Every element holds a non-negative value. The writers keep the list
+        // size within [500, 1500]:
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+        }
+
+        int numberOfReaders = 4;
+        int numberOfWriters = 2;
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch latch =
+                new CountDownLatch(numberOfReaders + numberOfWriters);
+
+        for (int t = 0; t < numberOfReaders; ++t) {
+            long seed = t;
+
+            new Thread(() -> {
+                Random random = new Random(seed);
+
+                try {
+                    while (!done.get()) {
+                        int index = random.nextInt(1600);
+
+                        try {
+                            Integer value = list.get(index);
+                            assertNotNull(value);
+                            assertTrue(value >= 0);
+                        } catch (IndexOutOfBoundsException ex) {
+                            assertTrue(index >= 500);
+                        }
+
+                        assertNotNull(list.peekFirst());
+                        int size = list.size();
+                        assertTrue(500 <= size && size <= 1500, "" + size);
+
+                        if (index % 100 == 0) {
+                            for (Integer value : list) {
+                                assertTrue(value >= 0);
+                            }
+
+                            list.forEach(value -> assertTrue(value >= 0));
+                        }
+                    }
+                } catch (Throwable t1) {
+                    failure.compareAndSet(null, t1);
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+
+        for (int t = 0; t < numberOfWriters; ++t) {
+            long seed = 100 + t;
+
+            new Thread(() -> {
+                Random random = new Random(seed);
+
+                try {
+                    for (int i = 0; i < 20_000; ++i) {
+                        if (random.nextBoolean()) {
+                            int index = random.nextInt(500);
+                            list.add(index, i);
+
+                            if (list.size() > 1400) {
+                                list.removeLast();
+                            }
+                        } else {
+                            list.remove(random.nextInt(500));
+
+                            if (list.size() < 600) {
+                                list.addFirst(i);
+                            }
+                        }
+                    }
+                } catch (Throwable t1) {
+                    failure.compareAndSet(null, t1);
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+
+        Thread.sleep(1000);
+        done.set(true);
+        latch.await();
+
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+
+        list.checkInvariant();
+    }
+
+    @Test
+    public void concurrentPositionalWriters() throws InterruptedException {
+        // The writers insert and remove only their own values, which are
+        // negative, so the list never shrinks below its initial size:
+        int initialSize = 2000;
+
+        for (int i = 0; i < initialSize; ++i) {
+            list.add(i);
+        }
+
+        int numberOfWriters = 4;
+        List<List<Integer>> remaining = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(numberOfWriters);
+
+        for (int t = 0; t < numberOfWriters; ++t) {
+            List<Integer> values = new ArrayList<>();
+            remaining.add(values);
+            int writer = t;
+
+            new Thread(() -> {
+                Random random = new Random(writer);
+
+                try {
+                    for (int i = 0; i < 10_000; ++i) {
+                        if (values.isEmpty() || random.nextInt(3) > 0) {
+                            Integer value = -(i * numberOfWriters + writer) - 1;
+                            list.add(random.nextInt(initialSize + 1), value);
+                            values.add(value);
+                        } else {
+                            Integer value =
+                                    values.remove(
+                                            random.nextInt(values.size()));
+
+                            assertTrue(list.removeFirstOccurrence(value));
+                        }
+
+                        assertNotNull(list.get(random.nextInt(initialSize)));
+                    }
+                } catch (Throwable t1) {
+                    failure.compareAndSet(null, t1);
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+
+        latch.await();
+
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+
+        list.checkInvariant();
+
+        for (int i = 0; i < initialSize; ++i) {
+            referenceList.add(i);
+        }
+
+        remaining.forEach(referenceList::addAll);
+        List<Integer> contents = new ArrayList<>(Arrays.asList(
+                list.toArray(new Integer[0])));
+
+        referenceList.sort(null);
+        contents.sort(null);
+        assertEquals(referenceList, contents);
+    }
+}
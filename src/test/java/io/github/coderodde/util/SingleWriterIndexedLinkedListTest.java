@@ -0,0 +1,186 @@
+package io.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleWriterIndexedLinkedListTest {
+
+    private final SingleWriterIndexedLinkedList<Integer> list =
+            new SingleWriterIndexedLinkedList<>();
+
+    private final List<Integer> referenceList = new ArrayList<>();
+
+    @Test
+    public void appendAndRead() {
+        assertTrue(list.isEmpty());
+        assertNull(list.peekFirst());
+        assertNull(list.peekLast());
+        assertThrows(NoSuchElementException.class, () -> list.getFirst());
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+
+        Random random = new Random(181L);
+
+        for (int i = 0; i < 5_000; ++i) {
+            if (random.nextInt(10) == 0) {
+                List<Integer> chunk = Arrays.asList(i, -i, i);
+                list.addAll(chunk);
+                referenceList.addAll(chunk);
+            } else {
+                list.add(i);
+                referenceList.add(i);
+            }
+
+            int index = random.nextInt(referenceList.size());
+            assertEquals(referenceList.get(index), list.get(index));
+        }
+
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+        assertEquals(referenceList.get(0), list.getFirst());
+        assertEquals(referenceList.get(referenceList.size() - 1),
+                     list.getLast());
+
+        assertEquals(referenceList.indexOf(3), list.indexOf(3));
+        assertEquals(referenceList.lastIndexOf(3), list.lastIndexOf(3));
+        assertEquals(-1, list.indexOf(-1_000_000));
+        assertEquals(-1, list.lastIndexOf(-1_000_000));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> list.get(referenceList.size()));
+    }
+
+    @Test
+    public void addAllOfItself() {
+        for (int i = 0; i < 100; ++i) {
+            list.addLast(i);
+            referenceList.add(i);
+        }
+
+        assertTrue(list.addAll(list));
+        referenceList.addAll(new ArrayList<>(referenceList));
+        assertFalse(list.addAll(new ArrayList<>()));
+        assertEquals(referenceList, list);
+        list.checkInvariant();
+    }
+
+    @Test
+    public void onlyAppendsAreSupported() {
+        list.add(1);
+        list.add(2);
+
+        assertThrows(UnsupportedOperationException.class,
+                     () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class,
+                     () -> list.set(0, 3));
+        assertThrows(UnsupportedOperationException.class,
+                     () -> list.add(0, 3));
+        assertThrows(UnsupportedOperationException.class,
+                     () -> list.clear());
+        assertEquals(Arrays.asList(1, 2), list);
+    }
+
+    @Test
+    public void iteratorTraversesPublishedPrefix() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        Iterator<Integer> iterator = list.iterator();
+
+        for (int i = 100; i < 200; ++i) {
+            list.add(i);
+        }
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(Integer.valueOf(i), iterator.next());
+        }
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, () -> iterator.next());
+
+        List<Integer> visited = new ArrayList<>();
+        list.forEach(visited::add);
+        assertEquals(200, visited.size());
+        assertEquals(list, visited);
+    }
+
+    @Test
+    public void concurrentReadersAndSingleWriter() throws InterruptedException {
+        // The element at index 'i' is always 'i':
+        int numberOfElements = 200_000;
+        int numberOfReaders = 4;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(numberOfReaders + 1);
+
+        for (int t = 0; t < numberOfReaders; ++t) {
+            long seed = t;
+
+            new Thread(() -> {
+                Random random = new Random(seed);
+
+                try {
+                    int size;
+
+                    do {
+                        size = list.size();
+
+                        if (size > 0) {
+                            int index = random.nextInt(size);
+                            assertEquals(Integer.valueOf(index),
+                                         list.get(index));
+
+                            Integer last = list.peekLast();
+                            assertTrue(last >= size - 1);
+                        }
+
+                        if (random.nextInt(1000) == 0) {
+                            int expected = 0;
+
+                            for (Integer value : list) {
+                                assertEquals(Integer.valueOf(expected++),
+                                             value);
+                            }
+
+                            assertTrue(expected >= size);
+                        }
+                    } while (size < numberOfElements
+                            && failure.get() == null);
+                } catch (Throwable t1) {
+                    failure.compareAndSet(null, t1);
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+
+        new Thread(() -> {
+            try {
+                for (int i = 0; i < numberOfElements; ++i) {
+                    list.add(i);
+                }
+            } catch (Throwable t1) {
+                failure.compareAndSet(null, t1);
+            } finally {
+                latch.countDown();
+            }
+        }).start();
+
+        latch.await();
+
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+
+        list.checkInvariant();
+        assertEquals(numberOfElements, list.size());
+    }
+}
@@ -0,0 +1,217 @@
+package io.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortedIndexedLinkedListTest {
+
+    private final SortedIndexedLinkedList<Integer> list =
+            new SortedIndexedLinkedList<>(Comparator.naturalOrder());
+
+    private final List<Integer> referenceList = new ArrayList<>();
+
+    @Test
+    public void emptyList() {
+        assertTrue(list.isEmpty());
+        assertFalse(list.contains(1));
+        assertEquals(-1, list.indexOf(1));
+        assertEquals(-1, list.lastIndexOf(1));
+        assertFalse(list.remove((Object) 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        list.checkInvariant();
+    }
+
+    @Test
+    public void insertAndRemove() {
+        Random random = new Random(1061L);
+
+        for (int iteration = 0; iteration < 20_000; iteration++) {
+            Integer value = random.nextInt(2_000);
+
+            if (random.nextInt(3) > 0) {
+                int index = list.insert(value);
+                int expectedIndex =
+                        upperBound(referenceList, value);
+
+                assertEquals(expectedIndex, index);
+                referenceList.add(index, value);
+            } else {
+                int expectedIndex = referenceList.indexOf(value);
+                assertEquals(expectedIndex >= 0, list.remove(value));
+
+                if (expectedIndex >= 0) {
+                    referenceList.remove(expectedIndex);
+                }
+            }
+
+            value = random.nextInt(2_000);
+            assertEquals(referenceList.contains(value), list.contains(value));
+            assertEquals(referenceList.indexOf(value), list.indexOf(value));
+            assertEquals(referenceList.lastIndexOf(value),
+                         list.lastIndexOf(value));
+
+            if (!referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            }
+
+            if (iteration % 1000 == 0) {
+                list.checkInvariant();
+            }
+        }
+
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+
+        while (!list.isEmpty()) {
+            int index = random.nextInt(list.size());
+            assertEquals(referenceList.remove(index), list.remove(index));
+        }
+
+        list.checkInvariant();
+        assertTrue(referenceList.isEmpty());
+    }
+
+    @Test
+    public void equalElementsKeepInsertionOrder() {
+        SortedIndexedLinkedList<String> strings =
+                new SortedIndexedLinkedList<>(
+                        Comparator.comparingInt(String::length));
+
+        strings.addAll(Arrays.asList("ccc", "a", "bb", "b", "aaa"));
+        assertEquals(Arrays.asList("a", "b", "bb", "ccc", "aaa"), strings);
+
+        strings.add("c");
+        strings.add("dd");
+        assertEquals(Arrays.asList("a", "b", "c", "bb", "dd", "ccc", "aaa"),
+                     strings);
+
+        // The comparator decides the equality:
+        assertEquals(0, strings.indexOf("x"));
+        assertEquals(2, strings.lastIndexOf("x"));
+        assertTrue(strings.remove("xyz"));
+        assertEquals(Arrays.asList("a", "b", "c", "bb", "dd", "aaa"), strings);
+        assertFalse(strings.contains("wxyz"));
+        strings.checkInvariant();
+    }
+
+    @Test
+    public void bulkOperations() {
+        Random random = new Random(1063L);
+
+        for (int i = 0; i < 10_000; i++) {
+            referenceList.add(random.nextInt(1_000));
+        }
+
+        SortedIndexedLinkedList<Integer> other =
+                new SortedIndexedLinkedList<>(Comparator.naturalOrder(),
+                                              referenceList);
+
+        other.checkInvariant();
+        Collections.sort(referenceList);
+        assertEquals(referenceList, other);
+
+        // Adding the list to itself doubles each element:
+        other.addAll(other);
+        other.checkInvariant();
+        assertEquals(2 * referenceList.size(), other.size());
+
+        for (int i = 0; i < referenceList.size(); i++) {
+            assertEquals(referenceList.get(i), other.get(2 * i));
+            assertEquals(referenceList.get(i), other.get(2 * i + 1));
+        }
+
+        // The iterator removal keeps the order:
+        Iterator<Integer> iterator = other.iterator();
+
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        other.checkInvariant();
+        other.forEach(value -> assertTrue(value % 2 != 0));
+
+        other.clear();
+        assertTrue(other.isEmpty());
+        assertTrue(other.add(3));
+        assertEquals(Arrays.asList(3), other);
+    }
+
+    @Test
+    public void concurrentQueries() throws InterruptedException {
+        // The element at index 'i' is always '2 * i':
+        for (int i = 0; i < 100_000; i++) {
+            list.add(2 * i);
+        }
+
+        int numberOfReaders = 4;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(numberOfReaders);
+
+        for (int t = 0; t < numberOfReaders; t++) {
+            long seed = t;
+
+            new Thread(() -> {
+                Random random = new Random(seed);
+
+                try {
+                    for (int i = 0; i < 20_000; i++) {
+                        int value = random.nextInt(200_000);
+                        int expectedIndex = value % 2 == 0 ? value / 2 : -1;
+
+                        assertEquals(expectedIndex, list.indexOf(value));
+                        assertEquals(expectedIndex, list.lastIndexOf(value));
+                        assertEquals(expectedIndex >= 0, list.contains(value));
+                    }
+                } catch (Throwable t1) {
+                    failure.compareAndSet(null, t1);
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+
+        latch.await();
+
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+    }
+
+    @Test
+    public void positionalMutatorsAreUnsupported() {
+        list.add(1);
+
+        assertThrows(UnsupportedOperationException.class,
+                     () -> list.add(0, 2));
+        assertThrows(UnsupportedOperationException.class,
+                     () -> list.set(0, 2));
+        assertEquals(Arrays.asList(1), list);
+    }
+
+    private static int upperBound(List<Integer> list, Integer value) {
+        int index = Collections.binarySearch(list, value);
+
+        if (index < 0) {
+            return -index - 1;
+        }
+
+        while (index < list.size() && list.get(index).equals(value)) {
+            index++;
+        }
+
+        return index;
+    }
+}
@@ -0,0 +1,282 @@
+package io.github.coderodde.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnrolledIndexedLinkedListTest {
+
+    private final UnrolledIndexedLinkedList<Integer> list =
+            new UnrolledIndexedLinkedList<>(8);
+
+    private final List<Integer> referenceList = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.clear();
+        referenceList.clear();
+    }
+
+    @Test
+    public void appendAndGet() {
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+            referenceList.add(i);
+            list.checkInvariant();
+        }
+
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(referenceList.get(i), list.get(i));
+        }
+
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+    }
+
+    @Test
+    public void prependAndPop() {
+        for (int i = 0; i < 500; ++i) {
+            list.addFirst(i);
+            referenceList.add(0, i);
+            list.checkInvariant();
+        }
+
+        assertEquals(referenceList, list);
+
+        while (!list.isEmpty()) {
+            assertEquals(referenceList.remove(0), list.removeFirst());
+            list.checkInvariant();
+
+            if (!list.isEmpty()) {
+                assertEquals(referenceList.remove(referenceList.size() - 1),
+                             list.removeLast());
+                list.checkInvariant();
+            }
+        }
+
+        assertNull(list.pollFirst());
+        assertNull(list.pollLast());
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.getLast());
+    }
+
+    @Test
+    public void randomOperations() {
+        Random random = new Random(13L);
+
+        for (int iteration = 0; iteration < 20_000; ++iteration) {
+            int coin = random.nextInt(10);
+
+            if (coin < 5 || referenceList.isEmpty()) {
+                int index = random.nextInt(referenceList.size() + 1);
+                list.add(index, iteration);
+                referenceList.add(index, iteration);
+            } else if (coin < 8) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.remove(index), list.remove(index));
+            } else if (coin == 8) {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.get(index), list.get(index));
+            } else {
+                int index = random.nextInt(referenceList.size());
+                assertEquals(referenceList.set(index, -iteration),
+                             list.set(index, -iteration));
+            }
+
+            list.checkInvariant();
+        }
+
+        assertEquals(referenceList, list);
+    }
+
+    @Test
+    public void removeRangeViaSubList() {
+        Random random = new Random(26L);
+
+        for (int i = 0; i < 500; ++i) {
+            list.add(i);
+            referenceList.add(i);
+        }
+
+        while (!referenceList.isEmpty()) {
+            int fromIndex = random.nextInt(referenceList.size());
+            int toIndex = fromIndex + random.nextInt(
+                    Math.min(40, referenceList.size() - fromIndex) + 1);
+
+            list.subList(fromIndex, toIndex).clear();
+            referenceList.subList(fromIndex, toIndex).clear();
+            list.checkInvariant();
+            assertEquals(referenceList, list);
+
+            if (toIndex == fromIndex) {
+                list.remove(fromIndex);
+                referenceList.remove(fromIndex);
+            }
+        }
+    }
+
+    @Test
+    public void removeIfAndRetainAll() {
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+            referenceList.add(i);
+        }
+
+        assertTrue(list.removeIf(x -> x % 3 == 0));
+        referenceList.removeIf(x -> x % 3 == 0);
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+
+        assertFalse(list.removeIf(x -> x < 0));
+
+        List<Integer> retained = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i += 7) {
+            retained.add(i);
+        }
+
+        assertTrue(list.retainAll(retained));
+        referenceList.retainAll(retained);
+        list.checkInvariant();
+        assertEquals(referenceList, list);
+
+        assertTrue(list.removeAll(retained));
+        list.checkInvariant();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void listIterator() {
+        Random random = new Random(39L);
+
+        for (int i = 0; i < 300; ++i) {
+            list.add(i);
+            referenceList.add(i);
+        }
+
+        ListIterator<Integer> iterator = list.listIterator(150);
+        ListIterator<Integer> referenceIterator =
+                referenceList.listIterator(150);
+
+        for (int i = 0; i < 5000; ++i) {
+            int coin = random.nextInt(6);
+
+            if (coin == 0 && referenceIterator.hasNext()) {
+                assertEquals(referenceIterator.next(), iterator.next());
+            } else if (coin == 1 && referenceIterator.hasPrevious()) {
+                assertEquals(referenceIterator.previous(),
+                             iterator.previous());
+            } else if (coin == 2) {
+                iterator.add(-i);
+                referenceIterator.add(-i);
+            } else if (coin == 3) {
+                if (referenceIterator.hasNext()) {
+                    referenceIterator.next();
+                    iterator.next();
+                    iterator.remove();
+                    referenceIterator.remove();
+                }
+            } else if (coin == 4 && referenceIterator.hasPrevious()) {
+                referenceIterator.previous();
+                iterator.previous();
+                iterator.set(i);
+                referenceIterator.set(i);
+            }
+
+            assertEquals(referenceIterator.nextIndex(), iterator.nextIndex());
+            list.checkInvariant();
+        }
+
+        assertEquals(referenceList, list);
+    }
+
+    @Test
+    public void descendingIterator() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        Iterator<Integer> iterator = list.descendingIterator();
+
+        for (int i = 99; i >= 0; --i) {
+            assertEquals(Integer.valueOf(i), iterator.next());
+        }
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void iteratorFailsFast() {
+        list.add(1);
+        list.add(2);
+
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(3);
+
+        assertThrows(ConcurrentModificationException.class,
+                     () -> iterator.next());
+    }
+
+    @Test
+    public void occurrences() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i % 10);
+        }
+
+        assertEquals(3, list.indexOf(3));
+        assertEquals(93, list.lastIndexOf(3));
+        assertTrue(list.removeFirstOccurrence(3));
+        assertTrue(list.removeLastOccurrence(3));
+        list.checkInvariant();
+        assertEquals(98, list.size());
+        assertEquals(12, list.indexOf(3));
+        assertEquals(82, list.lastIndexOf(3));
+        assertFalse(list.contains(100));
+    }
+
+    @Test
+    public void serializeAndClone() throws IOException, ClassNotFoundException {
+        for (int i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(list);
+        }
+
+        ObjectInputStream ois =
+                new ObjectInputStream(
+                        new ByteArrayInputStream(bos.toByteArray()));
+
+        @SuppressWarnings("unchecked")
+        UnrolledIndexedLinkedList<Integer> other =
+                (UnrolledIndexedLinkedList<Integer>) ois.readObject();
+
+        other.checkInvariant();
+        assertEquals(list, other);
+        assertEquals(8, other.getChunkCapacity());
+        assertEquals(list, list.clone());
+    }
+
+    @Test
+    public void throwsOnTooSmallChunkCapacity() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new UnrolledIndexedLinkedList<>(3));
+    }
+}